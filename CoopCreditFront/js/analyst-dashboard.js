@@ -28,12 +28,34 @@ document.getElementById('refreshBtn').addEventListener('click', () => {
     loadAllData();
 });
 
+// Applications currently shown, kept up to date by the decision stream
+let applications = [];
+
 // Modal controls
 document.getElementById('closeModal').addEventListener('click', closeModal);
 document.getElementById('closeModalBtn').addEventListener('click', closeModal);
 
-// Load data on page load
+// Load data on page load, then follow status changes live
 loadAllData();
+api.streamDecisions(applyStatusChange, loadAllData);
+
+/**
+ * Apply a status change pushed by the server (or returned by an action)
+ */
+function applyStatusChange(event) {
+    const app = applications.find(a => a.id === event.applicationId);
+    if (!app) {
+        // New application not loaded yet
+        loadAllApplications();
+        return;
+    }
+    app.status = event.status;
+    if (event.creditScore != null) app.creditScore = event.creditScore;
+    if (event.riskLevel != null) app.riskLevel = event.riskLevel;
+    if (event.evaluationComments != null) app.evaluationComments = event.evaluationComments;
+    if (event.evaluationDate != null) app.evaluationDate = event.evaluationDate;
+    renderApplications();
+}
 
 /**
  * Load all data (affiliates and applications)
@@ -97,57 +119,8 @@ async function loadAllApplications() {
         // Hide loading
         loading.classList.add('hidden');
 
-        if (allApplications.length === 0) {
-            emptyState.classList.remove('hidden');
-            updateStats(0, 0, 0);
-            return;
-        }
-
-        // Filter and count by status
-        console.log('All applications:', allApplications);
-        console.log('Applications statuses:', allApplications.map(app => ({ id: app.id, status: app.status })));
-        
-        const pending = allApplications.filter(app => app.status === 'PENDING');
-        const inReview = allApplications.filter(app => app.status === 'IN_REVIEW');
-        const approved = allApplications.filter(app => app.status === 'APPROVED');
-        const rejected = allApplications.filter(app => app.status === 'REJECTED');
-
-        console.log('Pending:', pending.length, 'In Review:', inReview.length, 'Approved:', approved.length, 'Rejected:', rejected.length);
-        updateStats(pending.length, approved.length, rejected.length);
-
-        // Render all applications, sorted by ID desc (newest first)
-        const sortedApps = allApplications.sort((a, b) => b.id - a.id);
-        applicationsGrid.innerHTML = sortedApps.map(app => createApplicationCard(app)).join('');
-        applicationsGrid.classList.remove('hidden');
-
-        // Add event listeners to evaluate buttons (only for pending)
-        pending.forEach(app => {
-            const btn = document.getElementById(`evaluate-${app.id}`);
-            if (btn) {
-                btn.addEventListener('click', () => evaluateApplication(app.id));
-            }
-        });
-
-        // Add event listeners for approve/reject buttons (for IN_REVIEW)
-        inReview.forEach(app => {
-            const approveBtn = document.getElementById(`approve-${app.id}`);
-            const rejectBtn = document.getElementById(`reject-${app.id}`);
-            
-            if (approveBtn) {
-                approveBtn.addEventListener('click', () => approveApplication(app.id));
-            }
-            if (rejectBtn) {
-                rejectBtn.addEventListener('click', () => rejectApplication(app.id));
-            }
-        });
-
-        // Add event listeners for view details (for IN_REVIEW, APPROVED and REJECTED)
-        sortedApps.filter(app => app.status !== 'PENDING').forEach(app => {
-            const btn = document.getElementById(`view-${app.id}`);
-            if (btn) {
-                btn.addEventListener('click', () => showEvaluationResult(app));
-            }
-        });
+        applications = allApplications;
+        renderApplications();
 
     } catch (error) {
         console.error('Error loading applications:', error);
@@ -167,6 +140,64 @@ async function loadAllApplications() {
     }
 }
 
+/**
+ * Render application cards and stats
+ */
+function renderApplications() {
+    const emptyState = document.getElementById('emptyState');
+    const applicationsGrid = document.getElementById('applicationsGrid');
+
+    if (applications.length === 0) {
+        applicationsGrid.classList.add('hidden');
+        emptyState.classList.remove('hidden');
+        updateStats(0, 0, 0);
+        return;
+    }
+    emptyState.classList.add('hidden');
+
+    // Filter and count by status
+    const pending = applications.filter(app => app.status === 'PENDING');
+    const inReview = applications.filter(app => app.status === 'IN_REVIEW');
+    const approved = applications.filter(app => app.status === 'APPROVED');
+    const rejected = applications.filter(app => app.status === 'REJECTED');
+
+    updateStats(pending.length, approved.length, rejected.length);
+
+    // Render all applications, sorted by ID desc (newest first)
+    const sortedApps = applications.sort((a, b) => b.id - a.id);
+    applicationsGrid.innerHTML = sortedApps.map(app => createApplicationCard(app)).join('');
+    applicationsGrid.classList.remove('hidden');
+
+    // Add event listeners to evaluate buttons (only for pending)
+    pending.forEach(app => {
+        const btn = document.getElementById(`evaluate-${app.id}`);
+        if (btn) {
+            btn.addEventListener('click', () => evaluateApplication(app.id));
+        }
+    });
+
+    // Add event listeners for approve/reject buttons (for IN_REVIEW)
+    inReview.forEach(app => {
+        const approveBtn = document.getElementById(`approve-${app.id}`);
+        const rejectBtn = document.getElementById(`reject-${app.id}`);
+
+        if (approveBtn) {
+            approveBtn.addEventListener('click', () => approveApplication(app.id));
+        }
+        if (rejectBtn) {
+            rejectBtn.addEventListener('click', () => rejectApplication(app.id));
+        }
+    });
+
+    // Add event listeners for view details (for IN_REVIEW, APPROVED and REJECTED)
+    sortedApps.filter(app => app.status !== 'PENDING').forEach(app => {
+        const btn = document.getElementById(`view-${app.id}`);
+        if (btn) {
+            btn.addEventListener('click', () => showEvaluationResult(app));
+        }
+    });
+}
+
 /**
  * Create application card HTML
  */
@@ -305,13 +336,9 @@ async function evaluateApplication(applicationId) {
         // Call evaluate endpoint
         const result = await api.evaluateApplication(applicationId);
 
-        // Show result in modal
+        // Show result in modal and update the card (the stream confirms it too)
         showEvaluationResult(result);
-
-        // Reload data
-        setTimeout(() => {
-            loadAllData();
-        }, 2000);
+        applyStatusChange({ ...result, applicationId: result.id });
 
     } catch (error) {
         console.error('Error evaluating application:', error);
@@ -520,13 +547,13 @@ async function approveApplication(applicationId) {
         `;
 
         // Call approve endpoint
-        await api.approveApplication(applicationId);
+        const result = await api.approveApplication(applicationId);
 
         // Show success notification
         showToast('Solicitud aprobada exitosamente', 'success');
 
-        // Reload data
-        setTimeout(() => loadAllData(), 1000);
+        // Update the card (the stream confirms it too)
+        applyStatusChange({ ...result, applicationId: result.id });
 
     } catch (error) {
         console.error('Error approving application:', error);
@@ -568,13 +595,13 @@ async function rejectApplication(applicationId) {
         `;
 
         // Call reject endpoint
-        await api.rejectApplication(applicationId);
+        const result = await api.rejectApplication(applicationId);
 
         // Show success notification
         showToast('Solicitud rechazada exitosamente', 'success');
 
-        // Reload data
-        setTimeout(() => loadAllData(), 1000);
+        // Update the card (the stream confirms it too)
+        applyStatusChange({ ...result, applicationId: result.id });
 
     } catch (error) {
         console.error('Error rejecting application:', error);
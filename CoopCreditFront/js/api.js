@@ -158,6 +158,13 @@ class ApiClient {
         return this.post(`/credit-applications/affiliates/${affiliateId}`, applicationData);
     }
 
+    /**
+     * Simulate offers for several amounts and terms in one call
+     */
+    async simulateCreditOffers(affiliateId, simulationData) {
+        return this.post(`/credit-applications/affiliates/${affiliateId}/simulate`, simulationData);
+    }
+
     /**
      * Get applications by affiliate
      */
@@ -185,6 +192,91 @@ class ApiClient {
     async rejectApplication(applicationId) {
         return this.post(`/credit-applications/${applicationId}/reject`, {});
     }
+
+    /**
+     * Subscribe to application status changes (Server-Sent Events).
+     * Uses fetch instead of EventSource so the JWT can be sent, and reconnects
+     * with Last-Event-ID so no decision is missed in between.
+     * onResync is called when missed events are no longer available and the
+     * caller should reload. Returns a function that closes the stream.
+     */
+    streamDecisions(onEvent, onResync) {
+        let lastEventId = null;
+        let closed = false;
+        let controller = null;
+        let retryDelay = 1000;
+
+        const dispatch = (block) => {
+            let event = 'message';
+            let id = null;
+            const data = [];
+            for (const line of block.split('\n')) {
+                if (line.startsWith(':')) continue; // heartbeat
+                const colon = line.indexOf(':');
+                const field = colon >= 0 ? line.slice(0, colon) : line;
+                let value = colon >= 0 ? line.slice(colon + 1) : '';
+                if (value.startsWith(' ')) value = value.slice(1);
+                if (field === 'event') event = value;
+                else if (field === 'data') data.push(value);
+                else if (field === 'id') id = value;
+            }
+            if (id) lastEventId = id;
+            if (event === 'status-changed' && data.length) {
+                onEvent(JSON.parse(data.join('\n')));
+            } else if (event === 'resync') {
+                lastEventId = null;
+                if (onResync) onResync();
+            }
+        };
+
+        const connect = async () => {
+            controller = new AbortController();
+            const headers = { 'Accept': 'text/event-stream', ...this.getAuthHeader() };
+            if (lastEventId) headers['Last-Event-ID'] = lastEventId;
+
+            try {
+                const response = await fetch(`${this.baseUrl}/credit-applications/stream`, {
+                    headers,
+                    signal: controller.signal
+                });
+                if (response.status === 401 || response.status === 403) {
+                    closed = true;
+                    return;
+                }
+                if (!response.ok || !response.body) {
+                    throw new Error(`HTTP ${response.status}`);
+                }
+                retryDelay = 1000;
+
+                const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+                let buffer = '';
+                while (true) {
+                    const { value, done } = await reader.read();
+                    if (done) break;
+                    buffer += value;
+                    let boundary;
+                    while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+                        dispatch(buffer.slice(0, boundary));
+                        buffer = buffer.slice(boundary + 2);
+                    }
+                }
+            } catch (error) {
+                if (closed) return;
+                console.warn('Decision stream interrupted:', error);
+            }
+
+            if (!closed) {
+                setTimeout(connect, retryDelay);
+                retryDelay = Math.min(retryDelay * 2, 30000);
+            }
+        };
+
+        connect();
+        return () => {
+            closed = true;
+            if (controller) controller.abort();
+        };
+    }
 }
 
 // Create singleton instance
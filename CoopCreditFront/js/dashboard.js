@@ -16,6 +16,7 @@ if (currentUser.roles.includes('ROLE_ANALISTA') && !currentUser.roles.includes('
 }
 
 let affiliateId = storage.getAffiliateId();
+let applications = [];
 
 // Update user info in navbar
 document.getElementById('userName').textContent = currentUser.username;
@@ -31,8 +32,25 @@ document.getElementById('refreshBtn').addEventListener('click', () => {
     loadApplications();
 });
 
-// Load applications on page load
+// Load applications on page load, then follow status changes live
 loadApplications();
+api.streamDecisions(applyStatusChange, loadApplications);
+
+/**
+ * Apply a status change pushed by the server
+ */
+function applyStatusChange(event) {
+    const app = applications.find(a => a.id === event.applicationId);
+    if (!app) {
+        // Not loaded yet (e.g. created in another tab)
+        loadApplications();
+        return;
+    }
+    app.status = event.status;
+    if (event.creditScore != null) app.creditScore = event.creditScore;
+    if (event.riskLevel != null) app.riskLevel = event.riskLevel;
+    renderApplications();
+}
 
 /**
  * Load credit applications
@@ -41,7 +59,6 @@ async function loadApplications() {
     const loading = document.getElementById('loading');
     const emptyState = document.getElementById('emptyState');
     const applicationsTable = document.getElementById('applicationsTable');
-    const applicationsBody = document.getElementById('applicationsBody');
 
     try {
         // Show loading
@@ -79,39 +96,12 @@ async function loadApplications() {
         }
 
         // Fetch applications for the current affiliate
-        const applications = await api.getApplicationsByAffiliate(affiliateId);
+        applications = (await api.getApplicationsByAffiliate(affiliateId)) || [];
 
         // Hide loading
         loading.classList.add('hidden');
 
-        if (!applications || applications.length === 0) {
-            // Show empty state
-            emptyState.classList.remove('hidden');
-            updateStats(0, 0, 0);
-            return;
-        }
-
-        // Calculate stats
-        const total = applications.length;
-        const pending = applications.filter(app => app.status === 'PENDING').length;
-        const approved = applications.filter(app => app.status === 'APPROVED').length;
-        updateStats(total, pending, approved);
-
-        // Populate table
-        applicationsBody.innerHTML = applications.map(app => `
-            <tr class="border-b border-slate-200 hover:bg-slate-50 transition-colors duration-150">
-                <td class="py-3 px-4 text-sm font-medium text-slate-800">#${app.id}</td>
-                <td class="py-3 px-4 text-sm text-slate-600">${utils.formatCurrency(app.requestedAmount)}</td>
-                <td class="py-3 px-4 text-sm text-slate-600">${app.termMonths} meses</td>
-                <td class="py-3 px-4">${utils.getStatusBadge(app.status)}</td>
-                <td class="py-3 px-4 text-sm text-slate-600">${utils.formatDateShort(app.applicationDate)}</td>
-                <td class="py-3 px-4 text-sm font-semibold ${app.creditScore ? 'text-blue-600' : 'text-slate-400'}">
-                    ${app.creditScore || 'N/A'}
-                </td>
-            </tr>
-        `).join('');
-
-        applicationsTable.classList.remove('hidden');
+        renderApplications();
 
     } catch (error) {
         console.error('Error loading applications:', error);
@@ -120,6 +110,7 @@ async function loadApplications() {
         let errorMessage = 'Error al cargar las solicitudes';
         if (error.status === 404) {
             // No applications found - show empty state
+            applications = [];
             emptyState.classList.remove('hidden');
             updateStats(0, 0, 0);
             return;
@@ -147,6 +138,45 @@ async function loadApplications() {
     }
 }
 
+/**
+ * Render the applications table and stats
+ */
+function renderApplications() {
+    const emptyState = document.getElementById('emptyState');
+    const applicationsTable = document.getElementById('applicationsTable');
+    const applicationsBody = document.getElementById('applicationsBody');
+
+    if (applications.length === 0) {
+        // Show empty state
+        applicationsTable.classList.add('hidden');
+        emptyState.classList.remove('hidden');
+        updateStats(0, 0, 0);
+        return;
+    }
+
+    // Calculate stats
+    const total = applications.length;
+    const pending = applications.filter(app => app.status === 'PENDING').length;
+    const approved = applications.filter(app => app.status === 'APPROVED').length;
+    updateStats(total, pending, approved);
+
+    // Populate table
+    applicationsBody.innerHTML = applications.map(app => `
+        <tr class="border-b border-slate-200 hover:bg-slate-50 transition-colors duration-150">
+            <td class="py-3 px-4 text-sm font-medium text-slate-800">#${app.id}</td>
+            <td class="py-3 px-4 text-sm text-slate-600">${utils.formatCurrency(app.requestedAmount)}</td>
+            <td class="py-3 px-4 text-sm text-slate-600">${app.termMonths} meses</td>
+            <td class="py-3 px-4">${utils.getStatusBadge(app.status)}</td>
+            <td class="py-3 px-4 text-sm text-slate-600">${utils.formatDateShort(app.applicationDate)}</td>
+            <td class="py-3 px-4 text-sm font-semibold ${app.creditScore ? 'text-blue-600' : 'text-slate-400'}">
+                ${app.creditScore || 'N/A'}
+            </td>
+        </tr>
+    `).join('');
+
+    applicationsTable.classList.remove('hidden');
+}
+
 /**
  * Update stats cards
  */
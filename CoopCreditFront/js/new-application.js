@@ -42,6 +42,7 @@ async function ensureAffiliateId() {
 const applicationForm = document.getElementById('applicationForm');
 const calculateBtn = document.getElementById('calculateBtn');
 const calculationPreview = document.getElementById('calculationPreview');
+const offerGrid = document.getElementById('offerGrid');
 
 console.log('Form element found:', !!applicationForm);
 console.log('Calculate button found:', !!calculateBtn);
@@ -52,6 +53,7 @@ ensureAffiliateId();
 // Calculate button handler
 calculateBtn.addEventListener('click', () => {
     calculatePreview();
+    simulateOffers();
 });
 
 // Auto-calculate on input change
@@ -113,6 +115,61 @@ function calculatePreview() {
     calculationPreview.classList.remove('hidden');
 }
 
+/**
+ * Ask the backend for nearby amount/term combinations and show them as a grid.
+ * One request covers every cell, with the same rules used on submission.
+ */
+async function simulateOffers() {
+    if (!isFormValid()) {
+        offerGrid.classList.add('hidden');
+        return;
+    }
+    await ensureAffiliateId();
+
+    const amount = parseFloat(document.getElementById('requestedAmount').value);
+    const amounts = [0.5, 0.75, 1, 1.25, 1.5].map(factor => Math.round(amount * factor));
+
+    try {
+        const simulation = await api.simulateCreditOffers(affiliateId, {
+            amounts: amounts,
+            interestRate: parseFloat(document.getElementById('interestRate').value),
+            monthlyIncome: parseFloat(document.getElementById('monthlyIncome').value)
+        });
+        renderOfferGrid(simulation);
+    } catch (error) {
+        console.error('Error simulating offers:', error);
+        offerGrid.classList.add('hidden');
+    }
+}
+
+/**
+ * Render the simulation matrix: amounts as rows, terms as columns
+ */
+function renderOfferGrid(simulation) {
+    document.getElementById('offerGridHead').innerHTML = '<tr><th class="px-2 py-1 text-left text-slate-500">Monto</th>'
+        + simulation.termMonths.map(term => `<th class="px-2 py-1 text-right text-slate-500">${term}m</th>`).join('')
+        + '</tr>';
+
+    document.getElementById('offerGridBody').innerHTML = simulation.amounts.map((amount, i) =>
+        `<tr><td class="px-2 py-1 font-medium text-slate-700">${utils.formatCurrency(amount)}</td>`
+        + simulation.termMonths.map((term, j) => simulation.eligible[i][j]
+            ? `<td class="px-2 py-1 text-right text-green-700 cursor-pointer hover:bg-green-50" data-amount="${amount}" data-term="${term}">${utils.formatCurrency(simulation.monthlyPayments[i][j])}</td>`
+            : `<td class="px-2 py-1 text-right text-slate-300" title="${simulation.rejections[i][j]}">${utils.formatCurrency(simulation.monthlyPayments[i][j])}</td>`
+        ).join('')
+        + '</tr>'
+    ).join('');
+
+    document.querySelectorAll('#offerGridBody td[data-amount]').forEach(cell => {
+        cell.addEventListener('click', () => {
+            document.getElementById('requestedAmount').value = cell.dataset.amount;
+            document.getElementById('termMonths').value = cell.dataset.term;
+            calculatePreview();
+        });
+    });
+
+    offerGrid.classList.remove('hidden');
+}
+
 /**
  * Show toast notification
  */
@@ -193,8 +250,8 @@ applicationForm.addEventListener('submit', async (e) => {
 
     console.log('Monthly payment:', monthlyPayment, 'Debt ratio:', debtRatio);
 
-    if (debtRatio > 50) {
-        showToast(`Tu ratio deuda/ingreso es ${debtRatio.toFixed(2)}%. El máximo permitido es 50%`, 'warning');
+    if (debtRatio > 40) {
+        showToast(`Tu ratio deuda/ingreso es ${debtRatio.toFixed(2)}%. El máximo permitido es 40%`, 'warning');
         return;
     }
 
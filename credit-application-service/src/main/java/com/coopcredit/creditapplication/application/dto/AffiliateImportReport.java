@@ -0,0 +1,125 @@
+package com.coopcredit.creditapplication.application.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a bulk affiliate import.
+ *
+ * Row errors are capped so the report stays small for very large files;
+ * rejectedRows always holds the full count.
+ */
+public class AffiliateImportReport {
+
+    private long totalRows;
+    private long importedRows;
+    private long rejectedRows;
+    private long usersCreated;
+    private boolean errorsTruncated;
+    private long elapsedMillis;
+    private final List<RowError> errors = new ArrayList<>();
+
+    public AffiliateImportReport() {
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(long importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public long getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public void setRejectedRows(long rejectedRows) {
+        this.rejectedRows = rejectedRows;
+    }
+
+    public long getUsersCreated() {
+        return usersCreated;
+    }
+
+    public void setUsersCreated(long usersCreated) {
+        this.usersCreated = usersCreated;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Adds a row error unless the report already holds the maximum.
+     *
+     * @param error the row error
+     * @param maxErrors maximum number of errors kept in the report
+     */
+    public void addError(RowError error, int maxErrors) {
+        if (errors.size() < maxErrors) {
+            errors.add(error);
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    /**
+     * A problem found in one CSV row.
+     */
+    public static class RowError {
+
+        private final long line;
+        private final String field;
+        private final String code;
+        private final String message;
+
+        public RowError(long line, String field, String code, String message) {
+            this.line = line;
+            this.field = field;
+            this.code = code;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.coopcredit.creditapplication.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A validated CSV row ready for bulk insertion.
+ *
+ * Username and password hash are optional: when present a login user
+ * with ROLE_AFILIADO is created together with the affiliate.
+ */
+public class AffiliateImportRow {
+
+    private final long lineNumber;
+    private final String documentType;
+    private final String documentNumber;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final String phone;
+    private final BigDecimal salary;
+    private final LocalDate affiliationDate;
+    private final String username;
+    private final String passwordHash;
+
+    public AffiliateImportRow(long lineNumber, String documentType, String documentNumber,
+                              String firstName, String lastName, String email, String phone,
+                              BigDecimal salary, LocalDate affiliationDate,
+                              String username, String passwordHash) {
+        this.lineNumber = lineNumber;
+        this.documentType = documentType;
+        this.documentNumber = documentNumber;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.phone = phone;
+        this.salary = salary;
+        this.affiliationDate = affiliationDate;
+        this.username = username;
+        this.passwordHash = passwordHash;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getDocumentType() {
+        return documentType;
+    }
+
+    public String getDocumentNumber() {
+        return documentNumber;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public BigDecimal getSalary() {
+        return salary;
+    }
+
+    public LocalDate getAffiliationDate() {
+        return affiliationDate;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPasswordHash() {
+        return passwordHash;
+    }
+
+    public boolean hasUser() {
+        return username != null;
+    }
+}
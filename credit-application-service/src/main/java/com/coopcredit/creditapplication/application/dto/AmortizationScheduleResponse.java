@@ -0,0 +1,99 @@
+package com.coopcredit.creditapplication.application.dto;
+
+import com.coopcredit.creditapplication.domain.amortization.Installment;
+
+import java.math.BigDecimal;
+
+/**
+ * Payment schedule of a credit application.
+ *
+ * installments is computed while it is serialized, so the rows are
+ * streamed to the client rather than held in memory.
+ */
+public class AmortizationScheduleResponse {
+
+    private Long applicationId;
+    private Long affiliateId;
+    private BigDecimal principal;
+    private BigDecimal interestRate;
+    private Integer termMonths;
+    private BigDecimal monthlyPayment;
+    private BigDecimal totalInterest;
+    private BigDecimal totalPayment;
+    private Iterable<Installment> installments;
+
+    public AmortizationScheduleResponse() {
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public Long getAffiliateId() {
+        return affiliateId;
+    }
+
+    public void setAffiliateId(Long affiliateId) {
+        this.affiliateId = affiliateId;
+    }
+
+    public BigDecimal getPrincipal() {
+        return principal;
+    }
+
+    public void setPrincipal(BigDecimal principal) {
+        this.principal = principal;
+    }
+
+    public BigDecimal getInterestRate() {
+        return interestRate;
+    }
+
+    public void setInterestRate(BigDecimal interestRate) {
+        this.interestRate = interestRate;
+    }
+
+    public Integer getTermMonths() {
+        return termMonths;
+    }
+
+    public void setTermMonths(Integer termMonths) {
+        this.termMonths = termMonths;
+    }
+
+    public BigDecimal getMonthlyPayment() {
+        return monthlyPayment;
+    }
+
+    public void setMonthlyPayment(BigDecimal monthlyPayment) {
+        this.monthlyPayment = monthlyPayment;
+    }
+
+    public BigDecimal getTotalInterest() {
+        return totalInterest;
+    }
+
+    public void setTotalInterest(BigDecimal totalInterest) {
+        this.totalInterest = totalInterest;
+    }
+
+    public BigDecimal getTotalPayment() {
+        return totalPayment;
+    }
+
+    public void setTotalPayment(BigDecimal totalPayment) {
+        this.totalPayment = totalPayment;
+    }
+
+    public Iterable<Installment> getInstallments() {
+        return installments;
+    }
+
+    public void setInstallments(Iterable<Installment> installments) {
+        this.installments = installments;
+    }
+}
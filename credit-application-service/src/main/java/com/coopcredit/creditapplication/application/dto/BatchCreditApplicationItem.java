@@ -0,0 +1,33 @@
+package com.coopcredit.creditapplication.application.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+/**
+ * One application of a batch submission: a regular credit application
+ * request plus the affiliate it belongs to.
+ */
+public class BatchCreditApplicationItem extends CreditApplicationRequest {
+
+    @NotNull(message = "Affiliate ID is required")
+    private Long affiliateId;
+
+    public BatchCreditApplicationItem() {
+    }
+
+    public BatchCreditApplicationItem(Long affiliateId, BigDecimal requestedAmount, Integer termMonths,
+                                      BigDecimal interestRate, BigDecimal monthlyIncome,
+                                      BigDecimal currentDebt, String purpose) {
+        super(requestedAmount, termMonths, interestRate, monthlyIncome, currentDebt, purpose);
+        this.affiliateId = affiliateId;
+    }
+
+    public Long getAffiliateId() {
+        return affiliateId;
+    }
+
+    public void setAffiliateId(Long affiliateId) {
+        this.affiliateId = affiliateId;
+    }
+}
@@ -0,0 +1,37 @@
+package com.coopcredit.creditapplication.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for batch credit application submission.
+ *
+ * Items are validated one by one and reported individually, so an invalid
+ * item does not fail the whole batch.
+ */
+public class BatchCreditApplicationRequest {
+
+    public static final int MAX_ITEMS = 500;
+
+    @NotEmpty(message = "At least one application is required")
+    @Size(max = MAX_ITEMS, message = "A batch cannot contain more than " + MAX_ITEMS + " applications")
+    private List<BatchCreditApplicationItem> items = new ArrayList<>();
+
+    public BatchCreditApplicationRequest() {
+    }
+
+    public BatchCreditApplicationRequest(List<BatchCreditApplicationItem> items) {
+        this.items = items;
+    }
+
+    public List<BatchCreditApplicationItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BatchCreditApplicationItem> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,111 @@
+package com.coopcredit.creditapplication.application.dto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a batch credit application submission, one entry per item
+ * in request order.
+ */
+public class BatchCreditApplicationResponse {
+
+    private int totalItems;
+    private int accepted;
+    private int rejected;
+    private List<ItemResult> results = new ArrayList<>();
+
+    public BatchCreditApplicationResponse() {
+    }
+
+    public BatchCreditApplicationResponse(List<ItemResult> results) {
+        this.results = results;
+        this.totalItems = results.size();
+        this.accepted = (int) results.stream().filter(ItemResult::isAccepted).count();
+        this.rejected = totalItems - accepted;
+    }
+
+    public int getTotalItems() {
+        return totalItems;
+    }
+
+    public int getAccepted() {
+        return accepted;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public List<ItemResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Outcome of a single item.
+     */
+    public static class ItemResult {
+
+        public static final String ACCEPTED = "ACCEPTED";
+        public static final String REJECTED = "REJECTED";
+
+        private final int index;
+        private final Long affiliateId;
+        private final String status;
+        private final Long applicationId;
+        private final BigDecimal monthlyPayment;
+        private final String code;
+        private final String message;
+
+        private ItemResult(int index, Long affiliateId, String status, Long applicationId,
+                           BigDecimal monthlyPayment, String code, String message) {
+            this.index = index;
+            this.affiliateId = affiliateId;
+            this.status = status;
+            this.applicationId = applicationId;
+            this.monthlyPayment = monthlyPayment;
+            this.code = code;
+            this.message = message;
+        }
+
+        public static ItemResult accepted(int index, Long affiliateId, Long applicationId, BigDecimal monthlyPayment) {
+            return new ItemResult(index, affiliateId, ACCEPTED, applicationId, monthlyPayment, null, null);
+        }
+
+        public static ItemResult rejected(int index, Long affiliateId, String code, String message) {
+            return new ItemResult(index, affiliateId, REJECTED, null, null, code, message);
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Long getAffiliateId() {
+            return affiliateId;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public boolean isAccepted() {
+            return ACCEPTED.equals(status);
+        }
+
+        public Long getApplicationId() {
+            return applicationId;
+        }
+
+        public BigDecimal getMonthlyPayment() {
+            return monthlyPayment;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
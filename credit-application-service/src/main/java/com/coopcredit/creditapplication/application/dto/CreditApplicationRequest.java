@@ -9,14 +9,13 @@ import java.math.BigDecimal;
  */
 public class CreditApplicationRequest {
     
+    // Amount and term ranges are configurable business rules (business.credit.*)
     @NotNull(message = "Requested amount is required")
-    @DecimalMin(value = "1000000", message = "Minimum credit amount is 1,000,000")
-    @DecimalMax(value = "50000000", message = "Maximum credit amount is 50,000,000")
+    @DecimalMin(value = "0.01", message = "Requested amount must be greater than zero")
     private BigDecimal requestedAmount;
     
     @NotNull(message = "Term in months is required")
-    @Min(value = 6, message = "Minimum term is 6 months")
-    @Max(value = 60, message = "Maximum term is 60 months")
+    @Min(value = 1, message = "Term must be at least 1 month")
     private Integer termMonths;
     
     @NotNull(message = "Interest rate is required")
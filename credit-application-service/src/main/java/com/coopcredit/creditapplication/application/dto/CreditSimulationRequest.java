@@ -0,0 +1,90 @@
+package com.coopcredit.creditapplication.application.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for simulating loan offers: every amount is combined with every term.
+ * Without terms, the grid uses 6 to 60 months in steps of 6.
+ */
+public class CreditSimulationRequest {
+
+    public static final int MAX_AMOUNTS = 20;
+    public static final int MAX_TERMS = 60;
+
+    @NotEmpty(message = "At least one amount is required")
+    @Size(max = MAX_AMOUNTS, message = "A simulation cannot contain more than " + MAX_AMOUNTS + " amounts")
+    private List<@NotNull(message = "Amounts cannot be null")
+                 @DecimalMin(value = "0.01", message = "Amounts must be greater than zero")
+                 @Digits(integer = 10, fraction = 2, message = "Amounts must have at most 10 digits and 2 decimals")
+                 BigDecimal> amounts = new ArrayList<>();
+
+    @Size(max = MAX_TERMS, message = "A simulation cannot contain more than " + MAX_TERMS + " terms")
+    private List<@NotNull(message = "Terms cannot be null")
+                 @Min(value = 1, message = "Terms must be at least 1 month")
+                 @Max(value = 120, message = "Terms cannot exceed 120 months")
+                 Integer> termMonths = new ArrayList<>();
+
+    @NotNull(message = "Interest rate is required")
+    @DecimalMin(value = "0.01", message = "Interest rate must be greater than zero")
+    @DecimalMax(value = "50.00", message = "Interest rate cannot exceed 50%")
+    private BigDecimal interestRate;
+
+    @NotNull(message = "Monthly income is required")
+    @DecimalMin(value = "0.01", message = "Monthly income must be greater than zero")
+    @Digits(integer = 12, fraction = 2, message = "Monthly income must have at most 12 digits and 2 decimals")
+    private BigDecimal monthlyIncome;
+
+    public CreditSimulationRequest() {
+    }
+
+    public CreditSimulationRequest(List<BigDecimal> amounts, List<Integer> termMonths,
+                                   BigDecimal interestRate, BigDecimal monthlyIncome) {
+        this.amounts = amounts;
+        this.termMonths = termMonths;
+        this.interestRate = interestRate;
+        this.monthlyIncome = monthlyIncome;
+    }
+
+    public List<BigDecimal> getAmounts() {
+        return amounts;
+    }
+
+    public void setAmounts(List<BigDecimal> amounts) {
+        this.amounts = amounts;
+    }
+
+    public List<Integer> getTermMonths() {
+        return termMonths;
+    }
+
+    public void setTermMonths(List<Integer> termMonths) {
+        this.termMonths = termMonths;
+    }
+
+    public BigDecimal getInterestRate() {
+        return interestRate;
+    }
+
+    public void setInterestRate(BigDecimal interestRate) {
+        this.interestRate = interestRate;
+    }
+
+    public BigDecimal getMonthlyIncome() {
+        return monthlyIncome;
+    }
+
+    public void setMonthlyIncome(BigDecimal monthlyIncome) {
+        this.monthlyIncome = monthlyIncome;
+    }
+}
@@ -0,0 +1,118 @@
+package com.coopcredit.creditapplication.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Result of a loan offer simulation as matrices indexed [amount][term],
+ * in the order of amounts and termMonths.
+ *
+ * A cell is eligible when rejections holds null for it; otherwise it holds
+ * the error code submitting that application would return. Debt ratios are
+ * monthly payment / monthly income with four decimals.
+ */
+public class CreditSimulationResponse {
+
+    private Long affiliateId;
+    private BigDecimal interestRate;
+    private BigDecimal monthlyIncome;
+    private BigDecimal maxCreditAmount;
+    private List<BigDecimal> amounts;
+    private int[] termMonths;
+    private double[][] monthlyPayments;
+    private double[][] debtRatios;
+    private boolean[][] eligible;
+    private String[][] rejections;
+    private int eligibleCount;
+
+    public CreditSimulationResponse() {
+    }
+
+    public Long getAffiliateId() {
+        return affiliateId;
+    }
+
+    public void setAffiliateId(Long affiliateId) {
+        this.affiliateId = affiliateId;
+    }
+
+    public BigDecimal getInterestRate() {
+        return interestRate;
+    }
+
+    public void setInterestRate(BigDecimal interestRate) {
+        this.interestRate = interestRate;
+    }
+
+    public BigDecimal getMonthlyIncome() {
+        return monthlyIncome;
+    }
+
+    public void setMonthlyIncome(BigDecimal monthlyIncome) {
+        this.monthlyIncome = monthlyIncome;
+    }
+
+    public BigDecimal getMaxCreditAmount() {
+        return maxCreditAmount;
+    }
+
+    public void setMaxCreditAmount(BigDecimal maxCreditAmount) {
+        this.maxCreditAmount = maxCreditAmount;
+    }
+
+    public List<BigDecimal> getAmounts() {
+        return amounts;
+    }
+
+    public void setAmounts(List<BigDecimal> amounts) {
+        this.amounts = amounts;
+    }
+
+    public int[] getTermMonths() {
+        return termMonths;
+    }
+
+    public void setTermMonths(int[] termMonths) {
+        this.termMonths = termMonths;
+    }
+
+    public double[][] getMonthlyPayments() {
+        return monthlyPayments;
+    }
+
+    public void setMonthlyPayments(double[][] monthlyPayments) {
+        this.monthlyPayments = monthlyPayments;
+    }
+
+    public double[][] getDebtRatios() {
+        return debtRatios;
+    }
+
+    public void setDebtRatios(double[][] debtRatios) {
+        this.debtRatios = debtRatios;
+    }
+
+    public boolean[][] getEligible() {
+        return eligible;
+    }
+
+    public void setEligible(boolean[][] eligible) {
+        this.eligible = eligible;
+    }
+
+    public String[][] getRejections() {
+        return rejections;
+    }
+
+    public void setRejections(String[][] rejections) {
+        this.rejections = rejections;
+    }
+
+    public int getEligibleCount() {
+        return eligibleCount;
+    }
+
+    public void setEligibleCount(int eligibleCount) {
+        this.eligibleCount = eligibleCount;
+    }
+}
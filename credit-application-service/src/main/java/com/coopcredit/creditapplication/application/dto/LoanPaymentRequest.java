@@ -0,0 +1,45 @@
+package com.coopcredit.creditapplication.application.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO for recording a loan repayment.
+ */
+public class LoanPaymentRequest {
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be greater than zero")
+    @Digits(integer = 12, fraction = 2, message = "Amount must have at most 12 digits and 2 decimals")
+    private BigDecimal amount;
+
+    /** Date the money was received; today when omitted. */
+    private LocalDate valueDate;
+
+    public LoanPaymentRequest() {
+    }
+
+    public LoanPaymentRequest(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public LocalDate getValueDate() {
+        return valueDate;
+    }
+
+    public void setValueDate(LocalDate valueDate) {
+        this.valueDate = valueDate;
+    }
+}
@@ -0,0 +1,158 @@
+package com.coopcredit.creditapplication.application.dto;
+
+import com.coopcredit.creditapplication.domain.servicing.LedgerEntry;
+import com.coopcredit.creditapplication.domain.servicing.LoanAccount;
+import com.coopcredit.creditapplication.domain.servicing.LoanBalance;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A loan with its current balance and latest ledger entries.
+ */
+public class LoanResponse {
+
+    private Long loanId;
+    private Long affiliateId;
+    private BigDecimal principal;
+    private BigDecimal interestRate;
+    private Integer termMonths;
+    private BigDecimal installment;
+    private LocalDate disbursedOn;
+    private String status;
+    private BigDecimal outstandingPrincipal;
+    private BigDecimal accruedInterest;
+    private BigDecimal amountDue;
+    private BigDecimal payoffAmount;
+    private List<Entry> recentEntries;
+
+    public LoanResponse() {
+    }
+
+    public static LoanResponse of(LoanAccount loan, LoanBalance balance, List<LedgerEntry> recentEntries) {
+        LoanResponse response = new LoanResponse();
+        response.loanId = loan.loanId();
+        response.affiliateId = loan.affiliateId();
+        response.principal = amount(loan.principalCents());
+        response.interestRate = BigDecimal.valueOf(loan.rateHundredths(), 2);
+        response.termMonths = loan.termMonths();
+        response.installment = amount(loan.installmentCents());
+        response.disbursedOn = loan.disbursedOn();
+        response.status = loan.status().name();
+        response.outstandingPrincipal = amount(balance.principalCents());
+        response.accruedInterest = amount(balance.interestCents());
+        response.amountDue = amount(balance.dueCents());
+        response.payoffAmount = amount(balance.outstandingCents());
+        response.recentEntries = recentEntries.stream().map(Entry::new).toList();
+        return response;
+    }
+
+    private static BigDecimal amount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public Long getAffiliateId() {
+        return affiliateId;
+    }
+
+    public BigDecimal getPrincipal() {
+        return principal;
+    }
+
+    public BigDecimal getInterestRate() {
+        return interestRate;
+    }
+
+    public Integer getTermMonths() {
+        return termMonths;
+    }
+
+    public BigDecimal getInstallment() {
+        return installment;
+    }
+
+    public LocalDate getDisbursedOn() {
+        return disbursedOn;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public BigDecimal getOutstandingPrincipal() {
+        return outstandingPrincipal;
+    }
+
+    public BigDecimal getAccruedInterest() {
+        return accruedInterest;
+    }
+
+    public BigDecimal getAmountDue() {
+        return amountDue;
+    }
+
+    public BigDecimal getPayoffAmount() {
+        return payoffAmount;
+    }
+
+    public List<Entry> getRecentEntries() {
+        return recentEntries;
+    }
+
+    /**
+     * One ledger entry, with signed changes of each balance.
+     */
+    public static class Entry {
+
+        private final Long id;
+        private final String type;
+        private final LocalDate entryDate;
+        private final LocalDate valueDate;
+        private final BigDecimal principal;
+        private final BigDecimal interest;
+        private final BigDecimal due;
+
+        private Entry(LedgerEntry entry) {
+            this.id = entry.id();
+            this.type = entry.type().name();
+            this.entryDate = entry.entryDate();
+            this.valueDate = entry.valueDate();
+            this.principal = amount(entry.principalCents());
+            this.interest = amount(entry.interestCents());
+            this.due = amount(entry.dueCents());
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public LocalDate getEntryDate() {
+            return entryDate;
+        }
+
+        public LocalDate getValueDate() {
+            return valueDate;
+        }
+
+        public BigDecimal getPrincipal() {
+            return principal;
+        }
+
+        public BigDecimal getInterest() {
+            return interest;
+        }
+
+        public BigDecimal getDue() {
+            return due;
+        }
+    }
+}
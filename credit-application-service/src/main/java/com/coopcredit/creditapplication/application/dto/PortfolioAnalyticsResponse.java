@@ -0,0 +1,179 @@
+package com.coopcredit.creditapplication.application.dto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Portfolio figures for the analyst dashboard.
+ *
+ * approvalRate is APPROVED / (APPROVED + REJECTED) and averageScore covers
+ * evaluated applications only; both are null when there is nothing to
+ * average. Months are formatted as yyyy-MM.
+ */
+public class PortfolioAnalyticsResponse {
+
+    private String from;
+    private String to;
+    private long totalApplications;
+    private BigDecimal approvalRate;
+    private BigDecimal averageScore;
+    private BigDecimal totalRequestedAmount = BigDecimal.ZERO;
+    private BigDecimal totalApprovedAmount = BigDecimal.ZERO;
+    private Map<String, Long> applicationsByStatus = new LinkedHashMap<>();
+    private Map<String, Long> applicationsByRiskLevel = new LinkedHashMap<>();
+    private List<MonthSummary> months = new ArrayList<>();
+
+    public PortfolioAnalyticsResponse() {
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public void setFrom(String from) {
+        this.from = from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public void setTo(String to) {
+        this.to = to;
+    }
+
+    public long getTotalApplications() {
+        return totalApplications;
+    }
+
+    public void setTotalApplications(long totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+
+    public BigDecimal getApprovalRate() {
+        return approvalRate;
+    }
+
+    public void setApprovalRate(BigDecimal approvalRate) {
+        this.approvalRate = approvalRate;
+    }
+
+    public BigDecimal getAverageScore() {
+        return averageScore;
+    }
+
+    public void setAverageScore(BigDecimal averageScore) {
+        this.averageScore = averageScore;
+    }
+
+    public BigDecimal getTotalRequestedAmount() {
+        return totalRequestedAmount;
+    }
+
+    public void setTotalRequestedAmount(BigDecimal totalRequestedAmount) {
+        this.totalRequestedAmount = totalRequestedAmount;
+    }
+
+    public BigDecimal getTotalApprovedAmount() {
+        return totalApprovedAmount;
+    }
+
+    public void setTotalApprovedAmount(BigDecimal totalApprovedAmount) {
+        this.totalApprovedAmount = totalApprovedAmount;
+    }
+
+    public Map<String, Long> getApplicationsByStatus() {
+        return applicationsByStatus;
+    }
+
+    public void setApplicationsByStatus(Map<String, Long> applicationsByStatus) {
+        this.applicationsByStatus = applicationsByStatus;
+    }
+
+    public Map<String, Long> getApplicationsByRiskLevel() {
+        return applicationsByRiskLevel;
+    }
+
+    public void setApplicationsByRiskLevel(Map<String, Long> applicationsByRiskLevel) {
+        this.applicationsByRiskLevel = applicationsByRiskLevel;
+    }
+
+    public List<MonthSummary> getMonths() {
+        return months;
+    }
+
+    public void setMonths(List<MonthSummary> months) {
+        this.months = months;
+    }
+
+    /**
+     * Figures for the applications submitted in one month.
+     */
+    public static class MonthSummary {
+
+        private String month;
+        private long applications;
+        private long approved;
+        private long rejected;
+        private BigDecimal requestedAmount = BigDecimal.ZERO;
+        private BigDecimal approvedAmount = BigDecimal.ZERO;
+
+        public MonthSummary() {
+        }
+
+        public MonthSummary(String month) {
+            this.month = month;
+        }
+
+        public String getMonth() {
+            return month;
+        }
+
+        public void setMonth(String month) {
+            this.month = month;
+        }
+
+        public long getApplications() {
+            return applications;
+        }
+
+        public void setApplications(long applications) {
+            this.applications = applications;
+        }
+
+        public long getApproved() {
+            return approved;
+        }
+
+        public void setApproved(long approved) {
+            this.approved = approved;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public void setRejected(long rejected) {
+            this.rejected = rejected;
+        }
+
+        public BigDecimal getRequestedAmount() {
+            return requestedAmount;
+        }
+
+        public void setRequestedAmount(BigDecimal requestedAmount) {
+            this.requestedAmount = requestedAmount;
+        }
+
+        public BigDecimal getApprovedAmount() {
+            return approvedAmount;
+        }
+
+        public void setApprovedAmount(BigDecimal approvedAmount) {
+            this.approvedAmount = approvedAmount;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.coopcredit.creditapplication.application.port.in;
+
+import com.coopcredit.creditapplication.application.dto.LoanResponse;
+
+/**
+ * Use case for disbursing an approved credit application, which opens its loan.
+ */
+public interface DisburseLoanUseCase {
+
+    /**
+     * Opens the loan of an approved application and records the disbursement.
+     *
+     * @param applicationId the approved application ID, which becomes the loan ID
+     * @return the new loan
+     */
+    LoanResponse execute(Long applicationId);
+}
@@ -0,0 +1,18 @@
+package com.coopcredit.creditapplication.application.port.in;
+
+import java.time.LocalDateTime;
+
+/**
+ * Use case for expiring applications nobody decided on in time.
+ */
+public interface ExpireStaleApplicationsUseCase {
+
+    /**
+     * Expires one batch of PENDING and IN_REVIEW applications, oldest first.
+     *
+     * @param appliedBefore applications submitted before this are stale
+     * @param limit maximum number of applications in the batch
+     * @return number of applications expired
+     */
+    int execute(LocalDateTime appliedBefore, int limit);
+}
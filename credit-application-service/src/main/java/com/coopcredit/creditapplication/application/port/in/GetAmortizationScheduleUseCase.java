@@ -0,0 +1,18 @@
+package com.coopcredit.creditapplication.application.port.in;
+
+import com.coopcredit.creditapplication.application.dto.AmortizationScheduleResponse;
+
+/**
+ * Use case for retrieving the payment schedule of a credit application.
+ */
+public interface GetAmortizationScheduleUseCase {
+
+    /**
+     * Builds the schedule of an application.
+     *
+     * @param applicationId the application ID
+     * @param affiliateId when not null, the application must belong to this affiliate
+     * @return the schedule
+     */
+    AmortizationScheduleResponse execute(Long applicationId, Long affiliateId);
+}
@@ -0,0 +1,15 @@
+package com.coopcredit.creditapplication.application.port.in;
+
+import com.coopcredit.creditapplication.application.dto.LoanResponse;
+
+/**
+ * Use case for retrieving a loan with its balance and latest movements.
+ */
+public interface GetLoanUseCase {
+
+    /**
+     * @param loanId the loan ID
+     * @return the loan
+     */
+    LoanResponse execute(Long loanId);
+}
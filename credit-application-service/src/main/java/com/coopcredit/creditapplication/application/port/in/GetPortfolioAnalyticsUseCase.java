@@ -0,0 +1,20 @@
+package com.coopcredit.creditapplication.application.port.in;
+
+import com.coopcredit.creditapplication.application.dto.PortfolioAnalyticsResponse;
+
+import java.time.YearMonth;
+
+/**
+ * Use case for reading portfolio analytics from the maintained aggregates.
+ */
+public interface GetPortfolioAnalyticsUseCase {
+
+    /**
+     * Summarizes the applications submitted in a range of months.
+     *
+     * @param from first month, null for no lower bound
+     * @param to last month, null for no upper bound
+     * @return portfolio figures
+     */
+    PortfolioAnalyticsResponse execute(YearMonth from, YearMonth to);
+}
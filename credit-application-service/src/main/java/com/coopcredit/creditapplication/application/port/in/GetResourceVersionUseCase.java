@@ -0,0 +1,34 @@
+package com.coopcredit.creditapplication.application.port.in;
+
+import java.util.Optional;
+
+/**
+ * Use case interface for resolving cheap version identifiers of read resources.
+ * Used for conditional requests, so a client with an up-to-date copy can be
+ * answered without loading or mapping the resource.
+ */
+public interface GetResourceVersionUseCase {
+
+    /**
+     * Resolves the version of a single affiliate representation.
+     *
+     * @param affiliateId the affiliate ID
+     * @return version, or empty if the affiliate does not exist
+     */
+    Optional<String> affiliateVersion(Long affiliateId);
+
+    /**
+     * Resolves the version of the current authenticated affiliate representation.
+     *
+     * @return version, or empty if the user has no affiliate
+     */
+    Optional<String> currentAffiliateVersion();
+
+    /**
+     * Resolves the version of the application list of an affiliate.
+     *
+     * @param affiliateId the affiliate ID
+     * @return version, or empty if the affiliate does not exist
+     */
+    Optional<String> affiliateApplicationsVersion(Long affiliateId);
+}
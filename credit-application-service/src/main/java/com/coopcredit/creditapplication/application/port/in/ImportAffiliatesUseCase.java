@@ -0,0 +1,26 @@
+package com.coopcredit.creditapplication.application.port.in;
+
+import com.coopcredit.creditapplication.application.dto.AffiliateImportReport;
+
+import java.io.InputStream;
+
+/**
+ * Use case interface for bulk affiliate onboarding from a CSV file.
+ *
+ * Business Rules:
+ * - Rows are validated like individual registrations
+ * - Document number, email and username must be unique, both against
+ *   existing data and within the file
+ * - Invalid rows are reported and skipped; valid rows are imported
+ */
+public interface ImportAffiliatesUseCase {
+
+    /**
+     * Streams a CSV file and imports its affiliates in chunks.
+     *
+     * @param csv the CSV content, with a header row
+     * @return per-row import report
+     * @throws IllegalArgumentException if the header is missing required columns
+     */
+    AffiliateImportReport execute(InputStream csv);
+}
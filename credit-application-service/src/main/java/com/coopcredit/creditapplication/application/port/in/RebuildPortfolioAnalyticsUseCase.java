@@ -0,0 +1,16 @@
+package com.coopcredit.creditapplication.application.port.in;
+
+import com.coopcredit.creditapplication.application.dto.PortfolioAnalyticsResponse;
+
+/**
+ * Use case for recomputing the portfolio aggregates from the applications.
+ */
+public interface RebuildPortfolioAnalyticsUseCase {
+
+    /**
+     * Rebuilds the aggregates.
+     *
+     * @return portfolio figures for all months after the rebuild
+     */
+    PortfolioAnalyticsResponse execute();
+}
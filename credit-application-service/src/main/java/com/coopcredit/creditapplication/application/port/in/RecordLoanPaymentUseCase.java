@@ -0,0 +1,19 @@
+package com.coopcredit.creditapplication.application.port.in;
+
+import com.coopcredit.creditapplication.application.dto.LoanPaymentRequest;
+import com.coopcredit.creditapplication.application.dto.LoanResponse;
+
+/**
+ * Use case for recording a repayment of a loan.
+ */
+public interface RecordLoanPaymentUseCase {
+
+    /**
+     * Applies a payment to accrued interest and then to principal.
+     *
+     * @param loanId the loan ID
+     * @param request the payment
+     * @return the loan after the payment
+     */
+    LoanResponse execute(Long loanId, LoanPaymentRequest request);
+}
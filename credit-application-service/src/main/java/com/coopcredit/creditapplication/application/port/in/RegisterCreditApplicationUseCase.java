@@ -7,5 +7,11 @@ import com.coopcredit.creditapplication.application.dto.CreditApplicationRespons
  * Port IN - Use case for registering credit applications.
  */
 public interface RegisterCreditApplicationUseCase {
+
     CreditApplicationResponse execute(Long affiliateId, CreditApplicationRequest request);
+
+    /**
+     * @param reportAllViolations whether a rejection lists every broken rule instead of the first
+     */
+    CreditApplicationResponse execute(Long affiliateId, CreditApplicationRequest request, boolean reportAllViolations);
 }
@@ -0,0 +1,20 @@
+package com.coopcredit.creditapplication.application.port.in;
+
+import com.coopcredit.creditapplication.application.dto.CreditSimulationRequest;
+import com.coopcredit.creditapplication.application.dto.CreditSimulationResponse;
+
+/**
+ * Use case for simulating several loan offers for an affiliate in one call.
+ * Nothing is stored.
+ */
+public interface SimulateCreditOffersUseCase {
+
+    /**
+     * Evaluates every amount and term combination.
+     *
+     * @param affiliateId the affiliate ID
+     * @param request amounts, terms, rate and income
+     * @return payment, debt ratio and eligibility per combination
+     */
+    CreditSimulationResponse execute(Long affiliateId, CreditSimulationRequest request);
+}
@@ -0,0 +1,24 @@
+package com.coopcredit.creditapplication.application.port.in;
+
+import com.coopcredit.creditapplication.application.dto.BatchCreditApplicationRequest;
+import com.coopcredit.creditapplication.application.dto.BatchCreditApplicationResponse;
+
+/**
+ * Use case interface for submitting many credit applications at once.
+ *
+ * Business Rules:
+ * - Each item follows the same rules as a single application
+ * - An affiliate may have only one PENDING application, including
+ *   applications accepted earlier in the same batch
+ * - Rejected items do not prevent the others from being created
+ */
+public interface SubmitCreditApplicationBatchUseCase {
+
+    /**
+     * Validates every item and creates the accepted applications.
+     *
+     * @param request the batch of applications
+     * @return per-item accept/reject results
+     */
+    BatchCreditApplicationResponse execute(BatchCreditApplicationRequest request);
+}
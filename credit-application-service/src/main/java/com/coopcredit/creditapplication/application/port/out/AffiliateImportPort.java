@@ -0,0 +1,23 @@
+package com.coopcredit.creditapplication.application.port.out;
+
+import com.coopcredit.creditapplication.application.dto.AffiliateImportReport;
+import com.coopcredit.creditapplication.application.dto.AffiliateImportRow;
+
+import java.util.List;
+
+/**
+ * Port OUT - Bulk insertion of imported affiliates.
+ * Implementations check uniqueness with set-based queries instead of
+ * one lookup per row.
+ */
+public interface AffiliateImportPort {
+
+    /**
+     * Inserts a chunk of validated rows in one transaction. Rows that clash
+     * with existing data or with another row of the chunk are skipped.
+     *
+     * @param rows validated rows
+     * @return errors for the rows that were skipped
+     */
+    List<AffiliateImportReport.RowError> importChunk(List<AffiliateImportRow> rows);
+}
@@ -2,6 +2,7 @@ package com.coopcredit.creditapplication.application.port.out;
 
 import com.coopcredit.creditapplication.domain.model.Affiliate;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,15 @@ public interface AffiliateRepositoryPort {
      * @return optional containing affiliate if found
      */
     Optional<Affiliate> findById(Long id);
+
+    /**
+     * Finds all affiliates with the given IDs in a single query.
+     * Unknown IDs are ignored.
+     *
+     * @param ids the affiliate IDs
+     * @return affiliates found, in no particular order
+     */
+    List<Affiliate> findAllByIds(Collection<Long> ids);
     
     /**
      * Finds an affiliate by document number.
@@ -74,4 +84,21 @@ public interface AffiliateRepositoryPort {
      * @return list of all affiliates
      */
     List<Affiliate> findAll();
+
+    /**
+     * Returns a stamp that changes whenever the affiliate row changes,
+     * without loading the affiliate.
+     *
+     * @param id the affiliate ID
+     * @return optional containing the version stamp if the affiliate exists
+     */
+    Optional<String> findVersionStamp(Long id);
+
+    /**
+     * Returns the version stamp of the affiliate linked to a user.
+     *
+     * @param username the username
+     * @return optional containing the version stamp if the affiliate exists
+     */
+    Optional<String> findVersionStampByUsername(String username);
 }
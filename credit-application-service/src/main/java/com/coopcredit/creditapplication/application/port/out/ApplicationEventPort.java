@@ -0,0 +1,25 @@
+package com.coopcredit.creditapplication.application.port.out;
+
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+
+/**
+ * Port OUT - Events about credit applications for other systems.
+ * Must be called inside the transaction that changes the application, so
+ * the event is recorded if and only if the change commits.
+ */
+public interface ApplicationEventPort {
+
+    String SOURCE_MANUAL = "MANUAL";
+    String SOURCE_RISK_EVALUATION = "RISK_EVALUATION";
+    String SOURCE_EXPIRY = "EXPIRY";
+
+    /**
+     * Records that an application changed status.
+     *
+     * @param application the application, with its new status
+     * @param previousStatus status before the change
+     * @param source what decided the change (SOURCE_MANUAL, SOURCE_RISK_EVALUATION or SOURCE_EXPIRY)
+     */
+    void statusChanged(CreditApplication application, ApplicationStatus previousStatus, String source);
+}
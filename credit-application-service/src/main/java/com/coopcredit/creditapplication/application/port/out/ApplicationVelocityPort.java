@@ -0,0 +1,50 @@
+package com.coopcredit.creditapplication.application.port.out;
+
+/**
+ * Port OUT - In-memory velocity checks on credit application submissions.
+ * Each call counts one submission and rejects it if its key submitted too
+ * often recently; none of them touches the database.
+ */
+public interface ApplicationVelocityPort {
+
+    /**
+     * Counts a submission for an affiliate, and for the client sending it
+     * when known. Called before any other work on the submission.
+     *
+     * @param affiliateId the affiliate the application is for
+     * @throws com.coopcredit.creditapplication.infrastructure.exception.TooManyRequestsException
+     *         if the affiliate or client is over the block threshold
+     */
+    default void recordSubmission(Long affiliateId) {
+        recordAffiliate(affiliateId);
+        recordClient();
+    }
+
+    /**
+     * Counts a submission for an affiliate only. A batch counts each of its
+     * items this way and its client once.
+     *
+     * @param affiliateId the affiliate the application is for
+     * @throws com.coopcredit.creditapplication.infrastructure.exception.TooManyRequestsException
+     *         if the affiliate is over the block threshold
+     */
+    void recordAffiliate(Long affiliateId);
+
+    /**
+     * Counts a submission for the client sending the current request, if known.
+     *
+     * @throws com.coopcredit.creditapplication.infrastructure.exception.TooManyRequestsException
+     *         if the client is over the block threshold
+     */
+    void recordClient();
+
+    /**
+     * Counts a submission for an identity document.
+     *
+     * @param documentType the document type
+     * @param documentNumber the document number
+     * @throws com.coopcredit.creditapplication.infrastructure.exception.TooManyRequestsException
+     *         if the document is over the block threshold
+     */
+    void recordDocument(String documentType, String documentNumber);
+}
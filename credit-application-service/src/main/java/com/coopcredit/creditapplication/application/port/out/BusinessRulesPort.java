@@ -0,0 +1,17 @@
+package com.coopcredit.creditapplication.application.port.out;
+
+import com.coopcredit.creditapplication.domain.validation.RuleSet;
+
+/**
+ * Port OUT - Source of the credit rules in force.
+ */
+public interface BusinessRulesPort {
+
+    /**
+     * Returns the rule set in force. Callers should fetch it once per
+     * operation so a reload in between does not mix two versions.
+     *
+     * @return the current compiled rule set
+     */
+    RuleSet current();
+}
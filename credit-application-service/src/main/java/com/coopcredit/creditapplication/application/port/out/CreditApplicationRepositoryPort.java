@@ -3,18 +3,93 @@ package com.coopcredit.creditapplication.application.port.out;
 import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
 import com.coopcredit.creditapplication.domain.model.CreditApplication;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Port OUT - Repository for credit applications.
  */
 public interface CreditApplicationRepositoryPort {
+    /**
+     * Inserts or updates an application. New applications are flushed
+     * immediately, so a second PENDING application for the same affiliate
+     * fails here with PENDING_APPLICATION_EXISTS.
+     *
+     * @param creditApplication the application
+     * @return the saved application
+     */
     CreditApplication save(CreditApplication creditApplication);
 
+    /**
+     * Inserts new PENDING applications in one statement, leaving out those
+     * whose affiliate already has a PENDING application, even one committed
+     * concurrently.
+     *
+     * @param creditApplications new applications (without ID), at most one per affiliate
+     * @return the inserted applications with their IDs, in the same order
+     */
+    List<CreditApplication> saveAllPending(List<CreditApplication> creditApplications);
+
     Optional<CreditApplication> findById(Long id);
 
+    /**
+     * Reads an application and locks it until the transaction ends.
+     */
+    Optional<CreditApplication> lock(Long id);
+
+    /**
+     * Loads applications with their affiliate and evaluation, in a single query.
+     *
+     * @param ids the application IDs
+     * @return the applications found, in no particular order
+     */
+    List<CreditApplication> findAllById(Collection<Long> ids);
+
     List<CreditApplication> findByAffiliateId(Long affiliateId);
 
     List<CreditApplication> findByAffiliateIdAndStatus(Long affiliateId, ApplicationStatus status);
+
+    /**
+     * Checks whether the affiliate has an application in the given status,
+     * without loading it.
+     *
+     * @param affiliateId the affiliate ID
+     * @param status the application status
+     * @return true if at least one application matches
+     */
+    boolean existsByAffiliateIdAndStatus(Long affiliateId, ApplicationStatus status);
+
+    /**
+     * Returns which of the given affiliates have at least one application
+     * in the given status, in a single query.
+     *
+     * @param affiliateIds the affiliate IDs
+     * @param status the application status
+     * @return IDs of the affiliates with a matching application
+     */
+    Set<Long> findAffiliateIdsWithStatus(Collection<Long> affiliateIds, ApplicationStatus status);
+
+    /**
+     * Returns a stamp that changes whenever the affiliate or any of its
+     * applications is inserted, updated or deleted, without loading them.
+     *
+     * @param affiliateId the affiliate ID
+     * @return optional containing the version stamp if the affiliate exists
+     */
+    Optional<String> findVersionStampByAffiliateId(Long affiliateId);
+
+    /**
+     * Moves PENDING and IN_REVIEW applications submitted before the cutoff
+     * to EXPIRED in one statement, oldest first. Applications locked by
+     * other transactions are skipped and left for a later batch.
+     *
+     * @param appliedBefore applications submitted before this are expired
+     * @param limit maximum number of applications
+     * @return status before the change of each expired application, by ID
+     */
+    Map<Long, ApplicationStatus> expireStale(LocalDateTime appliedBefore, int limit);
 }
@@ -0,0 +1,39 @@
+package com.coopcredit.creditapplication.application.port.out;
+
+import com.coopcredit.creditapplication.domain.model.AffiliateExposure;
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+
+/**
+ * Port OUT - Ledger of the credits each affiliate already holds, read by the
+ * debt ratio and the risk evaluation instead of the debt applicants declare.
+ * Status changes must be recorded inside the transaction that changes the
+ * application, so the ledger commits or rolls back with it.
+ */
+public interface ExposureLedgerPort {
+
+    /**
+     * Current exposure of an affiliate, served from memory.
+     *
+     * @param affiliateId the affiliate
+     * @return exposure, zero if the affiliate has no approved credits
+     */
+    AffiliateExposure exposureOf(Long affiliateId);
+
+    /**
+     * Adds the credit to its affiliate's exposure when the application is
+     * approved, or removes it when an approved application changes status.
+     *
+     * @param application the application, with its new status
+     * @param previousStatus status before the change
+     */
+    void statusChanged(CreditApplication application, ApplicationStatus previousStatus);
+
+    /**
+     * Removes a credit whose loan has been repaid in full, subtracting what
+     * its approval added. Does nothing if the credit is not counted.
+     *
+     * @param applicationId the application the loan was disbursed from
+     */
+    void creditRepaid(Long applicationId);
+}
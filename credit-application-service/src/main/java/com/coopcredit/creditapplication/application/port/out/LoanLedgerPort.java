@@ -0,0 +1,62 @@
+package com.coopcredit.creditapplication.application.port.out;
+
+import com.coopcredit.creditapplication.domain.servicing.LedgerEntry;
+import com.coopcredit.creditapplication.domain.servicing.LoanAccount;
+import com.coopcredit.creditapplication.domain.servicing.LoanBalance;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port OUT - Loan accounts and their append-only ledger.
+ *
+ * Writers lock the loan before appending, so each loan's entries are
+ * booked one at a time and balances can be folded from any snapshot
+ * onwards. Writes must be called inside the caller's transaction.
+ */
+public interface LoanLedgerPort {
+
+    /**
+     * @return today's booking date, from the database clock
+     */
+    LocalDate bookingDate();
+
+    /**
+     * Creates the account of a disbursed loan.
+     *
+     * @param account the new loan
+     * @return false if the loan already exists
+     */
+    boolean open(LoanAccount account);
+
+    Optional<LoanAccount> findById(Long loanId);
+
+    /**
+     * Reads a loan and locks it until the transaction ends.
+     */
+    Optional<LoanAccount> lock(Long loanId);
+
+    /**
+     * Balance of a loan: its latest snapshot plus the entries booked after it.
+     */
+    LoanBalance balanceOf(LoanAccount loan);
+
+    /**
+     * Appends an entry, booked today.
+     *
+     * @param entry entry without id or booking date
+     * @return the entry as recorded
+     */
+    LedgerEntry append(LedgerEntry entry);
+
+    /**
+     * Marks a settled loan as paid off, which ends its interest accrual.
+     */
+    void markPaidOff(Long loanId);
+
+    /**
+     * @return the latest entries of a loan, newest first
+     */
+    List<LedgerEntry> recentEntries(Long loanId, int limit);
+}
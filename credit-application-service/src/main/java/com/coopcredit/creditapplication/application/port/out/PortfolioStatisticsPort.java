@@ -0,0 +1,61 @@
+package com.coopcredit.creditapplication.application.port.out;
+
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.PortfolioStatistics;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Port OUT - Portfolio aggregates per month, status and risk level.
+ * Updates must be called inside the transaction that changes the
+ * applications, so the aggregates commit or roll back with them.
+ */
+public interface PortfolioStatisticsPort {
+
+    /**
+     * Counts newly saved applications.
+     *
+     * @param applications saved applications
+     */
+    void applicationsCreated(List<CreditApplication> applications);
+
+    /**
+     * Moves an application from its previous bucket to its current one.
+     *
+     * @param application the application, with its new status and evaluation
+     * @param previousStatus status before the change
+     * @param previousEvaluation evaluation before the change, null if it had none
+     */
+    void statusChanged(CreditApplication application, ApplicationStatus previousStatus,
+                       RiskEvaluation previousEvaluation);
+
+    /**
+     * Moves applications whose status changed without a new evaluation,
+     * folded into one update per bucket.
+     *
+     * @param applications the applications, with their new status
+     * @param previousStatuses status before the change, by application ID
+     */
+    void statusesChanged(List<CreditApplication> applications, Map<Long, ApplicationStatus> previousStatuses);
+
+    /**
+     * Reads the aggregates of a range of months.
+     *
+     * @param from first month, null for no lower bound
+     * @param to last month, null for no upper bound
+     * @return aggregates ordered by month
+     */
+    List<PortfolioStatistics> findByMonthRange(YearMonth from, YearMonth to);
+
+    /**
+     * Recomputes every aggregate from the applications, for backfills and
+     * to repair drift after changes made outside the use cases.
+     *
+     * @return number of aggregate rows written
+     */
+    int rebuild();
+}
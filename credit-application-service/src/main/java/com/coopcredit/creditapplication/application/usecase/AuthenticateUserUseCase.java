@@ -6,19 +6,25 @@ import com.coopcredit.creditapplication.domain.model.User;
 import com.coopcredit.creditapplication.domain.port.out.JwtPort;
 import com.coopcredit.creditapplication.domain.port.out.PasswordEncoderPort;
 import com.coopcredit.creditapplication.domain.port.out.UserRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.stream.Collectors;
 
 /**
  * Use Case: Authenticate user and generate JWT token.
+ *
+ * Not transactional as a whole: password verification runs on the hashing
+ * pool and may queue, so no database connection is held across it. The
+ * repository calls carry their own transactions.
  */
 @Service
-@Transactional(readOnly = true)
 public class AuthenticateUserUseCase {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthenticateUserUseCase.class);
+
     private final UserRepositoryPort userRepository;
     private final PasswordEncoderPort passwordEncoder;
     private final JwtPort jwtPort;
@@ -56,6 +62,9 @@ public class AuthenticateUserUseCase {
             throw new IllegalArgumentException("User account is disabled");
         }
 
+        // Upgrade the stored hash if the cost factor changed
+        rehashIfNeeded(user, request.getPassword());
+
         // Generate JWT token
         String token = jwtPort.generateToken(user);
 
@@ -70,4 +79,20 @@ public class AuthenticateUserUseCase {
             jwtExpiration
         );
     }
+
+    /**
+     * Re-encodes the password with the current settings after a successful
+     * login. Failures are logged and never fail the login.
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            userRepository.updatePassword(user.getId(), passwordEncoder.encode(rawPassword));
+            logger.info("Rehashed password of user {} with the current cost factor", user.getUsername());
+        } catch (RuntimeException e) {
+            logger.warn("Could not rehash password of user {}: {}", user.getUsername(), e.getMessage());
+        }
+    }
 }
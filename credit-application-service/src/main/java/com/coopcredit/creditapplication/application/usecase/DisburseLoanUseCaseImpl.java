@@ -0,0 +1,75 @@
+package com.coopcredit.creditapplication.application.usecase;
+
+import com.coopcredit.creditapplication.application.dto.LoanResponse;
+import com.coopcredit.creditapplication.application.port.in.DisburseLoanUseCase;
+import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.LoanLedgerPort;
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.servicing.LedgerEntry;
+import com.coopcredit.creditapplication.domain.servicing.LoanAccount;
+import com.coopcredit.creditapplication.domain.servicing.LoanBalance;
+import com.coopcredit.creditapplication.infrastructure.exception.BusinessException;
+import com.coopcredit.creditapplication.infrastructure.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Use case implementation for disbursing approved credit applications.
+ */
+@Service
+@Transactional
+public class DisburseLoanUseCaseImpl implements DisburseLoanUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(DisburseLoanUseCaseImpl.class);
+
+    private final CreditApplicationRepositoryPort applicationRepository;
+    private final LoanLedgerPort loanLedger;
+
+    public DisburseLoanUseCaseImpl(CreditApplicationRepositoryPort applicationRepository,
+                                   LoanLedgerPort loanLedger) {
+        this.applicationRepository = applicationRepository;
+        this.loanLedger = loanLedger;
+    }
+
+    @Override
+    public LoanResponse execute(Long applicationId) {
+        logger.info("Disbursing credit application ID: {}", applicationId);
+
+        // 1. Validate application exists and is approved, locking it against a concurrent rejection
+        CreditApplication application = applicationRepository.lock(applicationId)
+            .orElseThrow(() -> new ResourceNotFoundException("CreditApplication", "id", applicationId));
+        if (application.getStatus() != ApplicationStatus.APPROVED) {
+            throw new BusinessException(
+                "INVALID_APPLICATION_STATUS",
+                String.format("Application %d is not approved. Current status: %s",
+                    applicationId, application.getStatus())
+            );
+        }
+
+        // 2. Open the loan; the primary key makes a second disbursement fail
+        LocalDate today = loanLedger.bookingDate();
+        LoanAccount loan = LoanAccount.disbursed(application.getId(), application.getAffiliate().getId(),
+            application.getRequestedAmount(), application.getInterestRate(), application.getTermMonths(),
+            application.calculateMonthlyPayment(application.getInterestRate()), today);
+        if (!loanLedger.open(loan)) {
+            throw new BusinessException(
+                "LOAN_ALREADY_DISBURSED",
+                String.format("Application %d has already been disbursed", applicationId)
+            );
+        }
+
+        // 3. Record the disbursement
+        LedgerEntry disbursement = loanLedger.append(LedgerEntry.disbursement(loan.loanId(), today, loan.principalCents()));
+
+        logger.info("Loan {} disbursed: {} over {} months", loan.loanId(),
+            application.getRequestedAmount(), loan.termMonths());
+
+        return LoanResponse.of(loan, LoanBalance.ZERO.apply(disbursement), List.of(disbursement));
+    }
+}
@@ -2,7 +2,11 @@ package com.coopcredit.creditapplication.application.usecase;
 
 import com.coopcredit.creditapplication.application.dto.CreditApplicationResponse;
 import com.coopcredit.creditapplication.application.port.in.EvaluateCreditApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.out.ApplicationEventPort;
 import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.ExposureLedgerPort;
+import com.coopcredit.creditapplication.application.port.out.LoanLedgerPort;
+import com.coopcredit.creditapplication.application.port.out.PortfolioStatisticsPort;
 import com.coopcredit.creditapplication.application.port.out.RiskEvaluationPort;
 import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
 import com.coopcredit.creditapplication.domain.model.CreditApplication;
@@ -20,7 +24,11 @@ import java.time.LocalDateTime;
 
 /**
  * Use case for evaluating a credit application using external risk service.
- * Updates application status based on credit score.
+ * Updates application status based on credit score. The risk service is sent
+ * the affiliate's exposure from the ledger, and approvals are added to it.
+ * The risk call runs without a row lock; the decision is applied to the
+ * application as locked afterwards, so an expiry or a manual decision that
+ * committed meanwhile is not overwritten.
  */
 @Service
 @Transactional
@@ -30,14 +38,26 @@ public class EvaluateCreditApplicationUseCaseImpl implements EvaluateCreditAppli
     
     private final CreditApplicationRepositoryPort applicationRepository;
     private final RiskEvaluationPort riskEvaluationPort;
+    private final ApplicationEventPort applicationEventPort;
+    private final PortfolioStatisticsPort portfolioStatisticsPort;
+    private final ExposureLedgerPort exposureLedger;
+    private final LoanLedgerPort loanLedger;
     private final MetricsService metricsService;
     
     public EvaluateCreditApplicationUseCaseImpl(
             CreditApplicationRepositoryPort applicationRepository,
             RiskEvaluationPort riskEvaluationPort,
+            ApplicationEventPort applicationEventPort,
+            PortfolioStatisticsPort portfolioStatisticsPort,
+            ExposureLedgerPort exposureLedger,
+            LoanLedgerPort loanLedger,
             MetricsService metricsService) {
         this.applicationRepository = applicationRepository;
         this.riskEvaluationPort = riskEvaluationPort;
+        this.applicationEventPort = applicationEventPort;
+        this.portfolioStatisticsPort = portfolioStatisticsPort;
+        this.exposureLedger = exposureLedger;
+        this.loanLedger = loanLedger;
         this.metricsService = metricsService;
     }
     
@@ -50,29 +70,51 @@ public class EvaluateCreditApplicationUseCaseImpl implements EvaluateCreditAppli
             .orElseThrow(() -> new ResourceNotFoundException("CreditApplication", "id", applicationId));
         
         // 2. Validate application is in PENDING status
-        if (application.getStatus() != ApplicationStatus.PENDING) {
-            throw new BusinessException(
-                "INVALID_APPLICATION_STATUS",
-                String.format("Application %d is not pending evaluation. Current status: %s", 
-                    applicationId, application.getStatus())
-            );
-        }
+        requirePending(application);
         
         logger.debug("Evaluating application for affiliate: {} (Amount: {}, Term: {} months)",
             application.getAffiliate().getDocumentNumber(),
             application.getRequestedAmount(),
             application.getTermMonths());
         
-        // 3. Call external risk evaluation service
+        // 3. Call external risk evaluation service with the credits the affiliate already holds
+        application.setExposure(exposureLedger.exposureOf(application.getAffiliate().getId()));
         RiskEvaluation riskEvaluation = evaluateRisk(application);
         
-        // 4. Update application status based on score
-        updateApplicationStatus(application, riskEvaluation);
+        // 4. Lock the application and check it again: it may have expired, been decided
+        //    or been disbursed while the risk service was answering
+        CreditApplication locked = applicationRepository.lock(applicationId)
+            .orElseThrow(() -> new ResourceNotFoundException("CreditApplication", "id", applicationId));
+        if (locked.getStatus() == ApplicationStatus.EXPIRED) {
+            throw new BusinessException(
+                "INVALID_APPLICATION_STATUS",
+                String.format("Application %d has expired", applicationId)
+            );
+        }
+        if (loanLedger.findById(applicationId).isPresent()) {
+            throw new BusinessException(
+                "INVALID_APPLICATION_STATUS",
+                String.format("Application %d has already been disbursed", applicationId)
+            );
+        }
+        requirePending(locked);
+        
+        // 5. Update application status based on score
+        ApplicationStatus previousStatus = locked.getStatus();
+        RiskEvaluation previousEvaluation = locked.getRiskEvaluation();
+        updateApplicationStatus(locked, riskEvaluation);
         
-        // 5. Save updated application
-        CreditApplication savedApplication = applicationRepository.save(application);
+        // 6. Save updated application
+        CreditApplication savedApplication = applicationRepository.save(locked);
         
-        // 7. Track metrics
+        // 7. Record the decision in the outbox, the portfolio aggregates and the exposure ledger,
+        // in the same transaction
+        applicationEventPort.statusChanged(savedApplication, previousStatus,
+            ApplicationEventPort.SOURCE_RISK_EVALUATION);
+        portfolioStatisticsPort.statusChanged(savedApplication, previousStatus, previousEvaluation);
+        exposureLedger.statusChanged(savedApplication, previousStatus);
+        
+        // 8. Track metrics
         if (savedApplication.getStatus() == ApplicationStatus.APPROVED) {
             metricsService.incrementApplicationApproved();
         } else if (savedApplication.getStatus() == ApplicationStatus.REJECTED) {
@@ -82,10 +124,20 @@ public class EvaluateCreditApplicationUseCaseImpl implements EvaluateCreditAppli
         logger.info("Credit application {} evaluated. Status: {}, Score: {}", 
             applicationId, savedApplication.getStatus(), riskEvaluation.getCreditScore());
         
-        // 7. Map to response
+        // 9. Map to response
         return mapToResponse(savedApplication);
     }
     
+    private void requirePending(CreditApplication application) {
+        if (application.getStatus() != ApplicationStatus.PENDING) {
+            throw new BusinessException(
+                "INVALID_APPLICATION_STATUS",
+                String.format("Application %d is not pending evaluation. Current status: %s", 
+                    application.getId(), application.getStatus())
+            );
+        }
+    }
+    
     /**
      * Calls external risk evaluation service.
      */
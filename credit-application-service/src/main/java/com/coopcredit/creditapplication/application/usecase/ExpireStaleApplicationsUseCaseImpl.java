@@ -0,0 +1,56 @@
+package com.coopcredit.creditapplication.application.usecase;
+
+import com.coopcredit.creditapplication.application.port.in.ExpireStaleApplicationsUseCase;
+import com.coopcredit.creditapplication.application.port.out.ApplicationEventPort;
+import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.PortfolioStatisticsPort;
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case for expiring stale applications in bulk.
+ *
+ * The batch is expired with a single update, then recorded like any other
+ * status change: one event per application and the portfolio aggregates
+ * moved in the same transaction. Only applications that were never
+ * approved expire, so the exposure ledger is left alone.
+ */
+@Service
+@Transactional
+public class ExpireStaleApplicationsUseCaseImpl implements ExpireStaleApplicationsUseCase {
+
+    private final CreditApplicationRepositoryPort applicationRepository;
+    private final ApplicationEventPort applicationEventPort;
+    private final PortfolioStatisticsPort portfolioStatisticsPort;
+
+    public ExpireStaleApplicationsUseCaseImpl(
+            CreditApplicationRepositoryPort applicationRepository,
+            ApplicationEventPort applicationEventPort,
+            PortfolioStatisticsPort portfolioStatisticsPort) {
+        this.applicationRepository = applicationRepository;
+        this.applicationEventPort = applicationEventPort;
+        this.portfolioStatisticsPort = portfolioStatisticsPort;
+    }
+
+    @Override
+    public int execute(LocalDateTime appliedBefore, int limit) {
+        Map<Long, ApplicationStatus> previousStatuses = applicationRepository.expireStale(appliedBefore, limit);
+        if (previousStatuses.isEmpty()) {
+            return 0;
+        }
+
+        List<CreditApplication> expired = applicationRepository.findAllById(previousStatuses.keySet());
+        for (CreditApplication application : expired) {
+            applicationEventPort.statusChanged(application, previousStatuses.get(application.getId()),
+                ApplicationEventPort.SOURCE_EXPIRY);
+        }
+        portfolioStatisticsPort.statusesChanged(expired, previousStatuses);
+        return expired.size();
+    }
+}
@@ -0,0 +1,54 @@
+package com.coopcredit.creditapplication.application.usecase;
+
+import com.coopcredit.creditapplication.application.dto.AmortizationScheduleResponse;
+import com.coopcredit.creditapplication.application.port.in.GetAmortizationScheduleUseCase;
+import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.domain.amortization.AmortizationSchedule;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.infrastructure.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for retrieving the payment schedule of a credit application.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetAmortizationScheduleUseCaseImpl implements GetAmortizationScheduleUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetAmortizationScheduleUseCaseImpl.class);
+
+    private final CreditApplicationRepositoryPort applicationRepository;
+
+    public GetAmortizationScheduleUseCaseImpl(CreditApplicationRepositoryPort applicationRepository) {
+        this.applicationRepository = applicationRepository;
+    }
+
+    @Override
+    public AmortizationScheduleResponse execute(Long applicationId, Long affiliateId) {
+        logger.debug("Building amortization schedule for credit application ID: {}", applicationId);
+
+        // Another affiliate's application is reported as missing, not forbidden
+        CreditApplication application = applicationRepository.findById(applicationId)
+            .filter(found -> affiliateId == null || affiliateId.equals(found.getAffiliate().getId()))
+            .orElseThrow(() -> new ResourceNotFoundException("CreditApplication", "id", applicationId));
+
+        AmortizationSchedule schedule = application.amortizationSchedule();
+
+        AmortizationScheduleResponse response = new AmortizationScheduleResponse();
+        response.setApplicationId(application.getId());
+        response.setAffiliateId(application.getAffiliate().getId());
+        response.setPrincipal(schedule.getPrincipal());
+        response.setInterestRate(schedule.getAnnualRate());
+        response.setTermMonths(schedule.getTermMonths());
+        response.setMonthlyPayment(schedule.getMonthlyPayment());
+        response.setTotalInterest(schedule.getTotalInterest());
+        response.setTotalPayment(schedule.getTotalPayment());
+        // Rows are generated while the response is written; a plain Iterable
+        // keeps Jackson from serializing the schedule's getters instead
+        response.setInstallments(schedule::iterator);
+        return response;
+    }
+}
@@ -0,0 +1,39 @@
+package com.coopcredit.creditapplication.application.usecase;
+
+import com.coopcredit.creditapplication.application.dto.LoanResponse;
+import com.coopcredit.creditapplication.application.port.in.GetLoanUseCase;
+import com.coopcredit.creditapplication.application.port.out.LoanLedgerPort;
+import com.coopcredit.creditapplication.domain.servicing.LoanAccount;
+import com.coopcredit.creditapplication.infrastructure.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case implementation for retrieving a loan.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetLoanUseCaseImpl implements GetLoanUseCase {
+
+    /** Ledger entries returned with a loan. */
+    static final int RECENT_ENTRIES = 20;
+
+    private static final Logger logger = LoggerFactory.getLogger(GetLoanUseCaseImpl.class);
+
+    private final LoanLedgerPort loanLedger;
+
+    public GetLoanUseCaseImpl(LoanLedgerPort loanLedger) {
+        this.loanLedger = loanLedger;
+    }
+
+    @Override
+    public LoanResponse execute(Long loanId) {
+        logger.debug("Fetching loan ID: {}", loanId);
+
+        LoanAccount loan = loanLedger.findById(loanId)
+            .orElseThrow(() -> new ResourceNotFoundException("Loan", "id", loanId));
+        return LoanResponse.of(loan, loanLedger.balanceOf(loan), loanLedger.recentEntries(loanId, RECENT_ENTRIES));
+    }
+}
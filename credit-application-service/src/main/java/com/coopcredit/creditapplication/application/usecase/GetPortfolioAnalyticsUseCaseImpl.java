@@ -0,0 +1,111 @@
+package com.coopcredit.creditapplication.application.usecase;
+
+import com.coopcredit.creditapplication.application.dto.PortfolioAnalyticsResponse;
+import com.coopcredit.creditapplication.application.dto.PortfolioAnalyticsResponse.MonthSummary;
+import com.coopcredit.creditapplication.application.port.in.GetPortfolioAnalyticsUseCase;
+import com.coopcredit.creditapplication.application.port.out.PortfolioStatisticsPort;
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.PortfolioStatistics;
+import com.coopcredit.creditapplication.infrastructure.exception.BusinessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case for reading portfolio analytics.
+ *
+ * Works on the portfolio_stats aggregates, which hold at most one row per
+ * month, status and risk level, so the cost depends on the number of months
+ * asked for and not on the number of applications.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetPortfolioAnalyticsUseCaseImpl implements GetPortfolioAnalyticsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetPortfolioAnalyticsUseCaseImpl.class);
+
+    private static final List<String> RISK_LEVELS = List.of("LOW", "MEDIUM", "HIGH");
+
+    private final PortfolioStatisticsPort portfolioStatisticsPort;
+
+    public GetPortfolioAnalyticsUseCaseImpl(PortfolioStatisticsPort portfolioStatisticsPort) {
+        this.portfolioStatisticsPort = portfolioStatisticsPort;
+    }
+
+    @Override
+    public PortfolioAnalyticsResponse execute(YearMonth from, YearMonth to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BusinessException("INVALID_MONTH_RANGE",
+                String.format("Month range start %s is after its end %s", from, to));
+        }
+        logger.debug("Reading portfolio analytics from {} to {}", from, to);
+
+        List<PortfolioStatistics> statistics = portfolioStatisticsPort.findByMonthRange(from, to);
+        return summarize(statistics, from, to);
+    }
+
+    private PortfolioAnalyticsResponse summarize(List<PortfolioStatistics> statistics, YearMonth from, YearMonth to) {
+        PortfolioAnalyticsResponse response = new PortfolioAnalyticsResponse();
+        response.setFrom(from != null ? from.toString() : null);
+        response.setTo(to != null ? to.toString() : null);
+
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            byStatus.put(status.name(), 0L);
+        }
+        Map<String, Long> byRiskLevel = new LinkedHashMap<>();
+        RISK_LEVELS.forEach(level -> byRiskLevel.put(level, 0L));
+        Map<YearMonth, MonthSummary> byMonth = new LinkedHashMap<>();
+
+        long total = 0;
+        long scoreSum = 0;
+        long scored = 0;
+        BigDecimal requested = BigDecimal.ZERO;
+        BigDecimal approved = BigDecimal.ZERO;
+
+        // Rows arrive ordered by month
+        for (PortfolioStatistics row : statistics) {
+            total += row.applications();
+            scoreSum += row.scoreSum();
+            scored += row.scoredApplications();
+            requested = requested.add(row.requestedAmount());
+            byStatus.merge(row.status().name(), row.applications(), Long::sum);
+            if (row.riskLevel() != null) {
+                byRiskLevel.merge(row.riskLevel(), row.applications(), Long::sum);
+            }
+
+            MonthSummary month = byMonth.computeIfAbsent(row.month(), key -> new MonthSummary(key.toString()));
+            month.setApplications(month.getApplications() + row.applications());
+            month.setRequestedAmount(month.getRequestedAmount().add(row.requestedAmount()));
+            if (row.status() == ApplicationStatus.APPROVED) {
+                approved = approved.add(row.requestedAmount());
+                month.setApproved(month.getApproved() + row.applications());
+                month.setApprovedAmount(month.getApprovedAmount().add(row.requestedAmount()));
+            } else if (row.status() == ApplicationStatus.REJECTED) {
+                month.setRejected(month.getRejected() + row.applications());
+            }
+        }
+
+        long decided = byStatus.get(ApplicationStatus.APPROVED.name()) + byStatus.get(ApplicationStatus.REJECTED.name());
+        response.setTotalApplications(total);
+        response.setApprovalRate(decided == 0 ? null
+            : BigDecimal.valueOf(byStatus.get(ApplicationStatus.APPROVED.name()))
+                .divide(BigDecimal.valueOf(decided), 4, RoundingMode.HALF_UP));
+        response.setAverageScore(scored == 0 ? null
+            : BigDecimal.valueOf(scoreSum).divide(BigDecimal.valueOf(scored), 2, RoundingMode.HALF_UP));
+        response.setTotalRequestedAmount(requested);
+        response.setTotalApprovedAmount(approved);
+        response.setApplicationsByStatus(byStatus);
+        response.setApplicationsByRiskLevel(byRiskLevel);
+        response.setMonths(List.copyOf(byMonth.values()));
+        return response;
+    }
+}
@@ -0,0 +1,55 @@
+package com.coopcredit.creditapplication.application.usecase;
+
+import com.coopcredit.creditapplication.application.port.in.GetResourceVersionUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Use case implementation for resolving resource versions.
+ *
+ * Versions come from database row versions, never from the entities. The
+ * affiliate detail also includes the current date because monthsAsAffiliate
+ * changes with time.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetResourceVersionUseCaseImpl implements GetResourceVersionUseCase {
+
+    private final AffiliateRepositoryPort affiliateRepository;
+    private final CreditApplicationRepositoryPort applicationRepository;
+
+    public GetResourceVersionUseCaseImpl(AffiliateRepositoryPort affiliateRepository,
+                                         CreditApplicationRepositoryPort applicationRepository) {
+        this.affiliateRepository = affiliateRepository;
+        this.applicationRepository = applicationRepository;
+    }
+
+    @Override
+    public Optional<String> affiliateVersion(Long affiliateId) {
+        return affiliateRepository.findVersionStamp(affiliateId)
+            .map(stamp -> "affiliate-" + affiliateId + "-" + stamp + "-" + LocalDate.now().toEpochDay());
+    }
+
+    @Override
+    public Optional<String> currentAffiliateVersion() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return Optional.empty();
+        }
+        return affiliateRepository.findVersionStampByUsername(authentication.getName())
+            .map(stamp -> "me-" + stamp);
+    }
+
+    @Override
+    public Optional<String> affiliateApplicationsVersion(Long affiliateId) {
+        return applicationRepository.findVersionStampByAffiliateId(affiliateId)
+            .map(stamp -> "applications-" + affiliateId + "-" + stamp);
+    }
+}
@@ -0,0 +1,324 @@
+package com.coopcredit.creditapplication.application.usecase;
+
+import com.coopcredit.creditapplication.application.dto.AffiliateImportReport;
+import com.coopcredit.creditapplication.application.dto.AffiliateImportReport.RowError;
+import com.coopcredit.creditapplication.application.dto.AffiliateImportRow;
+import com.coopcredit.creditapplication.application.port.in.ImportAffiliatesUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateImportPort;
+import com.coopcredit.creditapplication.domain.port.out.PasswordEncoderPort;
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Use case implementation for bulk affiliate import.
+ *
+ * The CSV is streamed in fixed-size chunks so memory stays constant whatever
+ * the file size. Rows of a chunk are validated (and passwords hashed) in
+ * parallel, then the chunk is handed to AffiliateImportPort, which commits it
+ * in its own transaction. Not @Transactional on purpose: a large file must
+ * not hold a single transaction open, and already imported chunks are kept
+ * if a later one fails.
+ */
+@Service
+public class ImportAffiliatesUseCaseImpl implements ImportAffiliatesUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportAffiliatesUseCaseImpl.class);
+
+    // Same pattern as the chk_affiliate_email / chk_user_email constraints
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    private static final BigDecimal MAX_SALARY = new BigDecimal("10000000000");
+
+    private static final String DOCUMENT_TYPE = "documenttype";
+    private static final String DOCUMENT_NUMBER = "documentnumber";
+    private static final String FIRST_NAME = "firstname";
+    private static final String LAST_NAME = "lastname";
+    private static final String EMAIL_COLUMN = "email";
+    private static final String PHONE = "phone";
+    private static final String SALARY = "salary";
+    private static final String AFFILIATION_DATE = "affiliationdate";
+    private static final String USERNAME = "username";
+    private static final String PASSWORD = "password";
+    private static final List<String> REQUIRED_COLUMNS =
+        List.of(DOCUMENT_TYPE, DOCUMENT_NUMBER, FIRST_NAME, LAST_NAME, EMAIL_COLUMN, SALARY);
+
+    private final AffiliateImportPort affiliateImportPort;
+    private final PasswordEncoderPort passwordEncoder;
+    private final MetricsService metricsService;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+    private final ExecutorService validationExecutor;
+
+    public ImportAffiliatesUseCaseImpl(AffiliateImportPort affiliateImportPort,
+                                       PasswordEncoderPort passwordEncoder,
+                                       MetricsService metricsService,
+                                       @Value("${affiliate-import.chunk-size:1000}") int chunkSize,
+                                       @Value("${affiliate-import.validation-threads:4}") int validationThreads,
+                                       @Value("${affiliate-import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.affiliateImportPort = affiliateImportPort;
+        this.passwordEncoder = passwordEncoder;
+        this.metricsService = metricsService;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.validationExecutor = Executors.newFixedThreadPool(validationThreads, runnable -> {
+            Thread thread = new Thread(runnable, "affiliate-import-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        validationExecutor.shutdownNow();
+    }
+
+    @Override
+    public AffiliateImportReport execute(InputStream csv) {
+        long started = System.nanoTime();
+        AffiliateImportReport report = new AffiliateImportReport();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            CsvReader csvReader = new CsvReader(reader);
+            Map<String, Integer> columns = readHeader(csvReader.next());
+
+            List<Record> chunk = new ArrayList<>(chunkSize);
+            List<String> fields;
+            while ((fields = csvReader.next()) != null) {
+                chunk.add(new Record(csvReader.getRecordLine(), fields));
+                if (chunk.size() == chunkSize) {
+                    processChunk(chunk, columns, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, columns, report);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read affiliate import file", e);
+        }
+
+        report.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        metricsService.recordAffiliateImport(report.getImportedRows(), report.getRejectedRows());
+        logger.info("Affiliate import finished: {} rows, {} imported, {} rejected in {} ms",
+            report.getTotalRows(), report.getImportedRows(), report.getRejectedRows(), report.getElapsedMillis());
+        return report;
+    }
+
+    /**
+     * Validates a chunk in parallel and imports the valid rows.
+     */
+    private void processChunk(List<Record> chunk, Map<String, Integer> columns, AffiliateImportReport report) {
+        List<CompletableFuture<Validated>> futures = new ArrayList<>(chunk.size());
+        for (Record record : chunk) {
+            futures.add(CompletableFuture.supplyAsync(() -> validate(record, columns), validationExecutor));
+        }
+
+        List<AffiliateImportRow> valid = new ArrayList<>(chunk.size());
+        long rejected = 0;
+        for (CompletableFuture<Validated> future : futures) {
+            Validated validated = await(future);
+            if (validated.errors.isEmpty()) {
+                valid.add(validated.row);
+            } else {
+                rejected++;
+                validated.errors.forEach(error -> report.addError(error, maxReportedErrors));
+            }
+        }
+
+        List<RowError> conflicts = valid.isEmpty() ? List.of() : affiliateImportPort.importChunk(valid);
+        Set<Long> conflictingLines = new HashSet<>();
+        for (RowError conflict : conflicts) {
+            conflictingLines.add(conflict.getLine());
+            report.addError(conflict, maxReportedErrors);
+        }
+        long usersCreated = valid.stream()
+            .filter(row -> row.hasUser() && !conflictingLines.contains(row.getLineNumber()))
+            .count();
+
+        report.setTotalRows(report.getTotalRows() + chunk.size());
+        report.setRejectedRows(report.getRejectedRows() + rejected + conflictingLines.size());
+        report.setImportedRows(report.getImportedRows() + valid.size() - conflictingLines.size());
+        report.setUsersCreated(report.getUsersCreated() + usersCreated);
+    }
+
+    /**
+     * Waits for a row validation, rethrowing its own exception instead of a
+     * CompletionException.
+     */
+    private static Validated await(CompletableFuture<Validated> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Maps header names (case-insensitive) to column positions.
+     */
+    private Map<String, Integer> readHeader(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("Import file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream()
+            .filter(column -> !columns.containsKey(column))
+            .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Import file is missing required columns: " + missing);
+        }
+        if (columns.containsKey(USERNAME) != columns.containsKey(PASSWORD)) {
+            throw new IllegalArgumentException("Columns username and password must be provided together");
+        }
+        return columns;
+    }
+
+    /**
+     * Applies the registration rules to one record and hashes its password.
+     */
+    private Validated validate(Record record, Map<String, Integer> columns) {
+        List<RowError> errors = new ArrayList<>(2);
+        long line = record.line;
+
+        String documentType = required(record, columns, DOCUMENT_TYPE, "documentType", 10, errors);
+        String documentNumber = required(record, columns, DOCUMENT_NUMBER, "documentNumber", 50, errors);
+        String firstName = required(record, columns, FIRST_NAME, "firstName", 100, errors);
+        String lastName = required(record, columns, LAST_NAME, "lastName", 100, errors);
+        String email = required(record, columns, EMAIL_COLUMN, "email", 150, errors);
+        if (email != null && !EMAIL.matcher(email).matches()) {
+            errors.add(new RowError(line, "email", "INVALID_FORMAT", "Email must be valid"));
+        }
+        String phone = optional(record, columns, PHONE, "phone", 20, errors);
+
+        BigDecimal salary = null;
+        String rawSalary = required(record, columns, SALARY, "salary", Integer.MAX_VALUE, errors);
+        if (rawSalary != null) {
+            try {
+                salary = new BigDecimal(rawSalary);
+                if (salary.signum() <= 0 || salary.scale() > 2 || salary.compareTo(MAX_SALARY) >= 0) {
+                    errors.add(new RowError(line, "salary", "OUT_OF_RANGE",
+                        "Salary must be greater than zero with at most 10 digits and 2 decimal places"));
+                }
+            } catch (NumberFormatException e) {
+                errors.add(new RowError(line, "salary", "INVALID_FORMAT", "Salary must be a number"));
+            }
+        }
+
+        LocalDate affiliationDate = LocalDate.now();
+        String rawDate = optional(record, columns, AFFILIATION_DATE, "affiliationDate", Integer.MAX_VALUE, errors);
+        if (rawDate != null) {
+            try {
+                affiliationDate = LocalDate.parse(rawDate);
+                if (affiliationDate.isAfter(LocalDate.now())) {
+                    errors.add(new RowError(line, "affiliationDate", "OUT_OF_RANGE",
+                        "Affiliation date cannot be in the future"));
+                }
+            } catch (DateTimeParseException e) {
+                errors.add(new RowError(line, "affiliationDate", "INVALID_FORMAT",
+                    "Affiliation date must be an ISO date (yyyy-MM-dd)"));
+            }
+        }
+
+        String username = optional(record, columns, USERNAME, "username", 50, errors);
+        String password = optional(record, columns, PASSWORD, "password", Integer.MAX_VALUE, errors);
+        if (username != null && username.length() < 3) {
+            errors.add(new RowError(line, "username", "INVALID_LENGTH",
+                "Username must be between 3 and 50 characters"));
+        }
+        if (username != null && (password == null || password.length() < 8)) {
+            errors.add(new RowError(line, "password", "INVALID_LENGTH", "Password must be at least 8 characters"));
+        }
+        if (username == null && password != null) {
+            errors.add(new RowError(line, "username", "REQUIRED", "Username is required when a password is given"));
+        }
+
+        if (!errors.isEmpty()) {
+            return new Validated(null, errors);
+        }
+        // Hash only rows that will be inserted; this is the expensive part of validation. It runs
+        // on the validation pool, which bounds it, rather than the login pool, which would shed
+        // rows with 429 partway through the file
+        String passwordHash = username != null ? passwordEncoder.encodeBlocking(password) : null;
+        return new Validated(new AffiliateImportRow(line, documentType, documentNumber, firstName, lastName,
+            email, phone, salary, affiliationDate, username, passwordHash), errors);
+    }
+
+    private static String required(Record record, Map<String, Integer> columns, String column,
+                                   String field, int maxLength, List<RowError> errors) {
+        String value = optional(record, columns, column, field, maxLength, errors);
+        if (value == null) {
+            errors.add(new RowError(record.line, field, "REQUIRED", field + " is required"));
+        }
+        return value;
+    }
+
+    private static String optional(Record record, Map<String, Integer> columns, String column,
+                                   String field, int maxLength, List<RowError> errors) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.fields.size()) {
+            return null;
+        }
+        String value = record.fields.get(index).trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (value.length() > maxLength) {
+            errors.add(new RowError(record.line, field, "INVALID_LENGTH",
+                field + " must not exceed " + maxLength + " characters"));
+        }
+        return value;
+    }
+
+    private static final class Record {
+        private final long line;
+        private final List<String> fields;
+
+        private Record(long line, List<String> fields) {
+            this.line = line;
+            this.fields = fields;
+        }
+    }
+
+    private static final class Validated {
+        private final AffiliateImportRow row;
+        private final List<RowError> errors;
+
+        private Validated(AffiliateImportRow row, List<RowError> errors) {
+            this.row = row;
+            this.errors = errors;
+        }
+    }
+}
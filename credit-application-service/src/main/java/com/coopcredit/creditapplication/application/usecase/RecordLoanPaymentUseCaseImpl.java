@@ -0,0 +1,89 @@
+package com.coopcredit.creditapplication.application.usecase;
+
+import com.coopcredit.creditapplication.application.dto.LoanPaymentRequest;
+import com.coopcredit.creditapplication.application.dto.LoanResponse;
+import com.coopcredit.creditapplication.application.port.in.RecordLoanPaymentUseCase;
+import com.coopcredit.creditapplication.application.port.out.ExposureLedgerPort;
+import com.coopcredit.creditapplication.application.port.out.LoanLedgerPort;
+import com.coopcredit.creditapplication.domain.servicing.LedgerEntry;
+import com.coopcredit.creditapplication.domain.servicing.LoanAccount;
+import com.coopcredit.creditapplication.domain.servicing.LoanBalance;
+import com.coopcredit.creditapplication.infrastructure.exception.BusinessException;
+import com.coopcredit.creditapplication.infrastructure.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Use case implementation for recording loan repayments.
+ *
+ * The loan stays locked from reading its balance until the payment
+ * commits, so concurrent payments and the nightly accrual see each other's
+ * entries. Paying a loan off also takes it out of its affiliate's
+ * exposure, in the same transaction.
+ */
+@Service
+@Transactional
+public class RecordLoanPaymentUseCaseImpl implements RecordLoanPaymentUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordLoanPaymentUseCaseImpl.class);
+
+    private final LoanLedgerPort loanLedger;
+    private final ExposureLedgerPort exposureLedger;
+
+    public RecordLoanPaymentUseCaseImpl(LoanLedgerPort loanLedger, ExposureLedgerPort exposureLedger) {
+        this.loanLedger = loanLedger;
+        this.exposureLedger = exposureLedger;
+    }
+
+    @Override
+    public LoanResponse execute(Long loanId, LoanPaymentRequest request) {
+        logger.info("Recording payment of {} on loan ID: {}", request.getAmount(), loanId);
+
+        // 1. Lock the loan and validate it is still owed
+        LoanAccount loan = loanLedger.lock(loanId)
+            .orElseThrow(() -> new ResourceNotFoundException("Loan", "id", loanId));
+        if (!loan.isActive()) {
+            throw new BusinessException(
+                "LOAN_NOT_ACTIVE",
+                String.format("Loan %d is not active. Current status: %s", loanId, loan.status())
+            );
+        }
+
+        // 2. Validate the payment against the balance
+        LocalDate today = loanLedger.bookingDate();
+        LocalDate valueDate = request.getValueDate() != null ? request.getValueDate() : today;
+        if (valueDate.isAfter(today) || valueDate.isBefore(loan.disbursedOn())) {
+            throw new BusinessException(
+                "INVALID_PAYMENT_DATE",
+                String.format("Payment date %s must be between the disbursement on %s and today",
+                    valueDate, loan.disbursedOn())
+            );
+        }
+        LoanBalance balance = loanLedger.balanceOf(loan);
+        long amountCents = request.getAmount().movePointRight(2).longValueExact();
+        if (amountCents > balance.outstandingCents()) {
+            throw new BusinessException(
+                "PAYMENT_EXCEEDS_BALANCE",
+                String.format("Payment of %s exceeds the payoff amount of %s",
+                    request.getAmount(), BigDecimal.valueOf(balance.outstandingCents(), 2))
+            );
+        }
+
+        // 3. Record the payment, closing the loan when it settles it
+        LedgerEntry payment = loanLedger.append(balance.payment(loanId, valueDate, amountCents));
+        LoanBalance after = balance.apply(payment);
+        if (after.isSettled()) {
+            loanLedger.markPaidOff(loanId);
+            exposureLedger.creditRepaid(loanId);
+            loan = loan.paidOff();
+            logger.info("Loan {} paid off", loanId);
+        }
+
+        return LoanResponse.of(loan, after, loanLedger.recentEntries(loanId, GetLoanUseCaseImpl.RECENT_ENTRIES));
+    }
+}
@@ -18,6 +18,10 @@ import java.util.stream.Collectors;
 /**
  * Use Case: Register new affiliate user.
  * Creates both User and Affiliate entities with ROLE_AFILIADO.
+ *
+ * Uniqueness of username, email and document number is not checked up
+ * front: both rows are inserted in one flush and the unique constraints
+ * reject duplicates, which also covers concurrent signups.
  */
 @Service
 @Transactional
@@ -46,22 +50,9 @@ public class RegisterAffiliateUseCase {
      *
      * @param request registration request data
      * @return authentication response with JWT token
-     * @throws IllegalArgumentException if validation fails
+     * @throws IllegalArgumentException if validation fails or a unique value is taken
      */
     public AuthResponse execute(RegisterRequest request) {
-        // Validate uniqueness
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new IllegalArgumentException("Username already exists: " + request.getUsername());
-        }
-        
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already exists: " + request.getEmail());
-        }
-        
-        if (affiliateRepository.existsByDocumentNumber(request.getDocumentNumber())) {
-            throw new IllegalArgumentException("Document number already exists: " + request.getDocumentNumber());
-        }
-
         // Validate business rules
         if (request.getSalary().compareTo(java.math.BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Salary must be greater than zero");
@@ -89,10 +80,11 @@ public class RegisterAffiliateUseCase {
         
         user.setAffiliate(savedAffiliate);
         
-        // Assign ROLE_AFILIADO
+        // Assign ROLE_AFILIADO (cached reference, no query)
         userRepository.findRoleByName(RoleName.ROLE_AFILIADO)
             .ifPresent(user::addRole);
         
+        // Flushes affiliate and user together; duplicates surface here
         User savedUser = userRepository.save(user);
 
         // Generate JWT token
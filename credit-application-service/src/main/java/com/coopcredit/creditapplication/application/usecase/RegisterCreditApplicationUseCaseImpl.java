@@ -4,7 +4,11 @@ import com.coopcredit.creditapplication.application.dto.CreditApplicationRequest
 import com.coopcredit.creditapplication.application.dto.CreditApplicationResponse;
 import com.coopcredit.creditapplication.application.port.in.RegisterCreditApplicationUseCase;
 import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.ApplicationVelocityPort;
+import com.coopcredit.creditapplication.application.port.out.BusinessRulesPort;
 import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.ExposureLedgerPort;
+import com.coopcredit.creditapplication.application.port.out.PortfolioStatisticsPort;
 import com.coopcredit.creditapplication.domain.model.Affiliate;
 import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
 import com.coopcredit.creditapplication.domain.model.CreditApplication;
@@ -21,7 +25,8 @@ import java.util.List;
 
 /**
  * Use case for registering a new credit application.
- * Validates business rules before creating the application.
+ * Validates business rules before creating the application; the debt ratio
+ * counts the credits the affiliate already holds, from the exposure ledger.
  */
 @Service
 @Transactional
@@ -31,79 +36,92 @@ public class RegisterCreditApplicationUseCaseImpl implements RegisterCreditAppli
     
     private final CreditApplicationRepositoryPort applicationRepository;
     private final AffiliateRepositoryPort affiliateRepository;
+    private final PortfolioStatisticsPort portfolioStatisticsPort;
+    private final BusinessRulesPort businessRules;
+    private final ExposureLedgerPort exposureLedger;
+    private final ApplicationVelocityPort applicationVelocity;
     private final MetricsService metricsService;
     
     public RegisterCreditApplicationUseCaseImpl(
             CreditApplicationRepositoryPort applicationRepository,
             AffiliateRepositoryPort affiliateRepository,
+            PortfolioStatisticsPort portfolioStatisticsPort,
+            BusinessRulesPort businessRules,
+            ExposureLedgerPort exposureLedger,
+            ApplicationVelocityPort applicationVelocity,
             MetricsService metricsService) {
         this.applicationRepository = applicationRepository;
         this.affiliateRepository = affiliateRepository;
+        this.portfolioStatisticsPort = portfolioStatisticsPort;
+        this.businessRules = businessRules;
+        this.exposureLedger = exposureLedger;
+        this.applicationVelocity = applicationVelocity;
         this.metricsService = metricsService;
     }
     
     @Override
     public CreditApplicationResponse execute(Long affiliateId, CreditApplicationRequest request) {
+        return execute(affiliateId, request, false);
+    }
+    
+    @Override
+    public CreditApplicationResponse execute(Long affiliateId, CreditApplicationRequest request,
+                                             boolean reportAllViolations) {
         logger.info("Starting credit application registration for affiliate ID: {}", affiliateId);
         
-        // 1. Validate affiliate exists
+        // 1. Velocity checks on affiliate and client, in memory, before any query
+        applicationVelocity.recordSubmission(affiliateId);
+        
+        // 2. Validate affiliate exists (usually from the second-level cache)
         Affiliate affiliate = affiliateRepository.findById(affiliateId)
             .orElseThrow(() -> new ResourceNotFoundException("Affiliate", "id", affiliateId));
+        applicationVelocity.recordDocument(affiliate.getDocumentType(), affiliate.getDocumentNumber());
         
         logger.debug("Affiliate found: {} {} (Document: {})", 
             affiliate.getFirstName(), affiliate.getLastName(), affiliate.getDocumentNumber());
         
-        // 2. Validate business rules
-        validateBusinessRules(affiliate, request);
+        // 3. Validate business rules
+        validateBusinessRules(affiliate, request, reportAllViolations);
         
-        // 3. Check for pending applications
-        List<CreditApplication> pendingApplications = applicationRepository
-            .findByAffiliateIdAndStatus(affiliateId, ApplicationStatus.PENDING);
-        BusinessValidator.validateNoPendingApplications(!pendingApplications.isEmpty());
+        // 4. Check for pending applications (fast path; the unique index settles races on insert)
+        BusinessValidator.validateNoPendingApplications(
+            applicationRepository.existsByAffiliateIdAndStatus(affiliateId, ApplicationStatus.PENDING));
         
-        // 4. Create credit application
+        // 5. Create credit application
         CreditApplication application = createCreditApplication(affiliate, request);
         
-        // 5. Save application
+        // 6. Save application (PENDING_APPLICATION_EXISTS if a concurrent one won)
         CreditApplication savedApplication = applicationRepository.save(application);
+        portfolioStatisticsPort.applicationsCreated(List.of(savedApplication));
         
-        // 6. Track metric
+        // 7. Track metric
         metricsService.incrementApplicationCreated();
         
         logger.info("Credit application created successfully with ID: {} for affiliate: {}", 
             savedApplication.getId(), affiliateId);
         
-        // 7. Map to response
+        // 8. Map to response
         return mapToResponse(savedApplication, affiliate);
     }
     
     /**
      * Validates all business rules for credit application.
      */
-    private void validateBusinessRules(Affiliate affiliate, CreditApplicationRequest request) {
+    private void validateBusinessRules(Affiliate affiliate, CreditApplicationRequest request,
+                                       boolean reportAllViolations) {
         logger.debug("Validating business rules for affiliate ID: {}", affiliate.getId());
         
-        // Validate affiliation time
-        BusinessValidator.validateAffiliationTime(affiliate);
-        
-        // Validate credit amount
-        BusinessValidator.validateCreditAmount(request.getRequestedAmount());
-        
-        // Validate credit term
-        BusinessValidator.validateCreditTerm(request.getTermMonths());
-        
-        // Validate affiliate's credit limit based on salary
-        BusinessValidator.validateAffiliateLimit(affiliate, request.getRequestedAmount());
-        
-        // Create temporary application to validate debt ratio
+        // Create temporary application to run the configured rules against
         CreditApplication tempApplication = new CreditApplication();
+        tempApplication.setAffiliate(affiliate);
         tempApplication.setRequestedAmount(request.getRequestedAmount());
         tempApplication.setTermMonths(request.getTermMonths());
         tempApplication.setInterestRate(request.getInterestRate());
         tempApplication.setMonthlyIncome(request.getMonthlyIncome());
         tempApplication.setCurrentDebt(request.getCurrentDebt());
+        tempApplication.setExposure(exposureLedger.exposureOf(affiliate.getId()));
         
-        BusinessValidator.validateDebtRatio(tempApplication);
+        businessRules.current().validate(tempApplication, reportAllViolations);
         
         logger.debug("All business rules validated successfully");
     }
@@ -2,8 +2,15 @@ package com.coopcredit.creditapplication.application.usecase;
 
 import com.coopcredit.creditapplication.application.dto.CreditApplicationResponse;
 import com.coopcredit.creditapplication.application.port.in.RejectApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.out.ApplicationEventPort;
 import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.ExposureLedgerPort;
+import com.coopcredit.creditapplication.application.port.out.LoanLedgerPort;
+import com.coopcredit.creditapplication.application.port.out.PortfolioStatisticsPort;
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
 import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import com.coopcredit.creditapplication.infrastructure.exception.BusinessException;
 import com.coopcredit.creditapplication.infrastructure.exception.ResourceNotFoundException;
 import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
 import org.slf4j.Logger;
@@ -21,12 +28,24 @@ public class RejectApplicationUseCaseImpl implements RejectApplicationUseCase {
     private static final Logger logger = LoggerFactory.getLogger(RejectApplicationUseCaseImpl.class);
     
     private final CreditApplicationRepositoryPort applicationRepository;
+    private final ApplicationEventPort applicationEventPort;
+    private final PortfolioStatisticsPort portfolioStatisticsPort;
+    private final ExposureLedgerPort exposureLedger;
+    private final LoanLedgerPort loanLedger;
     private final MetricsService metricsService;
     
     public RejectApplicationUseCaseImpl(
             CreditApplicationRepositoryPort applicationRepository,
+            ApplicationEventPort applicationEventPort,
+            PortfolioStatisticsPort portfolioStatisticsPort,
+            ExposureLedgerPort exposureLedger,
+            LoanLedgerPort loanLedger,
             MetricsService metricsService) {
         this.applicationRepository = applicationRepository;
+        this.applicationEventPort = applicationEventPort;
+        this.portfolioStatisticsPort = portfolioStatisticsPort;
+        this.exposureLedger = exposureLedger;
+        this.loanLedger = loanLedger;
         this.metricsService = metricsService;
     }
     
@@ -34,15 +53,33 @@ public class RejectApplicationUseCaseImpl implements RejectApplicationUseCase {
     public CreditApplicationResponse execute(Long applicationId) {
         logger.info("Manually rejecting credit application ID: {}", applicationId);
         
-        // 1. Validate application exists
-        CreditApplication application = applicationRepository.findById(applicationId)
+        // 1. Validate application exists, has not expired and has not been disbursed; the lock
+        //    keeps a disbursement from slipping in until this decision commits
+        CreditApplication application = applicationRepository.lock(applicationId)
             .orElseThrow(() -> new ResourceNotFoundException("CreditApplication", "id", applicationId));
+        if (application.getStatus() == ApplicationStatus.EXPIRED) {
+            throw new BusinessException(
+                "INVALID_APPLICATION_STATUS",
+                String.format("Application %d has expired", applicationId)
+            );
+        }
+        if (loanLedger.findById(applicationId).isPresent()) {
+            throw new BusinessException(
+                "INVALID_APPLICATION_STATUS",
+                String.format("Application %d has already been disbursed", applicationId)
+            );
+        }
         
         // 2. Reject application
+        ApplicationStatus previousStatus = application.getStatus();
+        RiskEvaluation previousEvaluation = application.getRiskEvaluation();
         application.reject();
         
         // 3. Save updated application
         CreditApplication savedApplication = applicationRepository.save(application);
+        applicationEventPort.statusChanged(savedApplication, previousStatus, ApplicationEventPort.SOURCE_MANUAL);
+        portfolioStatisticsPort.statusChanged(savedApplication, previousStatus, previousEvaluation);
+        exposureLedger.statusChanged(savedApplication, previousStatus);
         
         // 4. Track metrics
         metricsService.incrementApplicationRejected();
@@ -0,0 +1,100 @@
+package com.coopcredit.creditapplication.application.usecase;
+
+import com.coopcredit.creditapplication.application.dto.CreditSimulationRequest;
+import com.coopcredit.creditapplication.application.dto.CreditSimulationResponse;
+import com.coopcredit.creditapplication.application.port.in.SimulateCreditOffersUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.BusinessRulesPort;
+import com.coopcredit.creditapplication.application.port.out.ExposureLedgerPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.validation.OfferGrid;
+import com.coopcredit.creditapplication.domain.validation.RuleSet;
+import com.coopcredit.creditapplication.infrastructure.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Use case for simulating loan offers.
+ *
+ * The whole grid is evaluated by OfferGrid over primitive arrays, so a
+ * simulation costs one affiliate lookup instead of one request and one
+ * validation pass per combination. Debt ratios include the payments of the
+ * credits the affiliate already holds, from the exposure ledger.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SimulateCreditOffersUseCaseImpl implements SimulateCreditOffersUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimulateCreditOffersUseCaseImpl.class);
+
+    // 6 to 60 months in steps of 6
+    private static final int[] DEFAULT_TERMS = IntStream.rangeClosed(1, 10).map(step -> step * 6).toArray();
+
+    private final AffiliateRepositoryPort affiliateRepository;
+    private final BusinessRulesPort businessRules;
+    private final ExposureLedgerPort exposureLedger;
+
+    public SimulateCreditOffersUseCaseImpl(AffiliateRepositoryPort affiliateRepository,
+                                           BusinessRulesPort businessRules,
+                                           ExposureLedgerPort exposureLedger) {
+        this.affiliateRepository = affiliateRepository;
+        this.businessRules = businessRules;
+        this.exposureLedger = exposureLedger;
+    }
+
+    @Override
+    public CreditSimulationResponse execute(Long affiliateId, CreditSimulationRequest request) {
+        Affiliate affiliate = affiliateRepository.findById(affiliateId)
+            .orElseThrow(() -> new ResourceNotFoundException("Affiliate", "id", affiliateId));
+
+        List<Integer> requestedTerms = request.getTermMonths();
+        int[] terms = requestedTerms == null || requestedTerms.isEmpty()
+            ? DEFAULT_TERMS.clone()
+            : requestedTerms.stream().mapToInt(Integer::intValue).toArray();
+
+        RuleSet ruleSet = businessRules.current();
+        OfferGrid grid = OfferGrid.evaluate(ruleSet, affiliate, request.getAmounts(), terms,
+            request.getInterestRate(), request.getMonthlyIncome(),
+            exposureLedger.exposureOf(affiliateId).monthlyObligations());
+
+        CreditSimulationResponse response = new CreditSimulationResponse();
+        response.setAffiliateId(affiliateId);
+        response.setInterestRate(request.getInterestRate());
+        response.setMonthlyIncome(request.getMonthlyIncome());
+        response.setMaxCreditAmount(ruleSet.maxCreditAmount(affiliate));
+        response.setAmounts(request.getAmounts());
+        response.setTermMonths(terms);
+
+        int rows = grid.getAmountCount();
+        int columns = grid.getTermCount();
+        double[][] payments = new double[rows][columns];
+        double[][] ratios = new double[rows][columns];
+        boolean[][] eligible = new boolean[rows][columns];
+        String[][] rejections = new String[rows][columns];
+        int eligibleCount = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                payments[i][j] = grid.paymentCents(i, j) / 100.0;
+                ratios[i][j] = grid.debtRatioUnits(i, j) / 10_000.0;
+                rejections[i][j] = grid.rejection(i, j);
+                eligible[i][j] = rejections[i][j] == null;
+                if (eligible[i][j]) {
+                    eligibleCount++;
+                }
+            }
+        }
+        response.setMonthlyPayments(payments);
+        response.setDebtRatios(ratios);
+        response.setEligible(eligible);
+        response.setRejections(rejections);
+        response.setEligibleCount(eligibleCount);
+
+        logger.debug("Simulated {} offers for affiliate {}: {} eligible", rows * columns, affiliateId, eligibleCount);
+        return response;
+    }
+}
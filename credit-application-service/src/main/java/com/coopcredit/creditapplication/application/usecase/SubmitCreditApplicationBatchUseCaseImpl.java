@@ -0,0 +1,235 @@
+package com.coopcredit.creditapplication.application.usecase;
+
+import com.coopcredit.creditapplication.application.dto.BatchCreditApplicationItem;
+import com.coopcredit.creditapplication.application.dto.BatchCreditApplicationRequest;
+import com.coopcredit.creditapplication.application.dto.BatchCreditApplicationResponse;
+import com.coopcredit.creditapplication.application.dto.BatchCreditApplicationResponse.ItemResult;
+import com.coopcredit.creditapplication.application.port.in.SubmitCreditApplicationBatchUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.ApplicationVelocityPort;
+import com.coopcredit.creditapplication.application.port.out.BusinessRulesPort;
+import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.ExposureLedgerPort;
+import com.coopcredit.creditapplication.application.port.out.PortfolioStatisticsPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.validation.BusinessValidator;
+import com.coopcredit.creditapplication.domain.validation.RuleSet;
+import com.coopcredit.creditapplication.domain.validation.RuleViolation;
+import com.coopcredit.creditapplication.infrastructure.exception.TooManyRequestsException;
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for submitting a batch of credit applications.
+ *
+ * Instead of one affiliate lookup and one pending check per item, all
+ * referenced affiliates and their pending flags are loaded with one query
+ * each. Rules are then checked in memory, with each affiliate's existing
+ * obligations read from the exposure ledger, rejections being returned as
+ * violations rather than thrown, and the accepted applications are
+ * inserted together in one statement. An item whose affiliate got a pending
+ * application concurrently is left out by the insert and rejected, without
+ * failing the rest of the batch.
+ *
+ * Velocity checks count the client once per batch, before anything is read,
+ * and each item's affiliate and document as a submission of its own; an
+ * item over a velocity limit is rejected like any other.
+ */
+@Service
+@Transactional
+public class SubmitCreditApplicationBatchUseCaseImpl implements SubmitCreditApplicationBatchUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubmitCreditApplicationBatchUseCaseImpl.class);
+
+    private final CreditApplicationRepositoryPort applicationRepository;
+    private final AffiliateRepositoryPort affiliateRepository;
+    private final PortfolioStatisticsPort portfolioStatisticsPort;
+    private final BusinessRulesPort businessRules;
+    private final ExposureLedgerPort exposureLedger;
+    private final ApplicationVelocityPort applicationVelocity;
+    private final MetricsService metricsService;
+    private final Validator validator;
+
+    public SubmitCreditApplicationBatchUseCaseImpl(
+            CreditApplicationRepositoryPort applicationRepository,
+            AffiliateRepositoryPort affiliateRepository,
+            PortfolioStatisticsPort portfolioStatisticsPort,
+            BusinessRulesPort businessRules,
+            ExposureLedgerPort exposureLedger,
+            ApplicationVelocityPort applicationVelocity,
+            MetricsService metricsService,
+            Validator validator) {
+        this.applicationRepository = applicationRepository;
+        this.affiliateRepository = affiliateRepository;
+        this.portfolioStatisticsPort = portfolioStatisticsPort;
+        this.businessRules = businessRules;
+        this.exposureLedger = exposureLedger;
+        this.applicationVelocity = applicationVelocity;
+        this.metricsService = metricsService;
+        this.validator = validator;
+    }
+
+    @Override
+    public BatchCreditApplicationResponse execute(BatchCreditApplicationRequest request) {
+        List<BatchCreditApplicationItem> items = request.getItems();
+        logger.info("Starting batch credit application submission with {} items", items.size());
+
+        // 1. Velocity check on the client, in memory, before any query
+        applicationVelocity.recordClient();
+
+        // 2. Load affiliates and pending flags, one query each
+        Set<Long> affiliateIds = items.stream()
+            .map(BatchCreditApplicationItem::getAffiliateId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<Long, Affiliate> affiliates = affiliateRepository.findAllByIds(affiliateIds).stream()
+            .collect(Collectors.toMap(Affiliate::getId, Function.identity()));
+        Set<Long> withPendingApplication = new HashSet<>(
+            applicationRepository.findAffiliateIdsWithStatus(affiliates.keySet(), ApplicationStatus.PENDING));
+
+        // 3. Validate every item in memory, against one version of the rules
+        RuleSet ruleSet = businessRules.current();
+        ItemResult[] results = new ItemResult[items.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<CreditApplication> accepted = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            BatchCreditApplicationItem item = items.get(i);
+            Affiliate affiliate = affiliates.get(item.getAffiliateId());
+            try {
+                recordVelocity(item, affiliate);
+            } catch (TooManyRequestsException e) {
+                results[i] = ItemResult.rejected(i, item.getAffiliateId(), e.getCode(), e.getMessage());
+                continue;
+            }
+            RuleViolation violation = validateItem(item, affiliate, withPendingApplication, ruleSet);
+            if (violation != null) {
+                results[i] = ItemResult.rejected(i, item.getAffiliateId(), violation.code(), violation.message());
+                continue;
+            }
+            // Later items for the same affiliate now see a pending application
+            withPendingApplication.add(affiliate.getId());
+            acceptedIndexes.add(i);
+            accepted.add(createCreditApplication(affiliate, item));
+        }
+
+        // 4. Insert accepted applications together
+        List<CreditApplication> saved = accepted.isEmpty() ? List.of() : applicationRepository.saveAllPending(accepted);
+        portfolioStatisticsPort.applicationsCreated(saved);
+        Set<CreditApplication> inserted = Collections.newSetFromMap(new IdentityHashMap<>());
+        inserted.addAll(saved);
+        for (int j = 0; j < accepted.size(); j++) {
+            CreditApplication application = accepted.get(j);
+            int index = acceptedIndexes.get(j);
+            Long affiliateId = items.get(index).getAffiliateId();
+            if (inserted.contains(application)) {
+                results[index] = ItemResult.accepted(index, affiliateId, application.getId(),
+                    application.calculateMonthlyPayment(application.getInterestRate()));
+                metricsService.incrementApplicationCreated();
+            } else {
+                // A pending application was registered concurrently
+                RuleViolation violation = BusinessValidator.checkNoPendingApplications(true);
+                results[index] = ItemResult.rejected(index, affiliateId, violation.code(), violation.message());
+            }
+        }
+
+        BatchCreditApplicationResponse response = new BatchCreditApplicationResponse(List.of(results));
+        logger.info("Batch credit application submission finished: {} accepted, {} rejected",
+            response.getAccepted(), response.getRejected());
+        return response;
+    }
+
+    /**
+     * Counts an item against the affiliate and document velocity limits.
+     *
+     * @param affiliate the item's affiliate, or null if it does not exist
+     * @throws TooManyRequestsException if either is over the block threshold
+     */
+    private void recordVelocity(BatchCreditApplicationItem item, Affiliate affiliate) {
+        if (item.getAffiliateId() == null) {
+            return;
+        }
+        applicationVelocity.recordAffiliate(item.getAffiliateId());
+        if (affiliate != null) {
+            applicationVelocity.recordDocument(affiliate.getDocumentType(), affiliate.getDocumentNumber());
+        }
+    }
+
+    /**
+     * Applies the single-application rules to one item.
+     *
+     * @param affiliate the item's affiliate, or null if it does not exist
+     * @return the first failed rule, or null if the item is accepted
+     */
+    private RuleViolation validateItem(BatchCreditApplicationItem item, Affiliate affiliate,
+                                       Set<Long> withPendingApplication, RuleSet ruleSet) {
+        Set<ConstraintViolation<BatchCreditApplicationItem>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining("; "));
+            return new RuleViolation(null, "VALIDATION_ERROR", message);
+        }
+        // purpose is NOT NULL in credit_applications; reject here rather than fail the whole batch on insert
+        if (item.getPurpose() == null || item.getPurpose().isBlank()) {
+            return new RuleViolation(null, "VALIDATION_ERROR", "purpose: Purpose is required");
+        }
+
+        if (affiliate == null) {
+            return RuleViolation.formatted(null, "AFFILIATE_NOT_FOUND",
+                "Affiliate not found with id: %s", item.getAffiliateId());
+        }
+
+        CreditApplication tempApplication = new CreditApplication();
+        tempApplication.setAffiliate(affiliate);
+        tempApplication.setRequestedAmount(item.getRequestedAmount());
+        tempApplication.setTermMonths(item.getTermMonths());
+        tempApplication.setInterestRate(item.getInterestRate());
+        tempApplication.setMonthlyIncome(item.getMonthlyIncome());
+        tempApplication.setCurrentDebt(item.getCurrentDebt());
+        tempApplication.setExposure(exposureLedger.exposureOf(affiliate.getId()));
+        RuleViolation violation = ruleSet.firstViolation(tempApplication);
+        if (violation != null) {
+            return violation;
+        }
+
+        return BusinessValidator.checkNoPendingApplications(withPendingApplication.contains(affiliate.getId()));
+    }
+
+    /**
+     * Creates a new CreditApplication from a batch item.
+     */
+    private CreditApplication createCreditApplication(Affiliate affiliate, BatchCreditApplicationItem item) {
+        CreditApplication application = new CreditApplication();
+        application.setAffiliate(affiliate);
+        application.setRequestedAmount(item.getRequestedAmount());
+        application.setTermMonths(item.getTermMonths());
+        application.setInterestRate(item.getInterestRate());
+        application.setMonthlyIncome(item.getMonthlyIncome());
+        application.setCurrentDebt(item.getCurrentDebt());
+        application.setPurpose(item.getPurpose());
+        application.setStatus(ApplicationStatus.PENDING);
+        application.setApplicationDate(LocalDateTime.now());
+        return application;
+    }
+}
@@ -0,0 +1,177 @@
+package com.coopcredit.creditapplication.domain.amortization;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Fixed-payment (French) amortization schedule.
+ *
+ * Every installment is the monthly payment of AnnuityFactors except the
+ * last, which settles the remaining balance so rounding never leaves a
+ * residue. Interest is the outstanding balance times the monthly rate,
+ * rounded half-up to cents.
+ *
+ * Rows are computed on demand in whole cents: iterating a schedule keeps
+ * no rows in memory, so long schedules can be streamed, and forEach walks
+ * them without allocating at all.
+ */
+public final class AmortizationSchedule implements Iterable<Installment> {
+
+    // balance * rateUnits / INTEREST_DIVISOR is the monthly interest in cents
+    private static final long INTEREST_DIVISOR = 1200L * 10_000L;
+
+    private final BigDecimal principal;
+    private final BigDecimal annualRate;
+    private final int termMonths;
+    private final BigDecimal monthlyPayment;
+    private final long principalCents;
+    private final long paymentCents;
+    private final long rateUnits;
+    private long totalInterestCents = -1;
+
+    private AmortizationSchedule(BigDecimal principal, BigDecimal annualRate, int termMonths) {
+        this.principal = principal;
+        this.annualRate = annualRate;
+        this.termMonths = termMonths;
+        this.monthlyPayment = AnnuityFactors.monthlyPayment(principal, annualRate, termMonths);
+        this.principalCents = toCents(principal);
+        this.paymentCents = toCents(monthlyPayment);
+        // Column precision is two decimals; finer rates are rounded for the interest split only
+        this.rateUnits = annualRate.setScale(AnnuityFactors.RATE_SCALE, RoundingMode.HALF_UP)
+            .unscaledValue().longValueExact();
+    }
+
+    /**
+     * Creates the schedule of a loan.
+     *
+     * @param principal amount borrowed
+     * @param annualRate annual interest rate as a percentage (12.5 for 12.5%)
+     * @param termMonths term in months
+     * @return the schedule
+     */
+    public static AmortizationSchedule of(BigDecimal principal, BigDecimal annualRate, int termMonths) {
+        if (principal == null || principal.signum() <= 0) {
+            throw new IllegalArgumentException("Principal must be positive: " + principal);
+        }
+        if (annualRate == null || annualRate.signum() < 0) {
+            throw new IllegalArgumentException("Interest rate must not be negative: " + annualRate);
+        }
+        if (termMonths <= 0) {
+            throw new IllegalArgumentException("Term must be positive: " + termMonths);
+        }
+        return new AmortizationSchedule(principal, annualRate, termMonths);
+    }
+
+    public BigDecimal getPrincipal() {
+        return principal;
+    }
+
+    public BigDecimal getAnnualRate() {
+        return annualRate;
+    }
+
+    public int getTermMonths() {
+        return termMonths;
+    }
+
+    public BigDecimal getMonthlyPayment() {
+        return monthlyPayment;
+    }
+
+    /**
+     * Interest paid over the whole term, computed with one pass over the rows.
+     */
+    public BigDecimal getTotalInterest() {
+        if (totalInterestCents < 0) {
+            Cursor cursor = new Cursor();
+            long total = 0;
+            while (cursor.advance()) {
+                total += cursor.interest;
+            }
+            totalInterestCents = total;
+        }
+        return BigDecimal.valueOf(totalInterestCents, 2);
+    }
+
+    public BigDecimal getTotalPayment() {
+        return BigDecimal.valueOf(principalCents, 2).add(getTotalInterest());
+    }
+
+    /**
+     * Walks the rows in order without allocating; amounts are in cents.
+     *
+     * @param visitor receives every installment
+     */
+    public void forEach(InstallmentVisitor visitor) {
+        Cursor cursor = new Cursor();
+        while (cursor.advance()) {
+            visitor.accept(cursor.number, cursor.payment, cursor.principal, cursor.interest, cursor.balance);
+        }
+    }
+
+    @Override
+    public Iterator<Installment> iterator() {
+        Cursor cursor = new Cursor();
+        return new Iterator<>() {
+            private boolean ready;
+
+            @Override
+            public boolean hasNext() {
+                if (!ready) {
+                    ready = cursor.advance();
+                }
+                return ready;
+            }
+
+            @Override
+            public Installment next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ready = false;
+                return new Installment(cursor.number,
+                    BigDecimal.valueOf(cursor.payment, 2),
+                    BigDecimal.valueOf(cursor.principal, 2),
+                    BigDecimal.valueOf(cursor.interest, 2),
+                    BigDecimal.valueOf(cursor.balance, 2));
+            }
+        };
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Receives schedule rows as primitive cents.
+     */
+    @FunctionalInterface
+    public interface InstallmentVisitor {
+        void accept(int number, long paymentCents, long principalCents, long interestCents, long balanceCents);
+    }
+
+    /**
+     * Position in the schedule; advance() computes the next row from the previous balance.
+     */
+    private final class Cursor {
+        private int number;
+        private long balance = principalCents;
+        private long payment;
+        private long principal;
+        private long interest;
+
+        private boolean advance() {
+            if (number == termMonths) {
+                return false;
+            }
+            number++;
+            interest = Math.addExact(Math.multiplyExact(balance, rateUnits), INTEREST_DIVISOR / 2) / INTEREST_DIVISOR;
+            principal = number == termMonths ? balance : Math.max(0, Math.min(paymentCents - interest, balance));
+            payment = principal + interest;
+            balance -= principal;
+            return true;
+        }
+    }
+}
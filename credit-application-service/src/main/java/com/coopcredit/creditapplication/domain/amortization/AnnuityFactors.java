@@ -0,0 +1,157 @@
+package com.coopcredit.creditapplication.domain.amortization;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Annuity factors per (annual rate, term), kept in a bounded cache.
+ *
+ * Applications use a handful of rate and term combinations, so the two
+ * Math.pow calls of the annuity formula are paid once per combination
+ * instead of once per payment calculation. The cached parts are the exact
+ * operands of the original formula, so payments are bit-for-bit the same.
+ *
+ * The cache is a fixed, direct-mapped table of immutable entries: a lookup
+ * allocates nothing and a collision simply replaces the older entry.
+ */
+public final class AnnuityFactors {
+
+    /** Rates are split into interest in ten-thousandths of a percent. */
+    static final int RATE_SCALE = 4;
+
+    static final int CACHE_SIZE = 4096;
+
+    // Payments above this many cents fall back to BigDecimal rounding, where
+    // the double's error could reach the half-cent tie margin
+    private static final double FAST_ROUNDING_LIMIT = 1e11;
+    private static final double TIE_MARGIN = 1e-3;
+
+    private static final Factor[] CACHE = new Factor[CACHE_SIZE];
+
+    private AnnuityFactors() {
+    }
+
+    /**
+     * Monthly payment of a fixed-rate loan, rounded half-up to cents.
+     *
+     * @param principal amount borrowed
+     * @param annualRate annual interest rate as a percentage (12.5 for 12.5%)
+     * @param months term in months
+     * @return the monthly payment
+     */
+    public static BigDecimal monthlyPayment(BigDecimal principal, BigDecimal annualRate, int months) {
+        return BigDecimal.valueOf(monthlyPaymentCents(principal.doubleValue(), annualRate.doubleValue(), months), 2);
+    }
+
+    /**
+     * Primitive form of monthlyPayment, for callers that evaluate many loans.
+     *
+     * @param principal amount borrowed
+     * @param annualRate annual interest rate as a percentage
+     * @param months term in months
+     * @return the monthly payment in cents
+     */
+    public static long monthlyPaymentCents(double principal, double annualRate, int months) {
+        Factor factor = of(annualRate, months);
+        if (factor.monthlyRate == 0) {
+            return toCents(principal / months);
+        }
+        return toCents(principal * factor.numerator / factor.denominator);
+    }
+
+    /**
+     * Monthly payments in cents of several principals with the same rate and
+     * term. The division runs as a plain loop over the array, which the JIT
+     * can vectorize; rounding is a second pass.
+     *
+     * @param principals amounts borrowed
+     * @param annualRate annual interest rate as a percentage
+     * @param months term in months
+     * @param cents receives the payments, same length as principals
+     */
+    public static void monthlyPaymentsCents(double[] principals, double annualRate, int months, long[] cents) {
+        Factor factor = of(annualRate, months);
+        int length = principals.length;
+        double[] payments = new double[length];
+        if (factor.monthlyRate == 0) {
+            for (int i = 0; i < length; i++) {
+                payments[i] = principals[i] / months;
+            }
+        } else {
+            double numerator = factor.numerator;
+            double denominator = factor.denominator;
+            for (int i = 0; i < length; i++) {
+                payments[i] = principals[i] * numerator / denominator;
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            cents[i] = toCents(payments[i]);
+        }
+    }
+
+    /**
+     * Returns the factor for a rate and term, computing it on a cache miss.
+     */
+    static Factor of(double annualRate, int months) {
+        if (months <= 0) {
+            throw new IllegalArgumentException("Term must be positive: " + months);
+        }
+        long rateBits = Double.doubleToLongBits(annualRate);
+        int index = index(rateBits, months);
+        Factor factor = CACHE[index];
+        if (factor == null || factor.rateBits != rateBits || factor.months != months) {
+            // Entries are immutable, so a racy publication is harmless
+            factor = new Factor(annualRate, months);
+            CACHE[index] = factor;
+        }
+        return factor;
+    }
+
+    /**
+     * Same cents as BigDecimal.valueOf(value).setScale(2, HALF_UP), without
+     * formatting the double unless it is within a whisker of a half cent.
+     */
+    static long toCents(double value) {
+        double cents = value * 100;
+        if (cents >= 0 && cents < FAST_ROUNDING_LIMIT) {
+            double floor = Math.floor(cents);
+            double fraction = cents - floor;
+            if (Math.abs(fraction - 0.5) > TIE_MARGIN) {
+                return (long) floor + (fraction > 0.5 ? 1 : 0);
+            }
+        }
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static int index(long rateBits, int months) {
+        long hash = (rateBits ^ (rateBits >>> 32)) * 31 + months;
+        hash ^= hash >>> 16;
+        return (int) hash & (CACHE_SIZE - 1);
+    }
+
+    /**
+     * Operands of payment = amount * numerator / denominator, where
+     * numerator = r * (1 + r)^n and denominator = (1 + r)^n - 1.
+     */
+    static final class Factor {
+        final long rateBits;
+        final int months;
+        final double monthlyRate;
+        final double numerator;
+        final double denominator;
+
+        Factor(double annualRate, int months) {
+            this.rateBits = Double.doubleToLongBits(annualRate);
+            this.months = months;
+            this.monthlyRate = annualRate / 12 / 100;
+            if (monthlyRate == 0) {
+                this.numerator = 0;
+                this.denominator = 0;
+            } else {
+                double growth = Math.pow(1 + monthlyRate, months);
+                this.numerator = monthlyRate * growth;
+                this.denominator = growth - 1;
+            }
+        }
+    }
+}
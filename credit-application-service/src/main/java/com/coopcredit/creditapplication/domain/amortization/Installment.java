@@ -0,0 +1,16 @@
+package com.coopcredit.creditapplication.domain.amortization;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of an amortization schedule.
+ *
+ * @param number installment number, starting at 1
+ * @param payment amount due
+ * @param principal part of the payment that repays the loan
+ * @param interest part of the payment that pays interest
+ * @param balance outstanding principal after the payment
+ */
+public record Installment(int number, BigDecimal payment, BigDecimal principal, BigDecimal interest,
+                          BigDecimal balance) {
+}
@@ -0,0 +1,30 @@
+package com.coopcredit.creditapplication.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Obligations an affiliate already holds with the cooperative: the credits
+ * approved so far and the monthly payments they add up to.
+ *
+ * @param affiliateId the affiliate
+ * @param approvedCredits number of approved credits
+ * @param approvedPrincipal sum of the approved amounts
+ * @param monthlyObligations sum of the monthly payments of the approved credits
+ */
+public record AffiliateExposure(
+    Long affiliateId,
+    int approvedCredits,
+    BigDecimal approvedPrincipal,
+    BigDecimal monthlyObligations
+) {
+
+    /**
+     * Exposure of an affiliate without approved credits.
+     *
+     * @param affiliateId the affiliate
+     * @return zero exposure
+     */
+    public static AffiliateExposure none(Long affiliateId) {
+        return new AffiliateExposure(affiliateId, 0, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+}
@@ -4,5 +4,6 @@ public enum ApplicationStatus {
     PENDING,
     APPROVED,
     REJECTED,
-    IN_REVIEW
+    IN_REVIEW,
+    EXPIRED
 }
@@ -1,5 +1,7 @@
 package com.coopcredit.creditapplication.domain.model;
 
+import com.coopcredit.creditapplication.domain.amortization.AmortizationSchedule;
+import com.coopcredit.creditapplication.domain.amortization.AnnuityFactors;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -31,6 +33,7 @@ public class CreditApplication {
     private Integer termMonths; // Alias for requestedTermMonths
     private BigDecimal interestRate;
     private BigDecimal currentDebt;
+    private AffiliateExposure exposure; // From the exposure ledger, not persisted
     private LocalDateTime evaluationDate;
     private String evaluationComments;
 
@@ -56,24 +59,23 @@ public class CreditApplication {
 
     /**
      * Calculates the monthly payment using the amortization formula.
+     * The annuity factor of each (rate, term) pair is computed once and cached.
      * 
      * @param annualInterestRate annual interest rate as percentage (e.g., 12.5 for
      *                           12.5%)
      * @return monthly payment amount rounded to 2 decimal places
      */
     public BigDecimal calculateMonthlyPayment(BigDecimal annualInterestRate) {
-        double monthlyRate = annualInterestRate.doubleValue() / 12 / 100;
-        double amount = requestedAmount.doubleValue();
-        int months = requestedTermMonths;
-
-        if (monthlyRate == 0) {
-            return BigDecimal.valueOf(amount / months).setScale(2, RoundingMode.HALF_UP);
-        }
-
-        double payment = amount * (monthlyRate * Math.pow(1 + monthlyRate, months))
-                / (Math.pow(1 + monthlyRate, months) - 1);
+        return AnnuityFactors.monthlyPayment(requestedAmount, annualInterestRate, requestedTermMonths);
+    }
 
-        return BigDecimal.valueOf(payment).setScale(2, RoundingMode.HALF_UP);
+    /**
+     * Builds the payment schedule of this application at its interest rate.
+     * 
+     * @return schedule whose installments match calculateMonthlyPayment
+     */
+    public AmortizationSchedule amortizationSchedule() {
+        return AmortizationSchedule.of(requestedAmount, interestRate, requestedTermMonths);
     }
 
     /**
@@ -89,8 +91,19 @@ public class CreditApplication {
         return monthlyPayment.divide(monthlyIncome, 4, RoundingMode.HALF_UP);
     }
 
+    /**
+     * Monthly payments of the credits the affiliate already holds.
+     * 
+     * @return obligations from the exposure ledger, zero if none were loaded
+     */
+    public BigDecimal getExistingMonthlyObligations() {
+        return exposure != null ? exposure.monthlyObligations() : BigDecimal.ZERO;
+    }
+
     /**
      * Checks if the credit would exceed the maximum allowed debt ratio.
+     * The ratio counts the payments of credits already approved along with
+     * the new one.
      * 
      * @param maxRatio           maximum allowed debt-to-income ratio (e.g., 0.40
      *                           for 40%)
@@ -99,7 +112,7 @@ public class CreditApplication {
      */
     public boolean exceedsDebtRatio(BigDecimal maxRatio, BigDecimal annualInterestRate) {
         BigDecimal payment = calculateMonthlyPayment(annualInterestRate);
-        BigDecimal ratio = getDebtToIncomeRatio(payment);
+        BigDecimal ratio = getDebtToIncomeRatio(payment.add(getExistingMonthlyObligations()));
         return ratio.compareTo(maxRatio) > 0;
     }
 
@@ -248,6 +261,14 @@ public class CreditApplication {
         this.currentDebt = currentDebt;
     }
 
+    public AffiliateExposure getExposure() {
+        return exposure;
+    }
+
+    public void setExposure(AffiliateExposure exposure) {
+        this.exposure = exposure;
+    }
+
     public LocalDateTime getEvaluationDate() {
         return evaluationDate;
     }
@@ -0,0 +1,27 @@
+package com.coopcredit.creditapplication.domain.model;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Aggregated figures for the applications of one month with the same
+ * status and risk level.
+ *
+ * @param month application month
+ * @param status application status
+ * @param riskLevel risk level of the evaluation, null if not evaluated
+ * @param applications number of applications
+ * @param requestedAmount sum of the requested amounts
+ * @param scoreSum sum of the credit scores of the evaluated applications
+ * @param scoredApplications number of evaluated applications
+ */
+public record PortfolioStatistics(
+    YearMonth month,
+    ApplicationStatus status,
+    String riskLevel,
+    long applications,
+    BigDecimal requestedAmount,
+    long scoreSum,
+    long scoredApplications
+) {
+}
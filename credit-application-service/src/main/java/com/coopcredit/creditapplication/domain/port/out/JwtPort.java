@@ -2,17 +2,72 @@ package com.coopcredit.creditapplication.domain.port.out;
 
 import com.coopcredit.creditapplication.domain.model.User;
 
+import java.time.Instant;
+import java.util.List;
+
 /**
  * Output Port: JWT Service
  * Interface for JWT token generation and validation.
  */
 public interface JwtPort {
-    
+
     String generateToken(User user);
-    
+
+    /**
+     * Parses and verifies a token exactly once, returning its claims.
+     *
+     * @param token the JWT token
+     * @return immutable verified claims
+     * @throws RuntimeException if the token is malformed, expired or has an invalid signature
+     */
+    VerifiedToken verify(String token);
+
     String extractUsername(String token);
-    
+
     boolean validateToken(String token, String username);
-    
+
     boolean isTokenExpired(String token);
+
+    /**
+     * Immutable result of a successful token verification.
+     */
+    final class VerifiedToken {
+        private final String username;
+        private final Long userId;
+        private final List<String> roles;
+        private final Instant expiresAt;
+
+        public VerifiedToken(String username, Long userId, List<String> roles, Instant expiresAt) {
+            this.username = username;
+            this.userId = userId;
+            this.roles = roles != null ? List.copyOf(roles) : List.of();
+            this.expiresAt = expiresAt;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public List<String> getRoles() {
+            return roles;
+        }
+
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+
+        /**
+         * Checks whether the token is expired at the given instant.
+         *
+         * @param now the reference instant
+         * @return true if expired
+         */
+        public boolean isExpiredAt(Instant now) {
+            return expiresAt != null && !expiresAt.isAfter(now);
+        }
+    }
 }
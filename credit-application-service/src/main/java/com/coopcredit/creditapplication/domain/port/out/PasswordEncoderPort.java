@@ -8,5 +8,24 @@ public interface PasswordEncoderPort {
     
     String encode(String rawPassword);
     
+    /**
+     * Encodes a password on the caller's thread, never refusing for load.
+     * For batch callers that bound their own concurrency and cannot retry a
+     * single item.
+     *
+     * @param rawPassword the plain text password
+     * @return encrypted password
+     */
+    String encodeBlocking(String rawPassword);
+    
     boolean matches(String rawPassword, String encodedPassword);
+    
+    /**
+     * Checks whether a stored hash uses outdated parameters and should be
+     * replaced after the next successful verification.
+     *
+     * @param encodedPassword the stored hash
+     * @return true if the password should be encoded again
+     */
+    boolean needsRehash(String encodedPassword);
 }
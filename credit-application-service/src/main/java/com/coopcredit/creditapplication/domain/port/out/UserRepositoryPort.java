@@ -12,6 +12,14 @@ import java.util.Optional;
  */
 public interface UserRepositoryPort {
     
+    /**
+     * Saves a user. A new user is flushed together with any pending inserts
+     * (such as its affiliate), and unique violations on username, email or
+     * document number are reported as DuplicateResourceException.
+     *
+     * @param user the user
+     * @return the saved user
+     */
     User save(User user);
     
     Optional<User> findById(Long id);
@@ -20,9 +28,23 @@ public interface UserRepositoryPort {
     
     Optional<User> findByEmail(String email);
     
+    /**
+     * Replaces the stored password hash of a user.
+     *
+     * @param userId the user ID
+     * @param encodedPassword the new hash
+     */
+    void updatePassword(Long userId, String encodedPassword);
+    
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
     
+    /**
+     * Finds a role by name. Roles are seed data, so the result is cached.
+     *
+     * @param roleName the role name
+     * @return optional containing the role if found
+     */
     Optional<Role> findRoleByName(RoleName roleName);
 }
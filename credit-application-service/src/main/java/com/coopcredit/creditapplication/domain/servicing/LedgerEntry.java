@@ -0,0 +1,41 @@
+package com.coopcredit.creditapplication.domain.servicing;
+
+import java.time.LocalDate;
+
+/**
+ * One movement of a loan's ledger, with its effect on each balance in cents.
+ *
+ * id and entryDate (the booking date) are assigned when the entry is
+ * appended; entries built by the domain carry null for both.
+ *
+ * @param id ledger id, increasing per loan in booking order
+ * @param loanId the loan
+ * @param type kind of movement
+ * @param entryDate booking date
+ * @param valueDate date the movement refers to
+ * @param principalCents change of the outstanding principal
+ * @param interestCents change of the accrued, unpaid interest
+ * @param dueCents change of the amount currently due
+ */
+public record LedgerEntry(Long id, Long loanId, LedgerEntryType type, LocalDate entryDate, LocalDate valueDate,
+                          long principalCents, long interestCents, long dueCents) {
+
+    /**
+     * The entry as recorded, with its id and booking date.
+     */
+    public LedgerEntry booked(long id, LocalDate entryDate) {
+        return new LedgerEntry(id, loanId, type, entryDate, valueDate, principalCents, interestCents, dueCents);
+    }
+
+    public static LedgerEntry disbursement(Long loanId, LocalDate valueDate, long principalCents) {
+        return new LedgerEntry(null, loanId, LedgerEntryType.DISBURSEMENT, null, valueDate, principalCents, 0, 0);
+    }
+
+    public static LedgerEntry accrual(Long loanId, LocalDate valueDate, long interestCents) {
+        return new LedgerEntry(null, loanId, LedgerEntryType.ACCRUAL, null, valueDate, 0, interestCents, 0);
+    }
+
+    public static LedgerEntry installmentDue(Long loanId, LocalDate valueDate, long dueCents) {
+        return new LedgerEntry(null, loanId, LedgerEntryType.INSTALLMENT_DUE, null, valueDate, 0, 0, dueCents);
+    }
+}
@@ -0,0 +1,15 @@
+package com.coopcredit.creditapplication.domain.servicing;
+
+/**
+ * Kinds of movement recorded in a loan's ledger.
+ */
+public enum LedgerEntryType {
+    /** Principal paid out to the affiliate. */
+    DISBURSEMENT,
+    /** An installment falls due on its monthly anniversary. */
+    INSTALLMENT_DUE,
+    /** Money received, applied to interest first and then to principal. */
+    PAYMENT,
+    /** One day of interest on the outstanding principal. */
+    ACCRUAL
+}
@@ -0,0 +1,80 @@
+package com.coopcredit.creditapplication.domain.servicing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * A disbursed loan. Its id is the id of the approved credit application.
+ *
+ * Amounts are kept in cents and the rate in hundredths of a percent, so the
+ * accrual of a million loans runs on primitives.
+ *
+ * @param loanId id of the credit application
+ * @param affiliateId borrower
+ * @param principalCents amount disbursed
+ * @param rateHundredths annual interest rate in hundredths of a percent (1250 for 12.5%)
+ * @param termMonths number of installments
+ * @param installmentCents monthly installment
+ * @param disbursedOn booking date of the disbursement
+ * @param status whether anything is still owed
+ */
+public record LoanAccount(Long loanId, Long affiliateId, long principalCents, int rateHundredths, int termMonths,
+                          long installmentCents, LocalDate disbursedOn, LoanStatus status) {
+
+    // Hundredths of a percent per year: 100 (percent) x 100 (hundredths) x 365 days
+    private static final long DAILY_RATE_DIVISOR = 3_650_000L;
+
+    public static LoanAccount disbursed(Long loanId, Long affiliateId, BigDecimal principal, BigDecimal annualRate,
+                                        int termMonths, BigDecimal installment, LocalDate disbursedOn) {
+        return new LoanAccount(loanId, affiliateId, toCents(principal),
+            annualRate.movePointRight(2).intValueExact(), termMonths, toCents(installment),
+            disbursedOn, LoanStatus.ACTIVE);
+    }
+
+    public boolean isActive() {
+        return status == LoanStatus.ACTIVE;
+    }
+
+    public LoanAccount paidOff() {
+        return new LoanAccount(loanId, affiliateId, principalCents, rateHundredths, termMonths, installmentCents,
+            disbursedOn, LoanStatus.PAID_OFF);
+    }
+
+    /**
+     * Interest of one day on an outstanding principal, on an actual/365
+     * basis, rounded half-up to cents.
+     *
+     * @param outstandingPrincipalCents principal owed
+     * @return interest in cents
+     */
+    public long dailyInterestCents(long outstandingPrincipalCents) {
+        if (outstandingPrincipalCents <= 0) {
+            return 0;
+        }
+        return (outstandingPrincipalCents * rateHundredths + DAILY_RATE_DIVISOR / 2) / DAILY_RATE_DIVISOR;
+    }
+
+    /**
+     * Number of the installment falling due on a date: installment k is due
+     * k months after the disbursement (the last day of the month when the
+     * day does not exist).
+     *
+     * @param date any date
+     * @return 1 to termMonths, or 0 when nothing falls due that day
+     */
+    public int installmentDueOn(LocalDate date) {
+        // between() counts whole months, so it falls one short on a clamped anniversary
+        long months = ChronoUnit.MONTHS.between(disbursedOn, date);
+        for (long k = Math.max(1, months); k <= Math.min(termMonths, months + 1); k++) {
+            if (disbursedOn.plusMonths(k).equals(date)) {
+                return (int) k;
+            }
+        }
+        return 0;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+}
@@ -0,0 +1,70 @@
+package com.coopcredit.creditapplication.domain.servicing;
+
+import java.time.LocalDate;
+
+/**
+ * What a borrower owes, folded from ledger entries.
+ *
+ * @param principalCents outstanding principal
+ * @param interestCents accrued interest not paid yet
+ * @param dueCents installments fallen due and not paid yet
+ */
+public record LoanBalance(long principalCents, long interestCents, long dueCents) {
+
+    public static final LoanBalance ZERO = new LoanBalance(0, 0, 0);
+
+    /**
+     * Balance after one more entry.
+     */
+    public LoanBalance apply(LedgerEntry entry) {
+        return new LoanBalance(
+            principalCents + entry.principalCents(),
+            interestCents + entry.interestCents(),
+            dueCents + entry.dueCents());
+    }
+
+    /**
+     * Principal plus interest, the amount that settles the loan.
+     */
+    public long outstandingCents() {
+        return principalCents + interestCents;
+    }
+
+    public boolean isSettled() {
+        return outstandingCents() <= 0;
+    }
+
+    /**
+     * Entry for a payment, applied to accrued interest first and then to
+     * principal; whatever was due is settled up to the amount paid.
+     *
+     * @param loanId the loan
+     * @param valueDate date the money was received
+     * @param amountCents amount paid, at most outstandingCents()
+     * @return the payment entry
+     */
+    public LedgerEntry payment(Long loanId, LocalDate valueDate, long amountCents) {
+        long interestPaid = Math.min(amountCents, interestCents);
+        long duePaid = Math.min(amountCents, Math.max(0, dueCents));
+        return new LedgerEntry(null, loanId, LedgerEntryType.PAYMENT, null, valueDate,
+            -(amountCents - interestPaid), -interestPaid, -duePaid);
+    }
+
+    /**
+     * Entry for installment number {@code installment} of a loan falling due.
+     * The last installment is whatever is still outstanding, so rounding
+     * never leaves a residue; earlier ones never exceed it.
+     *
+     * @param loan the loan
+     * @param valueDate due date
+     * @param installment installment number, 1 to the term
+     * @return the entry, or null when nothing is left to fall due
+     */
+    public LedgerEntry installmentDue(LoanAccount loan, LocalDate valueDate, int installment) {
+        long notYetDue = outstandingCents() - dueCents;
+        long amount = installment == loan.termMonths()
+            ? notYetDue
+            : Math.min(loan.installmentCents(), notYetDue);
+        return amount > 0 ? LedgerEntry.installmentDue(loan.loanId(), valueDate, amount) : null;
+    }
+}
@@ -0,0 +1,6 @@
+package com.coopcredit.creditapplication.domain.servicing;
+
+public enum LoanStatus {
+    ACTIVE,
+    PAID_OFF
+}
@@ -0,0 +1,35 @@
+package com.coopcredit.creditapplication.domain.validation;
+
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+
+/**
+ * A business rule a credit application must satisfy to be registered.
+ * Rules are built by CreditRules and evaluated through a compiled RuleSet.
+ */
+public interface CreditRule {
+
+    /**
+     * @return the rule name used in configuration and metrics
+     */
+    String getName();
+
+    /**
+     * @return the fields of the application the rule reads
+     */
+    RuleScope getScope();
+
+    /**
+     * @return relative evaluation cost; cheaper rules run first
+     */
+    int getCost();
+
+    /**
+     * Checks the rule against an application. Fields owned by other rules
+     * (a missing amount, say) are not reported twice: a rule that needs them
+     * passes and leaves the violation to the rule that owns the field.
+     *
+     * @param application the application, with its affiliate set
+     * @return the violation, or null if the rule is satisfied
+     */
+    RuleViolation check(CreditApplication application);
+}
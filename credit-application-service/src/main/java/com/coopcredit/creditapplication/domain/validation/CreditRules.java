@@ -0,0 +1,284 @@
+package com.coopcredit.creditapplication.domain.validation;
+
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The credit rules that can be configured, by name. Parameters come from the
+ * rule set definition and are resolved once, when the rule is created, as
+ * are the violations that do not depend on the application; the others
+ * defer formatting their message until it is read.
+ */
+public final class CreditRules {
+
+    public static final String AFFILIATION_TIME = "affiliation-time";
+    public static final String CREDIT_AMOUNT = "credit-amount";
+    public static final String CREDIT_TERM = "credit-term";
+    public static final String AFFILIATE_LIMIT = "affiliate-limit";
+    public static final String DEBT_RATIO = "debt-ratio";
+
+    private CreditRules() {
+    }
+
+    /**
+     * Creates a rule from its definition.
+     *
+     * @param rule the rule's definition
+     * @param definition the rule set the rule takes its limits from
+     * @return the rule
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    static CreditRule create(RuleSetDefinition.RuleDefinition rule, RuleSetDefinition definition) {
+        String name = rule.name();
+        int cost = rule.cost() != null ? rule.cost() : defaultCost(name);
+        return switch (name) {
+            case AFFILIATION_TIME -> new AffiliationTimeRule(cost, definition.minAffiliationMonths());
+            case CREDIT_AMOUNT -> new CreditAmountRule(cost, definition.minAmount(), definition.maxAmount());
+            case CREDIT_TERM -> new CreditTermRule(cost, definition.minTermMonths(), definition.maxTermMonths());
+            case AFFILIATE_LIMIT -> new AffiliateLimitRule(cost, definition.minAffiliationMonths(),
+                definition.maxAmountMultiplier());
+            case DEBT_RATIO -> new DebtRatioRule(cost, definition.maxDebtRatio());
+            default -> throw new IllegalArgumentException("Unknown credit rule: " + name);
+        };
+    }
+
+    /**
+     * Default relative cost: comparisons of one field first, date arithmetic
+     * next, and the payment calculation of the debt ratio last.
+     */
+    static int defaultCost(String name) {
+        return switch (name) {
+            case CREDIT_TERM -> 1;
+            case CREDIT_AMOUNT -> 2;
+            case AFFILIATION_TIME -> 3;
+            case AFFILIATE_LIMIT -> 4;
+            case DEBT_RATIO -> 10;
+            default -> throw new IllegalArgumentException("Unknown credit rule: " + name);
+        };
+    }
+
+    private abstract static class BaseRule implements CreditRule {
+
+        private final String name;
+        private final RuleScope scope;
+        private final int cost;
+
+        BaseRule(String name, RuleScope scope, int cost) {
+            this.name = name;
+            this.scope = scope;
+            this.cost = cost;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public RuleScope getScope() {
+            return scope;
+        }
+
+        @Override
+        public int getCost() {
+            return cost;
+        }
+
+        RuleViolation violation(String code, String message) {
+            return new RuleViolation(name, code, message);
+        }
+
+        RuleViolation formatted(String code, String template, Object... args) {
+            return RuleViolation.formatted(name, code, template, args);
+        }
+    }
+
+    /**
+     * The affiliate must have been affiliated for a minimum number of months.
+     */
+    static final class AffiliationTimeRule extends BaseRule {
+
+        private final int minMonths;
+        private final RuleViolation dateRequired;
+
+        AffiliationTimeRule(int cost, int minMonths) {
+            super(AFFILIATION_TIME, RuleScope.AFFILIATE, cost);
+            this.minMonths = minMonths;
+            this.dateRequired = violation("AFFILIATION_DATE_REQUIRED",
+                "Affiliation date is required to process credit applications");
+        }
+
+        @Override
+        public RuleViolation check(CreditApplication application) {
+            LocalDate affiliationDate = application.getAffiliate().getAffiliationDate();
+            if (affiliationDate == null) {
+                return dateRequired;
+            }
+            long monthsAffiliated = ChronoUnit.MONTHS.between(affiliationDate, LocalDate.now());
+            if (monthsAffiliated < minMonths) {
+                return formatted("INSUFFICIENT_AFFILIATION_TIME",
+                    "Affiliate must have at least %d months of affiliation. Current: %d months",
+                    minMonths, monthsAffiliated);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The requested amount must be within the configured range.
+     */
+    static final class CreditAmountRule extends BaseRule {
+
+        private final BigDecimal min;
+        private final BigDecimal max;
+        private final RuleViolation required;
+        private final RuleViolation tooLow;
+        private final RuleViolation tooHigh;
+
+        CreditAmountRule(int cost, BigDecimal min, BigDecimal max) {
+            super(CREDIT_AMOUNT, RuleScope.AMOUNT, cost);
+            this.min = min;
+            this.max = max;
+            this.required = violation("AMOUNT_REQUIRED", "Credit amount is required");
+            this.tooLow = violation("AMOUNT_TOO_LOW", String.format("Minimum credit amount is $%s", min));
+            this.tooHigh = violation("AMOUNT_TOO_HIGH", String.format("Maximum credit amount is $%s", max));
+        }
+
+        @Override
+        public RuleViolation check(CreditApplication application) {
+            BigDecimal amount = application.getRequestedAmount();
+            if (amount == null) {
+                return required;
+            }
+            if (amount.compareTo(min) < 0) {
+                return tooLow;
+            }
+            if (amount.compareTo(max) > 0) {
+                return tooHigh;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The term must be within the configured range.
+     */
+    static final class CreditTermRule extends BaseRule {
+
+        private final int min;
+        private final int max;
+        private final RuleViolation required;
+        private final RuleViolation tooShort;
+        private final RuleViolation tooLong;
+
+        CreditTermRule(int cost, int min, int max) {
+            super(CREDIT_TERM, RuleScope.TERM, cost);
+            this.min = min;
+            this.max = max;
+            this.required = violation("TERM_REQUIRED", "Credit term is required");
+            this.tooShort = violation("TERM_TOO_SHORT", String.format("Minimum credit term is %d months", min));
+            this.tooLong = violation("TERM_TOO_LONG", String.format("Maximum credit term is %d months", max));
+        }
+
+        @Override
+        public RuleViolation check(CreditApplication application) {
+            Integer termMonths = application.getRequestedTermMonths();
+            if (termMonths == null) {
+                return required;
+            }
+            if (termMonths < min) {
+                return tooShort;
+            }
+            if (termMonths > max) {
+                return tooLong;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * An active affiliate can borrow up to a multiple of their salary.
+     */
+    static final class AffiliateLimitRule extends BaseRule {
+
+        private final int minAffiliationMonths;
+        private final int multiplier;
+        private final RuleViolation ineligible;
+
+        AffiliateLimitRule(int cost, int minAffiliationMonths, int multiplier) {
+            super(AFFILIATE_LIMIT, RuleScope.AMOUNT, cost);
+            this.minAffiliationMonths = minAffiliationMonths;
+            this.multiplier = multiplier;
+            this.ineligible = violation("INSUFFICIENT_AFFILIATION_TIME",
+                String.format("Affiliate must have at least %d months of affiliation", minAffiliationMonths));
+        }
+
+        @Override
+        public RuleViolation check(CreditApplication application) {
+            Affiliate affiliate = application.getAffiliate();
+            if (!affiliate.canRequestCredit(minAffiliationMonths)) {
+                return ineligible;
+            }
+            BigDecimal requestedAmount = application.getRequestedAmount();
+            if (requestedAmount == null) {
+                return null;
+            }
+            BigDecimal maxAllowed = affiliate.getMaxCreditAmount(multiplier);
+            if (requestedAmount.compareTo(maxAllowed) > 0) {
+                return formatted("AMOUNT_EXCEEDS_AFFILIATE_LIMIT",
+                    "Requested amount ($%s) exceeds affiliate's maximum credit limit ($%s based on salary)",
+                    requestedAmount, maxAllowed);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The monthly payment over the monthly income must not exceed the
+     * configured ratio.
+     */
+    public static final class DebtRatioRule extends BaseRule {
+
+        private final BigDecimal maxRatio;
+        private final RuleViolation invalidDebt;
+        private final RuleViolation invalidIncome;
+        private final RuleViolation exceeded;
+
+        DebtRatioRule(int cost, BigDecimal maxRatio) {
+            super(DEBT_RATIO, RuleScope.APPLICATION, cost);
+            this.maxRatio = maxRatio;
+            this.invalidDebt = violation("INVALID_CURRENT_DEBT", "Current debt must be zero or greater");
+            this.invalidIncome = violation("INVALID_MONTHLY_INCOME", "Monthly income must be greater than zero");
+            this.exceeded = violation("DEBT_RATIO_EXCEEDED", String.format(
+                "Total debt-to-income ratio exceeds maximum allowed (%.0f%%)", maxRatio.multiply(new BigDecimal("100"))));
+        }
+
+        public BigDecimal getMaxRatio() {
+            return maxRatio;
+        }
+
+        @Override
+        public RuleViolation check(CreditApplication application) {
+            if (application.getCurrentDebt() == null || application.getCurrentDebt().signum() < 0) {
+                return invalidDebt;
+            }
+            BigDecimal monthlyIncome = application.getMonthlyIncome();
+            if (monthlyIncome == null || monthlyIncome.signum() <= 0) {
+                return invalidIncome;
+            }
+            Integer termMonths = application.getRequestedTermMonths();
+            if (application.getRequestedAmount() == null || termMonths == null || termMonths < 1
+                    || application.getInterestRate() == null) {
+                return null;
+            }
+            if (application.exceedsDebtRatio(maxRatio, application.getInterestRate())) {
+                return exceeded;
+            }
+            return null;
+        }
+    }
+}
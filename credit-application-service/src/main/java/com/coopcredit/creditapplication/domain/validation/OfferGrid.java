@@ -0,0 +1,199 @@
+package com.coopcredit.creditapplication.domain.validation;
+
+import com.coopcredit.creditapplication.domain.amortization.AnnuityFactors;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Evaluates a grid of loan amounts × terms for one affiliate against a rule
+ * set, reporting for every cell the violation submitting it would get.
+ *
+ * Rules that read only the affiliate, the amount or the term (see RuleScope)
+ * run once, once per amount or once per term. The debt ratio is the only
+ * rule that depends on the cell; it is computed over primitive arrays in
+ * cents with the same rounding as CreditApplication, counting the payments
+ * of the credits the affiliate already holds. Each cell then reports
+ * the first rule, in the rule set's order, that rejected its row, column or
+ * the cell itself.
+ */
+public final class OfferGrid {
+
+    static final String DEBT_RATIO_EXCEEDED = "DEBT_RATIO_EXCEEDED";
+
+    private final int amountCount;
+    private final int termCount;
+    // Row-major: cell (amount i, term j) is at i * termCount + j
+    private final long[] paymentCents;
+    private final int[] debtRatioUnits;
+    private final String[] rejections;
+
+    private OfferGrid(int amountCount, int termCount) {
+        this.amountCount = amountCount;
+        this.termCount = termCount;
+        this.paymentCents = new long[amountCount * termCount];
+        this.debtRatioUnits = new int[amountCount * termCount];
+        this.rejections = new String[amountCount * termCount];
+    }
+
+    /**
+     * Evaluates every combination of amount and term for an affiliate
+     * without other credits.
+     *
+     * @param ruleSet the rules to apply
+     * @param affiliate the applicant
+     * @param amounts requested amounts (rows)
+     * @param terms terms in months (columns)
+     * @param annualRate annual interest rate as a percentage
+     * @param monthlyIncome monthly income, greater than zero
+     * @return payments, debt ratios and rejections per cell
+     */
+    public static OfferGrid evaluate(RuleSet ruleSet, Affiliate affiliate, List<BigDecimal> amounts, int[] terms,
+                                     BigDecimal annualRate, BigDecimal monthlyIncome) {
+        return evaluate(ruleSet, affiliate, amounts, terms, annualRate, monthlyIncome, BigDecimal.ZERO);
+    }
+
+    /**
+     * Evaluates every combination of amount and term.
+     *
+     * @param ruleSet the rules to apply
+     * @param affiliate the applicant
+     * @param amounts requested amounts (rows)
+     * @param terms terms in months (columns)
+     * @param annualRate annual interest rate as a percentage
+     * @param monthlyIncome monthly income, greater than zero
+     * @param monthlyObligations monthly payments of the credits the affiliate already holds
+     * @return payments, debt ratios and rejections per cell
+     */
+    public static OfferGrid evaluate(RuleSet ruleSet, Affiliate affiliate, List<BigDecimal> amounts, int[] terms,
+                                     BigDecimal annualRate, BigDecimal monthlyIncome, BigDecimal monthlyObligations) {
+        if (monthlyIncome.signum() <= 0) {
+            throw new IllegalArgumentException("Monthly income must be greater than zero");
+        }
+        OfferGrid grid = new OfferGrid(amounts.size(), terms.length);
+        int cells = grid.amountCount * grid.termCount;
+
+        // Payments and debt ratios of every cell. Ratio = (payment + obligations) / income
+        // rounded half-up to four decimals, as in CreditApplication.exceedsDebtRatio;
+        // both sides in cents keeps it exact
+        double[] principals = new double[grid.amountCount];
+        for (int i = 0; i < grid.amountCount; i++) {
+            principals[i] = amounts.get(i).doubleValue();
+        }
+        long incomeCents = monthlyIncome.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        long obligationsCents = monthlyObligations.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        double rate = annualRate.doubleValue();
+        long[] columnCents = new long[grid.amountCount];
+        for (int j = 0; j < grid.termCount; j++) {
+            AnnuityFactors.monthlyPaymentsCents(principals, rate, terms[j], columnCents);
+            for (int i = 0; i < grid.amountCount; i++) {
+                int cell = i * grid.termCount + j;
+                long ratioUnits = ((columnCents[i] + obligationsCents) * 20_000 + incomeCents) / (2 * incomeCents);
+                grid.paymentCents[cell] = columnCents[i];
+                grid.debtRatioUnits[cell] = (int) Math.min(ratioUnits, Integer.MAX_VALUE);
+            }
+        }
+
+        // Violations of each rule, per affiliate, amount, term or cell depending on its scope
+        List<CreditRule> rules = ruleSet.getRules();
+        String[][] violations = new String[rules.size()][];
+        for (int r = 0; r < rules.size(); r++) {
+            CreditRule rule = rules.get(r);
+            if (rule == ruleSet.getDebtRatioRule()) {
+                long maxRatioUnits = ruleSet.getDebtRatioRule().getMaxRatio().movePointRight(4)
+                    .setScale(0, RoundingMode.FLOOR).longValueExact();
+                violations[r] = new String[cells];
+                for (int cell = 0; cell < cells; cell++) {
+                    violations[r][cell] = grid.debtRatioUnits[cell] > maxRatioUnits ? DEBT_RATIO_EXCEEDED : null;
+                }
+                continue;
+            }
+            violations[r] = switch (rule.getScope()) {
+                case AFFILIATE -> new String[]{code(ruleSet, r, probe(affiliate, null, null, annualRate, monthlyIncome))};
+                case AMOUNT -> {
+                    String[] codes = new String[grid.amountCount];
+                    for (int i = 0; i < grid.amountCount; i++) {
+                        codes[i] = code(ruleSet, r, probe(affiliate, amounts.get(i), null, annualRate, monthlyIncome));
+                    }
+                    yield codes;
+                }
+                case TERM -> {
+                    String[] codes = new String[grid.termCount];
+                    for (int j = 0; j < grid.termCount; j++) {
+                        codes[j] = code(ruleSet, r, probe(affiliate, null, terms[j], annualRate, monthlyIncome));
+                    }
+                    yield codes;
+                }
+                case APPLICATION -> {
+                    String[] codes = new String[cells];
+                    for (int cell = 0; cell < cells; cell++) {
+                        codes[cell] = code(ruleSet, r, probe(affiliate, amounts.get(cell / grid.termCount),
+                            terms[cell % grid.termCount], annualRate, monthlyIncome));
+                    }
+                    yield codes;
+                }
+            };
+        }
+
+        // First violation of each cell in rule order
+        for (int cell = 0; cell < cells; cell++) {
+            int i = cell / grid.termCount;
+            int j = cell % grid.termCount;
+            for (int r = 0; r < violations.length && grid.rejections[cell] == null; r++) {
+                grid.rejections[cell] = violations[r][index(rules.get(r).getScope(), i, j, cell)];
+            }
+        }
+        return grid;
+    }
+
+    public int getAmountCount() {
+        return amountCount;
+    }
+
+    public int getTermCount() {
+        return termCount;
+    }
+
+    /** Monthly payment of a cell in cents. */
+    public long paymentCents(int amountIndex, int termIndex) {
+        return paymentCents[amountIndex * termCount + termIndex];
+    }
+
+    /** Debt-to-income ratio of a cell in ten-thousandths (0.4321 is 4321). */
+    public int debtRatioUnits(int amountIndex, int termIndex) {
+        return debtRatioUnits[amountIndex * termCount + termIndex];
+    }
+
+    /** Error code of the first rule the cell breaks, or null if it is eligible. */
+    public String rejection(int amountIndex, int termIndex) {
+        return rejections[amountIndex * termCount + termIndex];
+    }
+
+    private static int index(RuleScope scope, int amountIndex, int termIndex, int cell) {
+        return switch (scope) {
+            case AFFILIATE -> 0;
+            case AMOUNT -> amountIndex;
+            case TERM -> termIndex;
+            case APPLICATION -> cell;
+        };
+    }
+
+    private static String code(RuleSet ruleSet, int ruleIndex, CreditApplication application) {
+        RuleViolation violation = ruleSet.evaluate(ruleIndex, application);
+        return violation != null ? violation.code() : null;
+    }
+
+    /**
+     * Application carrying only the fields a per-axis rule reads.
+     */
+    private static CreditApplication probe(Affiliate affiliate, BigDecimal amount, Integer term,
+                                           BigDecimal annualRate, BigDecimal monthlyIncome) {
+        CreditApplication application = new CreditApplication(affiliate, amount, null, term, monthlyIncome);
+        application.setInterestRate(annualRate);
+        application.setCurrentDebt(BigDecimal.ZERO);
+        return application;
+    }
+}
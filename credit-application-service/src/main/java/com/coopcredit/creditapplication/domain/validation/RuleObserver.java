@@ -0,0 +1,24 @@
+package com.coopcredit.creditapplication.domain.validation;
+
+/**
+ * Receives the outcome and duration of every rule evaluation, so the
+ * infrastructure can export them without the domain knowing about metrics.
+ * Probes are obtained once per rule when a RuleSet is compiled.
+ */
+public interface RuleObserver {
+
+    RuleObserver NONE = rule -> Probe.NONE;
+
+    /**
+     * @param rule a rule of the rule set being compiled
+     * @return the probe the rule set reports that rule's evaluations to
+     */
+    Probe probe(CreditRule rule);
+
+    interface Probe {
+
+        Probe NONE = (nanos, violated) -> { };
+
+        void record(long nanos, boolean violated);
+    }
+}
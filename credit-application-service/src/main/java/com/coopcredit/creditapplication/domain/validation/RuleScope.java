@@ -0,0 +1,17 @@
+package com.coopcredit.creditapplication.domain.validation;
+
+/**
+ * What a credit rule reads from an application. Lets callers that evaluate
+ * many variations of one application (such as OfferGrid) run each rule once
+ * per distinct input instead of once per variation.
+ */
+public enum RuleScope {
+    /** Only the affiliate. */
+    AFFILIATE,
+    /** The affiliate and the requested amount. */
+    AMOUNT,
+    /** Only the term. */
+    TERM,
+    /** Any field of the application. */
+    APPLICATION
+}
@@ -0,0 +1,210 @@
+package com.coopcredit.creditapplication.domain.validation;
+
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An immutable, compiled set of credit rules.
+ *
+ * Compiling resolves every rule's parameters, drops disabled rules and sorts
+ * the rest by cost (declaration order breaks ties), so evaluation is a loop
+ * over an array that stops at the first violation. Rule sets are replaced
+ * as a whole, never modified, so a validation always sees one consistent
+ * version of the rules.
+ */
+public final class RuleSet {
+
+    private final long version;
+    private final RuleSetDefinition definition;
+    private final CreditRule[] rules;
+    private final RuleObserver.Probe[] probes;
+    private final boolean observed;
+    private final CreditRules.DebtRatioRule debtRatioRule;
+
+    private RuleSet(long version, RuleSetDefinition definition, CreditRule[] rules, RuleObserver observer) {
+        this.version = version;
+        this.definition = definition;
+        this.rules = rules;
+        this.probes = new RuleObserver.Probe[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            probes[i] = observer.probe(rules[i]);
+        }
+        this.observed = observer != RuleObserver.NONE;
+        CreditRules.DebtRatioRule found = null;
+        for (CreditRule rule : rules) {
+            if (rule instanceof CreditRules.DebtRatioRule debtRatio) {
+                found = debtRatio;
+            }
+        }
+        this.debtRatioRule = found;
+    }
+
+    /**
+     * Compiles a rule set definition.
+     *
+     * @param definition limits and rules
+     * @param version version number reported with the rule set
+     * @param observer receives every rule evaluation
+     * @return the compiled rule set
+     * @throws IllegalArgumentException if the definition is invalid
+     */
+    public static RuleSet compile(RuleSetDefinition definition, long version, RuleObserver observer) {
+        validateLimits(definition);
+        Set<String> names = new HashSet<>();
+        List<CreditRule> compiled = new ArrayList<>();
+        for (RuleSetDefinition.RuleDefinition rule : definition.rules()) {
+            if (rule.name() == null || !names.add(rule.name())) {
+                throw new IllegalArgumentException("Credit rule listed twice or without a name: " + rule.name());
+            }
+            CreditRule creditRule = CreditRules.create(rule, definition);
+            if (rule.enabled()) {
+                compiled.add(creditRule);
+            }
+        }
+        // Stable sort: equal costs keep the configured order
+        compiled.sort(Comparator.comparingInt(CreditRule::getCost));
+        return new RuleSet(version, definition, compiled.toArray(new CreditRule[0]), observer);
+    }
+
+    /**
+     * Evaluates the rules cheapest first and stops at the first violation.
+     *
+     * @param application the application, with its affiliate set
+     * @return the first violation, or null if every rule is satisfied
+     */
+    public RuleViolation firstViolation(CreditApplication application) {
+        for (int i = 0; i < rules.length; i++) {
+            RuleViolation violation = evaluate(i, application);
+            if (violation != null) {
+                return violation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Evaluates every rule in one pass.
+     *
+     * @param application the application, with its affiliate set
+     * @return all violations, cheapest rule first; empty if the application is valid
+     */
+    public List<RuleViolation> allViolations(CreditApplication application) {
+        List<RuleViolation> violations = new ArrayList<>(2);
+        for (int i = 0; i < rules.length; i++) {
+            RuleViolation violation = evaluate(i, application);
+            if (violation != null) {
+                violations.add(violation);
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Checks an application without throwing.
+     *
+     * @param application the application, with its affiliate set
+     * @param reportAll whether to evaluate every rule instead of stopping at the first violation
+     * @return the result; ValidationResult.VALID if every rule is satisfied
+     */
+    public ValidationResult check(CreditApplication application, boolean reportAll) {
+        return reportAll
+            ? ValidationResult.allOf(allViolations(application))
+            : ValidationResult.firstOf(firstViolation(application));
+    }
+
+    /**
+     * Validates an application.
+     *
+     * @param application the application, with its affiliate set
+     * @param reportAll whether to evaluate every rule instead of stopping at the first violation
+     * @throws com.coopcredit.creditapplication.infrastructure.exception.RuleViolationException
+     *         with the first violation, or all of them when reportAll is set
+     */
+    public void validate(CreditApplication application, boolean reportAll) {
+        ValidationResult result = check(application, reportAll);
+        if (!result.isValid()) {
+            throw result.toException();
+        }
+    }
+
+    /**
+     * Evaluates one rule, by its position in evaluation order.
+     */
+    RuleViolation evaluate(int index, CreditApplication application) {
+        if (!observed) {
+            return rules[index].check(application);
+        }
+        long start = System.nanoTime();
+        RuleViolation violation = rules[index].check(application);
+        probes[index].record(System.nanoTime() - start, violation != null);
+        return violation;
+    }
+
+    /**
+     * @return the rules that run, in evaluation order
+     */
+    public List<CreditRule> getRules() {
+        return List.of(rules);
+    }
+
+    /**
+     * @return the debt ratio rule, or null if it does not run
+     */
+    public CreditRules.DebtRatioRule getDebtRatioRule() {
+        return debtRatioRule;
+    }
+
+    /**
+     * Largest amount an affiliate can request under the affiliate limit rule.
+     *
+     * @param affiliate the affiliate
+     * @return salary times the configured multiplier
+     */
+    public BigDecimal maxCreditAmount(Affiliate affiliate) {
+        return affiliate.getMaxCreditAmount(definition.maxAmountMultiplier());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public RuleSetDefinition getDefinition() {
+        return definition;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleSet{version=" + version + ", rules="
+            + Arrays.stream(rules).map(CreditRule::getName).toList() + "}";
+    }
+
+    private static void validateLimits(RuleSetDefinition definition) {
+        if (definition.rules() == null) {
+            throw new IllegalArgumentException("No credit rules defined");
+        }
+        if (definition.minAffiliationMonths() < 0) {
+            throw new IllegalArgumentException("Minimum affiliation months must not be negative");
+        }
+        if (definition.maxDebtRatio() == null || definition.maxDebtRatio().signum() <= 0) {
+            throw new IllegalArgumentException("Maximum debt ratio must be greater than zero");
+        }
+        if (definition.maxAmountMultiplier() <= 0) {
+            throw new IllegalArgumentException("Maximum amount multiplier must be greater than zero");
+        }
+        if (definition.minAmount() == null || definition.maxAmount() == null
+                || definition.minAmount().compareTo(definition.maxAmount()) > 0) {
+            throw new IllegalArgumentException("Credit amount range is invalid");
+        }
+        if (definition.minTermMonths() < 1 || definition.minTermMonths() > definition.maxTermMonths()) {
+            throw new IllegalArgumentException("Credit term range is invalid");
+        }
+    }
+}
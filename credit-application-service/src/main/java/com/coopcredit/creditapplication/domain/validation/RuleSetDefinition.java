@@ -0,0 +1,36 @@
+package com.coopcredit.creditapplication.domain.validation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Configured limits and the rules that enforce them, as read from
+ * configuration. Compiled into an executable RuleSet by RuleSet.compile.
+ *
+ * @param minAffiliationMonths months an affiliate must have been affiliated
+ * @param maxDebtRatio highest monthly payment to income ratio accepted
+ * @param maxAmountMultiplier salary multiple an affiliate can borrow at most
+ * @param minAmount smallest amount that can be requested
+ * @param maxAmount largest amount that can be requested
+ * @param minTermMonths shortest term
+ * @param maxTermMonths longest term
+ * @param rules rules to run; rules not listed or disabled are skipped
+ */
+public record RuleSetDefinition(
+        int minAffiliationMonths,
+        BigDecimal maxDebtRatio,
+        int maxAmountMultiplier,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        int minTermMonths,
+        int maxTermMonths,
+        List<RuleDefinition> rules) {
+
+    /**
+     * @param name one of the CreditRules names
+     * @param enabled whether the rule runs
+     * @param cost evaluation cost overriding the rule's default, or null
+     */
+    public record RuleDefinition(String name, boolean enabled, Integer cost) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.coopcredit.creditapplication.domain.validation;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A credit rule an application does not satisfy.
+ *
+ * The message is kept as a format string and its arguments and only
+ * formatted when it is read, normally while the error response is written.
+ * Violations without arguments are created once per rule and shared.
+ */
+public final class RuleViolation {
+
+    private final String rule;
+    private final String code;
+    private final String template;
+    private final Object[] args;
+    private String message;
+
+    /**
+     * @param rule name of the rule, or null for checks outside the rule set
+     * @param code error code reported to clients
+     * @param message human readable explanation
+     */
+    public RuleViolation(String rule, String code, String message) {
+        this(rule, code, message, null);
+    }
+
+    private RuleViolation(String rule, String code, String template, Object[] args) {
+        this.rule = rule;
+        this.code = code;
+        this.template = template;
+        this.args = args;
+        this.message = args == null ? template : null;
+    }
+
+    /**
+     * Creates a violation whose message is formatted on first use.
+     *
+     * @param rule name of the rule
+     * @param code error code reported to clients
+     * @param template message format, as for String.format
+     * @param args message arguments
+     * @return the violation
+     */
+    public static RuleViolation formatted(String rule, String code, String template, Object... args) {
+        return new RuleViolation(rule, code, template, args);
+    }
+
+    public String rule() {
+        return rule;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    /**
+     * @return the formatted message
+     */
+    public String message() {
+        String formatted = message;
+        if (formatted == null) {
+            // Formatting twice on a race is harmless
+            formatted = String.format(template, args);
+            message = formatted;
+        }
+        return formatted;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RuleViolation other)) return false;
+        return Objects.equals(rule, other.rule) && Objects.equals(code, other.code)
+            && Objects.equals(template, other.template) && Arrays.equals(args, other.args);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rule, code, template);
+    }
+
+    @Override
+    public String toString() {
+        return "RuleViolation{rule=" + rule + ", code=" + code + "}";
+    }
+}
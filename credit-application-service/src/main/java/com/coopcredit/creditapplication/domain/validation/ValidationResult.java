@@ -0,0 +1,84 @@
+package com.coopcredit.creditapplication.domain.validation;
+
+import com.coopcredit.creditapplication.infrastructure.exception.RuleViolationException;
+
+import java.util.List;
+
+/**
+ * Outcome of validating an application against a rule set.
+ *
+ * Valid applications share one instance, and a rejection carries only its
+ * violations, so callers that just need the code (the batch submission,
+ * for one) never build an exception or a message.
+ */
+public final class ValidationResult {
+
+    public static final ValidationResult VALID = new ValidationResult(List.of(), false);
+
+    private final List<RuleViolation> violations;
+    private final boolean exhaustive;
+
+    private ValidationResult(List<RuleViolation> violations, boolean exhaustive) {
+        this.violations = violations;
+        this.exhaustive = exhaustive;
+    }
+
+    /**
+     * @param violation the first violation found, or null
+     * @return the result of a check that stopped at the first violation
+     */
+    public static ValidationResult firstOf(RuleViolation violation) {
+        return violation == null ? VALID : new ValidationResult(List.of(violation), false);
+    }
+
+    /**
+     * @param violations every violation found
+     * @return the result of a check that evaluated every rule
+     */
+    public static ValidationResult allOf(List<RuleViolation> violations) {
+        return violations.isEmpty() ? VALID : new ValidationResult(List.copyOf(violations), true);
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * @return the first violation, or null if the application is valid
+     */
+    public RuleViolation getFirstViolation() {
+        return violations.isEmpty() ? null : violations.get(0);
+    }
+
+    /**
+     * @return the code of the first violation, or null if the application is valid
+     */
+    public String getCode() {
+        return violations.isEmpty() ? null : violations.get(0).code();
+    }
+
+    /**
+     * @return the violations, cheapest rule first
+     */
+    public List<RuleViolation> getViolations() {
+        return violations;
+    }
+
+    /**
+     * @return whether every rule was evaluated, rather than stopping at the first violation
+     */
+    public boolean isExhaustive() {
+        return exhaustive;
+    }
+
+    /**
+     * @return the exception rejecting the application
+     * @throws IllegalStateException if the application is valid
+     */
+    public RuleViolationException toException() {
+        if (violations.isEmpty()) {
+            throw new IllegalStateException("Application is valid");
+        }
+        return new RuleViolationException(this);
+    }
+}
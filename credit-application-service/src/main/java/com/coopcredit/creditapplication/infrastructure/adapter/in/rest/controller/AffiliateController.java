@@ -1,10 +1,13 @@
 package com.coopcredit.creditapplication.infrastructure.adapter.in.rest.controller;
 
+import com.coopcredit.creditapplication.application.dto.AffiliateImportReport;
 import com.coopcredit.creditapplication.application.dto.AffiliateResponse;
 import com.coopcredit.creditapplication.application.dto.UpdateAffiliateRequest;
 import com.coopcredit.creditapplication.application.port.in.GetAffiliateByIdUseCase;
 import com.coopcredit.creditapplication.application.port.in.GetAllAffiliatesUseCase;
 import com.coopcredit.creditapplication.application.port.in.GetCurrentAffiliateUseCase;
+import com.coopcredit.creditapplication.application.port.in.GetResourceVersionUseCase;
+import com.coopcredit.creditapplication.application.port.in.ImportAffiliatesUseCase;
 import com.coopcredit.creditapplication.application.port.in.UpdateAffiliateUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,12 +19,18 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * REST controller for affiliate management operations.
@@ -39,25 +48,34 @@ public class AffiliateController {
     private final GetAllAffiliatesUseCase getAllAffiliatesUseCase;
     private final UpdateAffiliateUseCase updateAffiliateUseCase;
     private final GetCurrentAffiliateUseCase getCurrentAffiliateUseCase;
+    private final GetResourceVersionUseCase getResourceVersionUseCase;
+    private final ImportAffiliatesUseCase importAffiliatesUseCase;
 
     public AffiliateController(GetAffiliateByIdUseCase getAffiliateByIdUseCase,
                               GetAllAffiliatesUseCase getAllAffiliatesUseCase,
                               UpdateAffiliateUseCase updateAffiliateUseCase,
-                              GetCurrentAffiliateUseCase getCurrentAffiliateUseCase) {
+                              GetCurrentAffiliateUseCase getCurrentAffiliateUseCase,
+                              GetResourceVersionUseCase getResourceVersionUseCase,
+                              ImportAffiliatesUseCase importAffiliatesUseCase) {
         this.getAffiliateByIdUseCase = getAffiliateByIdUseCase;
         this.getAllAffiliatesUseCase = getAllAffiliatesUseCase;
         this.updateAffiliateUseCase = updateAffiliateUseCase;
         this.getCurrentAffiliateUseCase = getCurrentAffiliateUseCase;
+        this.getResourceVersionUseCase = getResourceVersionUseCase;
+        this.importAffiliatesUseCase = importAffiliatesUseCase;
     }
 
     /**
      * Retrieves the current authenticated affiliate.
+     * Supports If-None-Match: answers 304 from the row version alone.
      *
+     * @param webRequest the current request, for conditional headers
      * @return current affiliate information
      */
     @Operation(
         summary = "Get current affiliate",
-        description = "Retrieves detailed information about the currently authenticated affiliate."
+        description = "Retrieves detailed information about the currently authenticated affiliate. " +
+                     "Supports ETag / If-None-Match."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -65,6 +83,10 @@ public class AffiliateController {
             description = "Current affiliate retrieved",
             content = @Content(schema = @Schema(implementation = AffiliateResponse.class))
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Affiliate not modified since the given ETag"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Affiliate not found",
@@ -73,23 +95,37 @@ public class AffiliateController {
     })
     @GetMapping("/me")
     @PreAuthorize("hasRole('AFILIADO')")
-    public ResponseEntity<AffiliateResponse> getCurrentAffiliate() {
+    public ResponseEntity<AffiliateResponse> getCurrentAffiliate(WebRequest webRequest) {
         logger.info("GET /api/affiliates/me - Retrieving current affiliate");
-        
+
+        // Own profile: always revalidate so edits show up immediately
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        String etag = getResourceVersionUseCase.currentAffiliateVersion()
+            .map(ConditionalRequests::etag)
+            .orElse(null);
+        if (etag != null && ConditionalRequests.isNotModified(webRequest, etag)) {
+            return notModified(etag, cacheControl);
+        }
+
         AffiliateResponse response = getCurrentAffiliateUseCase.execute();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+            .eTag(etag).cacheControl(cacheControl).varyBy(HttpHeaders.AUTHORIZATION)
+            .body(response);
     }
 
     /**
      * Retrieves a single affiliate by ID.
      *
+     * Supports If-None-Match: answers 304 from the row version alone.
+     *
      * @param id the affiliate ID
+     * @param webRequest the current request, for conditional headers
      * @return affiliate information
      */
     @Operation(
         summary = "Get affiliate by ID",
         description = "Retrieves detailed information about a specific affiliate including " +
-                     "months as member and total credit applications."
+                     "months as member and total credit applications. Supports ETag / If-None-Match."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -97,6 +133,10 @@ public class AffiliateController {
             description = "Affiliate found",
             content = @Content(schema = @Schema(implementation = AffiliateResponse.class))
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Affiliate not modified since the given ETag"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Affiliate not found",
@@ -105,12 +145,23 @@ public class AffiliateController {
     })
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('AFILIADO') or hasRole('ANALISTA') or hasRole('ADMIN')")
-    public ResponseEntity<AffiliateResponse> getAffiliateById(@PathVariable Long id) {
+    public ResponseEntity<AffiliateResponse> getAffiliateById(@PathVariable Long id, WebRequest webRequest) {
         logger.info("GET /api/affiliates/{} - Retrieving affiliate", id);
-        
+
+        // Rarely edited: allow a short private reuse before revalidating
+        CacheControl cacheControl = CacheControl.maxAge(10, TimeUnit.SECONDS).cachePrivate().mustRevalidate();
+        String etag = getResourceVersionUseCase.affiliateVersion(id)
+            .map(ConditionalRequests::etag)
+            .orElse(null);
+        if (etag != null && ConditionalRequests.isNotModified(webRequest, etag)) {
+            return notModified(etag, cacheControl);
+        }
+
         AffiliateResponse response = getAffiliateByIdUseCase.execute(id);
-        
-        return ResponseEntity.ok(response);
+
+        return ResponseEntity.ok()
+            .eTag(etag).cacheControl(cacheControl).varyBy(HttpHeaders.AUTHORIZATION)
+            .body(response);
     }
 
     /**
@@ -188,4 +239,45 @@ public class AffiliateController {
         
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Imports affiliates in bulk from a CSV file streamed in the request body.
+     *
+     * @param csv the request body
+     * @return per-row import report
+     */
+    @Operation(
+        summary = "Bulk import affiliates",
+        description = "Streams a CSV with header documentType,documentNumber,firstName,lastName,email,salary " +
+                     "and optional phone, affiliationDate, username and password columns. " +
+                     "When username and password are given a ROLE_AFILIADO user is created. " +
+                     "Invalid or duplicate rows are skipped and listed in the report. Restricted to ADMIN."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import finished; see the report for rejected rows",
+            content = @Content(schema = @Schema(implementation = AffiliateImportReport.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Missing required columns or unreadable file",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+        )
+    })
+    @PostMapping(value = "/import", consumes = {"text/csv", "text/plain"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AffiliateImportReport> importAffiliates(InputStream csv) {
+        logger.info("POST /api/affiliates/import - Importing affiliates");
+
+        AffiliateImportReport report = importAffiliatesUseCase.execute(csv);
+
+        return ResponseEntity.ok(report);
+    }
+
+    private static ResponseEntity<AffiliateResponse> notModified(String etag, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(etag).cacheControl(cacheControl).varyBy(HttpHeaders.AUTHORIZATION)
+            .build();
+    }
 }
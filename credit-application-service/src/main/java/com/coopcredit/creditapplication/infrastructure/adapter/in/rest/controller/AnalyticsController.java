@@ -0,0 +1,110 @@
+package com.coopcredit.creditapplication.infrastructure.adapter.in.rest.controller;
+
+import com.coopcredit.creditapplication.application.dto.PortfolioAnalyticsResponse;
+import com.coopcredit.creditapplication.application.port.in.GetPortfolioAnalyticsUseCase;
+import com.coopcredit.creditapplication.application.port.in.RebuildPortfolioAnalyticsUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+/**
+ * REST controller for portfolio analytics.
+ * Serves the analyst dashboard from the maintained aggregates.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@Tag(name = "Analytics", description = "Portfolio analytics for analysts")
+@SecurityRequirement(name = "bearerAuth")
+public class AnalyticsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsController.class);
+
+    private final GetPortfolioAnalyticsUseCase getPortfolioAnalyticsUseCase;
+    private final RebuildPortfolioAnalyticsUseCase rebuildPortfolioAnalyticsUseCase;
+
+    public AnalyticsController(GetPortfolioAnalyticsUseCase getPortfolioAnalyticsUseCase,
+                               RebuildPortfolioAnalyticsUseCase rebuildPortfolioAnalyticsUseCase) {
+        this.getPortfolioAnalyticsUseCase = getPortfolioAnalyticsUseCase;
+        this.rebuildPortfolioAnalyticsUseCase = rebuildPortfolioAnalyticsUseCase;
+    }
+
+    /**
+     * Retrieves the portfolio figures for a range of application months.
+     *
+     * @param from first month (yyyy-MM), optional
+     * @param to last month (yyyy-MM), optional
+     * @return portfolio analytics
+     */
+    @Operation(
+        summary = "Get portfolio analytics",
+        description = "Returns approval rate, average score, requested and approved amounts and counts " +
+                     "by status, risk level and month. Read from aggregates maintained with every " +
+                     "application change, so the cost does not grow with the application history."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Portfolio analytics",
+            content = @Content(schema = @Schema(implementation = PortfolioAnalyticsResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Month range start after its end",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+        )
+    })
+    @GetMapping("/portfolio")
+    @PreAuthorize("hasRole('ANALISTA') or hasRole('ADMIN')")
+    public ResponseEntity<PortfolioAnalyticsResponse> getPortfolio(
+            @Parameter(description = "First application month, yyyy-MM")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @Parameter(description = "Last application month, yyyy-MM")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        logger.debug("GET /api/analytics/portfolio - from {} to {}", from, to);
+
+        return ResponseEntity.ok(getPortfolioAnalyticsUseCase.execute(from, to));
+    }
+
+    /**
+     * Recomputes the aggregates from the applications.
+     *
+     * @return portfolio analytics for all months after the rebuild
+     */
+    @Operation(
+        summary = "Rebuild portfolio analytics",
+        description = "Recomputes the portfolio aggregates with one scan of the applications, for backfills " +
+                     "and after data was changed outside the API. Restricted to ADMIN."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Aggregates rebuilt",
+            content = @Content(schema = @Schema(implementation = PortfolioAnalyticsResponse.class))
+        )
+    })
+    @PostMapping("/portfolio/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PortfolioAnalyticsResponse> rebuildPortfolio() {
+        logger.info("POST /api/analytics/portfolio/rebuild - Rebuilding portfolio analytics");
+
+        return ResponseEntity.ok(rebuildPortfolioAnalyticsUseCase.execute());
+    }
+}
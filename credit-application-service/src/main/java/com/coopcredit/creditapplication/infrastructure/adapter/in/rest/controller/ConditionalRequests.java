@@ -0,0 +1,52 @@
+package com.coopcredit.creditapplication.infrastructure.adapter.in.rest.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Helpers for ETag based conditional GET requests.
+ */
+final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Builds a strong ETag from a resource version.
+     *
+     * @param version the resource version
+     * @return quoted entity tag
+     */
+    static String etag(String version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Checks If-None-Match against the current ETag using weak comparison (RFC 9110).
+     *
+     * @param request the current request
+     * @param etag the current quoted entity tag
+     * @return true if the client copy is current and 304 can be returned
+     */
+    static boolean isNotModified(WebRequest request, String etag) {
+        String[] values = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (values == null) {
+            return false;
+        }
+        for (String value : values) {
+            for (String candidate : value.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*")) {
+                    return true;
+                }
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -1,12 +1,23 @@
 package com.coopcredit.creditapplication.infrastructure.adapter.in.rest.controller;
 
+import com.coopcredit.creditapplication.application.dto.AmortizationScheduleResponse;
+import com.coopcredit.creditapplication.application.dto.BatchCreditApplicationRequest;
+import com.coopcredit.creditapplication.application.dto.BatchCreditApplicationResponse;
 import com.coopcredit.creditapplication.application.dto.CreditApplicationRequest;
 import com.coopcredit.creditapplication.application.dto.CreditApplicationResponse;
+import com.coopcredit.creditapplication.application.dto.CreditSimulationRequest;
+import com.coopcredit.creditapplication.application.dto.CreditSimulationResponse;
 import com.coopcredit.creditapplication.application.port.in.ApproveApplicationUseCase;
 import com.coopcredit.creditapplication.application.port.in.EvaluateCreditApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.GetAmortizationScheduleUseCase;
 import com.coopcredit.creditapplication.application.port.in.GetApplicationsByAffiliateUseCase;
+import com.coopcredit.creditapplication.application.port.in.GetCurrentAffiliateUseCase;
+import com.coopcredit.creditapplication.application.port.in.GetResourceVersionUseCase;
 import com.coopcredit.creditapplication.application.port.in.RegisterCreditApplicationUseCase;
 import com.coopcredit.creditapplication.application.port.in.RejectApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.SimulateCreditOffersUseCase;
+import com.coopcredit.creditapplication.application.port.in.SubmitCreditApplicationBatchUseCase;
+import com.coopcredit.creditapplication.infrastructure.exception.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -17,13 +28,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * REST controller for credit application operations.
@@ -38,35 +55,54 @@ public class CreditApplicationController {
 
         private static final Logger logger = LoggerFactory.getLogger(CreditApplicationController.class);
 
+        private static final Set<String> GLOBAL_ROLES = Set.of("ROLE_ANALISTA", "ROLE_ADMIN");
+
         private final RegisterCreditApplicationUseCase registerApplicationUseCase;
         private final EvaluateCreditApplicationUseCase evaluateApplicationUseCase;
         private final GetApplicationsByAffiliateUseCase getApplicationsByAffiliateUseCase;
         private final ApproveApplicationUseCase approveApplicationUseCase;
         private final RejectApplicationUseCase rejectApplicationUseCase;
+        private final GetResourceVersionUseCase getResourceVersionUseCase;
+        private final SubmitCreditApplicationBatchUseCase submitBatchUseCase;
+        private final GetAmortizationScheduleUseCase getAmortizationScheduleUseCase;
+        private final GetCurrentAffiliateUseCase getCurrentAffiliateUseCase;
+        private final SimulateCreditOffersUseCase simulateCreditOffersUseCase;
 
         public CreditApplicationController(
                         RegisterCreditApplicationUseCase registerApplicationUseCase,
                         EvaluateCreditApplicationUseCase evaluateApplicationUseCase,
                         GetApplicationsByAffiliateUseCase getApplicationsByAffiliateUseCase,
                         ApproveApplicationUseCase approveApplicationUseCase,
-                        RejectApplicationUseCase rejectApplicationUseCase) {
+                        RejectApplicationUseCase rejectApplicationUseCase,
+                        GetResourceVersionUseCase getResourceVersionUseCase,
+                        SubmitCreditApplicationBatchUseCase submitBatchUseCase,
+                        GetAmortizationScheduleUseCase getAmortizationScheduleUseCase,
+                        GetCurrentAffiliateUseCase getCurrentAffiliateUseCase,
+                        SimulateCreditOffersUseCase simulateCreditOffersUseCase) {
                 this.registerApplicationUseCase = registerApplicationUseCase;
                 this.evaluateApplicationUseCase = evaluateApplicationUseCase;
                 this.getApplicationsByAffiliateUseCase = getApplicationsByAffiliateUseCase;
                 this.approveApplicationUseCase = approveApplicationUseCase;
                 this.rejectApplicationUseCase = rejectApplicationUseCase;
+                this.getResourceVersionUseCase = getResourceVersionUseCase;
+                this.submitBatchUseCase = submitBatchUseCase;
+                this.getAmortizationScheduleUseCase = getAmortizationScheduleUseCase;
+                this.getCurrentAffiliateUseCase = getCurrentAffiliateUseCase;
+                this.simulateCreditOffersUseCase = simulateCreditOffersUseCase;
         }
 
         /**
          * Creates a new credit application for an affiliate.
          *
-         * @param affiliateId the affiliate ID
-         * @param request     the credit application request
+         * @param affiliateId   the affiliate ID
+         * @param request       the credit application request
+         * @param allViolations whether to report every broken rule instead of the first
          * @return the created application
          */
         @Operation(summary = "Create credit application", description = "Creates a new credit application for an affiliate. Validates business rules: "
                         +
-                        "affiliate must be ACTIVE, minimum tenure, debt ratio limits.")
+                        "affiliate must be ACTIVE, minimum tenure, debt ratio limits. With allViolations=true a rejection "
+                        + "lists every broken rule under 'violations'; 'code' is always the first one.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "201", description = "Credit application created successfully", content = @Content(schema = @Schema(implementation = CreditApplicationResponse.class))),
                         @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
@@ -77,15 +113,44 @@ public class CreditApplicationController {
         @PreAuthorize("hasRole('AFILIADO') or hasRole('ANALISTA')")
         public ResponseEntity<CreditApplicationResponse> createApplication(
                         @PathVariable Long affiliateId,
-                        @Valid @RequestBody CreditApplicationRequest request) {
+                        @Valid @RequestBody CreditApplicationRequest request,
+                        @RequestParam(defaultValue = "false") boolean allViolations) {
 
                 logger.info("POST /api/credit-applications/affiliates/{} - Creating new application", affiliateId);
 
-                CreditApplicationResponse response = registerApplicationUseCase.execute(affiliateId, request);
+                CreditApplicationResponse response = registerApplicationUseCase.execute(affiliateId, request, allViolations);
 
                 return ResponseEntity.status(HttpStatus.CREATED).body(response);
         }
 
+        /**
+         * Submits many credit applications in one request.
+         *
+         * @param request the batch of applications
+         * @return per-item accept/reject results
+         */
+        @Operation(summary = "Submit credit applications in batch", description = "Creates up to "
+                        + BatchCreditApplicationRequest.MAX_ITEMS + " applications for different affiliates in one call. "
+                        +
+                        "Each item is checked against the same rules as a single application and reported as ACCEPTED or REJECTED; "
+                        +
+                        "rejected items do not affect the others. Restricted to ANALYST and ADMIN roles.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results", content = @Content(schema = @Schema(implementation = BatchCreditApplicationResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "Empty or oversized batch", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+        })
+        @PostMapping("/batch")
+        @PreAuthorize("hasRole('ANALISTA') or hasRole('ADMIN')")
+        public ResponseEntity<BatchCreditApplicationResponse> submitBatch(
+                        @Valid @RequestBody BatchCreditApplicationRequest request) {
+
+                logger.info("POST /api/credit-applications/batch - Submitting {} applications", request.getItems().size());
+
+                BatchCreditApplicationResponse response = submitBatchUseCase.execute(request);
+
+                return ResponseEntity.ok(response);
+        }
+
         /**
          * Evaluates a credit application using external risk service.
          *
@@ -116,26 +181,110 @@ public class CreditApplicationController {
         /**
          * Retrieves all credit applications for a specific affiliate.
          *
+         * Supports If-None-Match: answers 304 from the row versions alone.
+         *
          * @param affiliateId the affiliate ID
+         * @param webRequest  the current request, for conditional headers
          * @return list of applications
          */
         @Operation(summary = "Get applications by affiliate", description = "Retrieves all credit applications for a specific affiliate. "
                         +
-                        "Includes evaluation details if available.")
+                        "Includes evaluation details if available. Supports ETag / If-None-Match.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Applications retrieved successfully", content = @Content(schema = @Schema(implementation = CreditApplicationResponse.class))),
+                        @ApiResponse(responseCode = "304", description = "Applications not modified since the given ETag"),
                         @ApiResponse(responseCode = "404", description = "Affiliate not found", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
         })
         @GetMapping("/affiliates/{affiliateId}")
         @PreAuthorize("hasRole('AFILIADO') or hasRole('ANALISTA')")
         public ResponseEntity<List<CreditApplicationResponse>> getApplicationsByAffiliate(
-                        @PathVariable Long affiliateId) {
+                        @PathVariable Long affiliateId, WebRequest webRequest) {
 
                 logger.info("GET /api/credit-applications/affiliates/{} - Retrieving applications", affiliateId);
 
+                // Status changes on evaluation, so clients always revalidate
+                CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+                String etag = getResourceVersionUseCase.affiliateApplicationsVersion(affiliateId)
+                                .map(ConditionalRequests::etag)
+                                .orElse(null);
+                if (etag != null && ConditionalRequests.isNotModified(webRequest, etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                        .eTag(etag).cacheControl(cacheControl).varyBy(HttpHeaders.AUTHORIZATION).build();
+                }
+
                 List<CreditApplicationResponse> applications = getApplicationsByAffiliateUseCase.execute(affiliateId);
 
-                return ResponseEntity.ok(applications);
+                return ResponseEntity.ok()
+                                .eTag(etag).cacheControl(cacheControl).varyBy(HttpHeaders.AUTHORIZATION)
+                                .body(applications);
+        }
+
+        /**
+         * Retrieves the payment schedule of a credit application.
+         *
+         * @param applicationId  the application ID
+         * @param authentication the current user
+         * @return the schedule
+         */
+        @Operation(summary = "Get amortization schedule", description = "Returns the monthly installments of an application "
+                        + "with their principal, interest and remaining balance. The installments match the monthly payment "
+                        + "to the cent; the last one settles any rounding difference. Affiliates can only read their own "
+                        + "applications.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Schedule retrieved successfully", content = @Content(schema = @Schema(implementation = AmortizationScheduleResponse.class))),
+                        @ApiResponse(responseCode = "404", description = "Application not found", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+        })
+        @GetMapping("/{applicationId}/schedule")
+        @PreAuthorize("hasRole('AFILIADO') or hasRole('ANALISTA') or hasRole('ADMIN')")
+        public ResponseEntity<AmortizationScheduleResponse> getSchedule(
+                        @PathVariable Long applicationId, Authentication authentication) {
+                logger.debug("GET /api/credit-applications/{}/schedule - Retrieving schedule", applicationId);
+                Long affiliateId = ownAffiliateId(authentication);
+                return ResponseEntity.ok(getAmortizationScheduleUseCase.execute(applicationId, affiliateId));
+        }
+
+        /**
+         * Simulates a grid of loan offers for an affiliate without creating anything.
+         *
+         * @param affiliateId    the affiliate ID
+         * @param request        amounts, terms, rate and income
+         * @param authentication the current user
+         * @return payment, debt ratio and eligibility per amount and term
+         */
+        @Operation(summary = "Simulate credit offers", description = "Evaluates every combination of the given amounts and "
+                        + "terms (6 to 60 months in steps of 6 when no terms are given) against the amount, term, affiliate "
+                        + "limit and debt ratio rules, in one call. Each cell reports the monthly payment, the debt ratio and "
+                        + "either eligibility or the error code submitting it would return. Affiliates can only simulate for "
+                        + "themselves.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Simulation computed", content = @Content(schema = @Schema(implementation = CreditSimulationResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+                        @ApiResponse(responseCode = "404", description = "Affiliate not found", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+        })
+        @PostMapping("/affiliates/{affiliateId}/simulate")
+        @PreAuthorize("hasRole('AFILIADO') or hasRole('ANALISTA') or hasRole('ADMIN')")
+        public ResponseEntity<CreditSimulationResponse> simulateOffers(
+                        @PathVariable Long affiliateId,
+                        @Valid @RequestBody CreditSimulationRequest request,
+                        Authentication authentication) {
+                logger.debug("POST /api/credit-applications/affiliates/{}/simulate - Simulating offers", affiliateId);
+                Long ownAffiliateId = ownAffiliateId(authentication);
+                if (ownAffiliateId != null && !ownAffiliateId.equals(affiliateId)) {
+                        throw new ResourceNotFoundException("Affiliate", "id", affiliateId);
+                }
+                return ResponseEntity.ok(simulateCreditOffersUseCase.execute(affiliateId, request));
+        }
+
+        /**
+         * Resolves the affiliate an affiliate user is limited to.
+         *
+         * @return the user's affiliate ID, or null for analysts and admins
+         */
+        private Long ownAffiliateId(Authentication authentication) {
+                if (authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).anyMatch(GLOBAL_ROLES::contains)) {
+                        return null;
+                }
+                return getCurrentAffiliateUseCase.execute().getId();
         }
 
         /**
@@ -0,0 +1,88 @@
+package com.coopcredit.creditapplication.infrastructure.adapter.in.rest.controller;
+
+import com.coopcredit.creditapplication.application.port.in.GetCurrentAffiliateUseCase;
+import com.coopcredit.creditapplication.infrastructure.stream.DecisionStreamBroker;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+/**
+ * REST controller streaming credit application decisions as Server-Sent Events.
+ */
+@RestController
+@RequestMapping("/api/credit-applications")
+@Tag(name = "Credit Applications", description = "Endpoints for managing credit applications")
+@SecurityRequirement(name = "bearerAuth")
+public class DecisionStreamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DecisionStreamController.class);
+
+    private static final Set<String> GLOBAL_ROLES = Set.of("ROLE_ANALISTA", "ROLE_ADMIN");
+
+    private final DecisionStreamBroker decisionStreamBroker;
+    private final GetCurrentAffiliateUseCase getCurrentAffiliateUseCase;
+
+    public DecisionStreamController(DecisionStreamBroker decisionStreamBroker,
+                                    GetCurrentAffiliateUseCase getCurrentAffiliateUseCase) {
+        this.decisionStreamBroker = decisionStreamBroker;
+        this.getCurrentAffiliateUseCase = getCurrentAffiliateUseCase;
+    }
+
+    /**
+     * Streams status changes of credit applications.
+     *
+     * @param authentication the current user
+     * @param lastEventId id of the last event received before reconnecting
+     * @return the event stream
+     */
+    @Operation(summary = "Stream application decisions", description = "Server-Sent Events stream of status changes. "
+            + "Analysts and admins receive every application; affiliates only their own. Events are named "
+            + "'status-changed' and carry the id to send back in Last-Event-ID when reconnecting. A 'resync' event "
+            + "means the missed events are no longer available and the client should reload.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "429", description = "Too many open streams")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('AFILIADO') or hasRole('ANALISTA') or hasRole('ADMIN')")
+    public SseEmitter streamDecisions(
+            Authentication authentication,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        Long affiliateId = null;
+        if (authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).noneMatch(GLOBAL_ROLES::contains)) {
+            affiliateId = getCurrentAffiliateUseCase.execute().getId();
+        }
+
+        logger.debug("GET /api/credit-applications/stream - user {}, affiliate {}, Last-Event-ID {}",
+            authentication.getName(), affiliateId, lastEventId);
+
+        return decisionStreamBroker.subscribe(affiliateId, parseEventId(lastEventId));
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
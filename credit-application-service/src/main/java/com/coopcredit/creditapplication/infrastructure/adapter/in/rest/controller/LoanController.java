@@ -0,0 +1,157 @@
+package com.coopcredit.creditapplication.infrastructure.adapter.in.rest.controller;
+
+import com.coopcredit.creditapplication.application.dto.LoanPaymentRequest;
+import com.coopcredit.creditapplication.application.dto.LoanResponse;
+import com.coopcredit.creditapplication.application.port.in.DisburseLoanUseCase;
+import com.coopcredit.creditapplication.application.port.in.GetLoanUseCase;
+import com.coopcredit.creditapplication.application.port.in.RecordLoanPaymentUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for loan servicing.
+ * Disburses approved applications and records their repayments.
+ */
+@RestController
+@RequestMapping("/api/loans")
+@Tag(name = "Loans", description = "Servicing of disbursed credits")
+@SecurityRequirement(name = "bearerAuth")
+public class LoanController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoanController.class);
+
+    private final DisburseLoanUseCase disburseLoanUseCase;
+    private final RecordLoanPaymentUseCase recordLoanPaymentUseCase;
+    private final GetLoanUseCase getLoanUseCase;
+
+    public LoanController(DisburseLoanUseCase disburseLoanUseCase,
+                          RecordLoanPaymentUseCase recordLoanPaymentUseCase,
+                          GetLoanUseCase getLoanUseCase) {
+        this.disburseLoanUseCase = disburseLoanUseCase;
+        this.recordLoanPaymentUseCase = recordLoanPaymentUseCase;
+        this.getLoanUseCase = getLoanUseCase;
+    }
+
+    /**
+     * Disburses an approved credit application.
+     *
+     * @param applicationId the approved application ID
+     * @return the new loan
+     */
+    @Operation(
+        summary = "Disburse credit application",
+        description = "Opens the loan of an approved application, with the application ID as loan ID, and " +
+                     "records the disbursement. Interest accrues nightly from the next day."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Loan disbursed",
+            content = @Content(schema = @Schema(implementation = LoanResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Application not found",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Application not approved or already disbursed",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+        )
+    })
+    @PostMapping("/{applicationId}/disburse")
+    @PreAuthorize("hasRole('ANALISTA') or hasRole('ADMIN')")
+    public ResponseEntity<LoanResponse> disburse(@PathVariable Long applicationId) {
+        logger.info("POST /api/loans/{}/disburse - Disbursing application", applicationId);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(disburseLoanUseCase.execute(applicationId));
+    }
+
+    /**
+     * Retrieves a loan with its balance.
+     *
+     * @param loanId the loan ID
+     * @return the loan
+     */
+    @Operation(
+        summary = "Get loan",
+        description = "Returns the loan with its outstanding principal, accrued interest, amount due and " +
+                     "latest ledger entries. Balances are the latest snapshot plus the entries after it."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Loan found",
+            content = @Content(schema = @Schema(implementation = LoanResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Loan not found",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+        )
+    })
+    @GetMapping("/{loanId}")
+    @PreAuthorize("hasRole('ANALISTA') or hasRole('ADMIN')")
+    public ResponseEntity<LoanResponse> getLoan(@PathVariable Long loanId) {
+        logger.debug("GET /api/loans/{}", loanId);
+
+        return ResponseEntity.ok(getLoanUseCase.execute(loanId));
+    }
+
+    /**
+     * Records a repayment.
+     *
+     * @param loanId the loan ID
+     * @param request the payment
+     * @return the loan after the payment
+     */
+    @Operation(
+        summary = "Record loan payment",
+        description = "Applies a payment to accrued interest first and then to principal. A payment " +
+                     "settling the whole balance pays the loan off and stops its accrual."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Payment recorded",
+            content = @Content(schema = @Schema(implementation = LoanResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Loan not found",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Loan paid off, payment above the payoff amount or invalid payment date",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+        )
+    })
+    @PostMapping("/{loanId}/payments")
+    @PreAuthorize("hasRole('ANALISTA') or hasRole('ADMIN')")
+    public ResponseEntity<LoanResponse> recordPayment(@PathVariable Long loanId,
+                                                      @Valid @RequestBody LoanPaymentRequest request) {
+        logger.info("POST /api/loans/{}/payments - Recording payment of {}", loanId, request.getAmount());
+
+        return ResponseEntity.ok(recordLoanPaymentUseCase.execute(loanId, request));
+    }
+}
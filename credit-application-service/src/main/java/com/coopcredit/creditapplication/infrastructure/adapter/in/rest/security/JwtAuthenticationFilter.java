@@ -46,33 +46,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String username = jwtPort.extractUsername(jwt);
+            // Parse and verify the token once for the whole request
+            final JwtPort.VerifiedToken verified = jwtPort.verify(jwt);
+            final String username = verified.getUsername();
 
             // If username extracted and no authentication set yet
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 
                 userRepositoryPort.findByUsername(username).ifPresent(user -> {
                     
-                    // Validate token
-                    if (jwtPort.validateToken(jwt, username)) {
-                        
-                        // Create authentication token with authorities
-                        var authorities = user.getRoles().stream()
-                            .map(role -> new SimpleGrantedAuthority(role.getName().name()))
-                            .collect(Collectors.toList());
-                        
-                        UsernamePasswordAuthenticationToken authToken = 
-                            new UsernamePasswordAuthenticationToken(
-                                username, 
-                                null, 
-                                authorities
-                            );
-                        
-                        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        
-                        // Set authentication in SecurityContext
-                        SecurityContextHolder.getContext().setAuthentication(authToken);
-                    }
+                    // Create authentication token with authorities
+                    var authorities = user.getRoles().stream()
+                        .map(role -> new SimpleGrantedAuthority(role.getName().name()))
+                        .collect(Collectors.toList());
+                    
+                    UsernamePasswordAuthenticationToken authToken = 
+                        new UsernamePasswordAuthenticationToken(
+                            username, 
+                            null, 
+                            authorities
+                        );
+                    
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    
+                    // Set authentication in SecurityContext
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
                 });
             }
         } catch (Exception e) {
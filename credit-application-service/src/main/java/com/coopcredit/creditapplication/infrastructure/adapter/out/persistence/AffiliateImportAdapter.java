@@ -0,0 +1,251 @@
+package com.coopcredit.creditapplication.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.creditapplication.application.dto.AffiliateImportReport.RowError;
+import com.coopcredit.creditapplication.application.dto.AffiliateImportRow;
+import com.coopcredit.creditapplication.application.port.out.AffiliateImportPort;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * JDBC Adapter implementing AffiliateImportPort for PostgreSQL.
+ *
+ * Each chunk is loaded with COPY into a session temp table, checked for
+ * uniqueness with a handful of set-based queries and moved into affiliates,
+ * users and user_roles with INSERT ... SELECT. Ids are taken from the same
+ * sequences as the JPA entities, in blocks that follow the pooled optimizer
+ * convention, so both paths can run side by side.
+ *
+ * A row registered concurrently after the uniqueness check makes the inserts
+ * fail on a unique constraint. They are then rolled back to a savepoint, the
+ * check runs again (now seeing that row) and the rest is inserted.
+ */
+@Component
+@Transactional
+public class AffiliateImportAdapter implements AffiliateImportPort {
+
+    // Each retry follows a committed clash and drops at least one row
+    private static final int MAX_INSERT_ATTEMPTS = 5;
+
+    private static final String CREATE_STAGING = """
+        CREATE TEMP TABLE IF NOT EXISTS affiliate_import_staging (
+            line_no BIGINT PRIMARY KEY,
+            affiliate_id BIGINT NOT NULL,
+            user_id BIGINT,
+            document_type VARCHAR(10) NOT NULL,
+            document_number VARCHAR(50) NOT NULL,
+            first_name VARCHAR(100) NOT NULL,
+            last_name VARCHAR(100) NOT NULL,
+            email VARCHAR(150) NOT NULL,
+            phone VARCHAR(20),
+            salary DECIMAL(12, 2) NOT NULL,
+            affiliation_date DATE NOT NULL,
+            username VARCHAR(50),
+            password_hash VARCHAR(255)
+        ) ON COMMIT DELETE ROWS
+        """;
+
+    private static final String COPY_STAGING = """
+        COPY affiliate_import_staging (line_no, affiliate_id, user_id, document_type, document_number,
+            first_name, last_name, email, phone, salary, affiliation_date, username, password_hash)
+        FROM STDIN WITH (FORMAT csv)
+        """;
+
+    private static final String FIND_CONFLICTS = """
+        SELECT line_no, field, code, message FROM (
+            SELECT s.line_no, 'documentNumber' AS field, 'DUPLICATE' AS code,
+                   'Document number already exists: ' || s.document_number AS message
+            FROM affiliate_import_staging s
+            WHERE EXISTS (SELECT 1 FROM affiliates a WHERE a.document_number = s.document_number)
+            UNION ALL
+            SELECT s.line_no, 'email', 'DUPLICATE', 'Email already exists: ' || s.email
+            FROM affiliate_import_staging s
+            WHERE EXISTS (SELECT 1 FROM affiliates a WHERE a.email = s.email)
+               OR (s.username IS NOT NULL AND EXISTS (SELECT 1 FROM users u WHERE u.email = s.email))
+            UNION ALL
+            SELECT s.line_no, 'username', 'DUPLICATE', 'Username already exists: ' || s.username
+            FROM affiliate_import_staging s
+            WHERE s.username IS NOT NULL AND EXISTS (SELECT 1 FROM users u WHERE u.username = s.username)
+            UNION ALL
+            SELECT line_no, 'documentNumber', 'DUPLICATE_IN_FILE', 'Document number repeats line ' || first_line
+            FROM (SELECT line_no, min(line_no) OVER (PARTITION BY document_number) AS first_line
+                  FROM affiliate_import_staging) d
+            WHERE line_no <> first_line
+            UNION ALL
+            SELECT line_no, 'email', 'DUPLICATE_IN_FILE', 'Email repeats line ' || first_line
+            FROM (SELECT line_no, min(line_no) OVER (PARTITION BY email) AS first_line
+                  FROM affiliate_import_staging) d
+            WHERE line_no <> first_line
+            UNION ALL
+            SELECT line_no, 'username', 'DUPLICATE_IN_FILE', 'Username repeats line ' || first_line
+            FROM (SELECT line_no, min(line_no) OVER (PARTITION BY username) AS first_line
+                  FROM affiliate_import_staging WHERE username IS NOT NULL) d
+            WHERE line_no <> first_line
+        ) conflicts
+        ORDER BY line_no
+        """;
+
+    private static final String INSERT_AFFILIATES = """
+        INSERT INTO affiliates (id, document_type, document_number, first_name, last_name,
+            email, phone, salary, affiliation_date, status)
+        SELECT affiliate_id, document_type, document_number, first_name, last_name,
+            email, phone, salary, affiliation_date, 'ACTIVE'
+        FROM affiliate_import_staging
+        ORDER BY line_no
+        """;
+
+    private static final String INSERT_USERS = """
+        INSERT INTO users (id, username, password, email, enabled, affiliate_id)
+        SELECT user_id, username, password_hash, email, TRUE, affiliate_id
+        FROM affiliate_import_staging
+        WHERE username IS NOT NULL
+        ORDER BY line_no
+        """;
+
+    private static final String INSERT_USER_ROLES = """
+        INSERT INTO user_roles (user_id, role_id)
+        SELECT s.user_id, r.id
+        FROM affiliate_import_staging s
+        JOIN roles r ON r.name = 'ROLE_AFILIADO'
+        WHERE s.username IS NOT NULL
+        """;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public AffiliateImportAdapter(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<RowError> importChunk(List<AffiliateImportRow> rows) {
+        jdbcTemplate.execute(CREATE_STAGING);
+        copyIntoStaging(rows);
+
+        List<RowError> conflicts = new ArrayList<>();
+        int attempt = 0;
+        do {
+            conflicts.addAll(removeConflicts());
+        } while (!insertStaged(++attempt == MAX_INSERT_ATTEMPTS));
+        conflicts.sort(Comparator.comparingLong(RowError::getLine));
+        return conflicts;
+    }
+
+    /**
+     * Moves the staged rows into the real tables, all or none.
+     *
+     * @param lastAttempt whether to let a clash fail the chunk
+     * @return false if a row clashed and nothing was inserted
+     */
+    private boolean insertStaged(boolean lastAttempt) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                jdbcTemplate.update(INSERT_AFFILIATES);
+                jdbcTemplate.update(INSERT_USERS);
+                jdbcTemplate.update(INSERT_USER_ROLES);
+            } catch (DuplicateKeyException e) {
+                if (lastAttempt) {
+                    throw e;
+                }
+                connection.rollback(savepoint);
+                return false;
+            }
+            connection.releaseSavepoint(savepoint);
+            return true;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to insert affiliate import chunk", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Finds the staged rows that clash with existing data or with each other
+     * and takes them out of the staging table.
+     */
+    private List<RowError> removeConflicts() {
+        List<RowError> conflicts = jdbcTemplate.query(FIND_CONFLICTS, (rs, rowNum) -> new RowError(
+            rs.getLong("line_no"), rs.getString("field"), rs.getString("code"), rs.getString("message")));
+        if (!conflicts.isEmpty()) {
+            Long[] lines = conflicts.stream().map(RowError::getLine).distinct().toArray(Long[]::new);
+            jdbcTemplate.update("DELETE FROM affiliate_import_staging WHERE line_no = ANY(?)", ps -> {
+                Array array = ps.getConnection().createArrayOf("bigint", lines);
+                ps.setArray(1, array);
+            });
+        }
+        return conflicts;
+    }
+
+    /**
+     * Streams the chunk into the staging table with COPY, assigning ids up front.
+     */
+    private void copyIntoStaging(List<AffiliateImportRow> rows) {
+        long userCount = rows.stream().filter(AffiliateImportRow::hasUser).count();
+        Iterator<Long> affiliateIds = PooledIds.allocate(jdbcTemplate, "affiliates_id_seq", rows.size()).iterator();
+        Iterator<Long> userIds = PooledIds.allocate(jdbcTemplate, "users_id_seq", (int) userCount).iterator();
+
+        StringBuilder csv = new StringBuilder(rows.size() * 160);
+        for (AffiliateImportRow row : rows) {
+            csv.append(row.getLineNumber()).append(',')
+                .append(affiliateIds.next()).append(',')
+                .append(row.hasUser() ? userIds.next().toString() : "").append(',');
+            appendField(csv, row.getDocumentType()).append(',');
+            appendField(csv, row.getDocumentNumber()).append(',');
+            appendField(csv, row.getFirstName()).append(',');
+            appendField(csv, row.getLastName()).append(',');
+            appendField(csv, row.getEmail()).append(',');
+            appendField(csv, row.getPhone()).append(',');
+            csv.append(row.getSalary().toPlainString()).append(',')
+                .append(row.getAffiliationDate()).append(',');
+            appendField(csv, row.getUsername()).append(',');
+            appendField(csv, row.getPasswordHash()).append('\n');
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn(COPY_STAGING, new StringReader(csv.toString()));
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("Failed to copy affiliate import chunk", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Appends a value in COPY csv format: null as an empty unquoted field,
+     * everything else quoted.
+     */
+    private static StringBuilder appendField(StringBuilder csv, String value) {
+        if (value == null) {
+            return csv;
+        }
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+}
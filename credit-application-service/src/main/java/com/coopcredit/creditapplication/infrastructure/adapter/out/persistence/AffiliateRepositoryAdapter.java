@@ -8,6 +8,7 @@ import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.r
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -53,6 +54,17 @@ public class AffiliateRepositoryAdapter implements AffiliateRepositoryPort {
             .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Affiliate> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return repository.findAllWithUserByIdIn(ids).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Affiliate> findByDocumentNumber(String documentNumber) {
@@ -86,6 +98,18 @@ public class AffiliateRepositoryAdapter implements AffiliateRepositoryPort {
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersionStamp(Long id) {
+        return repository.findVersionStamp(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersionStampByUsername(String username) {
+        return repository.findVersionStampByUsername(username);
+    }
+
     // Additional methods not in port interface but useful for infrastructure
     @Transactional(readOnly = true)
     public Optional<Affiliate> findByUsername(String username) {
@@ -6,11 +6,29 @@ import com.coopcredit.creditapplication.application.port.out.CreditApplicationRe
 import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.entity.CreditApplicationJpaEntity;
 import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.mapper.CreditApplicationMapper;
 import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.repository.CreditApplicationJpaRepository;
+import com.coopcredit.creditapplication.domain.validation.BusinessValidator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -21,13 +39,54 @@ import java.util.stream.Collectors;
 @Transactional
 public class CreditApplicationRepositoryAdapter implements CreditApplicationRepositoryPort {
 
+    /** Partial unique index allowing one PENDING application per affiliate (V10). */
+    static final String PENDING_APPLICATION_INDEX = "uq_credit_applications_pending_affiliate";
+
+    // The subquery walks the partial index of open applications (V15) and
+    // locks what it returns, so nothing else can decide on them meanwhile
+    private static final String EXPIRE_STALE = """
+        UPDATE credit_applications ca
+        SET status = 'EXPIRED'
+        FROM (
+            SELECT id, status
+            FROM credit_applications
+            WHERE status IN ('PENDING', 'IN_REVIEW') AND application_date < ?
+            ORDER BY application_date
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        ) stale
+        WHERE ca.id = stale.id
+        RETURNING ca.id, stale.status AS previous_status
+        """;
+
+    // Skips applications clashing with the single pending application index,
+    // waiting for a concurrent insert to commit or roll back first
+    private static final String INSERT_PENDING = """
+        INSERT INTO credit_applications (id, affiliate_id, requested_amount, purpose, application_date, status,
+            monthly_income, requested_term_months, interest_rate, current_debt)
+        SELECT a.id, a.affiliate_id, a.requested_amount, a.purpose, a.application_date, 'PENDING',
+            a.monthly_income, a.requested_term_months, a.interest_rate, a.current_debt
+        FROM unnest(?::bigint[], ?::bigint[], ?::numeric[], ?::varchar[], ?::timestamp[],
+            ?::numeric[], ?::int[], ?::numeric[], ?::numeric[])
+            AS a(id, affiliate_id, requested_amount, purpose, application_date,
+                monthly_income, requested_term_months, interest_rate, current_debt)
+        ON CONFLICT (affiliate_id) WHERE status = 'PENDING' DO NOTHING
+        RETURNING id
+        """;
+
     private final CreditApplicationJpaRepository repository;
     private final CreditApplicationMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     public CreditApplicationRepositoryAdapter(CreditApplicationJpaRepository repository,
-            CreditApplicationMapper mapper) {
+            CreditApplicationMapper mapper,
+            JdbcTemplate jdbcTemplate) {
         this.repository = repository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -41,14 +100,65 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
                             () -> new RuntimeException("Credit application not found with id: " + application.getId()));
             mapper.updateEntity(application, entity);
         } else {
-            // Create new
+            // Create new, flushed so constraint violations surface here
             entity = mapper.toEntity(application);
+            return mapper.toDomain(insert(() -> repository.saveAndFlush(entity)));
         }
 
         CreditApplicationJpaEntity saved = repository.save(entity);
         return mapper.toDomain(saved);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<CreditApplication> saveAllPending(List<CreditApplication> applications) {
+        int count = applications.size();
+        Long[] ids = PooledIds.allocate(jdbcTemplate, "credit_applications_id_seq", count).toArray(Long[]::new);
+        Long[] affiliateIds = new Long[count];
+        BigDecimal[] requestedAmounts = new BigDecimal[count];
+        String[] purposes = new String[count];
+        Timestamp[] applicationDates = new Timestamp[count];
+        BigDecimal[] monthlyIncomes = new BigDecimal[count];
+        Integer[] termMonths = new Integer[count];
+        BigDecimal[] interestRates = new BigDecimal[count];
+        BigDecimal[] currentDebts = new BigDecimal[count];
+        for (int i = 0; i < count; i++) {
+            CreditApplication application = applications.get(i);
+            affiliateIds[i] = application.getAffiliate().getId();
+            requestedAmounts[i] = application.getRequestedAmount();
+            purposes[i] = application.getPurpose();
+            applicationDates[i] = Timestamp.valueOf(application.getApplicationDate());
+            monthlyIncomes[i] = application.getMonthlyIncome();
+            termMonths[i] = application.getTermMonths();
+            interestRates[i] = application.getInterestRate();
+            currentDebts[i] = application.getCurrentDebt();
+        }
+
+        Set<Long> inserted = new HashSet<>(jdbcTemplate.query(INSERT_PENDING, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("bigint", ids));
+            ps.setArray(2, connection.createArrayOf("bigint", affiliateIds));
+            ps.setArray(3, connection.createArrayOf("numeric", requestedAmounts));
+            ps.setArray(4, connection.createArrayOf("varchar", purposes));
+            ps.setArray(5, connection.createArrayOf("timestamp", applicationDates));
+            ps.setArray(6, connection.createArrayOf("numeric", monthlyIncomes));
+            ps.setArray(7, connection.createArrayOf("int4", termMonths));
+            ps.setArray(8, connection.createArrayOf("numeric", interestRates));
+            ps.setArray(9, connection.createArrayOf("numeric", currentDebts));
+        }, (rs, rowNum) -> rs.getLong("id")));
+
+        List<CreditApplication> saved = new ArrayList<>(inserted.size());
+        for (int i = 0; i < count; i++) {
+            if (inserted.contains(ids[i])) {
+                CreditApplication application = applications.get(i);
+                application.setId(ids[i]);
+                application.setStatus(ApplicationStatus.PENDING);
+                saved.add(application);
+            }
+        }
+        return saved;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<CreditApplication> findById(Long id) {
@@ -56,6 +166,29 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
                 .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<CreditApplication> lock(Long id) {
+        // A row already read in this transaction comes back as it was read,
+        // so it is refreshed once the lock is held
+        return repository.findByIdForUpdate(id)
+                .map(entity -> {
+                    entityManager.refresh(entity);
+                    return mapper.toDomain(entity);
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CreditApplication> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return repository.findAllWithDetailsByIdIn(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<CreditApplication> findByAffiliateId(Long affiliateId) {
@@ -72,6 +205,36 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsByAffiliateIdAndStatus(Long affiliateId, ApplicationStatus status) {
+        return repository.existsByAffiliateIdAndStatus(affiliateId, status);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> findAffiliateIdsWithStatus(Collection<Long> affiliateIds, ApplicationStatus status) {
+        if (affiliateIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(repository.findAffiliateIdsWithStatus(affiliateIds, status));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersionStampByAffiliateId(Long affiliateId) {
+        return repository.findVersionStampByAffiliateId(affiliateId);
+    }
+
+    @Override
+    public Map<Long, ApplicationStatus> expireStale(LocalDateTime appliedBefore, int limit) {
+        Map<Long, ApplicationStatus> previousStatuses = new LinkedHashMap<>();
+        jdbcTemplate.query(EXPIRE_STALE, rs -> {
+            previousStatuses.put(rs.getLong("id"), ApplicationStatus.valueOf(rs.getString("previous_status")));
+        }, appliedBefore, limit);
+        return previousStatuses;
+    }
+
     // Additional methods not in port interface but useful for infrastructure
     @Transactional(readOnly = true)
     public List<CreditApplication> findByStatus(ApplicationStatus status) {
@@ -94,6 +257,22 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Runs an insert, translating a violation of the single pending
+     * application index into PENDING_APPLICATION_EXISTS.
+     */
+    private <T> T insert(Supplier<T> operation) {
+        try {
+            return operation.get();
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException violation
+                    && PENDING_APPLICATION_INDEX.equals(violation.getConstraintName())) {
+                throw BusinessValidator.pendingApplicationExists();
+            }
+            throw e;
+        }
+    }
+
     public void delete(CreditApplication application) {
         if (application.getId() != null) {
             repository.deleteById(application.getId());
@@ -0,0 +1,214 @@
+package com.coopcredit.creditapplication.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.creditapplication.application.port.out.ExposureLedgerPort;
+import com.coopcredit.creditapplication.domain.model.AffiliateExposure;
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.infrastructure.cache.CacheInvalidationHandler;
+import com.coopcredit.creditapplication.infrastructure.cache.CacheInvalidationMessage;
+import com.coopcredit.creditapplication.infrastructure.cache.CacheInvalidationPublisher;
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adapter implementing ExposureLedgerPort on the affiliate_exposure table,
+ * with every row held in memory so reads never reach the database.
+ *
+ * The index is loaded at startup. Approvals record the credit with the
+ * amounts it adds and add them to the affiliate's row; approved applications
+ * changing status delete their credit and subtract exactly what it added,
+ * so totals never drift by a rounding difference. Rows are updated with
+ * INSERT ... ON CONFLICT DO UPDATE, which returns the new totals; they
+ * reach the index once the transaction commits. Other nodes are told over
+ * the cache invalidation channel, whose pg_notify is only delivered on
+ * commit, and reload the row. Rows carry a version incremented by every
+ * update and an entry is only ever replaced by a newer one, so commits
+ * reaching the index out of order cannot leave it behind.
+ */
+@Component
+public class ExposureLedgerAdapter implements ExposureLedgerPort, CacheInvalidationHandler {
+
+    static final String DATA_SET = "affiliate_exposure";
+
+    private static final Logger logger = LoggerFactory.getLogger(ExposureLedgerAdapter.class);
+
+    private static final String UPSERT = """
+        INSERT INTO affiliate_exposure (affiliate_id, approved_credits, approved_principal, monthly_obligations)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (affiliate_id) DO UPDATE SET
+            approved_credits = affiliate_exposure.approved_credits + EXCLUDED.approved_credits,
+            approved_principal = affiliate_exposure.approved_principal + EXCLUDED.approved_principal,
+            monthly_obligations = affiliate_exposure.monthly_obligations + EXCLUDED.monthly_obligations,
+            version = affiliate_exposure.version + 1,
+            updated_at = CURRENT_TIMESTAMP
+        RETURNING affiliate_id, approved_credits, approved_principal, monthly_obligations, version
+        """;
+
+    // DO NOTHING: an approval already counted adds nothing a second time
+    private static final String ADD_CREDIT = """
+        INSERT INTO affiliate_exposure_credits (application_id, affiliate_id, principal, monthly_obligation)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (application_id) DO NOTHING
+        RETURNING affiliate_id, principal, monthly_obligation
+        """;
+
+    private static final String REMOVE_CREDIT = """
+        DELETE FROM affiliate_exposure_credits WHERE application_id = ?
+        RETURNING affiliate_id, principal, monthly_obligation
+        """;
+
+    private static final String SELECT =
+        "SELECT affiliate_id, approved_credits, approved_principal, monthly_obligations, version FROM affiliate_exposure";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<CacheInvalidationPublisher> invalidationPublisher;
+    private final Map<Long, Entry> index = new ConcurrentHashMap<>();
+
+    public ExposureLedgerAdapter(JdbcTemplate jdbcTemplate,
+                                 ObjectProvider<CacheInvalidationPublisher> invalidationPublisher,
+                                 MetricsService metricsService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.invalidationPublisher = invalidationPublisher;
+        metricsService.monitorMapSize("exposure.ledger.affiliates", index);
+    }
+
+    /**
+     * Loads every row into memory.
+     */
+    @PostConstruct
+    public void load() {
+        int rows = reload(SELECT);
+        logger.info("Exposure ledger loaded for {} affiliate(s)", rows);
+    }
+
+    @Override
+    public AffiliateExposure exposureOf(Long affiliateId) {
+        Entry entry = affiliateId != null ? index.get(affiliateId) : null;
+        return entry != null ? entry.toExposure(affiliateId) : AffiliateExposure.none(affiliateId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void statusChanged(CreditApplication application, ApplicationStatus previousStatus) {
+        boolean approved = application.getStatus() == ApplicationStatus.APPROVED;
+        if (approved == (previousStatus == ApplicationStatus.APPROVED)) {
+            return;
+        }
+        if (approved) {
+            adjust(ADD_CREDIT, 1, application.getId(), application.getAffiliate().getId(),
+                application.getRequestedAmount(), application.calculateMonthlyPayment(application.getInterestRate()));
+        } else {
+            adjust(REMOVE_CREDIT, -1, application.getId());
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void creditRepaid(Long applicationId) {
+        adjust(REMOVE_CREDIT, -1, applicationId);
+    }
+
+    /**
+     * Records or deletes a credit and applies the amounts it returns to its
+     * affiliate's row, if the statement touched one.
+     */
+    private void adjust(String creditSql, int sign, Object... args) {
+        List<Credit> credits = jdbcTemplate.query(creditSql, (rs, rowNum) -> new Credit(
+            rs.getLong("affiliate_id"), rs.getBigDecimal("principal"), rs.getBigDecimal("monthly_obligation")), args);
+        if (credits.isEmpty()) {
+            return;
+        }
+        Credit credit = credits.get(0);
+        Long affiliateId = credit.affiliateId();
+        Entry updated = jdbcTemplate.queryForObject(UPSERT, (rs, rowNum) -> entry(rs), affiliateId, sign,
+            sign > 0 ? credit.principal() : credit.principal().negate(),
+            sign > 0 ? credit.monthlyObligation() : credit.monthlyObligation().negate());
+
+        CacheInvalidationPublisher publisher = invalidationPublisher.getIfAvailable();
+        if (publisher != null) {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> { }, publisher.getChannel(),
+                CacheInvalidationMessage.data(publisher.getNodeId(), DATA_SET, affiliateId).toPayload());
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(affiliateId, updated);
+            }
+        });
+    }
+
+    /**
+     * Reloads the row of an affiliate whose exposure changed on another node.
+     */
+    @Override
+    public void evict(CacheInvalidationMessage message) {
+        if (message.getKind() == CacheInvalidationMessage.Kind.DATA && DATA_SET.equals(message.getName())) {
+            reload(SELECT + " WHERE affiliate_id = ?", Long.valueOf(message.getId()));
+        }
+    }
+
+    /**
+     * Reloads every row, since notifications may have been missed.
+     */
+    @Override
+    public void evictAll() {
+        int rows = reload(SELECT);
+        logger.info("Exposure ledger reloaded for {} affiliate(s)", rows);
+    }
+
+    private int reload(String sql, Object... args) {
+        int[] rows = {0};
+        jdbcTemplate.query(sql, rs -> {
+            apply(rs.getLong("affiliate_id"), entry(rs));
+            rows[0]++;
+        }, args);
+        return rows[0];
+    }
+
+    private void apply(Long affiliateId, Entry entry) {
+        index.merge(affiliateId, entry, (current, candidate) -> candidate.version() > current.version() ? candidate : current);
+    }
+
+    private static Entry entry(ResultSet rs) throws SQLException {
+        return new Entry(
+            rs.getLong("version"),
+            rs.getInt("approved_credits"),
+            toCents(rs.getBigDecimal("approved_principal")),
+            toCents(rs.getBigDecimal("monthly_obligations")));
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    private record Credit(Long affiliateId, BigDecimal principal, BigDecimal monthlyObligation) {
+    }
+
+    /**
+     * Row held in memory, with amounts in cents to keep it to a few primitives.
+     */
+    private record Entry(long version, int approvedCredits, long approvedPrincipalCents,
+                         long monthlyObligationsCents) {
+
+        AffiliateExposure toExposure(Long affiliateId) {
+            return new AffiliateExposure(affiliateId, approvedCredits,
+                BigDecimal.valueOf(approvedPrincipalCents, 2), BigDecimal.valueOf(monthlyObligationsCents, 2));
+        }
+    }
+}
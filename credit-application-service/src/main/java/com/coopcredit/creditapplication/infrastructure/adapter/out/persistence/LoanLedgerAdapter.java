@@ -0,0 +1,177 @@
+package com.coopcredit.creditapplication.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.creditapplication.application.port.out.LoanLedgerPort;
+import com.coopcredit.creditapplication.domain.servicing.LedgerEntry;
+import com.coopcredit.creditapplication.domain.servicing.LedgerEntryType;
+import com.coopcredit.creditapplication.domain.servicing.LoanAccount;
+import com.coopcredit.creditapplication.domain.servicing.LoanBalance;
+import com.coopcredit.creditapplication.domain.servicing.LoanStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter implementing LoanLedgerPort on the loan_accounts,
+ * loan_ledger_entries and loan_balance_snapshots tables.
+ *
+ * Entries are booked with the database clock read while the loan is
+ * locked, so a loan's ids and booking dates grow together. A balance is
+ * therefore its snapshot plus the entries after the snapshot's id, and the
+ * booking date bound lets PostgreSQL skip the older monthly partitions.
+ */
+@Component
+public class LoanLedgerAdapter implements LoanLedgerPort {
+
+    private static final String SELECT_ACCOUNT = """
+        SELECT loan_id, affiliate_id, principal, annual_rate, term_months, installment, disbursed_on, status
+        FROM loan_accounts
+        WHERE loan_id = ?
+        """;
+
+    private static final String INSERT_ACCOUNT = """
+        INSERT INTO loan_accounts (loan_id, affiliate_id, principal, annual_rate, term_months, installment, disbursed_on)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (loan_id) DO NOTHING
+        """;
+
+    private static final String INSERT_ENTRY = """
+        INSERT INTO loan_ledger_entries (loan_id, entry_type, entry_date, value_date, principal_delta, interest_delta, due_delta)
+        VALUES (?, ?, CAST(clock_timestamp() AS DATE), ?, ?, ?, ?)
+        RETURNING id, entry_date
+        """;
+
+    private static final String SELECT_SNAPSHOT =
+        "SELECT last_entry_id, as_of, principal, interest, due FROM loan_balance_snapshots WHERE loan_id = ?";
+
+    private static final String SUM_ENTRIES_AFTER = """
+        SELECT COALESCE(SUM(principal_delta), 0) AS principal,
+               COALESCE(SUM(interest_delta), 0) AS interest,
+               COALESCE(SUM(due_delta), 0) AS due
+        FROM loan_ledger_entries
+        WHERE loan_id = ? AND id > ? AND entry_date >= ?
+        """;
+
+    private static final String SELECT_RECENT_ENTRIES = """
+        SELECT id, loan_id, entry_type, entry_date, value_date, principal_delta, interest_delta, due_delta
+        FROM loan_ledger_entries
+        WHERE loan_id = ?
+        ORDER BY id DESC
+        LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LoanLedgerAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public LocalDate bookingDate() {
+        return jdbcTemplate.queryForObject("SELECT CAST(clock_timestamp() AS DATE)", LocalDate.class);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean open(LoanAccount account) {
+        return jdbcTemplate.update(INSERT_ACCOUNT,
+            account.loanId(),
+            account.affiliateId(),
+            cents(account.principalCents()),
+            BigDecimal.valueOf(account.rateHundredths(), 2),
+            account.termMonths(),
+            cents(account.installmentCents()),
+            account.disbursedOn()) > 0;
+    }
+
+    @Override
+    public Optional<LoanAccount> findById(Long loanId) {
+        return jdbcTemplate.query(SELECT_ACCOUNT, (rs, rowNum) -> account(rs), loanId).stream().findFirst();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<LoanAccount> lock(Long loanId) {
+        return jdbcTemplate.query(SELECT_ACCOUNT + "FOR UPDATE", (rs, rowNum) -> account(rs), loanId)
+            .stream().findFirst();
+    }
+
+    @Override
+    public LoanBalance balanceOf(LoanAccount loan) {
+        long[] snapshot = {0, 0, 0, 0};
+        LocalDate[] asOf = {loan.disbursedOn()};
+        jdbcTemplate.query(SELECT_SNAPSHOT, rs -> {
+            snapshot[0] = rs.getLong("last_entry_id");
+            snapshot[1] = toCents(rs.getBigDecimal("principal"));
+            snapshot[2] = toCents(rs.getBigDecimal("interest"));
+            snapshot[3] = toCents(rs.getBigDecimal("due"));
+            asOf[0] = rs.getObject("as_of", LocalDate.class);
+        }, loan.loanId());
+
+        return jdbcTemplate.queryForObject(SUM_ENTRIES_AFTER, (rs, rowNum) -> new LoanBalance(
+            snapshot[1] + toCents(rs.getBigDecimal("principal")),
+            snapshot[2] + toCents(rs.getBigDecimal("interest")),
+            snapshot[3] + toCents(rs.getBigDecimal("due"))),
+            loan.loanId(), snapshot[0], asOf[0]);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public LedgerEntry append(LedgerEntry entry) {
+        return jdbcTemplate.queryForObject(INSERT_ENTRY,
+            (rs, rowNum) -> entry.booked(rs.getLong("id"), rs.getObject("entry_date", LocalDate.class)),
+            entry.loanId(),
+            entry.type().name(),
+            entry.valueDate(),
+            cents(entry.principalCents()),
+            cents(entry.interestCents()),
+            cents(entry.dueCents()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markPaidOff(Long loanId) {
+        jdbcTemplate.update("UPDATE loan_accounts SET status = ? WHERE loan_id = ?", LoanStatus.PAID_OFF.name(), loanId);
+    }
+
+    @Override
+    public List<LedgerEntry> recentEntries(Long loanId, int limit) {
+        return jdbcTemplate.query(SELECT_RECENT_ENTRIES, (rs, rowNum) -> new LedgerEntry(
+                rs.getLong("id"),
+                rs.getLong("loan_id"),
+                LedgerEntryType.valueOf(rs.getString("entry_type")),
+                rs.getObject("entry_date", LocalDate.class),
+                rs.getObject("value_date", LocalDate.class),
+                toCents(rs.getBigDecimal("principal_delta")),
+                toCents(rs.getBigDecimal("interest_delta")),
+                toCents(rs.getBigDecimal("due_delta"))),
+            loanId, limit);
+    }
+
+    private static LoanAccount account(ResultSet rs) throws SQLException {
+        return new LoanAccount(
+            rs.getLong("loan_id"),
+            rs.getLong("affiliate_id"),
+            toCents(rs.getBigDecimal("principal")),
+            rs.getBigDecimal("annual_rate").movePointRight(2).intValueExact(),
+            rs.getInt("term_months"),
+            toCents(rs.getBigDecimal("installment")),
+            rs.getObject("disbursed_on", LocalDate.class),
+            LoanStatus.valueOf(rs.getString("status")));
+    }
+
+    private static BigDecimal cents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+}
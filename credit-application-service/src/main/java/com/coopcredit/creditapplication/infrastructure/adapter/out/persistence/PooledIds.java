@@ -0,0 +1,39 @@
+package com.coopcredit.creditapplication.infrastructure.adapter.out.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reserves ids from the pooled sequences behind the JPA entities, for rows
+ * inserted with plain JDBC, so both paths can run side by side.
+ */
+final class PooledIds {
+
+    // Must match allocationSize of the pooled @SequenceGenerator mappings
+    static final int BLOCK_SIZE = 50;
+
+    private PooledIds() {
+    }
+
+    /**
+     * Reserves count ids from a pooled sequence. Each nextval reserves the
+     * block (value - BLOCK_SIZE, value], as Hibernate's pooled optimizer does.
+     */
+    static List<Long> allocate(JdbcTemplate jdbcTemplate, String sequence, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        if (count == 0) {
+            return ids;
+        }
+        int blocks = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        List<Long> highValues = jdbcTemplate.queryForList(
+            "SELECT nextval(?::regclass) FROM generate_series(1, ?)", Long.class, sequence, blocks);
+        for (Long high : highValues) {
+            for (long id = high - BLOCK_SIZE + 1; id <= high && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+}
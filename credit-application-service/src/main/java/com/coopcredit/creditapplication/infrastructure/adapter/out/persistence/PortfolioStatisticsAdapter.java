@@ -0,0 +1,201 @@
+package com.coopcredit.creditapplication.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.creditapplication.application.port.out.PortfolioStatisticsPort;
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.PortfolioStatistics;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JDBC Adapter implementing PortfolioStatisticsPort on the portfolio_stats table.
+ *
+ * Changes are folded into one delta per bucket and applied with
+ * INSERT ... ON CONFLICT DO UPDATE in bucket order, so concurrent
+ * transactions lock the same rows in the same order and cannot deadlock.
+ * The rebuild locks the table against writers, so updates from transactions
+ * still in flight wait and are applied on top of the recomputed rows.
+ */
+@Component
+public class PortfolioStatisticsAdapter implements PortfolioStatisticsPort {
+
+    private static final String UPSERT = """
+        INSERT INTO portfolio_stats (month, status, risk_level, applications, requested_amount,
+            score_sum, scored_applications)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (month, status, risk_level) DO UPDATE SET
+            applications = portfolio_stats.applications + EXCLUDED.applications,
+            requested_amount = portfolio_stats.requested_amount + EXCLUDED.requested_amount,
+            score_sum = portfolio_stats.score_sum + EXCLUDED.score_sum,
+            scored_applications = portfolio_stats.scored_applications + EXCLUDED.scored_applications
+        """;
+
+    private static final String REBUILD = """
+        INSERT INTO portfolio_stats (month, status, risk_level, applications, requested_amount,
+            score_sum, scored_applications)
+        SELECT CAST(date_trunc('month', ca.application_date) AS DATE),
+               ca.status,
+               COALESCE(re.risk_level, ''),
+               COUNT(*),
+               SUM(ca.requested_amount),
+               COALESCE(SUM(re.score), 0),
+               COUNT(re.score)
+        FROM credit_applications ca
+        LEFT JOIN risk_evaluations re ON re.credit_application_id = ca.id
+        GROUP BY 1, 2, 3
+        """;
+
+    // Stored instead of NULL, which a primary key column cannot hold
+    private static final String NOT_EVALUATED = "";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PortfolioStatisticsAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applicationsCreated(List<CreditApplication> applications) {
+        Map<Bucket, Delta> deltas = new TreeMap<>();
+        for (CreditApplication application : applications) {
+            add(deltas, application, application.getStatus(), application.getRiskEvaluation(), 1);
+        }
+        apply(deltas);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void statusChanged(CreditApplication application, ApplicationStatus previousStatus,
+                              RiskEvaluation previousEvaluation) {
+        Map<Bucket, Delta> deltas = new TreeMap<>();
+        add(deltas, application, previousStatus, previousEvaluation, -1);
+        add(deltas, application, application.getStatus(), application.getRiskEvaluation(), 1);
+        apply(deltas);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void statusesChanged(List<CreditApplication> applications,
+                                Map<Long, ApplicationStatus> previousStatuses) {
+        Map<Bucket, Delta> deltas = new TreeMap<>();
+        for (CreditApplication application : applications) {
+            add(deltas, application, previousStatuses.get(application.getId()), application.getRiskEvaluation(), -1);
+            add(deltas, application, application.getStatus(), application.getRiskEvaluation(), 1);
+        }
+        apply(deltas);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PortfolioStatistics> findByMonthRange(YearMonth from, YearMonth to) {
+        StringBuilder sql = new StringBuilder(
+            "SELECT month, status, risk_level, applications, requested_amount, score_sum, scored_applications " +
+            "FROM portfolio_stats WHERE applications > 0");
+        List<Object> args = new ArrayList<>();
+        if (from != null) {
+            sql.append(" AND month >= ?");
+            args.add(Date.valueOf(from.atDay(1)));
+        }
+        if (to != null) {
+            sql.append(" AND month <= ?");
+            args.add(Date.valueOf(to.atDay(1)));
+        }
+        sql.append(" ORDER BY month, status, risk_level");
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            String riskLevel = rs.getString("risk_level");
+            return new PortfolioStatistics(
+                YearMonth.from(rs.getDate("month").toLocalDate()),
+                ApplicationStatus.valueOf(rs.getString("status")),
+                NOT_EVALUATED.equals(riskLevel) ? null : riskLevel,
+                rs.getLong("applications"),
+                rs.getBigDecimal("requested_amount"),
+                rs.getLong("score_sum"),
+                rs.getLong("scored_applications"));
+        }, args.toArray());
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        // Readers keep going; writers wait until the new rows are committed
+        jdbcTemplate.execute("LOCK TABLE portfolio_stats IN EXCLUSIVE MODE");
+        jdbcTemplate.update("DELETE FROM portfolio_stats");
+        return jdbcTemplate.update(REBUILD);
+    }
+
+    private void add(Map<Bucket, Delta> deltas, CreditApplication application, ApplicationStatus status,
+                     RiskEvaluation evaluation, int sign) {
+        LocalDate month = YearMonth.from(application.getApplicationDate()).atDay(1);
+        String riskLevel = evaluation != null && evaluation.getRiskLevel() != null
+            ? evaluation.getRiskLevel() : NOT_EVALUATED;
+        Integer score = evaluation != null ? evaluation.getScore() : null;
+
+        Delta delta = deltas.computeIfAbsent(new Bucket(month, status.name(), riskLevel), bucket -> new Delta());
+        delta.applications += sign;
+        delta.requestedAmount = sign > 0
+            ? delta.requestedAmount.add(application.getRequestedAmount())
+            : delta.requestedAmount.subtract(application.getRequestedAmount());
+        if (score != null) {
+            delta.scoreSum += (long) sign * score;
+            delta.scoredApplications += sign;
+        }
+    }
+
+    private void apply(Map<Bucket, Delta> deltas) {
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((bucket, delta) -> {
+            if (!delta.isEmpty()) {
+                rows.add(new Object[] {
+                    Date.valueOf(bucket.month()), bucket.status(), bucket.riskLevel(),
+                    delta.applications, delta.requestedAmount, delta.scoreSum, delta.scoredApplications
+                });
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT, rows);
+        }
+    }
+
+    /**
+     * Primary key of a portfolio_stats row; the natural order is the lock order.
+     */
+    private record Bucket(LocalDate month, String status, String riskLevel) implements Comparable<Bucket> {
+
+        private static final Comparator<Bucket> ORDER = Comparator.comparing(Bucket::month)
+            .thenComparing(Bucket::status)
+            .thenComparing(Bucket::riskLevel);
+
+        @Override
+        public int compareTo(Bucket other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private static final class Delta {
+        private long applications;
+        private BigDecimal requestedAmount = BigDecimal.ZERO;
+        private long scoreSum;
+        private long scoredApplications;
+
+        // A status change that leaves the bucket unchanged nets out to nothing
+        private boolean isEmpty() {
+            return applications == 0 && requestedAmount.signum() == 0
+                && scoreSum == 0 && scoredApplications == 0;
+        }
+    }
+}
@@ -9,10 +9,15 @@ import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.e
 import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.mapper.UserMapper;
 import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.repository.RoleJpaRepository;
 import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.repository.UserJpaRepository;
+import com.coopcredit.creditapplication.infrastructure.exception.DuplicateResourceException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JPA Adapter implementing UserRepositoryPort.
@@ -25,6 +30,7 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
     private final UserJpaRepository userRepository;
     private final RoleJpaRepository roleRepository;
     private final UserMapper mapper;
+    private final Map<RoleName, Long> roleIds = new ConcurrentHashMap<>();
 
     public UserRepositoryAdapter(UserJpaRepository userRepository, 
                                  RoleJpaRepository roleRepository,
@@ -37,8 +43,15 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
     @Override
     public User save(User user) {
         UserJpaEntity entity = mapper.toEntity(user);
-        UserJpaEntity saved = userRepository.save(entity);
-        return mapper.toDomain(saved);
+        if (entity.getId() != null) {
+            return mapper.toDomain(userRepository.save(entity));
+        }
+        try {
+            // One flush sends the user, its roles and any pending affiliate insert
+            return mapper.toDomain(userRepository.saveAndFlush(entity));
+        } catch (DataIntegrityViolationException e) {
+            throw translateUniqueViolation(e, user);
+        }
     }
 
     @Override
@@ -62,6 +75,13 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
             .map(mapper::toDomain);
     }
 
+    @Override
+    public void updatePassword(Long userId, String encodedPassword) {
+        // Managed update so the users cache region and other nodes see it
+        userRepository.findById(userId)
+            .ifPresent(entity -> entity.setPassword(encodedPassword));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsByUsername(String username) {
@@ -77,8 +97,46 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
     @Override
     @Transactional(readOnly = true)
     public Optional<Role> findRoleByName(RoleName roleName) {
-        return roleRepository.findByName(roleName)
-            .map(this::roleToDomain);
+        Long id = roleIds.get(roleName);
+        if (id == null) {
+            Optional<RoleJpaEntity> role = roleRepository.findByName(roleName);
+            if (role.isEmpty()) {
+                return Optional.empty();
+            }
+            id = role.get().getId();
+            roleIds.put(roleName, id);
+        }
+        // Fresh instance per call; only id and name are needed to link a user
+        Role role = new Role(roleName);
+        role.setId(id);
+        return Optional.of(role);
+    }
+
+    /**
+     * Maps a unique constraint violation to the field that is already taken.
+     *
+     * @param e the violation raised by the flush
+     * @param user the user being inserted
+     * @return the exception to throw
+     */
+    private RuntimeException translateUniqueViolation(DataIntegrityViolationException e, User user) {
+        String constraint = e.getCause() instanceof ConstraintViolationException violation
+            ? violation.getConstraintName() : null;
+        if (constraint == null) {
+            return e;
+        }
+        switch (constraint) {
+            case "users_username_key":
+                return new DuplicateResourceException("Username", user.getUsername());
+            case "users_email_key":
+            case "affiliates_email_key":
+                return new DuplicateResourceException("Email", user.getEmail());
+            case "affiliates_document_number_key":
+                return new DuplicateResourceException("Document number",
+                    user.getAffiliate() != null ? user.getAffiliate().getDocumentNumber() : null);
+            default:
+                return e;
+        }
     }
 
     /**
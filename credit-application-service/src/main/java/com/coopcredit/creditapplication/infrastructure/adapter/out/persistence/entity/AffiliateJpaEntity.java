@@ -3,6 +3,8 @@ package com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.
 import com.coopcredit.creditapplication.domain.model.AffiliateStatus;
 import jakarta.persistence.*;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -14,6 +16,8 @@ import java.util.List;
  * Maps domain model to database table.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "affiliates")
 @Table(name = "affiliates", indexes = {
     @Index(name = "idx_affiliate_document", columnList = "document_number", unique = true),
     @Index(name = "idx_affiliate_email", columnList = "email"),
@@ -22,7 +26,8 @@ import java.util.List;
 public class AffiliateJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "affiliates_seq")
+    @SequenceGenerator(name = "affiliates_seq", sequenceName = "affiliates_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "document_type", nullable = false, length = 10)
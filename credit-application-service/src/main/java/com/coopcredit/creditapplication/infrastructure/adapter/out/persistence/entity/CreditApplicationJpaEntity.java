@@ -24,7 +24,8 @@ import java.time.LocalDateTime;
 public class CreditApplicationJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_applications_seq")
+    @SequenceGenerator(name = "credit_applications_seq", sequenceName = "credit_applications_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class RiskEvaluationJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "risk_evaluations_seq")
+    @SequenceGenerator(name = "risk_evaluations_seq", sequenceName = "risk_evaluations_id_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY, optional = false)
@@ -2,19 +2,25 @@ package com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.
 
 import com.coopcredit.creditapplication.domain.model.RoleName;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * JPA Entity for Role persistence.
  * Maps domain model to database table.
+ * Roles are reference data and are cached read-only in the second-level cache.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "roles")
 @Table(name = "roles", indexes = {
     @Index(name = "idx_role_name", columnList = "name", unique = true)
 })
 public class RoleJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roles_seq")
+    @SequenceGenerator(name = "roles_seq", sequenceName = "roles_id_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
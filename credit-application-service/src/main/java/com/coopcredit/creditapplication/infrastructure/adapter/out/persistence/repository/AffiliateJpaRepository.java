@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,6 +24,17 @@ public interface AffiliateJpaRepository extends JpaRepository<AffiliateJpaEntity
      */
     Optional<AffiliateJpaEntity> findByDocumentNumber(String documentNumber);
 
+    /**
+     * Finds affiliates by ID in one query. The inverse one-to-one user cannot
+     * be lazy, so it is fetched in the same query instead of one select per
+     * affiliate.
+     *
+     * @param ids the affiliate IDs
+     * @return affiliates found
+     */
+    @Query("SELECT a FROM AffiliateJpaEntity a LEFT JOIN FETCH a.user u LEFT JOIN FETCH u.roles WHERE a.id IN :ids")
+    List<AffiliateJpaEntity> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Checks if an affiliate exists with the given document number.
      *
@@ -55,4 +68,23 @@ public interface AffiliateJpaRepository extends JpaRepository<AffiliateJpaEntity
      */
     @Query("SELECT a FROM AffiliateJpaEntity a WHERE a.user.username = :username")
     Optional<AffiliateJpaEntity> findByUsername(@Param("username") String username);
+
+    /**
+     * Reads the row version maintained by the database trigger.
+     *
+     * @param id the affiliate ID
+     * @return version stamp ({@code <version>})
+     */
+    @Query(value = "SELECT CAST(a.version AS VARCHAR) FROM affiliates a WHERE a.id = :id", nativeQuery = true)
+    Optional<String> findVersionStamp(@Param("id") Long id);
+
+    /**
+     * Reads the row version of the affiliate linked to a user.
+     *
+     * @param username the username
+     * @return version stamp ({@code <affiliateId>-<version>})
+     */
+    @Query(value = "SELECT a.id || '-' || a.version FROM affiliates a " +
+                   "JOIN users u ON u.affiliate_id = a.id WHERE u.username = :username", nativeQuery = true)
+    Optional<String> findVersionStampByUsername(@Param("username") String username);
 }
@@ -2,12 +2,15 @@ package com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.
 
 import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
 import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.entity.CreditApplicationJpaEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +29,17 @@ public interface CreditApplicationJpaRepository extends JpaRepository<CreditAppl
     @EntityGraph(value = "CreditApplication.withAffiliate", type = EntityGraph.EntityGraphType.LOAD)
     Optional<CreditApplicationJpaEntity> findById(Long id);
 
+    /**
+     * Finds a credit application by ID and locks its row until the transaction ends.
+     *
+     * @param id the application ID
+     * @return optional containing the application if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(value = "CreditApplication.withAffiliate", type = EntityGraph.EntityGraphType.LOAD)
+    @Query("SELECT ca FROM CreditApplicationJpaEntity ca WHERE ca.id = :id")
+    Optional<CreditApplicationJpaEntity> findByIdForUpdate(@Param("id") Long id);
+
     /**
      * Finds all credit applications for a specific affiliate.
      *
@@ -47,6 +61,31 @@ public interface CreditApplicationJpaRepository extends JpaRepository<CreditAppl
     @Query("SELECT ca FROM CreditApplicationJpaEntity ca WHERE ca.affiliate.id = :affiliateId AND ca.status = :status ORDER BY ca.applicationDate DESC")
     List<CreditApplicationJpaEntity> findByAffiliateIdAndStatus(@Param("affiliateId") Long affiliateId, @Param("status") ApplicationStatus status);
 
+    /**
+     * Checks whether an affiliate has an application with the given status.
+     *
+     * @param affiliateId the affiliate ID
+     * @param status the application status
+     * @return true if one exists
+     */
+    @Query("SELECT CASE WHEN EXISTS (SELECT 1 FROM CreditApplicationJpaEntity ca " +
+           "WHERE ca.affiliate.id = :affiliateId AND ca.status = :status) THEN true ELSE false END")
+    boolean existsByAffiliateIdAndStatus(@Param("affiliateId") Long affiliateId,
+                                         @Param("status") ApplicationStatus status);
+
+    /**
+     * Returns the affiliates, among the given ones, that have an application
+     * with the given status.
+     *
+     * @param affiliateIds the affiliate IDs
+     * @param status the application status
+     * @return matching affiliate IDs
+     */
+    @Query("SELECT DISTINCT ca.affiliate.id FROM CreditApplicationJpaEntity ca " +
+           "WHERE ca.affiliate.id IN :affiliateIds AND ca.status = :status")
+    List<Long> findAffiliateIdsWithStatus(@Param("affiliateIds") Collection<Long> affiliateIds,
+                                          @Param("status") ApplicationStatus status);
+
     /**
      * Finds all credit applications with a specific status.
      *
@@ -75,4 +114,27 @@ public interface CreditApplicationJpaRepository extends JpaRepository<CreditAppl
     @EntityGraph(value = "CreditApplication.full", type = EntityGraph.EntityGraphType.LOAD)
     @Query("SELECT ca FROM CreditApplicationJpaEntity ca ORDER BY ca.applicationDate DESC")
     List<CreditApplicationJpaEntity> findAllWithDetails();
+
+    /**
+     * Finds applications by ID with full details loaded.
+     *
+     * @param ids the application IDs
+     * @return list of applications
+     */
+    @EntityGraph(value = "CreditApplication.full", type = EntityGraph.EntityGraphType.LOAD)
+    @Query("SELECT ca FROM CreditApplicationJpaEntity ca WHERE ca.id IN :ids")
+    List<CreditApplicationJpaEntity> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Computes a version stamp over an affiliate and all of its applications
+     * from row versions, counts and ids only.
+     *
+     * @param affiliateId the affiliate ID
+     * @return version stamp ({@code <affiliateVersion>-<count>-<versionSum>-<maxId>})
+     */
+    @Query(value = "SELECT a.version || '-' || COUNT(ca.id) || '-' || COALESCE(SUM(ca.version), 0) " +
+                   "|| '-' || COALESCE(MAX(ca.id), 0) " +
+                   "FROM affiliates a LEFT JOIN credit_applications ca ON ca.affiliate_id = a.id " +
+                   "WHERE a.id = :affiliateId GROUP BY a.id, a.version", nativeQuery = true)
+    Optional<String> findVersionStampByAffiliateId(@Param("affiliateId") Long affiliateId);
 }
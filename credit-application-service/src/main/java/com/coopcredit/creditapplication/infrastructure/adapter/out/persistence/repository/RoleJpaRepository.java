@@ -2,7 +2,10 @@ package com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.
 
 import com.coopcredit.creditapplication.domain.model.RoleName;
 import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.entity.RoleJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,9 +18,14 @@ public interface RoleJpaRepository extends JpaRepository<RoleJpaEntity, Long> {
 
     /**
      * Finds a role by its name.
+     * Results are kept in the query cache; the roles themselves in the entity cache.
      *
      * @param name the role name
      * @return optional containing the role if found
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "roles-by-name")
+    })
     Optional<RoleJpaEntity> findByName(RoleName name);
 }
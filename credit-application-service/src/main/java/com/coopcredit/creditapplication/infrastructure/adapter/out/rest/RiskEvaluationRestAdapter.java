@@ -11,9 +11,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.math.BigDecimal;
+
 /**
  * REST client adapter for external risk evaluation service.
  * Implements RiskEvaluationPort to call Risk Central Service.
+ *
+ * The monthly debt sent is never below the payments of the credits the
+ * affiliate already holds according to the exposure ledger, whatever the
+ * applicant declared.
  */
 @Component
 public class RiskEvaluationRestAdapter implements RiskEvaluationPort {
@@ -39,7 +45,7 @@ public class RiskEvaluationRestAdapter implements RiskEvaluationPort {
             application.getAffiliate().getDocumentNumber(),
             application.getRequestedAmount(),
             application.getMonthlyIncome(),
-            application.getCurrentDebt(),
+            monthlyDebt(application),
             application.getTermMonths()
         );
         
@@ -77,4 +83,13 @@ public class RiskEvaluationRestAdapter implements RiskEvaluationPort {
         
         return evaluation;
     }
+    
+    /**
+     * Declared monthly debt, raised to the ledger's obligations if lower.
+     */
+    private static BigDecimal monthlyDebt(CreditApplication application) {
+        BigDecimal obligations = application.getExistingMonthlyObligations();
+        BigDecimal declared = application.getCurrentDebt();
+        return declared != null ? declared.max(obligations) : obligations;
+    }
 }
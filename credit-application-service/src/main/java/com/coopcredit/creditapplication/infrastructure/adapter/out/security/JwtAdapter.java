@@ -3,31 +3,60 @@ package com.coopcredit.creditapplication.infrastructure.adapter.out.security;
 import com.coopcredit.creditapplication.domain.model.User;
 import com.coopcredit.creditapplication.domain.port.out.JwtPort;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * JWT Service Adapter implementing JwtPort.
  * Handles JWT token generation and validation.
+ *
+ * The signing key and parser are built once at startup. Successfully verified
+ * tokens are kept in a bounded cache keyed by the SHA-256 digest of the token
+ * until they expire, so repeated requests with the same token skip the HMAC
+ * check and JSON parsing.
  */
 @Component
 public class JwtAdapter implements JwtPort {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
 
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    private final Long expiration;
+    private final int cacheMaxEntries;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    public JwtAdapter(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.expiration}") Long expiration,
+                      @Value("${jwt.cache.max-entries:10000}") int cacheMaxEntries) {
+        this.expiration = expiration;
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+    }
 
     /**
      * Generates a JWT token for the given user.
@@ -43,10 +72,44 @@ public class JwtAdapter implements JwtPort {
             .map(role -> role.getName().name())
             .collect(Collectors.toList()));
         claims.put("email", user.getEmail());
-        
+
         return createToken(claims, user.getUsername());
     }
 
+    /**
+     * Verifies the token signature and expiration once and returns its claims.
+     * Results are served from the cache while the token is still valid.
+     *
+     * @param token the JWT token
+     * @return verified token claims
+     */
+    @Override
+    public VerifiedToken verify(String token) {
+        String key = cacheMaxEntries > 0 ? digest(token) : null;
+        Instant now = Instant.now();
+
+        if (key != null) {
+            VerifiedToken cached = verifiedTokens.get(key);
+            if (cached != null) {
+                if (!cached.isExpiredAt(now)) {
+                    return cached;
+                }
+                // Expired: drop it and let the parser raise ExpiredJwtException
+                verifiedTokens.remove(key);
+            }
+        }
+
+        VerifiedToken verified = toVerifiedToken(extractAllClaims(token));
+
+        if (key != null) {
+            if (verifiedTokens.size() >= cacheMaxEntries) {
+                evict(now);
+            }
+            verifiedTokens.put(key, verified);
+        }
+        return verified;
+    }
+
     /**
      * Extracts username from JWT token.
      *
@@ -55,7 +118,7 @@ public class JwtAdapter implements JwtPort {
      */
     @Override
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).getUsername();
     }
 
     /**
@@ -67,8 +130,8 @@ public class JwtAdapter implements JwtPort {
      */
     @Override
     public boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        VerifiedToken verified = verify(token);
+        return verified.getUsername().equals(username) && !verified.isExpiredAt(Instant.now());
     }
 
     /**
@@ -89,7 +152,7 @@ public class JwtAdapter implements JwtPort {
      * @return expiration date
      */
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return Date.from(verify(token).getExpiresAt());
     }
 
     /**
@@ -111,13 +174,53 @@ public class JwtAdapter implements JwtPort {
      * @param token the JWT token
      * @return all claims
      */
-    @SuppressWarnings("deprecation")
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-            .setSigningKey(getSigningKey())
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Converts parsed claims into the immutable verified token.
+     *
+     * @param claims the verified claims
+     * @return verified token
+     */
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        Object userId = claims.get("userId");
+        Object roles = claims.get("roles");
+        List<String> roleNames = roles instanceof List<?> list
+            ? list.stream().map(String::valueOf).collect(Collectors.toList())
+            : List.of();
+        return new VerifiedToken(
+            claims.getSubject(),
+            userId instanceof Number number ? number.longValue() : null,
+            roleNames,
+            claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    /**
+     * Keeps the cache bounded: drops expired entries first and, if the cache
+     * is still full, clears it.
+     *
+     * @param now the reference instant
+     */
+    private void evict(Instant now) {
+        verifiedTokens.values().removeIf(verified -> verified.isExpiredAt(now));
+        if (verifiedTokens.size() >= cacheMaxEntries) {
+            verifiedTokens.clear();
+        }
+    }
+
+    /**
+     * Computes the cache key for a token.
+     *
+     * @param token the JWT token
+     * @return Base64 encoded SHA-256 digest
+     */
+    private static String digest(String token) {
+        MessageDigest md = SHA256.get();
+        md.reset();
+        return Base64.getEncoder().encodeToString(md.digest(token.getBytes(StandardCharsets.UTF_8)));
     }
 
     /**
@@ -132,21 +235,11 @@ public class JwtAdapter implements JwtPort {
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
-            .setClaims(claims)
-            .setSubject(subject)
-            .setIssuedAt(now)
-            .setExpiration(expiryDate)
-            .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+            .claims(claims)
+            .subject(subject)
+            .issuedAt(now)
+            .expiration(expiryDate)
+            .signWith(signingKey, Jwts.SIG.HS256)
             .compact();
     }
-
-    /**
-     * Gets the signing key for JWT.
-     *
-     * @return signing key
-     */
-    private Key getSigningKey() {
-        byte[] keyBytes = secret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
@@ -1,20 +1,66 @@
 package com.coopcredit.creditapplication.infrastructure.adapter.out.security;
 
 import com.coopcredit.creditapplication.domain.port.out.PasswordEncoderPort;
+import com.coopcredit.creditapplication.infrastructure.exception.TooManyRequestsException;
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import jakarta.annotation.PreDestroy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Password Encoder Adapter implementing PasswordEncoderPort.
  * Delegates to Spring Security's BCryptPasswordEncoder.
+ *
+ * Each BCrypt operation costs tens of milliseconds of CPU, so they run on a
+ * dedicated pool sized to the cores instead of the request threads. A login
+ * burst then queues up there instead of starving every other endpoint, and
+ * once the queue is full further requests are shed with 429.
  */
 @Component
 public class PasswordEncoderAdapter implements PasswordEncoderPort {
 
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+
     private final PasswordEncoder passwordEncoder;
+    private final MetricsService metricsService;
+    private final int strength;
+    private final long retryAfterSeconds;
+    private final ThreadPoolExecutor executor;
 
-    public PasswordEncoderAdapter(PasswordEncoder passwordEncoder) {
+    public PasswordEncoderAdapter(PasswordEncoder passwordEncoder,
+                                  PasswordHashingProperties properties,
+                                  MetricsService metricsService) {
         this.passwordEncoder = passwordEncoder;
+        this.metricsService = metricsService;
+        this.strength = properties.getBcryptStrength();
+        this.retryAfterSeconds = Math.max(1, properties.getRetryAfter().toSeconds());
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            properties.getThreads(), properties.getThreads(), 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        metricsService.monitorExecutor(executor, "password.hashing");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
     }
 
     /**
@@ -22,10 +68,29 @@ public class PasswordEncoderAdapter implements PasswordEncoderPort {
      *
      * @param rawPassword the plain text password
      * @return encrypted password
+     * @throws TooManyRequestsException if the hashing queue is full
      */
     @Override
     public String encode(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return run("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Encodes a raw password using BCrypt on the caller's thread, bypassing
+     * the shared pool so a batch is not shed partway through. The caller
+     * bounds how many run at once.
+     *
+     * @param rawPassword the plain text password
+     * @return encrypted password
+     */
+    @Override
+    public String encodeBlocking(String rawPassword) {
+        long startedAt = System.nanoTime();
+        try {
+            return passwordEncoder.encode(rawPassword);
+        } finally {
+            metricsService.recordPasswordHash("encode", System.nanoTime() - startedAt);
+        }
     }
 
     /**
@@ -34,9 +99,63 @@ public class PasswordEncoderAdapter implements PasswordEncoderPort {
      * @param rawPassword the plain text password
      * @param encodedPassword the encrypted password
      * @return true if passwords match
+     * @throws TooManyRequestsException if the hashing queue is full
      */
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return run("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Checks whether a BCrypt hash was made with a cost factor other than the
+     * configured one. Hashes in any other format are left alone.
+     *
+     * @param encodedPassword the encrypted password
+     * @return true if the password should be encoded again
+     */
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * Runs a hashing operation on the pool and waits for it, recording queue
+     * wait and hashing time.
+     */
+    private <T> T run(String operation, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                metricsService.recordPasswordHashQueueWait(startedAt - submittedAt);
+                try {
+                    return task.get();
+                } finally {
+                    metricsService.recordPasswordHash(operation, System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            metricsService.incrementPasswordHashRejected(operation);
+            throw new TooManyRequestsException("PASSWORD_HASHING_BUSY",
+                "Too many concurrent authentication requests. Please retry shortly.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
     }
 }
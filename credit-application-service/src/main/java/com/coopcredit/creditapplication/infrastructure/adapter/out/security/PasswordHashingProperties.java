@@ -0,0 +1,66 @@
+package com.coopcredit.creditapplication.infrastructure.adapter.out.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Password hashing settings, bound from the {@code password-hashing} section.
+ */
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt cost factor for new hashes. Existing hashes with a different
+     * cost are rehashed on the next successful login.
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * Threads hashing and verifying passwords; defaults to the number of cores.
+     */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Hash requests allowed to wait for a thread; beyond this they are
+     * rejected with 429.
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Retry-After sent with 429 responses.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public void setBcryptStrength(int bcryptStrength) {
+        this.bcryptStrength = bcryptStrength;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,19 @@
+package com.coopcredit.creditapplication.infrastructure.cache;
+
+/**
+ * Local cache that must be evicted when another node changes the underlying data.
+ */
+public interface CacheInvalidationHandler {
+
+    /**
+     * Evicts the entry described by a remote invalidation.
+     *
+     * @param message the invalidation received from another node
+     */
+    void evict(CacheInvalidationMessage message);
+
+    /**
+     * Clears everything. Used when notifications may have been missed.
+     */
+    void evictAll();
+}
@@ -0,0 +1,130 @@
+package com.coopcredit.creditapplication.infrastructure.cache;
+
+import java.util.Objects;
+
+/**
+ * Cache invalidation event exchanged between nodes.
+ *
+ * Wire format (NOTIFY payload): {@code <originNode>|<kind>|<name>|<id>} where kind is
+ * {@code E} for entity data (name = entity name), {@code C} for collection data
+ * (name = collection role, id = owner id), {@code D} for other data kept in
+ * memory by the application (name = data set, id = key) or {@code V} for
+ * events relayed to live listeners on every node (name = event type, id =
+ * event body).
+ */
+public final class CacheInvalidationMessage {
+
+    private static final char SEPARATOR = '|';
+
+    public enum Kind {
+        ENTITY('E'),
+        COLLECTION('C'),
+        DATA('D'),
+        EVENT('V');
+
+        private final char code;
+
+        Kind(char code) {
+            this.code = code;
+        }
+
+        static Kind fromCode(String code) {
+            for (Kind kind : values()) {
+                if (code.length() == 1 && kind.code == code.charAt(0)) {
+                    return kind;
+                }
+            }
+            throw new IllegalArgumentException("Unknown invalidation kind: " + code);
+        }
+    }
+
+    private final String originNode;
+    private final Kind kind;
+    private final String name;
+    private final String id;
+
+    public CacheInvalidationMessage(String originNode, Kind kind, String name, String id) {
+        this.originNode = Objects.requireNonNull(originNode, "originNode");
+        this.kind = Objects.requireNonNull(kind, "kind");
+        this.name = Objects.requireNonNull(name, "name");
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    public static CacheInvalidationMessage entity(String originNode, String entityName, Object id) {
+        return new CacheInvalidationMessage(originNode, Kind.ENTITY, entityName, String.valueOf(id));
+    }
+
+    public static CacheInvalidationMessage collection(String originNode, String role, Object ownerId) {
+        return new CacheInvalidationMessage(originNode, Kind.COLLECTION, role, String.valueOf(ownerId));
+    }
+
+    public static CacheInvalidationMessage data(String originNode, String dataSet, Object key) {
+        return new CacheInvalidationMessage(originNode, Kind.DATA, dataSet, String.valueOf(key));
+    }
+
+    public static CacheInvalidationMessage event(String originNode, String eventType, String body) {
+        return new CacheInvalidationMessage(originNode, Kind.EVENT, eventType, body);
+    }
+
+    /**
+     * Parses a NOTIFY payload.
+     *
+     * @param payload the raw payload
+     * @return parsed message
+     * @throws IllegalArgumentException if the payload is malformed
+     */
+    public static CacheInvalidationMessage parse(String payload) {
+        if (payload == null) {
+            throw new IllegalArgumentException("Empty invalidation payload");
+        }
+        String[] parts = payload.split("\\|", 4);
+        if (parts.length != 4 || parts[0].isEmpty() || parts[2].isEmpty() || parts[3].isEmpty()) {
+            throw new IllegalArgumentException("Malformed invalidation payload: " + payload);
+        }
+        return new CacheInvalidationMessage(parts[0], Kind.fromCode(parts[1]), parts[2], parts[3]);
+    }
+
+    /**
+     * Serializes the message as a NOTIFY payload.
+     *
+     * @return payload string
+     */
+    public String toPayload() {
+        return originNode + SEPARATOR + kind.code + SEPARATOR + name + SEPARATOR + id;
+    }
+
+    public String getOriginNode() {
+        return originNode;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CacheInvalidationMessage that = (CacheInvalidationMessage) o;
+        return originNode.equals(that.originNode) && kind == that.kind
+            && name.equals(that.name) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(originNode, kind, name, id);
+    }
+
+    @Override
+    public String toString() {
+        return toPayload();
+    }
+}
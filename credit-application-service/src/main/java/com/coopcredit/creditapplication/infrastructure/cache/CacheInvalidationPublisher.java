@@ -0,0 +1,173 @@
+package com.coopcredit.creditapplication.infrastructure.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publishes second-level cache invalidations to the other nodes.
+ *
+ * Hooks into Hibernate update/delete events of cached entities and collections,
+ * collects the affected keys per transaction and issues {@code pg_notify} on the
+ * same connection right before commit. PostgreSQL only delivers notifications
+ * once the transaction commits, so rolled back changes are never announced.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cache-invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationPublisher implements PostUpdateEventListener, PostDeleteEventListener,
+        PostCollectionUpdateEventListener, PostCollectionRemoveEventListener, PostCollectionRecreateEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationPublisher.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<EventSource, Set<CacheInvalidationMessage>> pending = new ConcurrentHashMap<>();
+
+    public CacheInvalidationPublisher(EntityManagerFactory entityManagerFactory,
+                                      @Value("${cache-invalidation.channel:coopcredit_cache_invalidation}") String channel) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.channel = channel;
+    }
+
+    /**
+     * Registers this publisher as Hibernate event listener.
+     */
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        logger.info("Cache invalidation publisher registered on channel '{}' as node {}", channel, nodeId);
+    }
+
+    /**
+     * Identifier of this node, used by listeners to skip their own notifications.
+     *
+     * @return node identifier
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        onEntityChange(event.getSession(), event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onEntityChange(event.getSession(), event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        onCollectionChange(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        onCollectionChange(event);
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        onCollectionChange(event);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void onEntityChange(EventSource session, EntityPersister persister, Object id) {
+        if (persister.canWriteToCache() && id != null) {
+            enqueue(session, CacheInvalidationMessage.entity(nodeId, persister.getEntityName(), id));
+        }
+    }
+
+    private void onCollectionChange(AbstractCollectionEvent event) {
+        Object ownerId = event.getAffectedOwnerIdOrNull();
+        String role = event.getCollection().getRole();
+        if (ownerId == null || role == null) {
+            return;
+        }
+        boolean cached = event.getSession().getFactory().getMappingMetamodel()
+            .getCollectionDescriptor(role)
+            .hasCache();
+        if (cached) {
+            enqueue(event.getSession(), CacheInvalidationMessage.collection(nodeId, role, ownerId));
+        }
+    }
+
+    /**
+     * Adds a message to the current transaction, registering the flush hooks on first use.
+     */
+    private void enqueue(EventSource session, CacheInvalidationMessage message) {
+        pending.computeIfAbsent(session, key -> {
+            key.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) this::notifyPending);
+            key.getActionQueue().registerProcess((AfterTransactionCompletionProcess) this::clearPending);
+            return new LinkedHashSet<>();
+        }).add(message);
+    }
+
+    private void notifyPending(SharedSessionContractImplementor session) {
+        Set<CacheInvalidationMessage> messages = pending.remove(session);
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                for (CacheInvalidationMessage message : messages) {
+                    statement.setString(1, channel);
+                    statement.setString(2, message.toPayload());
+                    statement.execute();
+                }
+            }
+        });
+        logger.debug("Queued {} cache invalidation(s) for commit", messages.size());
+    }
+
+    private void clearPending(boolean success, SharedSessionContractImplementor session) {
+        pending.remove(session);
+    }
+}
@@ -0,0 +1,176 @@
+package com.coopcredit.creditapplication.infrastructure.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Receives cache invalidations from other nodes via PostgreSQL LISTEN.
+ *
+ * Uses one dedicated connection outside the Hikari pool. If the connection
+ * drops, notifications sent meanwhile are lost, so every local cache is cleared
+ * once listening resumes.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cache-invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PostgresCacheInvalidationListener implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresCacheInvalidationListener.class);
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheInvalidationPublisher publisher;
+    private final List<CacheInvalidationHandler> handlers;
+    private final int pollTimeoutMillis;
+    private final long reconnectDelayMillis;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread worker;
+
+    public PostgresCacheInvalidationListener(DataSourceProperties dataSourceProperties,
+                                             CacheInvalidationPublisher publisher,
+                                             List<CacheInvalidationHandler> handlers,
+                                             @Value("${cache-invalidation.poll-timeout:5000}") int pollTimeoutMillis,
+                                             @Value("${cache-invalidation.reconnect-delay:5000}") long reconnectDelayMillis) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.publisher = publisher;
+        this.handlers = handlers;
+        this.pollTimeoutMillis = pollTimeoutMillis;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::listenLoop, "cache-invalidation-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        closeConnection();
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        boolean listenedBefore = false;
+        while (running) {
+            try {
+                connect();
+                if (listenedBefore) {
+                    // Anything published while we were disconnected is gone
+                    logger.warn("Cache invalidation listener reconnected, clearing local caches");
+                    handlers.forEach(CacheInvalidationHandler::evictAll);
+                }
+                listenedBefore = true;
+                poll();
+            } catch (SQLException e) {
+                if (running) {
+                    logger.warn("Cache invalidation listener lost its connection: {}", e.getMessage());
+                }
+            } finally {
+                closeConnection();
+            }
+            sleepBeforeReconnect();
+        }
+    }
+
+    private void connect() throws SQLException {
+        connection = DriverManager.getConnection(
+            dataSourceProperties.determineUrl(),
+            dataSourceProperties.determineUsername(),
+            dataSourceProperties.determinePassword());
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN \"" + publisher.getChannel() + "\"");
+        }
+        logger.info("Listening for cache invalidations on channel '{}'", publisher.getChannel());
+    }
+
+    private void poll() throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+            if (notifications == null || notifications.length == 0) {
+                if (!connection.isValid(pollTimeoutMillis / 1000 + 1)) {
+                    throw new SQLException("Listener connection is no longer valid");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                dispatch(notification.getParameter());
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        CacheInvalidationMessage message;
+        try {
+            message = CacheInvalidationMessage.parse(payload);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Ignoring cache invalidation: {}", e.getMessage());
+            return;
+        }
+        if (publisher.getNodeId().equals(message.getOriginNode())) {
+            return;
+        }
+        for (CacheInvalidationHandler handler : handlers) {
+            try {
+                handler.evict(message);
+            } catch (RuntimeException e) {
+                // Unknown entity or region: fall back to a full clear for safety
+                logger.warn("Failed to apply cache invalidation {}: {}", message, e.getMessage());
+                handler.evictAll();
+            }
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void closeConnection() {
+        Connection current = connection;
+        connection = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException e) {
+                logger.debug("Error closing listener connection: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.coopcredit.creditapplication.infrastructure.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts Hibernate second-level cache entries changed on other nodes.
+ *
+ * Query cache regions are cleared along with any entity eviction, since the
+ * update timestamps that normally invalidate them are only maintained locally.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cache-invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheInvalidationHandler implements CacheInvalidationHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecondLevelCacheInvalidationHandler.class);
+
+    private final SessionFactoryImplementor sessionFactory;
+
+    public SecondLevelCacheInvalidationHandler(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    @Override
+    public void evict(CacheInvalidationMessage message) {
+        CacheImplementor cache = sessionFactory.getCache();
+        MappingMetamodel metamodel = sessionFactory.getMappingMetamodel();
+
+        switch (message.getKind()) {
+            case ENTITY -> {
+                Class<?> idType = metamodel.getEntityDescriptor(message.getName())
+                    .getIdentifierMapping().getJavaType().getJavaTypeClass();
+                cache.evictEntityData(message.getName(), toIdentifier(message.getId(), idType));
+            }
+            case COLLECTION -> {
+                Class<?> idType = metamodel.getCollectionDescriptor(message.getName())
+                    .getOwnerEntityPersister().getIdentifierMapping().getJavaType().getJavaTypeClass();
+                cache.evictCollectionData(message.getName(), toIdentifier(message.getId(), idType));
+            }
+            case DATA, EVENT -> {
+                // Not held in the second-level cache
+                return;
+            }
+        }
+        cache.evictQueryRegions();
+        logger.debug("Evicted {} {}#{} after remote change", message.getKind(), message.getName(), message.getId());
+    }
+
+    @Override
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+        logger.info("Cleared all second-level cache regions");
+    }
+
+    private static Object toIdentifier(String id, Class<?> idType) {
+        if (idType == Long.class) {
+            return Long.valueOf(id);
+        }
+        if (idType == Integer.class) {
+            return Integer.valueOf(id);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,120 @@
+package com.coopcredit.creditapplication.infrastructure.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency limit that adapts to observed latency (gradient algorithm).
+ *
+ * The baseline is the minimum latency seen over the previous sample window,
+ * i.e. the latency without queueing. Each completed request compares its own
+ * latency with it: while it stays within {@code tolerance} times the baseline
+ * the limit grows by about sqrt(limit), and as queueing pushes latency up the
+ * limit shrinks proportionally (at most halving per sample). Failed requests
+ * (5xx, timeouts) cut the limit multiplicatively, AIMD style. Changes are
+ * smoothed, and the limit never grows while the service is not using it.
+ *
+ * Requests beyond the limit are rejected immediately instead of queueing on
+ * the connection pool.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int windowSize;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private long baselineRttNanos = Long.MAX_VALUE;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private int windowSamples;
+
+    public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitProperties.Limiter settings) {
+        if (settings.getMinLimit() < 1 || settings.getMaxLimit() < settings.getMinLimit()) {
+            throw new IllegalArgumentException("Invalid limits for concurrency limiter " + name);
+        }
+        this.name = name;
+        this.minLimit = settings.getMinLimit();
+        this.maxLimit = settings.getMaxLimit();
+        this.tolerance = settings.getTolerance();
+        this.smoothing = settings.getSmoothing();
+        this.windowSize = settings.getWindowSize();
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, settings.getInitialLimit()));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Reserves a slot if the service is below its limit.
+     *
+     * @return true if the request may proceed; it must then call {@link #release}
+     */
+    public boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > limit) {
+            inFlight.decrementAndGet();
+            rejected.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Frees a slot and feeds the request latency into the limit.
+     *
+     * @param rttNanos time the request took
+     * @param dropped true if it failed in a way that signals overload
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtCompletion, dropped);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion, boolean dropped) {
+        double newLimit;
+        if (dropped) {
+            newLimit = estimatedLimit * BACKOFF_RATIO;
+        } else {
+            windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+            if (baselineRttNanos == Long.MAX_VALUE || ++windowSamples >= windowSize) {
+                baselineRttNanos = windowMinRttNanos;
+                windowMinRttNanos = Long.MAX_VALUE;
+                windowSamples = 0;
+            }
+            double gradient = Math.max(MIN_GRADIENT,
+                Math.min(1.0, tolerance * baselineRttNanos / Math.max(1, rttNanos)));
+            newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            if (inFlightAtCompletion * 2 < estimatedLimit) {
+                // Application-limited: no evidence that a higher limit is safe
+                newLimit = Math.min(newLimit, estimatedLimit);
+            }
+            newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
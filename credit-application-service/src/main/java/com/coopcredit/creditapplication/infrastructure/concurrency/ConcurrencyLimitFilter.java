@@ -0,0 +1,117 @@
+package com.coopcredit.creditapplication.infrastructure.concurrency;
+
+import com.coopcredit.creditapplication.infrastructure.exception.ProblemDetailWriter;
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sheds API requests beyond the adaptive concurrency limit with 503.
+ *
+ * Without it, excess requests are accepted by Tomcat and then wait for a
+ * database connection until the pool times out, so under overload every
+ * request gets slow instead of some failing fast. Evaluation (which also
+ * calls the risk service) and affiliate reads get their own limiters, so a
+ * surge of one does not shed the other.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimitProperties properties;
+    private final MetricsService metricsService;
+    private final ProblemDetailWriter problemDetailWriter;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new HashMap<>();
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties,
+                                  MetricsService metricsService,
+                                  ProblemDetailWriter problemDetailWriter) {
+        this.properties = properties;
+        this.metricsService = metricsService;
+        this.problemDetailWriter = problemDetailWriter;
+        properties.getLimiters().forEach((name, settings) -> {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(name, settings);
+            limiters.put(name, limiter);
+            metricsService.monitorConcurrencyLimiter(limiter);
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled() || !path(request).startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        AdaptiveConcurrencyLimiter limiter = limiters.get(limiterName(request));
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!limiter.tryAcquire()) {
+            metricsService.incrementConcurrencyRejected(limiter.getName());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds()));
+            problemDetailWriter.write(request, response, HttpStatus.SERVICE_UNAVAILABLE, "service-overloaded",
+                "Service Overloaded", "SERVICE_OVERLOADED",
+                "The service is at capacity. Please retry shortly.");
+            return;
+        }
+
+        long started = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        } finally {
+            limiter.release(System.nanoTime() - started, dropped);
+        }
+    }
+
+    /**
+     * Returns a limiter by name.
+     *
+     * @param name limiter name
+     * @return the limiter, or null if none is configured with that name
+     */
+    public AdaptiveConcurrencyLimiter getLimiter(String name) {
+        return limiters.get(name);
+    }
+
+    /**
+     * Picks the limiter for a request.
+     *
+     * @param request HTTP request
+     * @return limiter name
+     */
+    static String limiterName(HttpServletRequest request) {
+        String path = path(request);
+        if ("POST".equals(request.getMethod())
+                && path.startsWith("/api/credit-applications/") && path.endsWith("/evaluate")) {
+            return ConcurrencyLimitProperties.EVALUATE;
+        }
+        if ("GET".equals(request.getMethod()) && path.startsWith("/api/affiliates")) {
+            return ConcurrencyLimitProperties.AFFILIATE_READS;
+        }
+        return ConcurrencyLimitProperties.DEFAULT;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
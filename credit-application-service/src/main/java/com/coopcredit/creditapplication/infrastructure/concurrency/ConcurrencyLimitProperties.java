@@ -0,0 +1,154 @@
+package com.coopcredit.creditapplication.infrastructure.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Adaptive concurrency limit settings, bound from the {@code concurrency-limit} section.
+ */
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    public static final String EVALUATE = "evaluate";
+    public static final String AFFILIATE_READS = "affiliate-reads";
+    public static final String DEFAULT = "default";
+
+    /**
+     * Whether API requests go through the concurrency limiters.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Retry-After sent with 503 responses, in seconds.
+     */
+    private int retryAfterSeconds = 1;
+
+    /**
+     * Limiter settings by name: evaluate, affiliate-reads and default.
+     */
+    private Map<String, Limiter> limiters = new LinkedHashMap<>(Map.of(
+        EVALUATE, new Limiter(4, 1, 20),
+        AFFILIATE_READS, new Limiter(20, 4, 200),
+        DEFAULT, new Limiter(20, 4, 200)
+    ));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(int retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public Map<String, Limiter> getLimiters() {
+        return limiters;
+    }
+
+    public void setLimiters(Map<String, Limiter> limiters) {
+        this.limiters = limiters;
+    }
+
+    /**
+     * Settings of one limiter.
+     */
+    public static class Limiter {
+
+        /**
+         * Limit before any latency has been observed.
+         */
+        private int initialLimit;
+
+        /**
+         * Floor the limit never drops below.
+         */
+        private int minLimit;
+
+        /**
+         * Ceiling the limit never grows above.
+         */
+        private int maxLimit;
+
+        /**
+         * Latency, as a multiple of the no-queueing baseline, tolerated before
+         * the limit starts shrinking.
+         */
+        private double tolerance = 2.0;
+
+        /**
+         * Weight of each new sample when updating the limit (0..1).
+         */
+        private double smoothing = 0.2;
+
+        /**
+         * Samples per window over which the baseline latency is measured.
+         */
+        private int windowSize = 500;
+
+        public Limiter() {
+        }
+
+        public Limiter(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public double getTolerance() {
+            return tolerance;
+        }
+
+        public void setTolerance(double tolerance) {
+            this.tolerance = tolerance;
+        }
+
+        public double getSmoothing() {
+            return smoothing;
+        }
+
+        public void setSmoothing(double smoothing) {
+            this.smoothing = smoothing;
+        }
+
+        public int getWindowSize() {
+            return windowSize;
+        }
+
+        public void setWindowSize(int windowSize) {
+            this.windowSize = windowSize;
+        }
+    }
+}
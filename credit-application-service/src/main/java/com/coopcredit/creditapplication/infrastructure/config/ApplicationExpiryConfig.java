@@ -0,0 +1,13 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import com.coopcredit.creditapplication.infrastructure.expiry.ApplicationExpiryProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the scheduled expiry of stale credit applications.
+ */
+@Configuration
+@EnableConfigurationProperties(ApplicationExpiryProperties.class)
+public class ApplicationExpiryConfig {
+}
@@ -0,0 +1,13 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import com.coopcredit.creditapplication.infrastructure.rules.BusinessRulesProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Binds the credit eligibility rules; see BusinessRuleEngine.
+ */
+@Configuration
+@EnableConfigurationProperties(BusinessRulesProperties.class)
+public class BusinessRulesConfig {
+}
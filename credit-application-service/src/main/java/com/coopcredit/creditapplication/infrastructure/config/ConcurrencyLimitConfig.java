@@ -0,0 +1,15 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import com.coopcredit.creditapplication.infrastructure.concurrency.ConcurrencyLimitProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for adaptive concurrency limiting.
+ * The filter itself is registered in {@link SecurityConfig}, as the last
+ * filter before the controllers.
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+}
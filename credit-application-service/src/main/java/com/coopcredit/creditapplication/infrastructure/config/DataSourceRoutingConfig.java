@@ -0,0 +1,96 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import com.coopcredit.creditapplication.infrastructure.datasource.ReadReplicaProperties;
+import com.coopcredit.creditapplication.infrastructure.datasource.ReadReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for read replica routing.
+ *
+ * Active only with {@code datasource-routing.enabled=true}; otherwise Spring Boot
+ * creates the usual single Hikari pool. Pools register their Hikari metrics
+ * under the pool names {@code primary} and {@code replica-<name>}.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * Creates the primary and replica pools behind a routing data source.
+     *
+     * @param dataSourceProperties primary connection settings
+     * @param replicaProperties replica settings
+     * @param environment used to bind the Hikari settings of each pool
+     * @param meterRegistry registry for pool and routing metrics
+     * @return routing data source
+     */
+    @Bean(destroyMethod = "close")
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                                     ReadReplicaProperties replicaProperties,
+                                                                     Environment environment,
+                                                                     MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricRegistry(meterRegistry);
+
+        List<ReadReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        List<ReadReplicaProperties.Replica> configured = replicaProperties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            ReadReplicaProperties.Replica settings = configured.get(i);
+            String name = settings.getName() != null ? settings.getName() : String.valueOf(i + 1);
+
+            HikariDataSource pool = new HikariDataSource();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            binder.bind("datasource-routing.replicas[" + i + "].hikari", Bindable.ofInstance(pool));
+            pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            pool.setJdbcUrl(settings.getUrl());
+            pool.setUsername(settings.getUsername() != null
+                ? settings.getUsername() : dataSourceProperties.determineUsername());
+            pool.setPassword(settings.getPassword() != null
+                ? settings.getPassword() : dataSourceProperties.determinePassword());
+            pool.setPoolName("replica-" + name);
+            pool.setReadOnly(true);
+            // A replica that is down at startup must not prevent the application from starting
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricRegistry(meterRegistry);
+            replicas.add(new ReadReplicaRoutingDataSource.Replica(name, pool));
+        }
+
+        return new ReadReplicaRoutingDataSource(primary, replicas,
+            replicaProperties.getMaxLag(), replicaProperties.getHealthCheckInterval(), meterRegistry);
+    }
+
+    /**
+     * Exposes the routing data source lazily so routing happens on first use,
+     * after the transaction's read-only flag is known.
+     *
+     * @param readReplicaRoutingDataSource the routing data source
+     * @return data source used by JPA, Flyway and JDBC
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,13 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import com.coopcredit.creditapplication.infrastructure.stream.DecisionStreamProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the Server-Sent Events stream of application decisions.
+ */
+@Configuration
+@EnableConfigurationProperties(DecisionStreamProperties.class)
+public class DecisionStreamConfig {
+}
@@ -0,0 +1,73 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Configuration for the Hibernate second-level cache.
+ *
+ * Regions live in a local Caffeine JCache manager. Each region declared under
+ * {@code l2-cache.regions} is created up front with its own size and TTL, and
+ * the manager is handed to Hibernate's JCache region factory. Hit/miss/put
+ * counts per region are exported by Micrometer's Hibernate binder.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class HibernateCacheConfig {
+
+    /**
+     * Creates the JCache manager backing the second-level cache regions.
+     *
+     * @param properties region eviction settings
+     * @return cache manager with all configured regions created
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // Own URI so the manager is not shared with other JCache users (or other contexts)
+        CacheManager cacheManager = provider.getCacheManager(
+            URI.create("hibernate-l2-" + UUID.randomUUID()), HibernateCacheConfig.class.getClassLoader());
+
+        properties.getRegions().forEach((name, region) -> {
+            if (cacheManager.getCache(name) == null) {
+                cacheManager.createCache(name, toConfiguration(region));
+            }
+        });
+        return cacheManager;
+    }
+
+    /**
+     * Passes the cache manager instance to Hibernate.
+     *
+     * @param hibernateCacheManager the JCache manager
+     * @return customizer registering the manager
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> toConfiguration(SecondLevelCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (region.getMaxEntries() > 0) {
+            configuration.setMaximumSize(OptionalLong.of(region.getMaxEntries()));
+        }
+        if (region.getExpireAfterWrite() != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,15 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import com.coopcredit.creditapplication.infrastructure.idempotency.IdempotencyProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for Idempotency-Key handling on POST endpoints.
+ * The filter itself is registered in {@link SecurityConfig}, after JWT
+ * authentication, because stored responses are scoped per user.
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+}
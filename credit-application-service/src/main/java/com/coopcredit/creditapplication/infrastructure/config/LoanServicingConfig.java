@@ -0,0 +1,13 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import com.coopcredit.creditapplication.infrastructure.servicing.LoanServicingProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for loan servicing and its nightly interest accrual.
+ */
+@Configuration
+@EnableConfigurationProperties(LoanServicingProperties.class)
+public class LoanServicingConfig {
+}
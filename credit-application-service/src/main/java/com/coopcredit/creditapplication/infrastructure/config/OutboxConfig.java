@@ -0,0 +1,27 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import com.coopcredit.creditapplication.infrastructure.outbox.InMemoryOutboxSink;
+import com.coopcredit.creditapplication.infrastructure.outbox.NdjsonFileOutboxSink;
+import com.coopcredit.creditapplication.infrastructure.outbox.OutboxProperties;
+import com.coopcredit.creditapplication.infrastructure.outbox.OutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the transactional outbox: selects the sink the relay
+ * publishes to.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    public OutboxSink outboxSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        return switch (properties.getSink()) {
+            case NDJSON -> new NdjsonFileOutboxSink(properties.getNdjsonPath(), objectMapper);
+            case MEMORY -> new InMemoryOutboxSink(properties.getMemoryCapacity());
+        };
+    }
+}
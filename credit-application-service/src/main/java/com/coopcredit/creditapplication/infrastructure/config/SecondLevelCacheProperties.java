@@ -0,0 +1,60 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Eviction settings for the Hibernate second-level cache regions.
+ * Bound from the {@code l2-cache} section of application.yml.
+ */
+@ConfigurationProperties(prefix = "l2-cache")
+public class SecondLevelCacheProperties {
+
+    /**
+     * Per-region settings keyed by region name.
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    public Map<String, Region> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(Map<String, Region> regions) {
+        this.regions = regions;
+    }
+
+    /**
+     * Eviction policy of a single cache region.
+     */
+    public static class Region {
+
+        /**
+         * Maximum number of entries; 0 or less means unbounded.
+         */
+        private long maxEntries = 1000;
+
+        /**
+         * Time to live after write; null means entries never expire.
+         */
+        private Duration expireAfterWrite;
+
+        public long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+    }
+}
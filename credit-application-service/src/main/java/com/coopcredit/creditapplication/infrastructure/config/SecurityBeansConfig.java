@@ -1,5 +1,7 @@
 package com.coopcredit.creditapplication.infrastructure.config;
 
+import com.coopcredit.creditapplication.infrastructure.adapter.out.security.PasswordHashingProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -10,15 +12,17 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * Provides security-related beans like PasswordEncoder.
  */
 @Configuration
+@EnableConfigurationProperties(PasswordHashingProperties.class)
 public class SecurityBeansConfig {
 
     /**
      * Provides BCrypt password encoder bean.
      *
+     * @param properties hashing settings with the cost factor
      * @return BCryptPasswordEncoder instance
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        return new BCryptPasswordEncoder(properties.getBcryptStrength());
     }
 }
@@ -1,6 +1,10 @@
 package com.coopcredit.creditapplication.infrastructure.config;
 
 import com.coopcredit.creditapplication.infrastructure.adapter.in.rest.security.JwtAuthenticationFilter;
+import com.coopcredit.creditapplication.infrastructure.concurrency.ConcurrencyLimitFilter;
+import com.coopcredit.creditapplication.infrastructure.idempotency.IdempotencyFilter;
+import com.coopcredit.creditapplication.infrastructure.ratelimit.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -27,9 +31,18 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final IdempotencyFilter idempotencyFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+                          RateLimitFilter rateLimitFilter,
+                          IdempotencyFilter idempotencyFilter,
+                          ConcurrencyLimitFilter concurrencyLimitFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.idempotencyFilter = idempotencyFilter;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
     }
 
     /**
@@ -50,6 +63,9 @@ public class SecurityConfig {
             
             // Configure authorization rules
             .authorizeHttpRequests(auth -> auth
+                // Async dispatches (SSE streams completing) were authorized on the original request
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                
                 // Public endpoints
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/actuator/health").permitAll()
@@ -71,7 +87,17 @@ public class SecurityConfig {
             )
             
             // Add JWT filter before UsernamePasswordAuthenticationFilter
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            
+            // Rate limiting per principal (or IP when anonymous)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+            
+            // Idempotency-Key handling needs the authenticated user
+            .addFilterAfter(idempotencyFilter, RateLimitFilter.class)
+            
+            // Adaptive concurrency limit, ahead of authentication so a shed request
+            // never reaches the database for the user or an idempotency claim
+            .addFilterBefore(concurrencyLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,13 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import com.coopcredit.creditapplication.infrastructure.velocity.VelocityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the in-memory application velocity checks.
+ */
+@Configuration
+@EnableConfigurationProperties(VelocityProperties.class)
+public class VelocityConfig {
+}
@@ -0,0 +1,109 @@
+package com.coopcredit.creditapplication.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica routing settings, bound from the {@code datasource-routing} section.
+ *
+ * Each replica pool starts from the {@code spring.datasource.hikari} settings and
+ * may override them under {@code datasource-routing.replicas[n].hikari}.
+ */
+@ConfigurationProperties(prefix = "datasource-routing")
+public class ReadReplicaProperties {
+
+    /**
+     * Whether read-only transactions are routed to replicas.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Replicas lagging more than this are skipped until they catch up.
+     */
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    /**
+     * How often replica availability and lag are checked.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    public void setHealthCheckInterval(Duration healthCheckInterval) {
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    /**
+     * Connection settings of a single replica.
+     */
+    public static class Replica {
+
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.coopcredit.creditapplication.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource that sends read-only transactions to replica pools.
+ *
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the connection is
+ * requested after the transaction's read-only flag has been bound. Replicas are
+ * used round-robin while they are reachable and within the allowed lag; when
+ * none qualifies, or a replica fails to hand out a connection, the primary
+ * serves the transaction.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    /**
+     * Replay lag in seconds. A caught up standby or a primary posing as replica reports 0.
+     */
+    private static final String LAG_QUERY =
+        "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+        "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter replicaUnavailable;
+    private final Counter replicaFailures;
+    private final ScheduledExecutorService healthChecker;
+
+    public ReadReplicaRoutingDataSource(HikariDataSource primary, List<Replica> replicas, Duration maxLag,
+                                        Duration healthCheckInterval, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+
+        this.primaryConnections = routingCounter(meterRegistry, "primary");
+        this.replicaConnections = routingCounter(meterRegistry, "replica");
+        this.replicaUnavailable = fallbackCounter(meterRegistry, "unavailable");
+        this.replicaFailures = fallbackCounter(meterRegistry, "connection-failure");
+
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                .description("Whether the replica currently receives read-only transactions")
+                .tag("replica", replica.name)
+                .register(meterRegistry);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                .description("Replication lag of the replica in seconds")
+                .tag("replica", replica.name)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        }
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = healthCheckInterval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Replica replica = nextAvailableReplica();
+            if (replica == null) {
+                replicaUnavailable.increment();
+            } else {
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    replicaConnections.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    replica.markUnavailable(e);
+                    replicaFailures.increment();
+                }
+            }
+        }
+        primaryConnections.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("Routing data source uses the configured credentials");
+    }
+
+    /**
+     * Runs the availability and lag check on every replica.
+     * Invoked periodically; exposed for tests and manual refresh.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                double lag = resultSet.getDouble(1);
+                connection.rollback();
+                replica.update(lag, lag <= maxLag.toMillis() / 1000.0);
+            } catch (SQLException | RuntimeException e) {
+                replica.markUnavailable(e);
+            }
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    private Replica nextAvailableReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (candidate.available) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing.connections")
+            .description("Connections handed out by the routing data source")
+            .tag("target", target)
+            .register(meterRegistry);
+    }
+
+    private static Counter fallbackCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("datasource.routing.fallbacks")
+            .description("Read-only transactions served by the primary instead of a replica")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    /**
+     * A replica pool and its last known state.
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean available;
+        private volatile double lagSeconds;
+
+        public Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public HikariDataSource getDataSource() {
+            return dataSource;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+
+        public double getLagSeconds() {
+            return lagSeconds;
+        }
+
+        void update(double lagSeconds, boolean withinLag) {
+            if (available && !withinLag) {
+                logger.warn("Replica {} is {}s behind, routing reads to primary", name, lagSeconds);
+            } else if (!available && withinLag) {
+                logger.info("Replica {} available (lag {}s)", name, lagSeconds);
+            }
+            this.lagSeconds = lagSeconds;
+            this.available = withinLag;
+        }
+
+        void markUnavailable(Exception cause) {
+            if (available) {
+                logger.warn("Replica {} unavailable: {}", name, cause.getMessage());
+            }
+            this.available = false;
+        }
+    }
+}
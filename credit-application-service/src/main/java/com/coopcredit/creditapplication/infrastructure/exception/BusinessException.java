@@ -2,6 +2,8 @@ package com.coopcredit.creditapplication.infrastructure.exception;
 
 /**
  * Custom exception for business rule violations.
+ * Expected rejections can skip capturing a stack trace, which would
+ * otherwise dominate their cost and is never logged.
  */
 public class BusinessException extends RuntimeException {
     
@@ -17,6 +19,14 @@ public class BusinessException extends RuntimeException {
         this.code = code;
     }
 
+    /**
+     * @param writableStackTrace false to skip capturing the stack trace
+     */
+    public BusinessException(String code, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.code = code;
+    }
+
     public String getCode() {
         return code;
     }
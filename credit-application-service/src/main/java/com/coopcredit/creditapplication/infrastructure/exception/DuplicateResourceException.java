@@ -0,0 +1,26 @@
+package com.coopcredit.creditapplication.infrastructure.exception;
+
+/**
+ * Custom exception for values that must be unique and are already taken.
+ * Extends IllegalArgumentException so it is reported like the other
+ * registration input errors.
+ */
+public class DuplicateResourceException extends IllegalArgumentException {
+
+    private final String fieldName;
+    private final Object fieldValue;
+
+    public DuplicateResourceException(String fieldName, Object fieldValue) {
+        super(String.format("%s already exists: %s", fieldName, fieldValue));
+        this.fieldName = fieldName;
+        this.fieldValue = fieldValue;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public Object getFieldValue() {
+        return fieldValue;
+    }
+}
@@ -7,6 +7,7 @@ import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -100,6 +101,12 @@ public class GlobalExceptionHandler {
         problemDetail.setProperty(TIMESTAMP, Instant.now());
         problemDetail.setProperty("code", ex.getCode());
         problemDetail.setProperty("path", request.getRequestURI());
+        if (ex instanceof RuleViolationException ruleViolations && ruleViolations.isExhaustive()) {
+            // Messages are formatted here, only for the rejections that are reported
+            problemDetail.setProperty("violations", ruleViolations.getViolations().stream()
+                .map(violation -> new Violation(violation.rule(), violation.code(), violation.message()))
+                .toList());
+        }
 
         logger.warn("Business exception on {}: {}", request.getRequestURI(), ex.getMessage());
 
@@ -226,6 +233,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(problemDetail);
     }
 
+    /**
+     * Handles requests shed because a bounded resource is saturated.
+     *
+     * @param ex too many requests exception
+     * @param request HTTP request
+     * @return problem detail with Retry-After header
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ProblemDetail> handleTooManyRequestsException(
+            TooManyRequestsException ex,
+            HttpServletRequest request) {
+        
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+            HttpStatus.TOO_MANY_REQUESTS,
+            ex.getMessage()
+        );
+        
+        problemDetail.setType(URI.create("https://coopcredit.com/errors/too-many-requests"));
+        problemDetail.setTitle("Too Many Requests");
+        problemDetail.setProperty(TIMESTAMP, Instant.now());
+        problemDetail.setProperty("code", ex.getCode());
+        problemDetail.setProperty("path", request.getRequestURI());
+
+        logger.warn("Request shed on {}: {}", request.getRequestURI(), ex.getCode());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(problemDetail);
+    }
+
     /**
      * Handles illegal argument exceptions (typically from validation).
      *
@@ -279,4 +316,10 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(problemDetail);
     }
+
+    /**
+     * A broken credit rule, as listed under "violations".
+     */
+    private record Violation(String rule, String code, String message) {
+    }
 }
@@ -0,0 +1,53 @@
+package com.coopcredit.creditapplication.infrastructure.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+
+/**
+ * Writes RFC 7807 Problem Details from servlet filters, which run outside
+ * {@link GlobalExceptionHandler}, in the same format it produces.
+ */
+@Component
+public class ProblemDetailWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public ProblemDetailWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes a problem detail as the response body.
+     *
+     * @param request HTTP request
+     * @param response HTTP response
+     * @param status response status
+     * @param type last segment of the error type URI
+     * @param title problem title
+     * @param code application error code
+     * @param detail human readable detail
+     * @throws IOException if the body cannot be written
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                      String type, String title, String code, String detail) throws IOException {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, detail);
+        problemDetail.setType(URI.create("https://coopcredit.com/errors/" + type));
+        problemDetail.setTitle(title);
+        problemDetail.setProperty("timestamp", Instant.now());
+        problemDetail.setProperty("code", code);
+        problemDetail.setProperty("path", request.getRequestURI());
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+}
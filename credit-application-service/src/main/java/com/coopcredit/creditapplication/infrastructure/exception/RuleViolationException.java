@@ -0,0 +1,44 @@
+package com.coopcredit.creditapplication.infrastructure.exception;
+
+import com.coopcredit.creditapplication.domain.validation.RuleViolation;
+import com.coopcredit.creditapplication.domain.validation.ValidationResult;
+
+import java.util.List;
+
+/**
+ * Business exception rejecting an application that breaks credit rules.
+ * The code and message are those of the first violation, so clients that
+ * only read the code see the same error whether one or every rule was
+ * checked.
+ *
+ * Rejections are expected traffic, so no stack trace is captured and the
+ * message is only formatted when it is read.
+ */
+public class RuleViolationException extends BusinessException {
+
+    private final ValidationResult result;
+
+    public RuleViolationException(ValidationResult result) {
+        super(result.getCode(), null, false);
+        this.result = result;
+    }
+
+    @Override
+    public String getMessage() {
+        return result.getFirstViolation().message();
+    }
+
+    /**
+     * @return the violations, cheapest rule first
+     */
+    public List<RuleViolation> getViolations() {
+        return result.getViolations();
+    }
+
+    /**
+     * @return whether every rule was evaluated, so the violations are complete
+     */
+    public boolean isExhaustive() {
+        return result.isExhaustive();
+    }
+}
@@ -0,0 +1,25 @@
+package com.coopcredit.creditapplication.infrastructure.exception;
+
+/**
+ * Custom exception for requests shed because a bounded resource is saturated.
+ * Reported as 429 Too Many Requests with a Retry-After header.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final String code;
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String code, String message, long retryAfterSeconds) {
+        super(message);
+        this.code = code;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
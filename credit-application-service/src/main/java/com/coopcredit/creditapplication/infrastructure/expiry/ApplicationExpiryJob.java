@@ -0,0 +1,104 @@
+package com.coopcredit.creditapplication.infrastructure.expiry;
+
+import com.coopcredit.creditapplication.application.port.in.ExpireStaleApplicationsUseCase;
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Expires PENDING and IN_REVIEW applications older than the configured age.
+ *
+ * Each batch runs in its own transaction, which also holds the sweep
+ * advisory lock, so one node sweeps at a time and a run that fails midway
+ * keeps the batches it already committed. Rows locked by a decision in
+ * progress are skipped and expire on a later run if still open.
+ */
+@Component
+public class ApplicationExpiryJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationExpiryJob.class);
+
+    /**
+     * Key of the transaction-scoped advisory lock held by each batch.
+     */
+    public static final long SWEEP_LOCK_KEY = 0x657870697279L;
+
+    private final ExpireStaleApplicationsUseCase expireStaleApplicationsUseCase;
+    private final ApplicationExpiryProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final MetricsService metricsService;
+
+    public ApplicationExpiryJob(ExpireStaleApplicationsUseCase expireStaleApplicationsUseCase,
+                                ApplicationExpiryProperties properties,
+                                TransactionTemplate transactionTemplate,
+                                JdbcTemplate jdbcTemplate,
+                                MetricsService metricsService) {
+        this.expireStaleApplicationsUseCase = expireStaleApplicationsUseCase;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.metricsService = metricsService;
+    }
+
+    @Scheduled(fixedDelayString = "${application-expiry.interval:PT1H}")
+    public void runScheduled() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            expire(LocalDateTime.now().minus(properties.getMaxAge()));
+        } catch (RuntimeException e) {
+            logger.warn("Application expiry failed, stale applications are retried on the next run", e);
+        }
+    }
+
+    /**
+     * Expires applications submitted before the cutoff until none are left,
+     * another node holds the sweep lock or the per-run batch limit is reached.
+     *
+     * @param appliedBefore applications submitted before this expire
+     * @return number of applications expired
+     */
+    public int expire(LocalDateTime appliedBefore) {
+        long started = System.nanoTime();
+        int expired = 0;
+        try {
+            for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+                Integer count = transactionTemplate.execute(status -> expireBatch(appliedBefore));
+                if (count == null || count < 0) {
+                    break;
+                }
+                expired += count;
+                if (count < properties.getBatchSize()) {
+                    break;
+                }
+            }
+        } finally {
+            metricsService.recordApplicationExpiryRun(expired, System.nanoTime() - started);
+        }
+        if (expired > 0) {
+            logger.info("Expired {} application(s) submitted before {} in {} ms", expired, appliedBefore,
+                (System.nanoTime() - started) / 1_000_000);
+        }
+        return expired;
+    }
+
+    /**
+     * @return applications expired, or -1 if another node holds the sweep lock
+     */
+    private int expireBatch(LocalDateTime appliedBefore) {
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class,
+            SWEEP_LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            return -1;
+        }
+        return expireStaleApplicationsUseCase.execute(appliedBefore, properties.getBatchSize());
+    }
+}
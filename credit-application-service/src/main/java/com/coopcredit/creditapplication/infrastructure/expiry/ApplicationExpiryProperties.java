@@ -0,0 +1,65 @@
+package com.coopcredit.creditapplication.infrastructure.expiry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Stale application expiry settings, bound from the {@code application-expiry} section.
+ */
+@ConfigurationProperties(prefix = "application-expiry")
+public class ApplicationExpiryProperties {
+
+    /**
+     * Whether this node runs the scheduled sweep. Nodes may all run it:
+     * one at a time holds the sweep lock, the others skip their run.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Age at which a PENDING or IN_REVIEW application expires.
+     */
+    private Duration maxAge = Duration.ofDays(30);
+
+    /**
+     * Applications expired and committed per transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Batches per run at most, so a backlog does not hold the sweep forever.
+     */
+    private int maxBatchesPerRun = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+}
@@ -0,0 +1,235 @@
+package com.coopcredit.creditapplication.infrastructure.idempotency;
+
+import com.coopcredit.creditapplication.infrastructure.exception.ProblemDetailWriter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Makes POST requests carrying an {@code Idempotency-Key} header safe to retry.
+ *
+ * The first request with a key claims it by inserting an IN_PROGRESS row,
+ * runs normally and stores its response. Retries with the same key and the
+ * same body get the stored response replayed (with {@code Idempotent-Replayed:
+ * true}) without running the request again. A retry arriving while the first
+ * request is still running waits for it (on a local latch when both hit this
+ * node, otherwise by polling the table) and gets 409 Conflict if it does not
+ * finish within {@code idempotency.wait-timeout}. Reusing a key for a different
+ * request is rejected with 422.
+ *
+ * Keys are scoped to the authenticated user. 5xx and 429 responses are not
+ * stored, so the client can retry them.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final IdempotencyKeyRepository repository;
+    private final IdempotencyProperties properties;
+    private final ProblemDetailWriter problemDetailWriter;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, CountDownLatch> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(IdempotencyKeyRepository repository,
+                             IdempotencyProperties properties,
+                             ProblemDetailWriter problemDetailWriter) {
+        this.repository = repository;
+        this.properties = properties;
+        this.problemDetailWriter = problemDetailWriter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!properties.isEnabled()
+                || !"POST".equals(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return properties.getPaths().stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            // Let the security chain reject it; there is no user to scope the key to
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeProblem(request, response, HttpStatus.BAD_REQUEST, "invalid-idempotency-key",
+                "Invalid Idempotency Key", "IDEMPOTENCY_KEY_INVALID",
+                "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        String principal = authentication.getName();
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request);
+        String requestHash = fingerprint(request.getMethod(), request.getRequestURI(), cachedRequest.getBody());
+        String inFlightKey = principal + '\n' + key;
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+
+        while (true) {
+            Instant now = Instant.now();
+            CountDownLatch latch = new CountDownLatch(1);
+            if (repository.tryClaim(principal, key, request.getMethod(), request.getRequestURI(),
+                    requestHash, now, now.plus(properties.getTtl()))) {
+                inFlight.put(inFlightKey, latch);
+                try {
+                    execute(cachedRequest, response, filterChain, principal, key);
+                } finally {
+                    inFlight.remove(inFlightKey, latch);
+                    latch.countDown();
+                }
+                return;
+            }
+
+            Optional<IdempotencyRecord> existing = repository.find(principal, key);
+            if (existing.isEmpty()) {
+                // Released or purged between the claim and the read
+                continue;
+            }
+            IdempotencyRecord stored = existing.get();
+            if (stored.isStale(now, now.minus(properties.getInProgressTimeout()))) {
+                logger.warn("Replacing stale idempotency key {} of user {}", key, principal);
+                repository.deleteStale(principal, key, stored);
+                continue;
+            }
+            if (!stored.getRequestHash().equals(requestHash)) {
+                writeProblem(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "idempotency-key-reused",
+                    "Idempotency Key Reused", "IDEMPOTENCY_KEY_REUSED",
+                    "Idempotency-Key was already used for a different request");
+                return;
+            }
+            if (stored.isCompleted()) {
+                replay(stored, response);
+                return;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                response.setHeader("Retry-After", "1");
+                writeProblem(request, response, HttpStatus.CONFLICT, "idempotency-key-in-progress",
+                    "Request In Progress", "IDEMPOTENCY_KEY_IN_PROGRESS",
+                    "A request with this Idempotency-Key is still being processed");
+                return;
+            }
+            awaitCompletion(inFlightKey, remaining);
+        }
+    }
+
+    /**
+     * Runs the request as owner of the key and stores or releases the key
+     * depending on the outcome.
+     */
+    private void execute(CachedBodyHttpServletRequest request, HttpServletResponse response,
+                         FilterChain filterChain, String principal, String key)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            int status = responseWrapper.getStatus();
+            if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                repository.complete(principal, key, status, responseWrapper.getContentType(),
+                    responseWrapper.getContentAsByteArray());
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                repository.release(principal, key);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Waits until a request running on this node releases the key, or for
+     * one poll interval when the owner is on another node.
+     */
+    private void awaitCompletion(String inFlightKey, long remainingNanos) throws ServletException {
+        CountDownLatch latch = inFlight.get(inFlightKey);
+        long waitNanos = Math.min(remainingNanos, TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL_MILLIS));
+        try {
+            if (latch != null) {
+                latch.await(remainingNanos, TimeUnit.NANOSECONDS);
+            } else {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Interrupted while waiting for idempotent request", e);
+        }
+    }
+
+    private void replay(IdempotencyRecord stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.getResponseStatus());
+        if (stored.getResponseContentType() != null) {
+            response.setContentType(stored.getResponseContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        byte[] body = stored.getResponseBody();
+        if (body != null && body.length > 0) {
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private void writeProblem(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                              String type, String title, String code, String detail) throws IOException {
+        problemDetailWriter.write(request, response, status, type, title, code, detail);
+    }
+
+    private static String fingerprint(String method, String path, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(method.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(path.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.coopcredit.creditapplication.infrastructure.idempotency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * JDBC access to the idempotency_keys table.
+ *
+ * Every method commits on its own: a claim must be visible to concurrent
+ * duplicates before the request itself runs. Reads are not marked read-only
+ * on purpose, so they are never routed to a lagging replica.
+ */
+@Component
+@Transactional
+public class IdempotencyKeyRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyKeyRepository.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdempotencyKeyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts an IN_PROGRESS record unless one already exists for the key.
+     *
+     * @return true if this caller now owns the key
+     */
+    public boolean tryClaim(String principal, String key, String method, String path,
+                            String requestHash, Instant now, Instant expiresAt) {
+        return jdbcTemplate.update(
+            "INSERT INTO idempotency_keys (principal, idempotency_key, request_method, request_path, " +
+            "request_hash, status, created_at, expires_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (principal, idempotency_key) DO NOTHING",
+            principal, key, method, path, requestHash, IdempotencyRecord.IN_PROGRESS,
+            Timestamp.from(now), Timestamp.from(expiresAt)) == 1;
+    }
+
+    public Optional<IdempotencyRecord> find(String principal, String key) {
+        return jdbcTemplate.query(
+            "SELECT request_hash, status, response_status, response_content_type, response_body, " +
+            "created_at, expires_at FROM idempotency_keys WHERE principal = ? AND idempotency_key = ?",
+            (rs, rowNum) -> new IdempotencyRecord(
+                rs.getString("request_hash"),
+                rs.getString("status"),
+                (Integer) rs.getObject("response_status"),
+                rs.getString("response_content_type"),
+                rs.getBytes("response_body"),
+                rs.getTimestamp("created_at").toInstant(),
+                rs.getTimestamp("expires_at").toInstant()),
+            principal, key).stream().findFirst();
+    }
+
+    /**
+     * Stores the response of the request that owns the key.
+     */
+    public void complete(String principal, String key, int responseStatus, String contentType, byte[] body) {
+        jdbcTemplate.update(
+            "UPDATE idempotency_keys SET status = ?, response_status = ?, response_content_type = ?, " +
+            "response_body = ? WHERE principal = ? AND idempotency_key = ?",
+            IdempotencyRecord.COMPLETED, responseStatus, contentType, body, principal, key);
+    }
+
+    /**
+     * Gives up ownership of a key without storing a response, so a retry
+     * runs the request again.
+     */
+    public void release(String principal, String key) {
+        jdbcTemplate.update(
+            "DELETE FROM idempotency_keys WHERE principal = ? AND idempotency_key = ? AND status = ?",
+            principal, key, IdempotencyRecord.IN_PROGRESS);
+    }
+
+    /**
+     * Removes a record only if it is still the stale one that was read.
+     */
+    public void deleteStale(String principal, String key, IdempotencyRecord stale) {
+        jdbcTemplate.update(
+            "DELETE FROM idempotency_keys WHERE principal = ? AND idempotency_key = ? AND created_at = ?",
+            principal, key, Timestamp.from(stale.getCreatedAt()));
+    }
+
+    /**
+     * Deletes expired records.
+     *
+     * @return number of records deleted
+     */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval:PT10M}",
+               initialDelayString = "${idempotency.cleanup-interval:PT10M}")
+    public int deleteExpired() {
+        int deleted = jdbcTemplate.update(
+            "DELETE FROM idempotency_keys WHERE expires_at <= ?", Timestamp.from(Instant.now()));
+        if (deleted > 0) {
+            logger.info("Deleted {} expired idempotency keys", deleted);
+        }
+        return deleted;
+    }
+}
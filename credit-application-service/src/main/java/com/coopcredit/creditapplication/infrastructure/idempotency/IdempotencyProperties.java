@@ -0,0 +1,84 @@
+package com.coopcredit.creditapplication.infrastructure.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Idempotency-Key settings, bound from the {@code idempotency} section.
+ */
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Whether the Idempotency-Key header is honoured.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a stored response is replayed for the same key.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * How long a duplicate waits for the first request to finish before
+     * getting 409 Conflict.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(30);
+
+    /**
+     * An IN_PROGRESS key older than this is considered abandoned (node crash)
+     * and may be taken over by a retry.
+     */
+    private Duration inProgressTimeout = Duration.ofMinutes(2);
+
+    /**
+     * Ant-style paths of the POST endpoints that accept the header.
+     */
+    private List<String> paths = new ArrayList<>(List.of(
+        "/api/credit-applications/affiliates/*",
+        "/api/credit-applications/*/evaluate"
+    ));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    public void setWaitTimeout(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+
+    public Duration getInProgressTimeout() {
+        return inProgressTimeout;
+    }
+
+    public void setInProgressTimeout(Duration inProgressTimeout) {
+        this.inProgressTimeout = inProgressTimeout;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+}
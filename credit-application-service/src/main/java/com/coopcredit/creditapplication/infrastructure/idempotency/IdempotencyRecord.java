@@ -0,0 +1,71 @@
+package com.coopcredit.creditapplication.infrastructure.idempotency;
+
+import java.time.Instant;
+
+/**
+ * A row of the idempotency_keys table.
+ */
+public class IdempotencyRecord {
+
+    public static final String IN_PROGRESS = "IN_PROGRESS";
+    public static final String COMPLETED = "COMPLETED";
+
+    private final String requestHash;
+    private final String status;
+    private final Integer responseStatus;
+    private final String responseContentType;
+    private final byte[] responseBody;
+    private final Instant createdAt;
+    private final Instant expiresAt;
+
+    public IdempotencyRecord(String requestHash, String status, Integer responseStatus,
+                             String responseContentType, byte[] responseBody,
+                             Instant createdAt, Instant expiresAt) {
+        this.requestHash = requestHash;
+        this.status = status;
+        this.responseStatus = responseStatus;
+        this.responseContentType = responseContentType;
+        this.responseBody = responseBody;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public boolean isCompleted() {
+        return COMPLETED.equals(status);
+    }
+
+    public Integer getResponseStatus() {
+        return responseStatus;
+    }
+
+    public String getResponseContentType() {
+        return responseContentType;
+    }
+
+    public byte[] getResponseBody() {
+        return responseBody;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Checks whether the record can no longer be used and may be replaced.
+     *
+     * @param now the reference instant
+     * @param abandonedBefore IN_PROGRESS records created before this are abandoned
+     * @return true if expired or abandoned
+     */
+    public boolean isStale(Instant now, Instant abandonedBefore) {
+        return !expiresAt.isAfter(now) || (!isCompleted() && createdAt.isBefore(abandonedBefore));
+    }
+}
@@ -1,10 +1,21 @@
 package com.coopcredit.creditapplication.infrastructure.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import com.coopcredit.creditapplication.domain.validation.RuleObserver;
+import com.coopcredit.creditapplication.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Service for managing custom application metrics.
  * Tracks endpoint times, errors, and authentication failures.
@@ -21,6 +32,17 @@ public class MetricsService {
     private final Counter applicationsCreated;
     private final Counter applicationsApproved;
     private final Counter applicationsRejected;
+    private final Counter affiliatesImported;
+    private final Counter affiliateImportRejections;
+    private final Timer passwordHashQueueWait;
+    private final Counter outboxPublished;
+    private final Timer outboxBatchTime;
+    private final Counter decisionStreamDropped;
+    private final Counter loansAccrued;
+    private final Timer loanAccrualBatchTime;
+    private final Counter applicationsExpired;
+    private final DistributionSummary applicationExpiryRunSize;
+    private final Timer applicationExpiryRunTime;
     
     public MetricsService(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
@@ -55,6 +77,53 @@ public class MetricsService {
             .description("Total credit applications rejected")
             .tag("type", "business")
             .register(meterRegistry);
+        
+        this.affiliatesImported = Counter.builder("affiliates.import.rows")
+            .description("Rows processed by bulk affiliate imports")
+            .tag("result", "imported")
+            .register(meterRegistry);
+        
+        this.affiliateImportRejections = Counter.builder("affiliates.import.rows")
+            .description("Rows processed by bulk affiliate imports")
+            .tag("result", "rejected")
+            .register(meterRegistry);
+        
+        this.passwordHashQueueWait = Timer.builder("password.hashing.queue.wait")
+            .description("Time password hashing requests wait for a hashing thread")
+            .register(meterRegistry);
+        
+        this.outboxPublished = Counter.builder("outbox.published")
+            .description("Events published by the outbox relay")
+            .register(meterRegistry);
+        
+        this.outboxBatchTime = Timer.builder("outbox.relay.batch")
+            .description("Time to publish and delete one batch of outbox events")
+            .register(meterRegistry);
+        
+        this.decisionStreamDropped = Counter.builder("decision.stream.dropped")
+            .description("Decision stream subscribers disconnected for falling behind")
+            .register(meterRegistry);
+        
+        this.loansAccrued = Counter.builder("loan.accrual.loans")
+            .description("Loans processed by the nightly interest accrual")
+            .register(meterRegistry);
+        
+        this.loanAccrualBatchTime = Timer.builder("loan.accrual.batch")
+            .description("Time to accrue one batch of loans, including its commit")
+            .register(meterRegistry);
+        
+        this.applicationsExpired = Counter.builder("credit.applications.expired")
+            .description("Stale credit applications expired by the sweep")
+            .register(meterRegistry);
+        
+        this.applicationExpiryRunSize = DistributionSummary.builder("credit.applications.expiry.run")
+            .description("Applications expired per sweep run")
+            .baseUnit("applications")
+            .register(meterRegistry);
+        
+        this.applicationExpiryRunTime = Timer.builder("credit.applications.expiry.duration")
+            .description("Time of one sweep run, all of its batches included")
+            .register(meterRegistry);
     }
     
     /**
@@ -99,6 +168,233 @@ public class MetricsService {
         applicationsRejected.increment();
     }
     
+    /**
+     * Records the outcome of a bulk affiliate import.
+     *
+     * @param imported rows imported
+     * @param rejected rows rejected
+     */
+    public void recordAffiliateImport(long imported, long rejected) {
+        affiliatesImported.increment(imported);
+        affiliateImportRejections.increment(rejected);
+    }
+    
+    /**
+     * Records the CPU time of one password hash or verification.
+     *
+     * @param operation encode or matches
+     * @param nanos time spent hashing
+     */
+    public void recordPasswordHash(String operation, long nanos) {
+        Timer.builder("password.hashing.duration")
+            .description("Time spent hashing or verifying a password")
+            .tag("operation", operation)
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Records how long a password hashing request waited in the queue.
+     *
+     * @param nanos time spent queued
+     */
+    public void recordPasswordHashQueueWait(long nanos) {
+        passwordHashQueueWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Records a password hashing request rejected because the queue was full.
+     *
+     * @param operation encode or matches
+     */
+    public void incrementPasswordHashRejected(String operation) {
+        Counter.builder("password.hashing.rejected")
+            .description("Password hashing requests shed with 429")
+            .tag("operation", operation)
+            .register(meterRegistry)
+            .increment();
+    }
+    
+    /**
+     * Exports pool size, active threads and queue length of an executor.
+     *
+     * @param executor the executor
+     * @param name executor name used as tag
+     */
+    public void monitorExecutor(ExecutorService executor, String name) {
+        new ExecutorServiceMetrics(executor, name, List.of()).bindTo(meterRegistry);
+    }
+    
+    /**
+     * Records a request rejected by the rate limiter.
+     *
+     * @param endpointClass endpoint class of the request
+     */
+    public void incrementRateLimited(String endpointClass) {
+        Counter.builder("rate.limit.throttled")
+            .description("Requests rejected with 429 by the rate limiter")
+            .tag("endpoint_class", endpointClass)
+            .register(meterRegistry)
+            .increment();
+    }
+    
+    /**
+     * Exports the current limit and in-flight requests of a concurrency limiter.
+     *
+     * @param limiter the limiter
+     */
+    public void monitorConcurrencyLimiter(AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+            .description("Current adaptive concurrency limit")
+            .tag("limiter", limiter.getName())
+            .register(meterRegistry);
+        Gauge.builder("concurrency.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+            .description("Requests currently holding a concurrency slot")
+            .tag("limiter", limiter.getName())
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Records a request shed with 503 by a concurrency limiter.
+     *
+     * @param limiter name of the limiter
+     */
+    public void incrementConcurrencyRejected(String limiter) {
+        Counter.builder("concurrency.rejected")
+            .description("Requests rejected with 503 by the concurrency limiter")
+            .tag("limiter", limiter)
+            .register(meterRegistry)
+            .increment();
+    }
+    
+    /**
+     * Records a batch of events published by the outbox relay.
+     *
+     * @param events events in the batch
+     * @param nanos time to publish and delete the batch
+     */
+    public void recordOutboxBatch(int events, long nanos) {
+        outboxPublished.increment(events);
+        outboxBatchTime.record(nanos, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Exports the age of the oldest unpublished outbox event, as last seen by the relay.
+     *
+     * @param lagMillis lag in milliseconds, updated by the relay
+     */
+    public void monitorOutboxLag(AtomicLong lagMillis) {
+        Gauge.builder("outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+            .description("Age of the oldest event waiting in the outbox")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Records a batch of loans processed by the interest accrual.
+     *
+     * @param loans loans in the batch
+     * @param nanos time to accrue and commit the batch
+     */
+    public void recordLoanAccrualBatch(int loans, long nanos) {
+        loansAccrued.increment(loans);
+        loanAccrualBatchTime.record(nanos, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Records a run of the stale application sweep.
+     *
+     * @param applications applications expired by the run
+     * @param nanos time the run took
+     */
+    public void recordApplicationExpiryRun(int applications, long nanos) {
+        applicationsExpired.increment(applications);
+        applicationExpiryRunSize.record(applications);
+        applicationExpiryRunTime.record(nanos, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Records a decision stream subscriber disconnected for falling behind.
+     */
+    public void incrementDecisionStreamDropped() {
+        decisionStreamDropped.increment();
+    }
+    
+    /**
+     * Creates the observer that exports every credit rule evaluation as
+     * business.rules.evaluation, tagged with the rule and its outcome. The
+     * timer count per outcome tells which rules reject most applications.
+     *
+     * @return observer to compile rule sets with
+     */
+    public RuleObserver creditRuleObserver() {
+        return rule -> {
+            Timer passed = ruleEvaluationTimer(rule.getName(), "passed");
+            Timer violated = ruleEvaluationTimer(rule.getName(), "violated");
+            return (nanos, isViolation) -> (isViolation ? violated : passed).record(nanos, TimeUnit.NANOSECONDS);
+        };
+    }
+    
+    private Timer ruleEvaluationTimer(String rule, String outcome) {
+        return Timer.builder("business.rules.evaluation")
+            .description("Credit rule evaluations and their duration")
+            .tag("rule", rule)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Records an attempt to load a changed credit rule set.
+     *
+     * @param success whether the new rules were compiled and put in force
+     */
+    public void incrementRuleSetReload(boolean success) {
+        Counter.builder("business.rules.reloads")
+            .description("Credit rule set reloads")
+            .tag("result", success ? "success" : "failure")
+            .register(meterRegistry)
+            .increment();
+    }
+    
+    /**
+     * Exports the version of the credit rule set in force.
+     *
+     * @param version current version, updated on every reload
+     */
+    public void monitorRuleSetVersion(AtomicLong version) {
+        Gauge.builder("business.rules.version", version, AtomicLong::get)
+            .description("Version of the credit rule set in force")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Records the outcome of an application velocity check.
+     *
+     * @param dimension key the submission was counted by
+     * @param outcome allowed, flagged or blocked
+     */
+    public void recordVelocityCheck(String dimension, String outcome) {
+        Counter.builder("velocity.checks")
+            .description("Credit application submissions checked against velocity thresholds")
+            .tag("dimension", dimension)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+    
+    /**
+     * Exports the number of entries of a map as a gauge.
+     *
+     * @param name gauge name
+     * @param map the map
+     * @param tags gauge tags as key/value pairs
+     */
+    public void monitorMapSize(String name, Map<?, ?> map, String... tags) {
+        Gauge.builder(name, map, Map::size)
+            .tags(tags)
+            .register(meterRegistry);
+    }
+    
     /**
      * Creates a timer for endpoint execution.
      *
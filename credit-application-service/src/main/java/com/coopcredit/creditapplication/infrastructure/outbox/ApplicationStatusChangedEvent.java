@@ -0,0 +1,19 @@
+package com.coopcredit.creditapplication.infrastructure.outbox;
+
+/**
+ * In-process notification that a status change was recorded in the outbox.
+ * Listeners that must only see committed changes use
+ * {@code @TransactionalEventListener}.
+ *
+ * @param id outbox event id
+ * @param applicationId the application
+ * @param affiliateId owner of the application
+ * @param payload event body as JSON, as stored in the outbox
+ */
+public record ApplicationStatusChangedEvent(
+    long id,
+    long applicationId,
+    long affiliateId,
+    String payload
+) {
+}
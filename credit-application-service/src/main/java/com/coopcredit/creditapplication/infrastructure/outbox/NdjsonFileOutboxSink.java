@@ -0,0 +1,60 @@
+package com.coopcredit.creditapplication.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends events to a file as newline-delimited JSON, one event per line.
+ *
+ * Each batch is written with a single append and forced to disk before
+ * publish returns, so events are never deleted from the outbox before they
+ * are durable in the file. A crash between the two leaves duplicates, which
+ * readers drop by event id.
+ */
+public class NdjsonFileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public NdjsonFileOutboxSink(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) throws IOException {
+        StringBuilder lines = new StringBuilder(events.size() * 256);
+        for (OutboxEvent event : events) {
+            ObjectNode line = objectMapper.createObjectNode();
+            line.put("id", event.id());
+            line.put("aggregateType", event.aggregateType());
+            line.put("aggregateId", event.aggregateId());
+            line.put("eventType", event.eventType());
+            line.put("createdAt", event.createdAt().toString());
+            line.set("payload", objectMapper.readTree(event.payload()));
+            lines.append(objectMapper.writeValueAsString(line)).append('\n');
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.coopcredit.creditapplication.infrastructure.outbox;
+
+import com.coopcredit.creditapplication.application.port.out.ApplicationEventPort;
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Adapter implementing ApplicationEventPort on top of the outbox table.
+ * Each recorded event is also announced in-process as an
+ * {@link ApplicationStatusChangedEvent}, for live listeners on this node.
+ */
+@Component
+public class OutboxApplicationEventAdapter implements ApplicationEventPort {
+
+    public static final String AGGREGATE_TYPE = "CreditApplication";
+    public static final String STATUS_CHANGED = "CreditApplicationStatusChanged";
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OutboxApplicationEventAdapter(OutboxRepository outboxRepository,
+                                         ObjectMapper objectMapper,
+                                         ApplicationEventPublisher eventPublisher) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void statusChanged(CreditApplication application, ApplicationStatus previousStatus, String source) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.put("applicationId", application.getId());
+        payload.put("affiliateId", application.getAffiliate().getId());
+        payload.put("previousStatus", previousStatus != null ? previousStatus.name() : null);
+        payload.put("status", application.getStatus().name());
+        payload.put("source", source);
+        payload.put("requestedAmount", application.getRequestedAmount());
+        payload.put("termMonths", application.getTermMonths());
+        RiskEvaluation evaluation = application.getRiskEvaluation();
+        if (evaluation != null) {
+            payload.put("creditScore", evaluation.getCreditScore());
+            payload.put("riskLevel", evaluation.getRiskLevel());
+        }
+        payload.put("occurredAt", Instant.now().toString());
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize status change of application " + application.getId(), e);
+        }
+        long id = outboxRepository.insert(AGGREGATE_TYPE, application.getId(), STATUS_CHANGED, json);
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(
+            id, application.getId(), application.getAffiliate().getId(), json));
+    }
+}
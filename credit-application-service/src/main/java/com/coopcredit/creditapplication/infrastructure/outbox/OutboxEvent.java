@@ -0,0 +1,23 @@
+package com.coopcredit.creditapplication.infrastructure.outbox;
+
+import java.time.Instant;
+
+/**
+ * An event read from the outbox table.
+ *
+ * @param id publication order and event id
+ * @param aggregateType type of the entity the event is about
+ * @param aggregateId id of that entity
+ * @param eventType event name
+ * @param payload event body as JSON
+ * @param createdAt when the event was recorded
+ */
+public record OutboxEvent(
+    long id,
+    String aggregateType,
+    long aggregateId,
+    String eventType,
+    String payload,
+    Instant createdAt
+) {
+}
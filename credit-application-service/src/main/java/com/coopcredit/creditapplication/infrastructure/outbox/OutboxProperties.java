@@ -0,0 +1,93 @@
+package com.coopcredit.creditapplication.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Outbox relay settings, bound from the {@code outbox} section.
+ */
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    public enum SinkType { NDJSON, MEMORY }
+
+    /**
+     * Whether this node runs the relay. Events are recorded either way.
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * Where published events go.
+     */
+    private SinkType sink = SinkType.NDJSON;
+
+    /**
+     * Events published and deleted per transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Batches published per run at most, so a backlog does not hold the relay forever.
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * File the NDJSON sink appends to.
+     */
+    private Path ndjsonPath = Paths.get("data", "outbox-events.ndjson");
+
+    /**
+     * Events kept by the in-memory sink.
+     */
+    private int memoryCapacity = 10000;
+
+    public boolean isRelayEnabled() {
+        return relayEnabled;
+    }
+
+    public void setRelayEnabled(boolean relayEnabled) {
+        this.relayEnabled = relayEnabled;
+    }
+
+    public SinkType getSink() {
+        return sink;
+    }
+
+    public void setSink(SinkType sink) {
+        this.sink = sink;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    public Path getNdjsonPath() {
+        return ndjsonPath;
+    }
+
+    public void setNdjsonPath(Path ndjsonPath) {
+        this.ndjsonPath = ndjsonPath;
+    }
+
+    public int getMemoryCapacity() {
+        return memoryCapacity;
+    }
+
+    public void setMemoryCapacity(int memoryCapacity) {
+        this.memoryCapacity = memoryCapacity;
+    }
+}
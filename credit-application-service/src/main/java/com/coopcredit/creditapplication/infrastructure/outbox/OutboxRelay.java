@@ -0,0 +1,107 @@
+package com.coopcredit.creditapplication.infrastructure.outbox;
+
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes outbox events to the configured sink, oldest first.
+ *
+ * Each batch is read, published and deleted in one transaction that also
+ * holds the relay advisory lock, so only one node publishes at a time and
+ * events go out in id order. If the sink or the delete fails, the
+ * transaction rolls back and the batch is published again on the next run:
+ * delivery is at-least-once.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink sink;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricsService metricsService;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       OutboxSink sink,
+                       OutboxProperties properties,
+                       TransactionTemplate transactionTemplate,
+                       MetricsService metricsService) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.metricsService = metricsService;
+        metricsService.monitorOutboxLag(lagMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval:PT1S}")
+    public void poll() {
+        if (!properties.isRelayEnabled()) {
+            return;
+        }
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            logger.warn("Outbox relay failed, events will be published again on the next run", e);
+        }
+    }
+
+    /**
+     * Publishes pending events until the outbox is empty or the per-run
+     * batch limit is reached.
+     *
+     * @return number of events published
+     */
+    public int relay() {
+        int published = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            Integer count = transactionTemplate.execute(status -> publishBatch());
+            if (count == null || count < 0) {
+                break;
+            }
+            published += count;
+            if (count < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return published;
+    }
+
+    /**
+     * @return events published, or -1 if another node holds the relay lock
+     */
+    private int publishBatch() {
+        if (!outboxRepository.tryLockRelay()) {
+            return -1;
+        }
+        List<OutboxEvent> events = outboxRepository.findBatch(properties.getBatchSize());
+        if (events.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        lagMillis.set(Math.max(0, Duration.between(events.get(0).createdAt(), Instant.now()).toMillis()));
+
+        long started = System.nanoTime();
+        try {
+            sink.publish(events);
+        } catch (Exception e) {
+            throw new IllegalStateException("Outbox sink rejected " + events.size() + " events", e);
+        }
+        outboxRepository.delete(events);
+        metricsService.recordOutboxBatch(events.size(), System.nanoTime() - started);
+        logger.debug("Published {} outbox events up to id {}", events.size(), events.get(events.size() - 1).id());
+        return events.size();
+    }
+}
@@ -0,0 +1,90 @@
+package com.coopcredit.creditapplication.infrastructure.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * JDBC access to the outbox_events table.
+ *
+ * Inserts join the caller's transaction (and fail without one), so an event
+ * commits or rolls back together with the change it describes. The relay
+ * methods run inside the relay's own transaction.
+ */
+@Component
+public class OutboxRepository {
+
+    /**
+     * Key of the transaction-scoped advisory lock that makes one node at a
+     * time the relay, which keeps publication in id order.
+     */
+    private static final long RELAY_LOCK_KEY = 0x6F7574626F78L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Records an event in the caller's transaction.
+     *
+     * @return the event id
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long insert(String aggregateType, long aggregateId, String eventType, String payload) {
+        Long id = jdbcTemplate.queryForObject(
+            "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload) " +
+            "VALUES (?, ?, ?, ?::jsonb) RETURNING id",
+            Long.class, aggregateType, aggregateId, eventType, payload);
+        return id != null ? id : 0L;
+    }
+
+    /**
+     * Takes the relay lock until the current transaction ends.
+     *
+     * @return false if another node holds it
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryLockRelay() {
+        return Boolean.TRUE.equals(
+            jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, RELAY_LOCK_KEY));
+    }
+
+    /**
+     * Reads the oldest unpublished events.
+     *
+     * @param limit maximum number of events
+     * @return events ordered by id
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<OutboxEvent> findBatch(int limit) {
+        return jdbcTemplate.query(
+            "SELECT id, aggregate_type, aggregate_id, event_type, payload, created_at " +
+            "FROM outbox_events ORDER BY id LIMIT ?",
+            (rs, rowNum) -> new OutboxEvent(
+                rs.getLong("id"),
+                rs.getString("aggregate_type"),
+                rs.getLong("aggregate_id"),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toInstant()),
+            limit);
+    }
+
+    /**
+     * Deletes published events in one statement. Deleting by id rather
+     * than by range never removes an event committed after the batch was read.
+     *
+     * @param events published events
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void delete(List<OutboxEvent> events) {
+        Long[] ids = events.stream().map(OutboxEvent::id).toArray(Long[]::new);
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE id = ANY (?)",
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)));
+    }
+}
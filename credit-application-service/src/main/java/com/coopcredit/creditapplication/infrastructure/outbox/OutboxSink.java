@@ -0,0 +1,21 @@
+package com.coopcredit.creditapplication.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Destination the outbox relay publishes events to.
+ *
+ * A batch counts as delivered when publish returns; the events are then
+ * deleted. If it throws, the same events are published again on the next
+ * run, so a sink may see an event more than once.
+ */
+public interface OutboxSink {
+
+    /**
+     * Publishes a batch of events, in order.
+     *
+     * @param events events ordered by id
+     * @throws Exception if the batch could not be delivered
+     */
+    void publish(List<OutboxEvent> events) throws Exception;
+}
@@ -0,0 +1,30 @@
+package com.coopcredit.creditapplication.infrastructure.ratelimit;
+
+/**
+ * Groups of endpoints that get their own rate limit.
+ */
+public enum EndpointClass {
+
+    /** Login and registration; keyed by client IP. */
+    AUTH,
+
+    /** GET and HEAD requests. */
+    READ,
+
+    /** Other state-changing requests. */
+    WRITE,
+
+    /** Risk evaluation, which calls the external risk service. */
+    EVALUATE;
+
+    private final String tag = name().toLowerCase();
+
+    /**
+     * Lower-case name used in property keys and metric tags.
+     *
+     * @return the tag value
+     */
+    public String tag() {
+        return tag;
+    }
+}
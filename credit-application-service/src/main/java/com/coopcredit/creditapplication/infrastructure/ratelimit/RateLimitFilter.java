@@ -0,0 +1,128 @@
+package com.coopcredit.creditapplication.infrastructure.ratelimit;
+
+import com.coopcredit.creditapplication.infrastructure.exception.ProblemDetailWriter;
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits requests per client with token buckets.
+ *
+ * Authenticated requests are keyed by principal and anonymous ones (login,
+ * registration) by client IP, each with a separate bucket per endpoint class.
+ * Every limited response carries RateLimit-Limit, RateLimit-Remaining and
+ * RateLimit-Reset (seconds until the bucket is full); throttled requests get
+ * 429 with Retry-After.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final MetricsService metricsService;
+    private final ProblemDetailWriter problemDetailWriter;
+
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           RateLimitProperties properties,
+                           MetricsService metricsService,
+                           ProblemDetailWriter problemDetailWriter) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.metricsService = metricsService;
+        this.problemDetailWriter = problemDetailWriter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        String path = path(request);
+        return !path.startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        EndpointClass endpointClass = classify(request);
+        TokenBucket.Decision decision = rateLimiter.tryAcquire(endpointClass, client(request));
+        if (decision == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.limit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(toSeconds(decision.resetNanos())));
+
+        if (!decision.allowed()) {
+            metricsService.incrementRateLimited(endpointClass.tag());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(decision.retryAfterNanos())));
+            problemDetailWriter.write(request, response, HttpStatus.TOO_MANY_REQUESTS, "too-many-requests",
+                "Too Many Requests", "RATE_LIMIT_EXCEEDED",
+                "Rate limit exceeded for " + endpointClass.tag() + " requests. Please retry later.");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Determines the endpoint class of a request.
+     *
+     * @param request HTTP request
+     * @return the endpoint class
+     */
+    static EndpointClass classify(HttpServletRequest request) {
+        String path = path(request);
+        String method = request.getMethod();
+        if (path.startsWith("/api/auth/")) {
+            return EndpointClass.AUTH;
+        }
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return EndpointClass.READ;
+        }
+        if (path.startsWith("/api/credit-applications/") && path.endsWith("/evaluate")) {
+            return EndpointClass.EVALUATE;
+        }
+        return EndpointClass.WRITE;
+    }
+
+    private static String client(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static long toSeconds(long nanos) {
+        return nanos <= 0 ? 0 : (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,112 @@
+package com.coopcredit.creditapplication.infrastructure.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Rate limiting settings, bound from the {@code rate-limit} section.
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Whether requests are rate limited.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on buckets kept in memory. Past it, new clients share one
+     * overflow bucket per endpoint class until idle buckets are evicted.
+     */
+    private int maxBuckets = 100_000;
+
+    /**
+     * Buckets untouched (and full) for this long are evicted.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Limits per endpoint class.
+     */
+    private Map<EndpointClass, Limit> limits = new EnumMap<>(Map.of(
+        EndpointClass.AUTH, new Limit(10, 1),
+        EndpointClass.READ, new Limit(200, 50),
+        EndpointClass.WRITE, new Limit(60, 10),
+        EndpointClass.EVALUATE, new Limit(20, 2)
+    ));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public void setMaxBuckets(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public Map<EndpointClass, Limit> getLimits() {
+        return limits;
+    }
+
+    public void setLimits(Map<EndpointClass, Limit> limits) {
+        this.limits = limits;
+    }
+
+    /**
+     * Token bucket size and refill rate.
+     */
+    public static class Limit {
+
+        /**
+         * Maximum burst: tokens in a full bucket.
+         */
+        private int capacity;
+
+        /**
+         * Tokens added per second.
+         */
+        private double refillPerSecond;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getRefillPerSecond() {
+            return refillPerSecond;
+        }
+
+        public void setRefillPerSecond(double refillPerSecond) {
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
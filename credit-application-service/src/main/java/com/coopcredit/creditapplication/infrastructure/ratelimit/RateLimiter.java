@@ -0,0 +1,105 @@
+package com.coopcredit.creditapplication.infrastructure.ratelimit;
+
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one token bucket per endpoint class and client.
+ *
+ * The maps are bounded: idle buckets are evicted periodically, and when they
+ * are full anyway new clients share an overflow bucket per endpoint class, so
+ * a flood of distinct keys is throttled as a whole instead of exhausting memory.
+ */
+@Component
+public class RateLimiter {
+
+    private static final String OVERFLOW = "overflow";
+    private static final long FULL_MAP_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimitProperties properties;
+    private final Map<EndpointClass, RateLimitProperties.Limit> limits;
+    private final Map<EndpointClass, Map<String, TokenBucket>> buckets = new EnumMap<>(EndpointClass.class);
+    private final AtomicLong lastFullMapSweep = new AtomicLong(System.nanoTime() - FULL_MAP_SWEEP_INTERVAL_NANOS);
+
+    public RateLimiter(RateLimitProperties properties, MetricsService metricsService) {
+        this.properties = properties;
+        this.limits = new EnumMap<>(properties.getLimits());
+        for (EndpointClass endpointClass : limits.keySet()) {
+            Map<String, TokenBucket> classBuckets = new ConcurrentHashMap<>();
+            buckets.put(endpointClass, classBuckets);
+            metricsService.monitorMapSize("rate.limit.buckets", classBuckets, "endpoint_class", endpointClass.tag());
+        }
+    }
+
+    /**
+     * Takes a token from the bucket of the given client.
+     *
+     * @param endpointClass the endpoint class of the request
+     * @param client principal or IP based client key
+     * @return the outcome, or null if the class has no limit configured
+     */
+    public TokenBucket.Decision tryAcquire(EndpointClass endpointClass, String client) {
+        Map<String, TokenBucket> classBuckets = buckets.get(endpointClass);
+        if (classBuckets == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        TokenBucket bucket = classBuckets.get(client);
+        if (bucket == null) {
+            String key = client;
+            if (classBuckets.size() >= properties.getMaxBuckets()) {
+                sweepFullMaps(now);
+                if (classBuckets.size() >= properties.getMaxBuckets()) {
+                    key = OVERFLOW;
+                }
+            }
+            RateLimitProperties.Limit limit = limits.get(endpointClass);
+            bucket = classBuckets.computeIfAbsent(key,
+                k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+        }
+        return bucket.tryConsume(now);
+    }
+
+    /**
+     * Drops buckets that have been full and unused for the idle timeout.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval:PT1M}",
+               initialDelayString = "${rate-limit.sweep-interval:PT1M}")
+    public void evictIdle() {
+        evictIdle(System.nanoTime(), properties.getIdleTimeout().toNanos());
+    }
+
+    /**
+     * Number of buckets currently held.
+     *
+     * @return bucket count
+     */
+    public int size() {
+        return buckets.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Drops every full bucket when a map is at capacity, at most once per
+     * second and by one thread, so a key flood does not turn into a scan per
+     * request.
+     */
+    private void sweepFullMaps(long now) {
+        long last = lastFullMapSweep.get();
+        if (now - last >= FULL_MAP_SWEEP_INTERVAL_NANOS && lastFullMapSweep.compareAndSet(last, now)) {
+            evictIdle(now, 0);
+        }
+    }
+
+    private void evictIdle(long now, long idleNanos) {
+        for (Map<String, TokenBucket> classBuckets : buckets.values()) {
+            classBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.coopcredit.creditapplication.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ *
+ * Instead of a token count and a refill timestamp, the bucket keeps a single
+ * "theoretical arrival time" (GCRA): the instant at which it will be full
+ * again. Taking a token pushes it one refill interval further, and a request
+ * is allowed while it stays within {@code capacity} intervals of now. One CAS
+ * per request, no background refill, and a bucket whose full time has passed
+ * is indistinguishable from a new one, so it can be dropped at any time.
+ */
+public final class TokenBucket {
+
+    private final int capacity;
+    private final long intervalNanos;
+    private final long windowNanos;
+    private final AtomicLong fullAt;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param capacity tokens in a full bucket
+     * @param refillPerSecond tokens added per second
+     * @param nowNanos current {@link System#nanoTime()}
+     */
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.windowNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @param nowNanos current {@link System#nanoTime()}
+     * @return the outcome, with the values for the rate limit headers
+     */
+    public Decision tryConsume(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long base = current - nowNanos > 0 ? current : nowNanos;
+            long next = base + intervalNanos;
+            if (next - nowNanos > windowNanos) {
+                return new Decision(false, capacity, 0, base - nowNanos, next - nowNanos - windowNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Decision(true, capacity, (windowNanos - (next - nowNanos)) / intervalNanos,
+                    next - nowNanos, 0);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the bucket has been full for at least the given time,
+     * meaning nobody used it in that period.
+     *
+     * @param nowNanos current {@link System#nanoTime()}
+     * @param idleNanos required idle time
+     * @return true if the bucket can be dropped
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - fullAt.get() >= idleNanos;
+    }
+
+    /**
+     * Outcome of a token request.
+     *
+     * @param allowed whether a token was taken
+     * @param limit bucket capacity
+     * @param remaining tokens left after this request
+     * @param resetNanos time until the bucket is full again
+     * @param retryAfterNanos time until a token is available (0 if allowed)
+     */
+    public record Decision(boolean allowed, int limit, long remaining, long resetNanos, long retryAfterNanos) {
+    }
+}
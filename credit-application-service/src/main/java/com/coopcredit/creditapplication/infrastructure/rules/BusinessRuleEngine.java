@@ -0,0 +1,139 @@
+package com.coopcredit.creditapplication.infrastructure.rules;
+
+import com.coopcredit.creditapplication.application.port.out.BusinessRulesPort;
+import com.coopcredit.creditapplication.domain.validation.RuleObserver;
+import com.coopcredit.creditapplication.domain.validation.RuleSet;
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the compiled credit rule set in force.
+ *
+ * Rules come from {@code business.credit}, overridden by the rules file when
+ * one is configured. The file is polled for changes; a changed file is
+ * compiled off to the side and published with a single volatile write, so
+ * validations in flight finish with the rules they started with and an
+ * invalid file never replaces working rules.
+ */
+@Component
+public class BusinessRuleEngine implements BusinessRulesPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(BusinessRuleEngine.class);
+
+    private final BusinessRulesProperties properties;
+    private final RuleObserver observer;
+    private final MetricsService metricsService;
+    private final ObjectMapper fileMapper;
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile RuleSet current;
+    // Last modified time and size of the rules file the current rules were loaded from
+    private FileStamp loadedStamp;
+
+    public BusinessRuleEngine(BusinessRulesProperties properties, ObjectMapper objectMapper,
+                              MetricsService metricsService) {
+        this.properties = properties;
+        this.metricsService = metricsService;
+        this.observer = metricsService.creditRuleObserver();
+        this.fileMapper = objectMapper.copy()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.KEBAB_CASE)
+            .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        // Startup: an invalid rules file is a configuration error
+        FileStamp stamp = stamp(properties.getRulesFile());
+        try {
+            this.current = compile(load(stamp));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid credit rules in " + properties.getRulesFile(), e);
+        }
+        this.loadedStamp = stamp;
+        metricsService.monitorRuleSetVersion(version);
+        logger.info("Credit rules in force: {}", current);
+    }
+
+    @Override
+    public RuleSet current() {
+        return current;
+    }
+
+    /**
+     * Reloads the rules if the rules file was created, changed or removed
+     * since the last load.
+     */
+    @Scheduled(fixedDelayString = "${business.credit.reload-interval:PT30S}",
+               initialDelayString = "${business.credit.reload-interval:PT30S}")
+    public void reloadIfChanged() {
+        if (properties.getRulesFile() != null && !Objects.equals(stamp(properties.getRulesFile()), loadedStamp)) {
+            reload();
+        }
+    }
+
+    /**
+     * Loads and compiles the rules, and puts them in force if they are valid.
+     *
+     * @return true if the rules were replaced
+     */
+    public synchronized boolean reload() {
+        FileStamp stamp = stamp(properties.getRulesFile());
+        try {
+            RuleSet reloaded = compile(load(stamp));
+            current = reloaded;
+            loadedStamp = stamp;
+            metricsService.incrementRuleSetReload(true);
+            logger.info("Credit rules reloaded: {}", reloaded);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            // Remember the stamp so a broken file is reported once, not on every poll
+            loadedStamp = stamp;
+            metricsService.incrementRuleSetReload(false);
+            logger.error("Invalid credit rules in {}, keeping {}: {}", properties.getRulesFile(), current, e.getMessage());
+            return false;
+        }
+    }
+
+    private BusinessRulesProperties load(FileStamp stamp) throws IOException {
+        if (stamp == null) {
+            return properties;
+        }
+        // The file overrides the configured values it mentions
+        BusinessRulesProperties merged = fileMapper.convertValue(properties, BusinessRulesProperties.class);
+        return fileMapper.readerForUpdating(merged).readValue(properties.getRulesFile().toFile());
+    }
+
+    private RuleSet compile(BusinessRulesProperties source) {
+        RuleSet ruleSet = RuleSet.compile(source.toDefinition(), version.get() + 1, observer);
+        version.incrementAndGet();
+        return ruleSet;
+    }
+
+    private static FileStamp stamp(Path file) {
+        if (file == null) {
+            return null;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            return new FileStamp(attributes.lastModifiedTime().toMillis(), attributes.size());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private record FileStamp(long lastModified, long size) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.coopcredit.creditapplication.infrastructure.rules;
+
+import com.coopcredit.creditapplication.domain.validation.CreditRules;
+import com.coopcredit.creditapplication.domain.validation.RuleSetDefinition;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Credit eligibility rules, bound from the {@code business.credit} section.
+ * The same shape, as JSON, is read from the rules file when one is set.
+ */
+@ConfigurationProperties(prefix = "business.credit")
+public class BusinessRulesProperties {
+
+    /**
+     * Months an affiliate must have been affiliated before requesting credit.
+     */
+    private int minAffiliateMonths = 3;
+
+    /**
+     * Highest monthly payment to monthly income ratio accepted.
+     */
+    private BigDecimal maxDebtRatio = new BigDecimal("0.40");
+
+    /**
+     * An affiliate can borrow at most this many times their salary.
+     */
+    private int maxAmountMultiplier = 10;
+
+    private BigDecimal minAmount = new BigDecimal("1000000");
+
+    private BigDecimal maxAmount = new BigDecimal("50000000");
+
+    private int minTermMonths = 6;
+
+    private int maxTermMonths = 60;
+
+    /**
+     * Rules to run. Cheaper rules run first; rules not listed are skipped.
+     */
+    private List<Rule> rules = new ArrayList<>(List.of(
+        new Rule(CreditRules.AFFILIATION_TIME),
+        new Rule(CreditRules.CREDIT_AMOUNT),
+        new Rule(CreditRules.CREDIT_TERM),
+        new Rule(CreditRules.AFFILIATE_LIMIT),
+        new Rule(CreditRules.DEBT_RATIO)
+    ));
+
+    /**
+     * Optional JSON file overriding these settings. It is checked for changes
+     * periodically and the new rules replace the old ones atomically; an
+     * invalid file is logged and the current rules stay in force.
+     */
+    private Path rulesFile;
+
+    public RuleSetDefinition toDefinition() {
+        return new RuleSetDefinition(minAffiliateMonths, maxDebtRatio, maxAmountMultiplier,
+            minAmount, maxAmount, minTermMonths, maxTermMonths,
+            rules.stream()
+                .map(rule -> new RuleSetDefinition.RuleDefinition(rule.getName(), rule.isEnabled(), rule.getCost()))
+                .toList());
+    }
+
+    public int getMinAffiliateMonths() {
+        return minAffiliateMonths;
+    }
+
+    public void setMinAffiliateMonths(int minAffiliateMonths) {
+        this.minAffiliateMonths = minAffiliateMonths;
+    }
+
+    public BigDecimal getMaxDebtRatio() {
+        return maxDebtRatio;
+    }
+
+    public void setMaxDebtRatio(BigDecimal maxDebtRatio) {
+        this.maxDebtRatio = maxDebtRatio;
+    }
+
+    public int getMaxAmountMultiplier() {
+        return maxAmountMultiplier;
+    }
+
+    public void setMaxAmountMultiplier(int maxAmountMultiplier) {
+        this.maxAmountMultiplier = maxAmountMultiplier;
+    }
+
+    public BigDecimal getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(BigDecimal minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(BigDecimal maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    public int getMinTermMonths() {
+        return minTermMonths;
+    }
+
+    public void setMinTermMonths(int minTermMonths) {
+        this.minTermMonths = minTermMonths;
+    }
+
+    public int getMaxTermMonths() {
+        return maxTermMonths;
+    }
+
+    public void setMaxTermMonths(int maxTermMonths) {
+        this.maxTermMonths = maxTermMonths;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    @JsonIgnore
+    public Path getRulesFile() {
+        return rulesFile;
+    }
+
+    @JsonIgnore
+    public void setRulesFile(Path rulesFile) {
+        // An unset BUSINESS_RULES_FILE binds as an empty path
+        this.rulesFile = rulesFile == null || rulesFile.toString().isEmpty() ? null : rulesFile;
+    }
+
+    public static class Rule {
+
+        /**
+         * One of affiliation-time, credit-amount, credit-term, affiliate-limit, debt-ratio.
+         */
+        private String name;
+
+        private boolean enabled = true;
+
+        /**
+         * Overrides the rule's default evaluation cost.
+         */
+        private Integer cost;
+
+        public Rule() {
+        }
+
+        public Rule(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Integer getCost() {
+            return cost;
+        }
+
+        public void setCost(Integer cost) {
+            this.cost = cost;
+        }
+    }
+}
@@ -0,0 +1,416 @@
+package com.coopcredit.creditapplication.infrastructure.servicing;
+
+import com.coopcredit.creditapplication.domain.servicing.LedgerEntry;
+import com.coopcredit.creditapplication.domain.servicing.LoanAccount;
+import com.coopcredit.creditapplication.domain.servicing.LoanBalance;
+import com.coopcredit.creditapplication.domain.servicing.LoanStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC access for the interest accrual: ledger partitions, checkpoints and
+ * the batches themselves.
+ *
+ * A day's loans are split into ranges of loan ids, each with a checkpoint
+ * row holding the next loan to accrue. A batch locks its checkpoint (SKIP
+ * LOCKED, so concurrent workers and nodes never share a range) and the
+ * loans it accrues, writes their entries and moves the checkpoint in one
+ * transaction: a loan is accrued at most once per day however often a run
+ * is interrupted and resumed.
+ */
+@Component
+public class AccrualRepository {
+
+    /**
+     * First key of the transaction-scoped advisory lock taken while a day's
+     * checkpoints are created; the second key is the day.
+     */
+    private static final int CHECKPOINT_LOCK_KEY = 0x6C6E6163;
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String LOCK_CHECKPOINT = """
+        SELECT next_loan_id, last_loan_id
+        FROM loan_accrual_checkpoints
+        WHERE accrual_date = ? AND partition_no = ? AND completed_at IS NULL
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String LOCK_LOANS = """
+        SELECT a.loan_id, a.affiliate_id, a.principal, a.annual_rate, a.term_months, a.installment, a.disbursed_on,
+               s.last_entry_id, s.as_of, s.principal AS snapshot_principal, s.interest AS snapshot_interest,
+               s.due AS snapshot_due
+        FROM loan_accounts a
+        LEFT JOIN loan_balance_snapshots s ON s.loan_id = a.loan_id
+        WHERE a.loan_id BETWEEN ? AND ? AND a.status = 'ACTIVE' AND a.disbursed_on < ?
+        ORDER BY a.loan_id
+        LIMIT ?
+        FOR UPDATE OF a
+        """;
+
+    private static final String REPLAY = """
+        SELECT loan_id, id, entry_date, principal_delta, interest_delta, due_delta
+        FROM loan_ledger_entries
+        WHERE loan_id BETWEEN ? AND ? AND entry_date >= ?
+        ORDER BY loan_id, id
+        """;
+
+    // One statement per batch, amounts in cents. Ids come from the column
+    // default and the booking date from the clock, both while the loans are
+    // locked, so they follow every entry already booked for them
+    private static final String INSERT_ENTRIES = """
+        INSERT INTO loan_ledger_entries (loan_id, entry_type, entry_date, value_date, principal_delta, interest_delta, due_delta)
+        SELECT e.loan_id, e.entry_type, CAST(clock_timestamp() AS DATE), ?, e.principal / 100.0, e.interest / 100.0, e.due / 100.0
+        FROM unnest(?::bigint[], ?::varchar[], ?::bigint[], ?::bigint[], ?::bigint[]) AS e(loan_id, entry_type, principal, interest, due)
+        RETURNING id, loan_id, entry_date
+        """;
+
+    private static final String UPSERT_SNAPSHOT = """
+        INSERT INTO loan_balance_snapshots (loan_id, last_entry_id, as_of, principal, interest, due)
+        VALUES (?, ?, ?, ?, ?, ?)
+        ON CONFLICT (loan_id) DO UPDATE SET
+            last_entry_id = EXCLUDED.last_entry_id,
+            as_of = EXCLUDED.as_of,
+            principal = EXCLUDED.principal,
+            interest = EXCLUDED.interest,
+            due = EXCLUDED.due,
+            taken_at = CURRENT_TIMESTAMP
+        """;
+
+    private static final String ADVANCE_CHECKPOINT = """
+        UPDATE loan_accrual_checkpoints
+        SET next_loan_id = ?,
+            loans_accrued = loans_accrued + ?,
+            interest_accrued = interest_accrued + ?,
+            completed_at = CASE WHEN ? THEN CURRENT_TIMESTAMP END
+        WHERE accrual_date = ? AND partition_no = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccrualRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return today's booking date, from the database clock
+     */
+    public LocalDate bookingDate() {
+        return jdbcTemplate.queryForObject("SELECT CAST(clock_timestamp() AS DATE)", LocalDate.class);
+    }
+
+    /**
+     * Creates the ledger partition of a month unless it exists. Fails when
+     * the default partition already holds entries booked in that month.
+     *
+     * @return true if the partition was created
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean ensurePartition(YearMonth month) {
+        String name = "loan_ledger_entries_" + month.format(PARTITION_SUFFIX);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name))) {
+            return false;
+        }
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF loan_ledger_entries " +
+            "FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        return true;
+    }
+
+    /**
+     * Splits the loans due an accrual on a day into ranges of loan ids, the
+     * first time the day is run, and lists the ranges not finished yet.
+     * The first range starts at zero and the last one is open-ended.
+     *
+     * @param accrualDate the day
+     * @param partitions number of ranges for a new day
+     * @return partition numbers still to accrue
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Integer> openPartitions(LocalDate accrualDate, int partitions) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?)", rs -> { },
+            CHECKPOINT_LOCK_KEY, (int) accrualDate.toEpochDay());
+        Integer existing = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM loan_accrual_checkpoints WHERE accrual_date = ?", Integer.class, accrualDate);
+        if (existing == null || existing == 0) {
+            long[] bounds = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MIN(loan_id), 0), COALESCE(MAX(loan_id), 0) FROM loan_accounts " +
+                "WHERE status = 'ACTIVE' AND disbursed_on < ?",
+                (rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)}, accrualDate);
+            long span = (bounds[1] - bounds[0]) / partitions + 1;
+            List<Object[]> rows = new ArrayList<>(partitions);
+            for (int i = 0; i < partitions; i++) {
+                long first = i == 0 ? 0 : bounds[0] + i * span;
+                long last = i == partitions - 1 ? Long.MAX_VALUE : bounds[0] + (i + 1) * span - 1;
+                rows.add(new Object[] {accrualDate, i, first, last, first});
+            }
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO loan_accrual_checkpoints (accrual_date, partition_no, first_loan_id, last_loan_id, next_loan_id) " +
+                "VALUES (?, ?, ?, ?, ?)", rows);
+        }
+        return jdbcTemplate.queryForList(
+            "SELECT partition_no FROM loan_accrual_checkpoints WHERE accrual_date = ? AND completed_at IS NULL " +
+            "ORDER BY partition_no", Integer.class, accrualDate);
+    }
+
+    /**
+     * @return whether every range of a day has been accrued
+     */
+    public boolean isComplete(LocalDate accrualDate) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) > 0 AND COUNT(*) = COUNT(completed_at) FROM loan_accrual_checkpoints WHERE accrual_date = ?",
+            Boolean.class, accrualDate));
+    }
+
+    /**
+     * @return days up to a date whose accrual was started and not finished, oldest first
+     */
+    public List<LocalDate> incompleteDates(LocalDate upTo) {
+        return jdbcTemplate.queryForList(
+            "SELECT DISTINCT accrual_date FROM loan_accrual_checkpoints " +
+            "WHERE completed_at IS NULL AND accrual_date <= ? ORDER BY accrual_date", LocalDate.class, upTo);
+    }
+
+    /**
+     * @return latest day up to a date whose accrual was started, or null if none
+     */
+    public LocalDate lastStartedDate(LocalDate upTo) {
+        return jdbcTemplate.queryForObject(
+            "SELECT MAX(accrual_date) FROM loan_accrual_checkpoints WHERE accrual_date <= ?", LocalDate.class, upTo);
+    }
+
+    /**
+     * Accrues the next loans of a range: a day of interest on each, plus
+     * the installment falling due that day, if any.
+     *
+     * @param accrualDate the day
+     * @param partition the range
+     * @param batchSize loans at most
+     * @param snapshotEvery entries after a loan's snapshot that trigger a new one
+     * @return the batch, or null if the range is finished or held by another worker
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Batch accrueBatch(LocalDate accrualDate, int partition, int batchSize, int snapshotEvery) {
+        List<long[]> checkpoint = jdbcTemplate.query(LOCK_CHECKPOINT,
+            (rs, rowNum) -> new long[] {rs.getLong("next_loan_id"), rs.getLong("last_loan_id")},
+            accrualDate, partition);
+        if (checkpoint.isEmpty()) {
+            return null;
+        }
+        long nextLoanId = checkpoint.get(0)[0];
+        List<LoanState> loans = jdbcTemplate.query(LOCK_LOANS, (rs, rowNum) -> loanState(rs),
+            nextLoanId, checkpoint.get(0)[1], accrualDate, batchSize);
+        if (loans.isEmpty()) {
+            advance(accrualDate, partition, nextLoanId, 0, 0, true);
+            return new Batch(0, 0, true);
+        }
+
+        replay(loans);
+
+        List<LedgerEntry> entries = new ArrayList<>(loans.size() + loans.size() / 8);
+        long interestCents = 0;
+        for (LoanState state : loans) {
+            LoanAccount loan = state.loan;
+            long interest = loan.dailyInterestCents(state.balance.principalCents());
+            if (interest > 0) {
+                interestCents += interest;
+                state.add(entries, LedgerEntry.accrual(loan.loanId(), accrualDate, interest));
+            }
+            int installment = loan.installmentDueOn(accrualDate);
+            if (installment > 0) {
+                LedgerEntry due = state.balance.installmentDue(loan, accrualDate, installment);
+                if (due != null) {
+                    state.add(entries, due);
+                }
+            }
+        }
+
+        Map<Long, LedgerEntry> newest = insert(accrualDate, entries);
+        snapshot(loans, newest, snapshotEvery);
+
+        boolean done = loans.size() < batchSize;
+        advance(accrualDate, partition, loans.get(loans.size() - 1).loan.loanId() + 1, loans.size(), interestCents, done);
+        return new Batch(loans.size(), interestCents, done);
+    }
+
+    /**
+     * Folds the entries booked after each loan's snapshot into its balance.
+     * One range query serves the whole batch; its booking date bound is the
+     * oldest snapshot, so newer partitions alone are read.
+     */
+    private void replay(List<LoanState> loans) {
+        Map<Long, LoanState> byId = new HashMap<>(loans.size() * 2);
+        LocalDate from = null;
+        for (LoanState state : loans) {
+            byId.put(state.loan.loanId(), state);
+            if (from == null || state.lastEntryDate.isBefore(from)) {
+                from = state.lastEntryDate;
+            }
+        }
+        jdbcTemplate.query(REPLAY, rs -> {
+            LoanState state = byId.get(rs.getLong("loan_id"));
+            long id = rs.getLong("id");
+            if (state != null && id > state.lastEntryId) {
+                state.balance = new LoanBalance(
+                    state.balance.principalCents() + toCents(rs.getBigDecimal("principal_delta")),
+                    state.balance.interestCents() + toCents(rs.getBigDecimal("interest_delta")),
+                    state.balance.dueCents() + toCents(rs.getBigDecimal("due_delta")));
+                state.lastEntryId = id;
+                state.lastEntryDate = rs.getObject("entry_date", LocalDate.class);
+                state.sinceSnapshot++;
+            }
+        }, loans.get(0).loan.loanId(), loans.get(loans.size() - 1).loan.loanId(), from);
+    }
+
+    /**
+     * Appends the entries of a batch, all with the same value date.
+     *
+     * @return the newest entry booked for each loan, with its id and booking date
+     */
+    private Map<Long, LedgerEntry> insert(LocalDate valueDate, List<LedgerEntry> entries) {
+        Map<Long, LedgerEntry> newest = new HashMap<>(entries.size() * 2);
+        if (entries.isEmpty()) {
+            return newest;
+        }
+        int size = entries.size();
+        Long[] loanIds = new Long[size];
+        String[] types = new String[size];
+        Long[] principal = new Long[size];
+        Long[] interest = new Long[size];
+        Long[] due = new Long[size];
+        for (int i = 0; i < size; i++) {
+            LedgerEntry entry = entries.get(i);
+            loanIds[i] = entry.loanId();
+            types[i] = entry.type().name();
+            principal[i] = entry.principalCents();
+            interest[i] = entry.interestCents();
+            due[i] = entry.dueCents();
+        }
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_ENTRIES);
+            ps.setObject(1, valueDate);
+            ps.setArray(2, con.createArrayOf("bigint", loanIds));
+            ps.setArray(3, con.createArrayOf("varchar", types));
+            ps.setArray(4, con.createArrayOf("bigint", principal));
+            ps.setArray(5, con.createArrayOf("bigint", interest));
+            ps.setArray(6, con.createArrayOf("bigint", due));
+            return ps;
+        }, rs -> {
+            long id = rs.getLong("id");
+            long loanId = rs.getLong("loan_id");
+            LedgerEntry current = newest.get(loanId);
+            if (current == null || current.id() < id) {
+                newest.put(loanId, new LedgerEntry(id, loanId, null, rs.getObject("entry_date", LocalDate.class),
+                    valueDate, 0, 0, 0));
+            }
+        });
+        return newest;
+    }
+
+    /**
+     * Writes a new snapshot for loans with enough entries after their last one.
+     *
+     * @param newest the newest entry of each loan booked by this batch
+     */
+    private void snapshot(List<LoanState> loans, Map<Long, LedgerEntry> newest, int snapshotEvery) {
+        List<Object[]> rows = new ArrayList<>();
+        for (LoanState state : loans) {
+            if (state.sinceSnapshot < snapshotEvery) {
+                continue;
+            }
+            LedgerEntry last = newest.get(state.loan.loanId());
+            rows.add(new Object[] {
+                state.loan.loanId(),
+                last != null ? last.id() : state.lastEntryId,
+                last != null ? last.entryDate() : state.lastEntryDate,
+                cents(state.balance.principalCents()),
+                cents(state.balance.interestCents()),
+                cents(state.balance.dueCents())});
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SNAPSHOT, rows);
+        }
+    }
+
+    private void advance(LocalDate accrualDate, int partition, long nextLoanId, int loans, long interestCents,
+                         boolean done) {
+        jdbcTemplate.update(ADVANCE_CHECKPOINT, nextLoanId, loans, cents(interestCents), done, accrualDate, partition);
+    }
+
+    private static LoanState loanState(ResultSet rs) throws SQLException {
+        LoanAccount loan = new LoanAccount(
+            rs.getLong("loan_id"),
+            rs.getLong("affiliate_id"),
+            toCents(rs.getBigDecimal("principal")),
+            rs.getBigDecimal("annual_rate").movePointRight(2).intValueExact(),
+            rs.getInt("term_months"),
+            toCents(rs.getBigDecimal("installment")),
+            rs.getObject("disbursed_on", LocalDate.class),
+            LoanStatus.ACTIVE);
+        LoanState state = new LoanState(loan);
+        long lastEntryId = rs.getLong("last_entry_id");
+        if (!rs.wasNull()) {
+            state.lastEntryId = lastEntryId;
+            state.lastEntryDate = rs.getObject("as_of", LocalDate.class);
+            state.balance = new LoanBalance(
+                toCents(rs.getBigDecimal("snapshot_principal")),
+                toCents(rs.getBigDecimal("snapshot_interest")),
+                toCents(rs.getBigDecimal("snapshot_due")));
+        }
+        return state;
+    }
+
+    private static BigDecimal cents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    /**
+     * Outcome of one batch.
+     *
+     * @param loans loans accrued
+     * @param interestCents interest accrued
+     * @param done whether the range is finished
+     */
+    public record Batch(int loans, long interestCents, boolean done) {
+    }
+
+    /**
+     * A loan being accrued, with its balance folded so far.
+     */
+    private static final class LoanState {
+
+        final LoanAccount loan;
+        LoanBalance balance = LoanBalance.ZERO;
+        long lastEntryId;
+        LocalDate lastEntryDate;
+        int sinceSnapshot;
+
+        LoanState(LoanAccount loan) {
+            this.loan = loan;
+            this.lastEntryDate = loan.disbursedOn();
+        }
+
+        void add(List<LedgerEntry> entries, LedgerEntry entry) {
+            entries.add(entry);
+            balance = balance.apply(entry);
+            sinceSnapshot++;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.coopcredit.creditapplication.infrastructure.servicing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Outcome of one run of the interest accrual for a day.
+ *
+ * @param accrualDate day whose interest was accrued
+ * @param loans loans accrued by this run
+ * @param interest interest accrued by this run
+ * @param completed whether every partition of the day is done, by this run or earlier ones
+ */
+public record AccrualRun(LocalDate accrualDate, long loans, BigDecimal interest, boolean completed) {
+}
@@ -0,0 +1,197 @@
+package com.coopcredit.creditapplication.infrastructure.servicing;
+
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Nightly interest accrual over every active loan.
+ *
+ * Each run accrues the days since the last one, up to yesterday, oldest
+ * first. A day's loans are split into ranges of ids accrued in parallel,
+ * one thread per range, in batches that each commit with their checkpoint.
+ * Workers stop once the time budget is spent; the next run resumes the
+ * unfinished ranges before moving on to later days.
+ *
+ * Runs also keep the ledger partitions of this month and the next one in
+ * place, so entries never land in the default partition.
+ */
+@Component
+public class InterestAccrualJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterestAccrualJob.class);
+
+    private final AccrualRepository accrualRepository;
+    private final LoanServicingProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricsService metricsService;
+    private final ExecutorService executor;
+
+    public InterestAccrualJob(AccrualRepository accrualRepository,
+                              LoanServicingProperties properties,
+                              TransactionTemplate transactionTemplate,
+                              MetricsService metricsService) {
+        this.accrualRepository = accrualRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.metricsService = metricsService;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(properties.getPartitions(), runnable -> {
+            Thread thread = new Thread(runnable, "loan-accrual-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        metricsService.monitorExecutor(executor, "loan-accrual");
+    }
+
+    @PostConstruct
+    void createPartitions() {
+        ensurePartitions(accrualRepository.bookingDate());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(cron = "${loan-servicing.accrual-cron:0 30 1 * * *}")
+    public void runScheduled() {
+        if (!properties.isAccrualEnabled()) {
+            return;
+        }
+        try {
+            runDue();
+        } catch (RuntimeException e) {
+            logger.warn("Interest accrual failed, it resumes from its checkpoints on the next run", e);
+        }
+    }
+
+    /**
+     * Accrues every day due, up to yesterday, within one time budget.
+     *
+     * @return one run per day attempted, oldest first
+     */
+    public List<AccrualRun> runDue() {
+        long deadline = System.nanoTime() + properties.getTimeBudget().toNanos();
+        LocalDate today = accrualRepository.bookingDate();
+        ensurePartitions(today);
+
+        LocalDate yesterday = today.minusDays(1);
+        LocalDate oldest = yesterday.minusDays(properties.getMaxCatchUpDays() - 1L);
+        TreeSet<LocalDate> dates = new TreeSet<>(accrualRepository.incompleteDates(yesterday));
+        LocalDate lastStarted = accrualRepository.lastStartedDate(yesterday);
+        LocalDate from = lastStarted != null ? lastStarted.plusDays(1) : yesterday;
+        for (LocalDate date = from.isBefore(oldest) ? oldest : from; !date.isAfter(yesterday); date = date.plusDays(1)) {
+            dates.add(date);
+        }
+
+        List<AccrualRun> runs = new ArrayList<>();
+        for (LocalDate date : dates) {
+            AccrualRun run = accrue(date, deadline);
+            runs.add(run);
+            if (!run.completed()) {
+                break;
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Accrues one day within the configured time budget, resuming where an
+     * earlier run of the same day stopped.
+     *
+     * @param accrualDate the day
+     * @return what this run accrued
+     */
+    public AccrualRun accrue(LocalDate accrualDate) {
+        return accrue(accrualDate, System.nanoTime() + properties.getTimeBudget().toNanos());
+    }
+
+    private AccrualRun accrue(LocalDate accrualDate, long deadline) {
+        long started = System.nanoTime();
+        List<Integer> partitions = transactionTemplate.execute(
+            status -> accrualRepository.openPartitions(accrualDate, properties.getPartitions()));
+
+        List<Future<long[]>> workers = new ArrayList<>();
+        for (Integer partition : partitions != null ? partitions : List.<Integer>of()) {
+            workers.add(executor.submit(() -> accruePartition(accrualDate, partition, deadline)));
+        }
+        long loans = 0;
+        long interestCents = 0;
+        for (Future<long[]> worker : workers) {
+            try {
+                long[] totals = worker.get();
+                loans += totals[0];
+                interestCents += totals[1];
+            } catch (ExecutionException e) {
+                logger.warn("Interest accrual of {} failed in one partition", accrualDate, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        AccrualRun run = new AccrualRun(accrualDate, loans, BigDecimal.valueOf(interestCents, 2),
+            accrualRepository.isComplete(accrualDate));
+        logger.info("Interest accrual of {}: {} loans, {} interest in {} ms{}", accrualDate, loans, run.interest(),
+            (System.nanoTime() - started) / 1_000_000, run.completed() ? "" : " (incomplete, resumes on the next run)");
+        return run;
+    }
+
+    /**
+     * Runs batches of one range until it is finished or the budget is spent.
+     * At least one batch runs, so every run makes progress.
+     *
+     * @return loans and interest in cents accrued
+     */
+    private long[] accruePartition(LocalDate accrualDate, int partition, long deadline) {
+        long[] totals = new long[2];
+        while (true) {
+            long started = System.nanoTime();
+            AccrualRepository.Batch batch = transactionTemplate.execute(status -> accrualRepository.accrueBatch(
+                accrualDate, partition, properties.getBatchSize(), properties.getSnapshotEvery()));
+            if (batch == null) {
+                return totals;
+            }
+            metricsService.recordLoanAccrualBatch(batch.loans(), System.nanoTime() - started);
+            totals[0] += batch.loans();
+            totals[1] += batch.interestCents();
+            if (batch.done() || System.nanoTime() - deadline >= 0) {
+                return totals;
+            }
+        }
+    }
+
+    private void ensurePartitions(LocalDate today) {
+        YearMonth month = YearMonth.from(today);
+        for (YearMonth partition : List.of(month, month.plusMonths(1))) {
+            try {
+                Boolean created = transactionTemplate.execute(status -> accrualRepository.ensurePartition(partition));
+                if (Boolean.TRUE.equals(created)) {
+                    logger.info("Created loan ledger partition for {}", partition);
+                }
+            } catch (DataAccessException e) {
+                logger.warn("Could not create the loan ledger partition for {}; its entries stay in the " +
+                    "default partition", partition, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.coopcredit.creditapplication.infrastructure.servicing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Loan servicing settings, bound from the {@code loan-servicing} section.
+ */
+@ConfigurationProperties(prefix = "loan-servicing")
+public class LoanServicingProperties {
+
+    /**
+     * Whether this node runs the scheduled accrual. Nodes may all run it:
+     * partitions are claimed with row locks on their checkpoints.
+     */
+    private boolean accrualEnabled = true;
+
+    /**
+     * Loan id ranges accrued in parallel, one thread each, when a day's run
+     * starts. Later runs of the same day keep its original ranges.
+     */
+    private int partitions = 4;
+
+    /**
+     * Loans accrued and committed per transaction.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Wall-clock budget of a run. Workers stop after the batch that crosses
+     * it and the next run resumes from the checkpoints.
+     */
+    private Duration timeBudget = Duration.ofHours(1);
+
+    /**
+     * Entries replayed on top of a loan's snapshot before the accrual
+     * writes a new snapshot.
+     */
+    private int snapshotEvery = 30;
+
+    /**
+     * Missed days caught up by one run at most; older days are left out.
+     */
+    private int maxCatchUpDays = 31;
+
+    public boolean isAccrualEnabled() {
+        return accrualEnabled;
+    }
+
+    public void setAccrualEnabled(boolean accrualEnabled) {
+        this.accrualEnabled = accrualEnabled;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(int partitions) {
+        this.partitions = partitions;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getTimeBudget() {
+        return timeBudget;
+    }
+
+    public void setTimeBudget(Duration timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    public int getSnapshotEvery() {
+        return snapshotEvery;
+    }
+
+    public void setSnapshotEvery(int snapshotEvery) {
+        this.snapshotEvery = snapshotEvery;
+    }
+
+    public int getMaxCatchUpDays() {
+        return maxCatchUpDays;
+    }
+
+    public void setMaxCatchUpDays(int maxCatchUpDays) {
+        this.maxCatchUpDays = maxCatchUpDays;
+    }
+}
@@ -0,0 +1,308 @@
+package com.coopcredit.creditapplication.infrastructure.stream;
+
+import com.coopcredit.creditapplication.infrastructure.cache.CacheInvalidationHandler;
+import com.coopcredit.creditapplication.infrastructure.cache.CacheInvalidationMessage;
+import com.coopcredit.creditapplication.infrastructure.cache.CacheInvalidationPublisher;
+import com.coopcredit.creditapplication.infrastructure.exception.TooManyRequestsException;
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import com.coopcredit.creditapplication.infrastructure.outbox.ApplicationStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed application status changes out to Server-Sent Events subscribers.
+ *
+ * Publishing never blocks on a client: events are offered to a bounded queue
+ * per subscriber and written by a small dispatch pool. A subscriber whose
+ * queue is full is disconnected and resumes with Last-Event-ID, which is
+ * served from a ring buffer of recent events. A client whose last event has
+ * already left the buffer gets a {@code resync} event and reloads instead.
+ *
+ * Changes committed on other nodes arrive as events on the cache
+ * invalidation channel: each change is announced with a pg_notify sent just
+ * before its transaction commits, which PostgreSQL only delivers once it has.
+ * If the channel drops, announcements may have been missed, so every client
+ * is asked to resync.
+ */
+@Component
+public class DecisionStreamBroker implements CacheInvalidationHandler {
+
+    public static final String STATUS_CHANGED = "status-changed";
+    public static final String RESYNC = "resync";
+
+    private static final Logger logger = LoggerFactory.getLogger(DecisionStreamBroker.class);
+
+    private static final Object HEARTBEAT = new Object();
+    private static final Object RESYNC_MARKER = new Object();
+
+    private final DecisionStreamProperties properties;
+    private final MetricsService metricsService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<CacheInvalidationPublisher> invalidationPublisher;
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final ExecutorService dispatcher;
+
+    // Guarded by ring
+    private final ApplicationStatusChangedEvent[] ring;
+    private long appended;
+
+    public DecisionStreamBroker(DecisionStreamProperties properties,
+                                MetricsService metricsService,
+                                JdbcTemplate jdbcTemplate,
+                                ObjectProvider<CacheInvalidationPublisher> invalidationPublisher) {
+        this.properties = properties;
+        this.metricsService = metricsService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.invalidationPublisher = invalidationPublisher;
+        this.ring = new ApplicationStatusChangedEvent[properties.getReplayBufferSize()];
+        AtomicInteger threads = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(properties.getDispatchThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "decision-stream-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        metricsService.monitorMapSize("decision.stream.subscribers", subscribers);
+    }
+
+    /**
+     * Opens a stream.
+     *
+     * @param affiliateId only stream this affiliate's applications, or null for all
+     * @param lastEventId last event the client saw, or null for live events only
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribe(Long affiliateId, Long lastEventId) {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            throw new TooManyRequestsException("STREAM_SUBSCRIBERS_EXCEEDED",
+                "Too many open decision streams. Please retry later.", 5);
+        }
+        SseEmitter emitter = new SseEmitter(properties.getEmitterTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(subscriberIds.incrementAndGet(), emitter, affiliateId,
+            new ArrayBlockingQueue<>(properties.getSubscriberBufferSize()));
+        emitter.onCompletion(() -> subscribers.remove(subscriber.id));
+        emitter.onTimeout(() -> subscribers.remove(subscriber.id));
+        emitter.onError(error -> subscribers.remove(subscriber.id));
+
+        // Replay and registration under the ring lock, so no event falls in between
+        synchronized (ring) {
+            if (lastEventId != null) {
+                List<ApplicationStatusChangedEvent> missed = eventsAfter(lastEventId);
+                if (missed != null) {
+                    missed.removeIf(event -> !subscriber.accepts(event));
+                }
+                if (missed == null || missed.size() > properties.getSubscriberBufferSize()) {
+                    subscriber.queue.offer(RESYNC_MARKER);
+                } else {
+                    missed.forEach(subscriber.queue::offer);
+                }
+            }
+            subscribers.put(subscriber.id, subscriber);
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Announces a status change to the other nodes, delivered only if its
+     * transaction commits.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void announce(ApplicationStatusChangedEvent event) {
+        CacheInvalidationPublisher publisher = invalidationPublisher.getIfAvailable();
+        if (publisher != null) {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> { }, publisher.getChannel(),
+                announcement(publisher.getNodeId(), event).toPayload());
+        }
+    }
+
+    /**
+     * Streams a status change once its transaction has committed.
+     */
+    @TransactionalEventListener
+    public void onStatusChanged(ApplicationStatusChangedEvent event) {
+        stream(event);
+    }
+
+    /**
+     * Streams a status change committed on another node.
+     */
+    @Override
+    public void evict(CacheInvalidationMessage message) {
+        if (message.getKind() == CacheInvalidationMessage.Kind.EVENT && STATUS_CHANGED.equals(message.getName())) {
+            String[] parts = message.getId().split(",", 4);
+            stream(new ApplicationStatusChangedEvent(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                Long.parseLong(parts[2]), parts[3]));
+        }
+    }
+
+    /**
+     * Announcements from other nodes may have been missed: forgets the
+     * replay buffer and asks every client to reload.
+     */
+    @Override
+    public void evictAll() {
+        synchronized (ring) {
+            Arrays.fill(ring, null);
+            appended = 0;
+            for (Subscriber subscriber : subscribers.values()) {
+                offer(subscriber, RESYNC_MARKER);
+            }
+        }
+        logger.info("Asked decision stream subscribers to resync");
+    }
+
+    /**
+     * The message announcing a status change to the other nodes.
+     *
+     * Body: {@code <id>,<applicationId>,<affiliateId>,<payload>}.
+     */
+    public static CacheInvalidationMessage announcement(String nodeId, ApplicationStatusChangedEvent event) {
+        return CacheInvalidationMessage.event(nodeId, STATUS_CHANGED,
+            event.id() + "," + event.applicationId() + "," + event.affiliateId() + "," + event.payload());
+    }
+
+    /**
+     * Keeps idle streams open through proxies and detects dead clients.
+     */
+    @Scheduled(fixedRateString = "${decision-stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            offer(subscriber, HEARTBEAT);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private void stream(ApplicationStatusChangedEvent event) {
+        synchronized (ring) {
+            ring[(int) (appended++ % ring.length)] = event;
+            for (Subscriber subscriber : subscribers.values()) {
+                if (subscriber.accepts(event)) {
+                    offer(subscriber, event);
+                }
+            }
+        }
+    }
+
+    private void offer(Subscriber subscriber, Object item) {
+        if (subscriber.queue.offer(item)) {
+            schedule(subscriber);
+        } else {
+            // Slow consumer: drop it rather than buffer without bound
+            subscribers.remove(subscriber.id);
+            metricsService.incrementDecisionStreamDropped();
+            logger.debug("Disconnecting slow decision stream subscriber {}", subscriber.id);
+            subscriber.closing.set(true);
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            try {
+                if (subscriber.closing.get()) {
+                    subscriber.queue.clear();
+                    subscriber.emitter.complete();
+                } else {
+                    Object item;
+                    while ((item = subscriber.queue.poll()) != null) {
+                        send(subscriber.emitter, item);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(subscriber.id);
+                subscriber.queue.clear();
+                subscriber.emitter.completeWithError(e);
+            } finally {
+                subscriber.scheduled.set(false);
+            }
+        } while (!subscriber.queue.isEmpty() && subscriber.scheduled.compareAndSet(false, true));
+    }
+
+    private static void send(SseEmitter emitter, Object item) throws IOException {
+        if (item == HEARTBEAT) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } else if (item == RESYNC_MARKER) {
+            emitter.send(SseEmitter.event().name(RESYNC).data("{}", MediaType.APPLICATION_JSON));
+        } else {
+            ApplicationStatusChangedEvent event = (ApplicationStatusChangedEvent) item;
+            emitter.send(SseEmitter.event()
+                .id(String.valueOf(event.id()))
+                .name(STATUS_CHANGED)
+                .data(event.payload(), MediaType.APPLICATION_JSON));
+        }
+    }
+
+    /**
+     * @return events after the given one, or null if it is no longer buffered
+     */
+    private List<ApplicationStatusChangedEvent> eventsAfter(long lastEventId) {
+        long oldest = Math.max(0, appended - ring.length);
+        for (long position = appended - 1; position >= oldest; position--) {
+            if (ring[(int) (position % ring.length)].id() == lastEventId) {
+                List<ApplicationStatusChangedEvent> missed = new ArrayList<>((int) (appended - position - 1));
+                for (long next = position + 1; next < appended; next++) {
+                    missed.add(ring[(int) (next % ring.length)]);
+                }
+                return missed;
+            }
+        }
+        return null;
+    }
+
+    private static final class Subscriber {
+
+        private final long id;
+        private final SseEmitter emitter;
+        private final Long affiliateId;
+        private final Queue<Object> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closing = new AtomicBoolean();
+
+        private Subscriber(long id, SseEmitter emitter, Long affiliateId, Queue<Object> queue) {
+            this.id = id;
+            this.emitter = emitter;
+            this.affiliateId = affiliateId;
+            this.queue = queue;
+        }
+
+        private boolean accepts(ApplicationStatusChangedEvent event) {
+            return affiliateId == null || affiliateId == event.affiliateId();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.coopcredit.creditapplication.infrastructure.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Server-Sent Events stream of application decisions, bound from the
+ * {@code decision-stream} section.
+ */
+@ConfigurationProperties(prefix = "decision-stream")
+public class DecisionStreamProperties {
+
+    /**
+     * Recent events kept for Last-Event-ID resume.
+     */
+    private int replayBufferSize = 1024;
+
+    /**
+     * Events queued per subscriber; a subscriber that falls this far behind is disconnected.
+     */
+    private int subscriberBufferSize = 256;
+
+    /**
+     * Open streams allowed on this node.
+     */
+    private int maxSubscribers = 5000;
+
+    /**
+     * Threads writing events to subscribers.
+     */
+    private int dispatchThreads = 2;
+
+    /**
+     * Streams are closed after this long; clients reconnect with Last-Event-ID.
+     */
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+
+    public int getReplayBufferSize() {
+        return replayBufferSize;
+    }
+
+    public void setReplayBufferSize(int replayBufferSize) {
+        this.replayBufferSize = replayBufferSize;
+    }
+
+    public int getSubscriberBufferSize() {
+        return subscriberBufferSize;
+    }
+
+    public void setSubscriberBufferSize(int subscriberBufferSize) {
+        this.subscriberBufferSize = subscriberBufferSize;
+    }
+
+    public int getMaxSubscribers() {
+        return maxSubscribers;
+    }
+
+    public void setMaxSubscribers(int maxSubscribers) {
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    public int getDispatchThreads() {
+        return dispatchThreads;
+    }
+
+    public void setDispatchThreads(int dispatchThreads) {
+        this.dispatchThreads = dispatchThreads;
+    }
+
+    public Duration getEmitterTimeout() {
+        return emitterTimeout;
+    }
+
+    public void setEmitterTimeout(Duration emitterTimeout) {
+        this.emitterTimeout = emitterTimeout;
+    }
+}
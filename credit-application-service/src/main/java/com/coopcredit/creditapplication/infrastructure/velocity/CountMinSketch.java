@@ -0,0 +1,156 @@
+package com.coopcredit.creditapplication.infrastructure.velocity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-min sketch over a sliding window, for keys too numerous to count
+ * one by one.
+ *
+ * Memory is fixed at depth × width counters per bucket whatever the number
+ * of keys. Estimates never undercount; they overcount when keys collide in
+ * every row, which a wider sketch makes rarer. As in SlidingWindowCounter,
+ * the window is a ring of buckets, here one sketch per bucket: the first
+ * writer of a new time index clears the bucket's sketch while the others
+ * wait for it, and an estimate adds up the per-bucket minimums.
+ */
+public final class CountMinSketch {
+
+    private static final long CLEARING = -1;
+
+    private final int depth;
+    private final int widthMask;
+    private final long bucketMillis;
+    private final AtomicIntegerArray[] sketches;
+    private final AtomicLongArray indexes;
+
+    /**
+     * @param depth rows, each with its own hash of the key
+     * @param width counters per row; rounded up to a power of two
+     * @param buckets number of buckets in the window
+     * @param bucketMillis time covered by one bucket
+     */
+    public CountMinSketch(int depth, int width, int buckets, long bucketMillis) {
+        if (depth < 1 || width < 1 || buckets < 1 || bucketMillis < 1) {
+            throw new IllegalArgumentException("Sketch dimensions and bucket length must be positive");
+        }
+        int roundedWidth = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.widthMask = roundedWidth - 1;
+        this.bucketMillis = bucketMillis;
+        this.sketches = new AtomicIntegerArray[buckets];
+        // Index 0 is far in the past, so every bucket starts out of the window
+        this.indexes = new AtomicLongArray(buckets);
+        for (int i = 0; i < buckets; i++) {
+            sketches[i] = new AtomicIntegerArray(depth * roundedWidth);
+        }
+    }
+
+    /**
+     * Counts one event for a key.
+     *
+     * @param key the key
+     * @param nowMillis current time in milliseconds
+     * @return estimated events for the key in the window, this one included
+     */
+    public int add(String key, long nowMillis) {
+        long hash = hash(key);
+        long index = nowMillis / bucketMillis;
+        AtomicIntegerArray sketch = bucket(index);
+        if (sketch != null) {
+            int width = widthMask + 1;
+            for (int row = 0; row < depth; row++) {
+                sketch.incrementAndGet(row * width + column(hash, row));
+            }
+        }
+        return estimate(hash, index);
+    }
+
+    /**
+     * @param key the key
+     * @param nowMillis current time in milliseconds
+     * @return estimated events for the key in the window
+     */
+    public int estimate(String key, long nowMillis) {
+        return estimate(hash(key), nowMillis / bucketMillis);
+    }
+
+    private int estimate(long hash, long index) {
+        int width = widthMask + 1;
+        long total = 0;
+        for (int slot = 0; slot < sketches.length; slot++) {
+            long age = index - indexes.get(slot);
+            if (age < 0 || age >= sketches.length) {
+                continue;
+            }
+            AtomicIntegerArray sketch = sketches[slot];
+            int min = Integer.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                min = Math.min(min, sketch.get(row * width + column(hash, row)));
+            }
+            total += min;
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the sketch counting the given time index, clearing it first if
+     * it still holds an index that slid out of the window.
+     *
+     * @return the sketch, or null if the bucket already moved past this index
+     */
+    private AtomicIntegerArray bucket(long index) {
+        int slot = (int) (index % sketches.length);
+        while (true) {
+            long current = indexes.get(slot);
+            if (current == index) {
+                return sketches[slot];
+            }
+            if (current == CLEARING) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (current > index) {
+                // A thread with an older clock reading; its event is no longer in the window
+                return null;
+            }
+            if (indexes.compareAndSet(slot, current, CLEARING)) {
+                AtomicIntegerArray sketch = sketches[slot];
+                for (int i = 0; i < sketch.length(); i++) {
+                    sketch.set(i, 0);
+                }
+                indexes.set(slot, index);
+                return sketch;
+            }
+        }
+    }
+
+    /**
+     * Column of a key in a row, from two halves of one 64-bit hash
+     * (Kirsch-Mitzenmacher double hashing).
+     */
+    private int column(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return (h1 + row * h2) & widthMask;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-8 bytes, with a final avalanche so nearby
+     * keys (consecutive documents or IPs) spread over the whole row.
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,85 @@
+package com.coopcredit.creditapplication.infrastructure.velocity;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free count of events over a sliding window.
+ *
+ * The window is split into a ring of buckets. Each bucket is one long holding
+ * the bucket's time index in the high bits and its count in the low 24 bits,
+ * so a bucket that has slid out of the window is reset and incremented by the
+ * same CAS: no timestamps to keep in sync and no background rotation. The
+ * window slides one bucket at a time.
+ */
+public final class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final AtomicLongArray buckets;
+    private final long bucketMillis;
+
+    /**
+     * @param buckets number of buckets in the window
+     * @param bucketMillis time covered by one bucket
+     */
+    public SlidingWindowCounter(int buckets, long bucketMillis) {
+        if (buckets < 1 || bucketMillis < 1) {
+            throw new IllegalArgumentException("Buckets and bucket length must be positive");
+        }
+        this.buckets = new AtomicLongArray(buckets);
+        this.bucketMillis = bucketMillis;
+    }
+
+    /**
+     * Counts one event.
+     *
+     * @param nowMillis current time in milliseconds
+     * @return events in the window, this one included
+     */
+    public int increment(long nowMillis) {
+        long index = nowMillis / bucketMillis;
+        int slot = (int) (index % buckets.length());
+        while (true) {
+            long current = buckets.get(slot);
+            long next;
+            if (current >>> COUNT_BITS == index) {
+                // Saturates instead of overflowing into the index bits
+                next = (current & COUNT_MASK) == COUNT_MASK ? current : current + 1;
+            } else {
+                next = index << COUNT_BITS | 1;
+            }
+            if (buckets.compareAndSet(slot, current, next)) {
+                return sum(index);
+            }
+        }
+    }
+
+    /**
+     * @param nowMillis current time in milliseconds
+     * @return events in the window
+     */
+    public int count(long nowMillis) {
+        return sum(nowMillis / bucketMillis);
+    }
+
+    /**
+     * @param nowMillis current time in milliseconds
+     * @return true if no event is left in the window, so the counter can be dropped
+     */
+    public boolean isIdle(long nowMillis) {
+        return count(nowMillis) == 0;
+    }
+
+    private int sum(long index) {
+        long total = 0;
+        for (int slot = 0; slot < buckets.length(); slot++) {
+            long bucket = buckets.get(slot);
+            long age = index - (bucket >>> COUNT_BITS);
+            if (age >= 0 && age < buckets.length()) {
+                total += bucket & COUNT_MASK;
+            }
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+}
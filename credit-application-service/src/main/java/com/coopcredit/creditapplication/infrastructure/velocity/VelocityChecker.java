@@ -0,0 +1,116 @@
+package com.coopcredit.creditapplication.infrastructure.velocity;
+
+import com.coopcredit.creditapplication.application.port.out.ApplicationVelocityPort;
+import com.coopcredit.creditapplication.infrastructure.exception.TooManyRequestsException;
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts credit application submissions per affiliate, document and client
+ * IP over a sliding window, in memory.
+ *
+ * A submission that takes its key over the flag threshold is logged and
+ * counted as flagged; over the block threshold it is rejected with 429
+ * before any database work. Rejected submissions still count, so a burst
+ * stays blocked until it slows down.
+ */
+@Component
+public class VelocityChecker implements ApplicationVelocityPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(VelocityChecker.class);
+
+    private final VelocityProperties properties;
+    private final MetricsService metricsService;
+    private final Map<VelocityDimension, VelocityCounters> counters = new EnumMap<>(VelocityDimension.class);
+    private final long retryAfterSeconds;
+
+    public VelocityChecker(VelocityProperties properties, MetricsService metricsService) {
+        this.properties = properties;
+        this.metricsService = metricsService;
+        long bucketMillis = properties.getBucketMillis();
+        for (Map.Entry<VelocityDimension, VelocityProperties.Limit> entry : properties.getLimits().entrySet()) {
+            VelocityCounters dimensionCounters = new VelocityCounters(entry.getValue().getMaxExactKeys(),
+                properties.getBuckets(), bucketMillis, properties.getSketchDepth(), properties.getSketchWidth());
+            counters.put(entry.getKey(), dimensionCounters);
+            metricsService.monitorMapSize("velocity.tracked.keys", dimensionCounters.getExactCounters(),
+                "dimension", entry.getKey().tag());
+        }
+        // The window slides one bucket at a time
+        this.retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(bucketMillis + 999));
+    }
+
+    @Override
+    public void recordAffiliate(Long affiliateId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        record(VelocityDimension.AFFILIATE, String.valueOf(affiliateId), System.currentTimeMillis());
+    }
+
+    @Override
+    public void recordClient() {
+        String clientIp = clientIp();
+        if (!properties.isEnabled() || clientIp == null) {
+            return;
+        }
+        record(VelocityDimension.CLIENT_IP, clientIp, System.currentTimeMillis());
+    }
+
+    @Override
+    public void recordDocument(String documentType, String documentNumber) {
+        if (!properties.isEnabled() || documentNumber == null) {
+            return;
+        }
+        record(VelocityDimension.DOCUMENT, documentType + ":" + documentNumber, System.currentTimeMillis());
+    }
+
+    /**
+     * Drops exact counters whose window is empty.
+     */
+    @Scheduled(fixedDelayString = "${velocity.sweep-interval:PT1M}",
+               initialDelayString = "${velocity.sweep-interval:PT1M}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        counters.values().forEach(dimensionCounters -> dimensionCounters.evictIdle(now));
+    }
+
+    private void record(VelocityDimension dimension, String key, long now) {
+        VelocityCounters dimensionCounters = counters.get(dimension);
+        if (dimensionCounters == null) {
+            return;
+        }
+        VelocityProperties.Limit limit = properties.getLimits().get(dimension);
+        int count = dimensionCounters.increment(key, now);
+        if (count > limit.getBlockThreshold()) {
+            metricsService.recordVelocityCheck(dimension.tag(), "blocked");
+            logger.warn("Blocked credit application: {} {} submitted {} times in {}",
+                dimension.tag(), key, count, properties.getWindow());
+            throw new TooManyRequestsException("APPLICATION_VELOCITY_EXCEEDED",
+                "Too many credit applications submitted recently. Please try again later.", retryAfterSeconds);
+        }
+        if (count > limit.getFlagThreshold()) {
+            metricsService.recordVelocityCheck(dimension.tag(), "flagged");
+            logger.warn("Flagged credit application: {} {} submitted {} times in {}",
+                dimension.tag(), key, count, properties.getWindow());
+            return;
+        }
+        metricsService.recordVelocityCheck(dimension.tag(), "allowed");
+    }
+
+    private static String clientIp() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes
+            ? servletAttributes.getRequest().getRemoteAddr()
+            : null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.coopcredit.creditapplication.infrastructure.velocity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sliding-window submission counts for the keys of one dimension.
+ *
+ * Keys are counted exactly, one SlidingWindowCounter each, up to a fixed
+ * number of keys; past it, new keys are counted in a count-min sketch, so a
+ * flood of distinct keys costs no memory beyond the sketch. Counters whose
+ * window emptied are evicted periodically.
+ */
+public final class VelocityCounters {
+
+    private final Map<String, SlidingWindowCounter> exact = new ConcurrentHashMap<>();
+    private final CountMinSketch sketch;
+    private final int maxExactKeys;
+    private final int buckets;
+    private final long bucketMillis;
+
+    public VelocityCounters(int maxExactKeys, int buckets, long bucketMillis, int sketchDepth, int sketchWidth) {
+        this.maxExactKeys = maxExactKeys;
+        this.buckets = buckets;
+        this.bucketMillis = bucketMillis;
+        this.sketch = new CountMinSketch(sketchDepth, sketchWidth, buckets, bucketMillis);
+    }
+
+    /**
+     * Counts one submission for a key.
+     *
+     * @param key the key
+     * @param nowMillis current time in milliseconds
+     * @return submissions for the key in the window, this one included; may
+     *         overcount for keys in the sketch
+     */
+    public int increment(String key, long nowMillis) {
+        SlidingWindowCounter counter = exact.get(key);
+        if (counter == null) {
+            if (exact.size() >= maxExactKeys) {
+                return sketch.add(key, nowMillis);
+            }
+            counter = exact.computeIfAbsent(key, k -> new SlidingWindowCounter(buckets, bucketMillis));
+        }
+        return counter.increment(nowMillis);
+    }
+
+    /**
+     * Drops the exact counters with nothing left in the window.
+     *
+     * @param nowMillis current time in milliseconds
+     */
+    public void evictIdle(long nowMillis) {
+        exact.values().removeIf(counter -> counter.isIdle(nowMillis));
+    }
+
+    /**
+     * @return the exact counters by key, for monitoring
+     */
+    public Map<String, SlidingWindowCounter> getExactCounters() {
+        return exact;
+    }
+}
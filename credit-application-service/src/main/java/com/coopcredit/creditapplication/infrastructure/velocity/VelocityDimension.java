@@ -0,0 +1,27 @@
+package com.coopcredit.creditapplication.infrastructure.velocity;
+
+/**
+ * Keys credit application submissions are counted by.
+ */
+public enum VelocityDimension {
+
+    /** The affiliate the application is for. */
+    AFFILIATE,
+
+    /** The affiliate's identity document. */
+    DOCUMENT,
+
+    /** Remote address of the client submitting the application. */
+    CLIENT_IP;
+
+    private final String tag = name().toLowerCase().replace('_', '-');
+
+    /**
+     * Lower-case name used in property keys and metric tags.
+     *
+     * @return the tag value
+     */
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,159 @@
+package com.coopcredit.creditapplication.infrastructure.velocity;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Application velocity check settings, bound from the {@code velocity} section.
+ */
+@ConfigurationProperties(prefix = "velocity")
+public class VelocityProperties {
+
+    /**
+     * Whether submissions are counted and checked.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Period submissions are counted over.
+     */
+    private Duration window = Duration.ofMinutes(10);
+
+    /**
+     * Buckets the window is split into; it slides one bucket at a time.
+     */
+    private int buckets = 10;
+
+    /**
+     * Hash rows of the count-min sketches.
+     */
+    private int sketchDepth = 4;
+
+    /**
+     * Counters per sketch row. Wider sketches overcount less and take
+     * depth × width × buckets × 4 bytes per dimension.
+     */
+    private int sketchWidth = 4096;
+
+    /**
+     * Thresholds and exact counter budget per dimension.
+     */
+    private Map<VelocityDimension, Limit> limits = new EnumMap<>(Map.of(
+        VelocityDimension.AFFILIATE, new Limit(3, 10, 100_000),
+        VelocityDimension.DOCUMENT, new Limit(3, 10, 100_000),
+        VelocityDimension.CLIENT_IP, new Limit(20, 60, 0)
+    ));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public int getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(int buckets) {
+        this.buckets = buckets;
+    }
+
+    public int getSketchDepth() {
+        return sketchDepth;
+    }
+
+    public void setSketchDepth(int sketchDepth) {
+        this.sketchDepth = sketchDepth;
+    }
+
+    public int getSketchWidth() {
+        return sketchWidth;
+    }
+
+    public void setSketchWidth(int sketchWidth) {
+        this.sketchWidth = sketchWidth;
+    }
+
+    public Map<VelocityDimension, Limit> getLimits() {
+        return limits;
+    }
+
+    public void setLimits(Map<VelocityDimension, Limit> limits) {
+        this.limits = limits;
+    }
+
+    /**
+     * @return time covered by one bucket
+     */
+    public long getBucketMillis() {
+        return Math.max(1, window.toMillis() / buckets);
+    }
+
+    /**
+     * Submissions allowed per window, and counter budget, for one dimension.
+     */
+    public static class Limit {
+
+        /**
+         * Submissions in the window above which further ones are flagged.
+         */
+        private int flagThreshold;
+
+        /**
+         * Submissions in the window above which further ones are rejected with 429.
+         */
+        private int blockThreshold;
+
+        /**
+         * Keys counted exactly; past this, new keys go to the dimension's
+         * count-min sketch. 0 sends every key to the sketch.
+         */
+        private int maxExactKeys;
+
+        public Limit() {
+        }
+
+        public Limit(int flagThreshold, int blockThreshold, int maxExactKeys) {
+            this.flagThreshold = flagThreshold;
+            this.blockThreshold = blockThreshold;
+            this.maxExactKeys = maxExactKeys;
+        }
+
+        public int getFlagThreshold() {
+            return flagThreshold;
+        }
+
+        public void setFlagThreshold(int flagThreshold) {
+            this.flagThreshold = flagThreshold;
+        }
+
+        public int getBlockThreshold() {
+            return blockThreshold;
+        }
+
+        public void setBlockThreshold(int blockThreshold) {
+            this.blockThreshold = blockThreshold;
+        }
+
+        public int getMaxExactKeys() {
+            return maxExactKeys;
+        }
+
+        public void setMaxExactKeys(int maxExactKeys) {
+            this.maxExactKeys = maxExactKeys;
+        }
+    }
+}
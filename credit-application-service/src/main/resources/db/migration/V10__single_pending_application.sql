@@ -0,0 +1,26 @@
+-- Flyway Migration V10: At most one PENDING application per affiliate
+-- The rule was only checked by reading before inserting, which concurrent
+-- submissions can race past. The partial unique index makes the database
+-- enforce it; the application maps the violation to PENDING_APPLICATION_EXISTS.
+
+DO $$
+DECLARE
+    duplicated INTEGER;
+BEGIN
+    SELECT COUNT(*) INTO duplicated FROM (
+        SELECT affiliate_id FROM credit_applications
+        WHERE status = 'PENDING'
+        GROUP BY affiliate_id
+        HAVING COUNT(*) > 1
+    ) d;
+    IF duplicated > 0 THEN
+        RAISE EXCEPTION '% affiliates have more than one PENDING credit application; resolve them before migrating', duplicated;
+    END IF;
+END;
+$$;
+
+CREATE UNIQUE INDEX uq_credit_applications_pending_affiliate
+    ON credit_applications(affiliate_id)
+    WHERE status = 'PENDING';
+
+COMMENT ON INDEX uq_credit_applications_pending_affiliate IS 'An affiliate may have at most one PENDING application';
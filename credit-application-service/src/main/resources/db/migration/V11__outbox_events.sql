@@ -0,0 +1,15 @@
+-- Flyway Migration V11: Transactional outbox
+-- Status changes of credit applications are recorded here in the same
+-- transaction as the change itself; a relay publishes and deletes them
+
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE outbox_events IS 'Events waiting to be published by the outbox relay, in id order';
+COMMENT ON COLUMN outbox_events.id IS 'Publication order; also the event id consumers deduplicate on (delivery is at-least-once)';
@@ -0,0 +1,32 @@
+-- Flyway Migration V12: Portfolio analytics aggregates
+-- One row per application month, status and risk level, kept up to date in
+-- the same transaction as each new application and status change, so the
+-- analytics endpoint reads a few hundred rows instead of scanning history
+
+CREATE TABLE portfolio_stats (
+    month DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    risk_level VARCHAR(20) NOT NULL DEFAULT '',
+    applications BIGINT NOT NULL DEFAULT 0,
+    requested_amount DECIMAL(18, 2) NOT NULL DEFAULT 0,
+    score_sum BIGINT NOT NULL DEFAULT 0,
+    scored_applications BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (month, status, risk_level)
+);
+
+COMMENT ON TABLE portfolio_stats IS 'Incrementally maintained portfolio aggregates; rebuilt from credit_applications by POST /api/analytics/portfolio/rebuild';
+COMMENT ON COLUMN portfolio_stats.month IS 'First day of the application month';
+COMMENT ON COLUMN portfolio_stats.risk_level IS 'Risk level of the evaluation, empty for applications not evaluated yet';
+
+-- Backfill from existing applications
+INSERT INTO portfolio_stats (month, status, risk_level, applications, requested_amount, score_sum, scored_applications)
+SELECT CAST(date_trunc('month', ca.application_date) AS DATE),
+       ca.status,
+       COALESCE(re.risk_level, ''),
+       COUNT(*),
+       SUM(ca.requested_amount),
+       COALESCE(SUM(re.score), 0),
+       COUNT(re.score)
+FROM credit_applications ca
+LEFT JOIN risk_evaluations re ON re.credit_application_id = ca.id
+GROUP BY 1, 2, 3;
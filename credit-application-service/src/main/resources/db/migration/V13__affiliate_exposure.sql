@@ -0,0 +1,55 @@
+-- Flyway Migration V13: Affiliate exposure ledger
+-- One row per affiliate with approved credits: how many, the principal
+-- approved and the monthly payments they add up to. Kept up to date in the
+-- same transaction as each approval and held in memory by every node, so
+-- the debt ratio counts the obligations affiliates really hold. Each credit
+-- keeps the amounts it added to the totals, and exactly those are taken out
+-- again when it leaves, so rounding never leaves a residue
+
+CREATE TABLE affiliate_exposure (
+    affiliate_id BIGINT PRIMARY KEY,
+    approved_credits INTEGER NOT NULL DEFAULT 0,
+    approved_principal DECIMAL(18, 2) NOT NULL DEFAULT 0,
+    monthly_obligations DECIMAL(18, 2) NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 1,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_affiliate_exposure_affiliate FOREIGN KEY (affiliate_id) REFERENCES affiliates(id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE affiliate_exposure IS 'Incrementally maintained credits held per affiliate, loaded into memory at startup';
+COMMENT ON COLUMN affiliate_exposure.monthly_obligations IS 'Sum of the monthly payments of the approved credits';
+COMMENT ON COLUMN affiliate_exposure.version IS 'Incremented by every update; nodes never replace a row in memory with an older one';
+
+CREATE TABLE affiliate_exposure_credits (
+    application_id BIGINT PRIMARY KEY,
+    affiliate_id BIGINT NOT NULL,
+    principal DECIMAL(18, 2) NOT NULL,
+    monthly_obligation DECIMAL(18, 2) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_exposure_credit_application FOREIGN KEY (application_id) REFERENCES credit_applications(id) ON DELETE CASCADE,
+    CONSTRAINT fk_exposure_credit_affiliate FOREIGN KEY (affiliate_id) REFERENCES affiliates(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_exposure_credits_affiliate ON affiliate_exposure_credits(affiliate_id);
+
+COMMENT ON TABLE affiliate_exposure_credits IS 'Credits counted in affiliate_exposure, with the amounts each one added';
+COMMENT ON COLUMN affiliate_exposure_credits.monthly_obligation IS 'Monthly payment added to the totals when the credit was approved';
+
+-- Backfill from approved applications, with the annuity payment of each
+-- credit rounded to cents as in CreditApplication.calculateMonthlyPayment
+INSERT INTO affiliate_exposure_credits (application_id, affiliate_id, principal, monthly_obligation)
+SELECT id,
+       affiliate_id,
+       requested_amount,
+       ROUND(CASE
+           WHEN interest_rate = 0 THEN requested_amount / requested_term_months
+           ELSE requested_amount * (interest_rate / 1200)
+               / (1 - POWER(1 + interest_rate / 1200, -requested_term_months))
+       END, 2)
+FROM credit_applications
+WHERE status = 'APPROVED';
+
+INSERT INTO affiliate_exposure (affiliate_id, approved_credits, approved_principal, monthly_obligations)
+SELECT affiliate_id, COUNT(*), SUM(principal), SUM(monthly_obligation)
+FROM affiliate_exposure_credits
+GROUP BY affiliate_id;
@@ -0,0 +1,104 @@
+-- Flyway Migration V14: Loan servicing
+-- Approved applications become loans once disbursed. Every movement is an
+-- append-only ledger entry, partitioned by booking month; balances are the
+-- latest snapshot of a loan plus the entries booked after it. The nightly
+-- interest accrual records its progress per partition of loans, so an
+-- interrupted run resumes where it stopped
+
+CREATE TABLE loan_accounts (
+    loan_id BIGINT PRIMARY KEY,
+    affiliate_id BIGINT NOT NULL,
+    principal DECIMAL(18, 2) NOT NULL CHECK (principal > 0),
+    annual_rate DECIMAL(5, 2) NOT NULL CHECK (annual_rate >= 0),
+    term_months INTEGER NOT NULL CHECK (term_months > 0),
+    installment DECIMAL(18, 2) NOT NULL,
+    disbursed_on DATE NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE' CHECK (status IN ('ACTIVE', 'PAID_OFF')),
+    CONSTRAINT fk_loan_application FOREIGN KEY (loan_id) REFERENCES credit_applications(id),
+    CONSTRAINT fk_loan_affiliate FOREIGN KEY (affiliate_id) REFERENCES affiliates(id)
+);
+
+CREATE INDEX idx_loan_accounts_affiliate ON loan_accounts(affiliate_id);
+
+COMMENT ON TABLE loan_accounts IS 'Disbursed loans; loan_id is the id of the approved credit application';
+COMMENT ON COLUMN loan_accounts.status IS 'PAID_OFF loans are released from affiliate_exposure in the same transaction as the payoff';
+
+CREATE SEQUENCE loan_ledger_entries_id_seq;
+
+CREATE TABLE loan_ledger_entries (
+    id BIGINT NOT NULL DEFAULT nextval('loan_ledger_entries_id_seq'),
+    loan_id BIGINT NOT NULL,
+    entry_type VARCHAR(20) NOT NULL CHECK (entry_type IN ('DISBURSEMENT', 'INSTALLMENT_DUE', 'PAYMENT', 'ACCRUAL')),
+    entry_date DATE NOT NULL,
+    value_date DATE NOT NULL,
+    principal_delta DECIMAL(18, 2) NOT NULL DEFAULT 0,
+    interest_delta DECIMAL(18, 2) NOT NULL DEFAULT 0,
+    due_delta DECIMAL(18, 2) NOT NULL DEFAULT 0,
+    recorded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, entry_date)
+) PARTITION BY RANGE (entry_date);
+
+ALTER SEQUENCE loan_ledger_entries_id_seq OWNED BY loan_ledger_entries.id;
+
+CREATE INDEX idx_loan_ledger_loan ON loan_ledger_entries(loan_id, id);
+
+COMMENT ON TABLE loan_ledger_entries IS 'Append-only loan movements, one partition per booking month';
+COMMENT ON COLUMN loan_ledger_entries.entry_date IS 'Booking date; never decreases for a loan, since writers lock the loan first';
+COMMENT ON COLUMN loan_ledger_entries.value_date IS 'Date the movement refers to, e.g. the day an accrual covers';
+COMMENT ON COLUMN loan_ledger_entries.due_delta IS 'Change of the amount currently due: installments add to it, payments settle it';
+
+-- Rows booked outside the monthly partitions still have a home
+CREATE TABLE loan_ledger_entries_default PARTITION OF loan_ledger_entries DEFAULT;
+
+-- This month and the next; the accrual job keeps creating them ahead
+DO $$
+DECLARE
+    month DATE := CAST(date_trunc('month', CURRENT_DATE) AS DATE);
+BEGIN
+    FOR i IN 0..1 LOOP
+        EXECUTE format('CREATE TABLE loan_ledger_entries_%s PARTITION OF loan_ledger_entries FOR VALUES FROM (%L) TO (%L)',
+            to_char(month + make_interval(months => i), 'YYYY_MM'),
+            month + make_interval(months => i),
+            month + make_interval(months => i + 1));
+    END LOOP;
+END $$;
+
+CREATE FUNCTION reject_ledger_change() RETURNS trigger AS $$
+BEGIN
+    RAISE EXCEPTION 'loan_ledger_entries is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_loan_ledger_append_only
+    BEFORE UPDATE OR DELETE ON loan_ledger_entries
+    FOR EACH ROW EXECUTE FUNCTION reject_ledger_change();
+
+CREATE TABLE loan_balance_snapshots (
+    loan_id BIGINT PRIMARY KEY,
+    last_entry_id BIGINT NOT NULL,
+    as_of DATE NOT NULL,
+    principal DECIMAL(18, 2) NOT NULL,
+    interest DECIMAL(18, 2) NOT NULL,
+    due DECIMAL(18, 2) NOT NULL,
+    taken_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_loan_snapshot_account FOREIGN KEY (loan_id) REFERENCES loan_accounts(loan_id)
+);
+
+COMMENT ON TABLE loan_balance_snapshots IS 'Latest balance of each loan up to last_entry_id; later entries are replayed on top';
+COMMENT ON COLUMN loan_balance_snapshots.as_of IS 'Booking date of last_entry_id, so replays skip older partitions';
+
+CREATE TABLE loan_accrual_checkpoints (
+    accrual_date DATE NOT NULL,
+    partition_no INTEGER NOT NULL,
+    first_loan_id BIGINT NOT NULL,
+    last_loan_id BIGINT NOT NULL,
+    next_loan_id BIGINT NOT NULL,
+    loans_accrued BIGINT NOT NULL DEFAULT 0,
+    interest_accrued DECIMAL(18, 2) NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+    PRIMARY KEY (accrual_date, partition_no)
+);
+
+COMMENT ON TABLE loan_accrual_checkpoints IS 'Progress of the interest accrual of a day over one range of loan ids';
+COMMENT ON COLUMN loan_accrual_checkpoints.next_loan_id IS 'First loan id not accrued yet; committed with each batch';
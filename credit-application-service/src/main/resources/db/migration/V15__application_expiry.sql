@@ -0,0 +1,14 @@
+-- Flyway Migration V15: Expiry of stale applications
+-- PENDING and IN_REVIEW applications nobody decided on are moved to EXPIRED
+-- by a scheduled sweep once they reach a configurable age. The sweep scans
+-- the partial index, which only ever holds the open applications.
+
+ALTER TABLE credit_applications DROP CONSTRAINT IF EXISTS credit_applications_status_check;
+
+ALTER TABLE credit_applications ADD CONSTRAINT credit_applications_status_check
+    CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED', 'IN_REVIEW', 'EXPIRED'));
+
+CREATE INDEX idx_credit_app_open_date ON credit_applications(application_date)
+    WHERE status IN ('PENDING', 'IN_REVIEW');
+
+COMMENT ON INDEX idx_credit_app_open_date IS 'Open applications by submission date, scanned by the expiry sweep';
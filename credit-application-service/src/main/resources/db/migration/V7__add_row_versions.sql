@@ -0,0 +1,29 @@
+-- Flyway Migration V7: Row versions for HTTP conditional requests
+-- Adds a version column bumped by trigger on every effective UPDATE, so ETags
+-- can be computed with an index lookup instead of loading the entity
+
+ALTER TABLE affiliates
+ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE credit_applications
+ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION bump_row_version() RETURNS trigger AS $$
+BEGIN
+    IF NEW IS DISTINCT FROM OLD THEN
+        NEW.version := OLD.version + 1;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_affiliates_version
+    BEFORE UPDATE ON affiliates
+    FOR EACH ROW EXECUTE FUNCTION bump_row_version();
+
+CREATE TRIGGER trg_credit_applications_version
+    BEFORE UPDATE ON credit_applications
+    FOR EACH ROW EXECUTE FUNCTION bump_row_version();
+
+COMMENT ON COLUMN affiliates.version IS 'Row version maintained by trigger, used for ETags';
+COMMENT ON COLUMN credit_applications.version IS 'Row version maintained by trigger, used for ETags';
@@ -0,0 +1,24 @@
+-- Flyway Migration V8: Pooled sequence identifiers
+-- Hibernate disables JDBC insert batching for IDENTITY columns. Entities now
+-- draw ids from the existing BIGSERIAL sequences through a pooled optimizer
+-- (allocationSize = 50), so each sequence must step by 50.
+--
+-- The pooled optimizer treats each value returned by nextval as the upper end
+-- of a block of 50 ids, so the next value is placed at MAX(id) + 50 to keep
+-- every new id above the existing ones. Column defaults stay in place; a raw
+-- INSERT using nextval just consumes a whole block and cannot collide.
+
+ALTER SEQUENCE affiliates_id_seq INCREMENT BY 50;
+SELECT setval('affiliates_id_seq', COALESCE((SELECT MAX(id) FROM affiliates), 0) + 50, false);
+
+ALTER SEQUENCE credit_applications_id_seq INCREMENT BY 50;
+SELECT setval('credit_applications_id_seq', COALESCE((SELECT MAX(id) FROM credit_applications), 0) + 50, false);
+
+ALTER SEQUENCE risk_evaluations_id_seq INCREMENT BY 50;
+SELECT setval('risk_evaluations_id_seq', COALESCE((SELECT MAX(id) FROM risk_evaluations), 0) + 50, false);
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+SELECT setval('users_id_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50, false);
+
+ALTER SEQUENCE roles_id_seq INCREMENT BY 50;
+SELECT setval('roles_id_seq', COALESCE((SELECT MAX(id) FROM roles), 0) + 50, false);
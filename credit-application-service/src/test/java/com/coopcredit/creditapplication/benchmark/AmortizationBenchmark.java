@@ -0,0 +1,82 @@
+package com.coopcredit.creditapplication.benchmark;
+
+import com.coopcredit.creditapplication.domain.amortization.AmortizationSchedule;
+import com.coopcredit.creditapplication.domain.amortization.AnnuityFactors;
+import com.coopcredit.creditapplication.domain.amortization.Installment;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of payment calculation and schedule generation.
+ *
+ * - legacyPayment: previous calculateMonthlyPayment (two Math.pow per call)
+ * - cachedPayment: AnnuityFactors with the (rate, term) factor cached
+ * - scheduleIterator: 120-row schedule as Installment objects (what the endpoint serializes)
+ * - scheduleVisitor: the same rows as primitive cents, allocation free
+ *
+ * Expected: cachedPayment several times faster than legacyPayment; the
+ * visitor an order of magnitude cheaper than the iterator.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.coopcredit.creditapplication.benchmark.AmortizationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AmortizationBenchmark {
+
+    private BigDecimal principal;
+    private BigDecimal rate;
+    private int months;
+    private AmortizationSchedule schedule;
+
+    @Setup
+    public void setUp() {
+        principal = new BigDecimal("25000000.00");
+        rate = new BigDecimal("18.50");
+        months = 120;
+        schedule = AmortizationSchedule.of(principal, rate, months);
+    }
+
+    @Benchmark
+    public BigDecimal legacyPayment() {
+        double monthlyRate = rate.doubleValue() / 12 / 100;
+        double amount = principal.doubleValue();
+        double payment = amount * (monthlyRate * Math.pow(1 + monthlyRate, months))
+                / (Math.pow(1 + monthlyRate, months) - 1);
+        return BigDecimal.valueOf(payment).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public BigDecimal cachedPayment() {
+        return AnnuityFactors.monthlyPayment(principal, rate, months);
+    }
+
+    @Benchmark
+    public void scheduleIterator(Blackhole blackhole) {
+        for (Installment installment : schedule) {
+            blackhole.consume(installment);
+        }
+    }
+
+    @Benchmark
+    public void scheduleVisitor(Blackhole blackhole) {
+        schedule.forEach((number, payment, principalCents, interest, balance) -> blackhole.consume(balance));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(AmortizationBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,116 @@
+package com.coopcredit.creditapplication.benchmark;
+
+import com.coopcredit.creditapplication.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import com.coopcredit.creditapplication.infrastructure.concurrency.ConcurrencyLimitProperties;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop overload scenario: goodput with and without the adaptive concurrency limit.
+ *
+ * Models the service scaled down in time: 200 request threads (Tomcat), a pool
+ * of 10 connections held for 20 ms per request (capacity 500 req/s), a pool
+ * acquisition timeout and a client timeout of 1 s. Requests arrive at a fixed
+ * rate from below to three times the capacity. Goodput counts responses that
+ * succeeded within the client timeout.
+ *
+ * Expected: without the limiter the connection queue grows past the timeouts
+ * once arrivals exceed capacity and goodput collapses; with it, excess
+ * requests get an immediate rejection and goodput stays flat near capacity.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.coopcredit.creditapplication.benchmark.ConcurrencyLimitLoadTest
+ */
+public class ConcurrencyLimitLoadTest {
+
+    private static final int SERVER_THREADS = 200;
+    private static final int CONNECTIONS = 10;
+    private static final long SERVICE_MILLIS = 20;
+    private static final long CONNECTION_TIMEOUT_MILLIS = 1000;
+    private static final long CLIENT_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long STEP_SECONDS = 5;
+    private static final int[] RATES = {250, 500, 750, 1000, 1500};
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.printf("%-10s %-10s %12s %12s %12s%n", "rate/s", "limiter", "goodput/s", "rejected/s", "failed/s");
+        for (int rate : RATES) {
+            for (boolean limited : new boolean[] {false, true}) {
+                Result result = run(rate, limited);
+                System.out.printf("%-10d %-10s %12.0f %12.0f %12.0f%n", rate, limited ? "adaptive" : "none",
+                    result.goodput / (double) STEP_SECONDS, result.rejected / (double) STEP_SECONDS,
+                    result.failed / (double) STEP_SECONDS);
+            }
+        }
+    }
+
+    private static Result run(int rate, boolean limited) throws InterruptedException {
+        ThreadPoolExecutor server = new ThreadPoolExecutor(SERVER_THREADS, SERVER_THREADS,
+            0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        Semaphore connections = new Semaphore(CONNECTIONS, true);
+        AdaptiveConcurrencyLimiter limiter = limited
+            ? new AdaptiveConcurrencyLimiter("load-test", new ConcurrencyLimitProperties.Limiter(20, 4, 200))
+            : null;
+        LongAdder goodput = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        LongAdder failed = new LongAdder();
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(STEP_SECONDS);
+        for (long next = start; next < end; next += interval) {
+            LockSupport.parkNanos(next - System.nanoTime());
+            long arrival = next;
+            server.execute(() -> handle(arrival, limiter, connections, goodput, rejected, failed));
+        }
+
+        shutdown(server);
+        return new Result(goodput.sum(), rejected.sum(), failed.sum());
+    }
+
+    private static void handle(long arrival, AdaptiveConcurrencyLimiter limiter, Semaphore connections,
+                               LongAdder goodput, LongAdder rejected, LongAdder failed) {
+        if (limiter != null && !limiter.tryAcquire()) {
+            rejected.increment();
+            return;
+        }
+        long started = System.nanoTime();
+        boolean ok = false;
+        try {
+            if (connections.tryAcquire(CONNECTION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                try {
+                    Thread.sleep(SERVICE_MILLIS);
+                    ok = true;
+                } finally {
+                    connections.release();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (limiter != null) {
+                limiter.release(System.nanoTime() - started, !ok);
+            }
+        }
+        if (ok && System.nanoTime() - arrival <= CLIENT_TIMEOUT_NANOS) {
+            goodput.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    private static void shutdown(ExecutorService server) throws InterruptedException {
+        server.shutdown();
+        if (!server.awaitTermination(2, TimeUnit.MINUTES)) {
+            server.shutdownNow();
+        }
+    }
+
+    private record Result(long goodput, long rejected, long failed) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.coopcredit.creditapplication.benchmark;
+
+import com.coopcredit.creditapplication.domain.model.Role;
+import com.coopcredit.creditapplication.domain.model.RoleName;
+import com.coopcredit.creditapplication.domain.model.User;
+import com.coopcredit.creditapplication.domain.port.out.JwtPort;
+import com.coopcredit.creditapplication.infrastructure.adapter.out.security.JwtAdapter;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT authentication cost as paid by JwtAuthenticationFilter.
+ *
+ * - legacyTripleParse: previous behaviour (key rebuilt and token parsed three times)
+ * - verifyUncached: single parse with the prebuilt key
+ * - verifyCached: single parse amortized by the verified-token cache
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.coopcredit.creditapplication.benchmark.JwtVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "BenchmarkSecretKeyForJWT2024MustBeLongEnoughForHS256Algorithm";
+
+    private JwtAdapter uncachedAdapter;
+    private JwtAdapter cachedAdapter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedAdapter = new JwtAdapter(SECRET, 3_600_000L, 0);
+        cachedAdapter = new JwtAdapter(SECRET, 3_600_000L, 10_000);
+
+        User user = new User("benchmark", "secret", "benchmark@coopcredit.com");
+        user.setId(1L);
+        user.addRole(new Role(RoleName.ROLE_AFILIADO));
+        token = cachedAdapter.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean legacyTripleParse() {
+        String username = legacyClaims(token).getSubject();
+        String again = legacyClaims(token).getSubject();
+        Date expiration = legacyClaims(token).getExpiration();
+        return username.equals(again) && expiration.after(new Date());
+    }
+
+    @Benchmark
+    public JwtPort.VerifiedToken verifyUncached() {
+        return uncachedAdapter.verify(token);
+    }
+
+    @Benchmark
+    public JwtPort.VerifiedToken verifyCached() {
+        return cachedAdapter.verify(token);
+    }
+
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+            .build()
+            .parseSignedClaims(token)
+            .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JwtVerificationBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
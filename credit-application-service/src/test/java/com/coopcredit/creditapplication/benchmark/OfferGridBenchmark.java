@@ -0,0 +1,94 @@
+package com.coopcredit.creditapplication.benchmark;
+
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.validation.CreditRules;
+import com.coopcredit.creditapplication.domain.validation.OfferGrid;
+import com.coopcredit.creditapplication.domain.validation.RuleObserver;
+import com.coopcredit.creditapplication.domain.validation.RuleSet;
+import com.coopcredit.creditapplication.domain.validation.RuleSetDefinition;
+import com.coopcredit.creditapplication.domain.validation.RuleSetDefinition.RuleDefinition;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of evaluating a 20 amounts × 10 terms simulation.
+ *
+ * - perCell: one CreditApplication and a full rule set pass per cell,
+ *   which is what trying each combination through the submit flow costs
+ * - offerGrid: OfferGrid, per-axis rules once and the ratio over primitive arrays
+ *
+ * Expected: offerGrid more than an order of magnitude faster than perCell.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.coopcredit.creditapplication.benchmark.OfferGridBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OfferGridBenchmark {
+
+    private RuleSet ruleSet;
+    private Affiliate affiliate;
+    private List<BigDecimal> amounts;
+    private int[] terms;
+    private BigDecimal rate;
+    private BigDecimal income;
+
+    @Setup
+    public void setUp() {
+        ruleSet = RuleSet.compile(new RuleSetDefinition(3, new BigDecimal("0.40"), 10,
+            new BigDecimal("1000000"), new BigDecimal("50000000"), 6, 60, List.of(
+                new RuleDefinition(CreditRules.AFFILIATION_TIME, true, null),
+                new RuleDefinition(CreditRules.CREDIT_AMOUNT, true, null),
+                new RuleDefinition(CreditRules.CREDIT_TERM, true, null),
+                new RuleDefinition(CreditRules.AFFILIATE_LIMIT, true, null),
+                new RuleDefinition(CreditRules.DEBT_RATIO, true, null))), 1, RuleObserver.NONE);
+        affiliate = new Affiliate("CC", "123", "Bench", "Member", "bench@example.com",
+            "3001234567", new BigDecimal("4000000"));
+        affiliate.setAffiliationDate(LocalDate.now().minusYears(2));
+        amounts = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            amounts.add(BigDecimal.valueOf(i * 2_500_000L));
+        }
+        terms = new int[]{6, 12, 18, 24, 30, 36, 42, 48, 54, 60};
+        rate = new BigDecimal("18.50");
+        income = new BigDecimal("6000000");
+    }
+
+    @Benchmark
+    public void perCell(Blackhole blackhole) {
+        for (BigDecimal amount : amounts) {
+            for (int term : terms) {
+                CreditApplication application = new CreditApplication(affiliate, amount, "Simulation", term, income);
+                application.setInterestRate(rate);
+                application.setCurrentDebt(BigDecimal.ZERO);
+                blackhole.consume(application.calculateMonthlyPayment(rate));
+                blackhole.consume(ruleSet.firstViolation(application));
+            }
+        }
+    }
+
+    @Benchmark
+    public OfferGrid offerGrid() {
+        return OfferGrid.evaluate(ruleSet, affiliate, amounts, terms, rate, income);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(OfferGridBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
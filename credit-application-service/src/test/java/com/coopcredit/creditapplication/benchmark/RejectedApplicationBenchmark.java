@@ -0,0 +1,138 @@
+package com.coopcredit.creditapplication.benchmark;
+
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.validation.CreditRules;
+import com.coopcredit.creditapplication.domain.validation.RuleObserver;
+import com.coopcredit.creditapplication.domain.validation.RuleSet;
+import com.coopcredit.creditapplication.domain.validation.RuleSetDefinition;
+import com.coopcredit.creditapplication.domain.validation.RuleSetDefinition.RuleDefinition;
+import com.coopcredit.creditapplication.domain.validation.RuleViolation;
+import com.coopcredit.creditapplication.domain.validation.ValidationResult;
+import com.coopcredit.creditapplication.infrastructure.exception.BusinessException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rejecting an application, for a mix of term, amount, affiliate
+ * limit and debt ratio rejections. Every variant reads the code and the
+ * message, as the error response and the batch item result do.
+ *
+ * - exceptionPerRejection: previous behaviour, a BusinessException with a
+ *   stack trace and an eagerly formatted message per rejection
+ * - stacklessException: RuleSet.validate, as on the register endpoint
+ * - validationResult: RuleSet.check, as in the batch submission
+ *
+ * callDepth is the number of frames the exception unwinds; a request on the
+ * register endpoint is well over 100 frames deep in the servlet container.
+ * Expected: stacklessException about twice as fast as exceptionPerRejection at
+ * depth 100 with an eighth of the allocation (unwinding remains), and
+ * validationResult an order of magnitude faster.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.coopcredit.creditapplication.benchmark.RejectedApplicationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RejectedApplicationBenchmark {
+
+    @Param({"10", "100"})
+    private int callDepth;
+
+    private RuleSet ruleSet;
+    private CreditApplication[] rejected;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        ruleSet = RuleSet.compile(new RuleSetDefinition(3, new BigDecimal("0.40"), 10,
+            new BigDecimal("1000000"), new BigDecimal("50000000"), 6, 60, List.of(
+                new RuleDefinition(CreditRules.AFFILIATION_TIME, true, null),
+                new RuleDefinition(CreditRules.CREDIT_AMOUNT, true, null),
+                new RuleDefinition(CreditRules.CREDIT_TERM, true, null),
+                new RuleDefinition(CreditRules.AFFILIATE_LIMIT, true, null),
+                new RuleDefinition(CreditRules.DEBT_RATIO, true, null))), 1, RuleObserver.NONE);
+        Affiliate affiliate = new Affiliate("CC", "123", "Bench", "Member", "bench@example.com",
+            "3001234567", new BigDecimal("2000000"));
+        affiliate.setAffiliationDate(LocalDate.now().minusYears(2));
+        rejected = new CreditApplication[]{
+            application(affiliate, "5000000", 72, "6000000"),
+            application(affiliate, "500000", 24, "6000000"),
+            application(affiliate, "30000000", 24, "60000000"),
+            application(affiliate, "15000000", 12, "2000000")
+        };
+    }
+
+    @Benchmark
+    public void exceptionPerRejection(Blackhole blackhole) {
+        try {
+            atDepth(callDepth, () -> {
+                RuleViolation violation = ruleSet.firstViolation(nextApplication());
+                // Message formatted when the exception is built, as the rules used to do
+                throw new BusinessException(violation.code(), String.format("%s", violation.message()));
+            });
+        } catch (BusinessException e) {
+            blackhole.consume(e.getCode());
+            blackhole.consume(e.getMessage());
+        }
+    }
+
+    @Benchmark
+    public void stacklessException(Blackhole blackhole) {
+        try {
+            atDepth(callDepth, () -> ruleSet.validate(nextApplication(), false));
+        } catch (BusinessException e) {
+            blackhole.consume(e.getCode());
+            blackhole.consume(e.getMessage());
+        }
+    }
+
+    @Benchmark
+    public void validationResult(Blackhole blackhole) {
+        atDepth(callDepth, () -> {
+            ValidationResult result = ruleSet.check(nextApplication(), false);
+            blackhole.consume(result.getCode());
+            blackhole.consume(result.getFirstViolation().message());
+        });
+    }
+
+    private CreditApplication nextApplication() {
+        CreditApplication application = rejected[next];
+        next = (next + 1) % rejected.length;
+        return application;
+    }
+
+    private static void atDepth(int depth, Runnable action) {
+        if (depth == 0) {
+            action.run();
+            return;
+        }
+        atDepth(depth - 1, action);
+    }
+
+    private static CreditApplication application(Affiliate affiliate, String amount, int term, String income) {
+        CreditApplication application = new CreditApplication(affiliate, new BigDecimal(amount), "Benchmark", term,
+            new BigDecimal(income));
+        application.setInterestRate(new BigDecimal("18.50"));
+        application.setCurrentDebt(BigDecimal.ZERO);
+        return application;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RejectedApplicationBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,143 @@
+package com.coopcredit.creditapplication.domain;
+
+import com.coopcredit.creditapplication.domain.amortization.AmortizationSchedule;
+import com.coopcredit.creditapplication.domain.amortization.AnnuityFactors;
+import com.coopcredit.creditapplication.domain.amortization.Installment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the amortization engine.
+ * Payments must match the original annuity formula to the cent.
+ */
+class AmortizationScheduleTest {
+
+    @Test
+    @DisplayName("Should match the original payment formula for every rate and term")
+    void testMonthlyPaymentMatchesOriginalFormula() {
+        String[] amounts = {"1000000", "1234567.89", "10000000", "49999999.99", "0.01"};
+        for (String amount : amounts) {
+            BigDecimal principal = new BigDecimal(amount);
+            for (int rateHundredths = 0; rateHundredths <= 10_000; rateHundredths += 37) {
+                BigDecimal rate = BigDecimal.valueOf(rateHundredths, 2);
+                for (int months = 1; months <= 120; months++) {
+                    assertEquals(originalPayment(principal, rate, months),
+                        AnnuityFactors.monthlyPayment(principal, rate, months),
+                        () -> "amount " + principal + ", rate " + rate);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the original payment formula for random loans")
+    void testMonthlyPaymentMatchesOriginalFormulaRandomly() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            BigDecimal principal = BigDecimal.valueOf(1 + (long) (random.nextDouble() * 1e10), 2);
+            BigDecimal rate = BigDecimal.valueOf(random.nextInt(10_001), 2);
+            int months = 1 + random.nextInt(120);
+            assertEquals(originalPayment(principal, rate, months),
+                AnnuityFactors.monthlyPayment(principal, rate, months),
+                () -> "amount " + principal + ", rate " + rate + ", months " + months);
+        }
+    }
+
+    @Test
+    @DisplayName("Should repay the principal exactly with level payments")
+    void testScheduleRepaysPrincipal() {
+        // Given
+        AmortizationSchedule schedule = AmortizationSchedule.of(
+            new BigDecimal("10000000"), new BigDecimal("12.00"), 24);
+
+        // When
+        List<Installment> installments = new ArrayList<>();
+        schedule.forEach(installments::add);
+
+        // Then
+        assertEquals(24, installments.size());
+        assertEquals(new BigDecimal("470734.72"), schedule.getMonthlyPayment());
+        assertEquals(new BigDecimal("100000.00"), installments.get(0).interest());
+        for (Installment installment : installments.subList(0, 23)) {
+            assertEquals(schedule.getMonthlyPayment(), installment.payment());
+        }
+        Installment last = installments.get(23);
+        assertEquals(0, last.balance().signum());
+        BigDecimal principalPaid = installments.stream().map(Installment::principal)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal interestPaid = installments.stream().map(Installment::interest)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(new BigDecimal("10000000.00"), principalPaid);
+        assertEquals(schedule.getTotalInterest(), interestPaid);
+        assertEquals(schedule.getTotalPayment(), principalPaid.add(interestPaid));
+        // Rounding only ever moves the last payment by a few cents
+        assertTrue(last.payment().subtract(schedule.getMonthlyPayment()).abs().compareTo(new BigDecimal("0.24")) <= 0);
+    }
+
+    @Test
+    @DisplayName("Should split a zero-rate loan into principal only")
+    void testZeroRateSchedule() {
+        // Given
+        AmortizationSchedule schedule = AmortizationSchedule.of(new BigDecimal("1000000"), BigDecimal.ZERO, 7);
+
+        // When
+        List<Installment> installments = new ArrayList<>();
+        schedule.forEach(installments::add);
+
+        // Then
+        assertEquals(new BigDecimal("142857.14"), schedule.getMonthlyPayment());
+        assertEquals(0, schedule.getTotalInterest().signum());
+        assertEquals(new BigDecimal("142857.16"), installments.get(6).payment());
+        assertEquals(0, installments.get(6).balance().signum());
+    }
+
+    @Test
+    @DisplayName("Should walk the same rows with the primitive visitor")
+    void testVisitorMatchesIterator() {
+        // Given
+        AmortizationSchedule schedule = AmortizationSchedule.of(
+            new BigDecimal("7654321.09"), new BigDecimal("27.35"), 60);
+        List<Installment> installments = new ArrayList<>();
+        schedule.forEach(installments::add);
+
+        // When / Then
+        schedule.forEach((number, payment, principal, interest, balance) -> {
+            Installment installment = installments.get(number - 1);
+            assertEquals(installment.payment(), BigDecimal.valueOf(payment, 2));
+            assertEquals(installment.principal(), BigDecimal.valueOf(principal, 2));
+            assertEquals(installment.interest(), BigDecimal.valueOf(interest, 2));
+            assertEquals(installment.balance(), BigDecimal.valueOf(balance, 2));
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject invalid loans")
+    void testInvalidLoan() {
+        assertThrows(IllegalArgumentException.class,
+            () -> AmortizationSchedule.of(BigDecimal.ZERO, new BigDecimal("12"), 12));
+        assertThrows(IllegalArgumentException.class,
+            () -> AmortizationSchedule.of(BigDecimal.TEN, new BigDecimal("-1"), 12));
+        assertThrows(IllegalArgumentException.class,
+            () -> AmortizationSchedule.of(BigDecimal.TEN, new BigDecimal("12"), 0));
+    }
+
+    /** CreditApplication.calculateMonthlyPayment before the annuity factor cache. */
+    private static BigDecimal originalPayment(BigDecimal principal, BigDecimal annualInterestRate, int months) {
+        double monthlyRate = annualInterestRate.doubleValue() / 12 / 100;
+        double amount = principal.doubleValue();
+        if (monthlyRate == 0) {
+            return BigDecimal.valueOf(amount / months).setScale(2, RoundingMode.HALF_UP);
+        }
+        double payment = amount * (monthlyRate * Math.pow(1 + monthlyRate, months))
+                / (Math.pow(1 + monthlyRate, months) - 1);
+        return BigDecimal.valueOf(payment).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,81 @@
+package com.coopcredit.creditapplication.domain;
+
+import com.coopcredit.creditapplication.domain.servicing.LedgerEntry;
+import com.coopcredit.creditapplication.domain.servicing.LedgerEntryType;
+import com.coopcredit.creditapplication.domain.servicing.LoanAccount;
+import com.coopcredit.creditapplication.domain.servicing.LoanBalance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LoanAccount and LoanBalance.
+ */
+class LoanBalanceTest {
+
+    private static final LocalDate DISBURSED = LocalDate.of(2025, 1, 31);
+
+    private final LoanAccount loan = LoanAccount.disbursed(1L, 1L, new BigDecimal("12000000"),
+        new BigDecimal("12.00"), 12, new BigDecimal("1066185.46"), DISBURSED);
+
+    @Test
+    @DisplayName("Should accrue a day of interest on an actual/365 basis, rounded half-up")
+    void testDailyInterest() {
+        // 12,000,000 x 12% / 365 = 3,945.2054...
+        assertEquals(394521, loan.dailyInterestCents(1_200_000_000L));
+        // 1.00 x 12% / 365 = 0.0003 rounds to zero; 1,521 cents x 12% / 365 = 0.5000 rounds up
+        assertEquals(0, loan.dailyInterestCents(100));
+        assertEquals(1, loan.dailyInterestCents(1521));
+        assertEquals(0, loan.dailyInterestCents(0));
+    }
+
+    @Test
+    @DisplayName("Should fall due on monthly anniversaries, on the last day of shorter months")
+    void testInstallmentDueDates() {
+        assertEquals(1, loan.installmentDueOn(LocalDate.of(2025, 2, 28)));
+        assertEquals(2, loan.installmentDueOn(LocalDate.of(2025, 3, 31)));
+        assertEquals(3, loan.installmentDueOn(LocalDate.of(2025, 4, 30)));
+        assertEquals(12, loan.installmentDueOn(LocalDate.of(2026, 1, 31)));
+        assertEquals(0, loan.installmentDueOn(LocalDate.of(2025, 3, 30)));
+        assertEquals(0, loan.installmentDueOn(DISBURSED));
+        assertEquals(0, loan.installmentDueOn(LocalDate.of(2026, 2, 28)));
+    }
+
+    @Test
+    @DisplayName("Should apply payments to interest first, then principal, settling what is due")
+    void testPaymentAllocation() {
+        LoanBalance balance = LoanBalance.ZERO
+            .apply(LedgerEntry.disbursement(1L, DISBURSED, 1_200_000_000L))
+            .apply(LedgerEntry.accrual(1L, DISBURSED.plusDays(1), 394521))
+            .apply(LedgerEntry.installmentDue(1L, DISBURSED.plusMonths(1), 106618546));
+
+        LedgerEntry payment = balance.payment(1L, DISBURSED.plusMonths(1), 100_000_000);
+
+        assertEquals(LedgerEntryType.PAYMENT, payment.type());
+        assertEquals(-394521, payment.interestCents());
+        assertEquals(-(100_000_000 - 394521), payment.principalCents());
+        assertEquals(-100_000_000, payment.dueCents());
+        LoanBalance after = balance.apply(payment);
+        assertEquals(0, after.interestCents());
+        assertEquals(6618546, after.dueCents());
+        assertFalse(after.isSettled());
+
+        LoanBalance settled = after.apply(after.payment(1L, DISBURSED.plusMonths(1), after.outstandingCents()));
+        assertTrue(settled.isSettled());
+        assertEquals(0, settled.dueCents());
+    }
+
+    @Test
+    @DisplayName("Should make the last installment whatever is still outstanding")
+    void testLastInstallmentTakesRemainder() {
+        LoanBalance balance = new LoanBalance(50_000, 1_234, 0);
+
+        assertEquals(51_234, balance.installmentDue(loan, DISBURSED.plusMonths(12), 12).dueCents());
+        assertEquals(51_234, balance.installmentDue(loan, DISBURSED.plusMonths(11), 11).dueCents());
+        assertNull(new LoanBalance(50_000, 0, 50_000).installmentDue(loan, DISBURSED.plusMonths(11), 11));
+    }
+}
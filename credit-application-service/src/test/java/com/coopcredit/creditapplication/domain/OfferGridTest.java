@@ -0,0 +1,151 @@
+package com.coopcredit.creditapplication.domain;
+
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.AffiliateExposure;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.validation.CreditRules;
+import com.coopcredit.creditapplication.domain.validation.OfferGrid;
+import com.coopcredit.creditapplication.domain.validation.RuleObserver;
+import com.coopcredit.creditapplication.domain.validation.RuleSet;
+import com.coopcredit.creditapplication.domain.validation.RuleSetDefinition;
+import com.coopcredit.creditapplication.domain.validation.RuleSetDefinition.RuleDefinition;
+import com.coopcredit.creditapplication.domain.validation.RuleViolation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OfferGrid.
+ * Every cell must match validating the same application with the rule set.
+ */
+class OfferGridTest {
+
+    private static final RuleSet RULES = RuleSet.compile(new RuleSetDefinition(3, new BigDecimal("0.40"), 10,
+        new BigDecimal("1000000"), new BigDecimal("50000000"), 6, 60, List.of(
+            new RuleDefinition(CreditRules.AFFILIATION_TIME, true, null),
+            new RuleDefinition(CreditRules.CREDIT_AMOUNT, true, null),
+            new RuleDefinition(CreditRules.CREDIT_TERM, true, null),
+            new RuleDefinition(CreditRules.AFFILIATE_LIMIT, true, null),
+            new RuleDefinition(CreditRules.DEBT_RATIO, true, null))), 1, RuleObserver.NONE);
+
+    @Test
+    @DisplayName("Should give every cell the outcome of validating it as a single application")
+    void testCellsMatchSingleApplicationValidation() {
+        Affiliate affiliate = affiliate("4000000");
+        List<BigDecimal> amounts = List.of(new BigDecimal("500000"), new BigDecimal("1000000"),
+            new BigDecimal("7777777.77"), new BigDecimal("20000000"), new BigDecimal("40000001"),
+            new BigDecimal("60000000"));
+        int[] terms = {3, 6, 12, 24, 36, 48, 60, 72};
+        BigDecimal[] rates = {new BigDecimal("0.01"), new BigDecimal("12.00"), new BigDecimal("27.35")};
+        String[] incomes = {"800000", "2500000.50", "9000000"};
+
+        for (BigDecimal rate : rates) {
+            for (String income : incomes) {
+                BigDecimal monthlyIncome = new BigDecimal(income);
+                OfferGrid grid = OfferGrid.evaluate(RULES, affiliate, amounts, terms, rate, monthlyIncome);
+                for (int i = 0; i < amounts.size(); i++) {
+                    for (int j = 0; j < terms.length; j++) {
+                        CreditApplication application = application(affiliate, amounts.get(i), terms[j], rate, monthlyIncome);
+                        String context = amounts.get(i) + " x " + terms[j] + " @ " + rate + ", income " + income;
+                        assertEquals(validate(application), grid.rejection(i, j), context);
+                        BigDecimal payment = application.calculateMonthlyPayment(rate);
+                        assertEquals(payment, BigDecimal.valueOf(grid.paymentCents(i, j), 2), context);
+                        assertEquals(application.getDebtToIncomeRatio(payment),
+                            BigDecimal.valueOf(grid.debtRatioUnits(i, j), 4), context);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a cell on the ratio limit only once it goes over")
+    void testDebtRatioBoundary() {
+        Affiliate affiliate = affiliate("10000000");
+        BigDecimal amount = new BigDecimal("12000000");
+        int[] terms = {12};
+        BigDecimal payment = application(affiliate, amount, 12, new BigDecimal("0.01"), BigDecimal.ONE)
+            .calculateMonthlyPayment(new BigDecimal("0.01"));
+        BigDecimal incomeAtLimit = payment.multiply(new BigDecimal("2.5"));
+
+        OfferGrid atLimit = OfferGrid.evaluate(RULES, affiliate, List.of(amount), terms, new BigDecimal("0.01"), incomeAtLimit);
+        OfferGrid overLimit = OfferGrid.evaluate(RULES, affiliate, List.of(amount), terms, new BigDecimal("0.01"),
+            incomeAtLimit.multiply(new BigDecimal("0.999")));
+
+        assertEquals(4000, atLimit.debtRatioUnits(0, 0));
+        assertNull(atLimit.rejection(0, 0));
+        assertEquals("DEBT_RATIO_EXCEEDED", overLimit.rejection(0, 0));
+    }
+
+    @Test
+    @DisplayName("Should count the obligations the affiliate already holds like a single application does")
+    void testExistingObligations() {
+        Affiliate affiliate = affiliate("10000000");
+        List<BigDecimal> amounts = List.of(new BigDecimal("3000000"), new BigDecimal("9000000"));
+        int[] terms = {12, 36};
+        BigDecimal rate = new BigDecimal("12.00");
+        BigDecimal income = new BigDecimal("5000000");
+        BigDecimal obligations = new BigDecimal("1250000.55");
+
+        OfferGrid grid = OfferGrid.evaluate(RULES, affiliate, amounts, terms, rate, income, obligations);
+
+        for (int i = 0; i < amounts.size(); i++) {
+            for (int j = 0; j < terms.length; j++) {
+                CreditApplication application = application(affiliate, amounts.get(i), terms[j], rate, income);
+                application.setExposure(new AffiliateExposure(1L, 1, new BigDecimal("9000000"), obligations));
+                BigDecimal payment = application.calculateMonthlyPayment(rate);
+                assertEquals(validate(application), grid.rejection(i, j));
+                assertEquals(application.getDebtToIncomeRatio(payment.add(obligations)),
+                    BigDecimal.valueOf(grid.debtRatioUnits(i, j), 4));
+            }
+        }
+        assertEquals("DEBT_RATIO_EXCEEDED", grid.rejection(1, 0));
+        assertNull(grid.rejection(0, 1));
+    }
+
+    @Test
+    @DisplayName("Should reject every cell for an affiliate that cannot request credit yet")
+    void testRecentAffiliate() {
+        Affiliate affiliate = affiliate("4000000");
+        affiliate.setAffiliationDate(LocalDate.now().minusMonths(2));
+
+        OfferGrid grid = OfferGrid.evaluate(RULES, affiliate, List.of(new BigDecimal("2000000")), new int[]{12, 24},
+            new BigDecimal("12"), new BigDecimal("5000000"));
+
+        assertEquals("INSUFFICIENT_AFFILIATION_TIME", grid.rejection(0, 0));
+        assertEquals("INSUFFICIENT_AFFILIATION_TIME", grid.rejection(0, 1));
+        assertTrue(grid.paymentCents(0, 0) > 0);
+    }
+
+    @Test
+    @DisplayName("Should reject a zero monthly income")
+    void testZeroIncome() {
+        assertThrows(IllegalArgumentException.class, () -> OfferGrid.evaluate(RULES, affiliate("4000000"),
+            List.of(new BigDecimal("2000000")), new int[]{12}, new BigDecimal("12"), BigDecimal.ZERO));
+    }
+
+    private static Affiliate affiliate(String salary) {
+        Affiliate affiliate = new Affiliate("CC", "123", "Grid", "Member", "grid@example.com",
+            "3001234567", new BigDecimal(salary));
+        affiliate.setAffiliationDate(LocalDate.now().minusYears(2));
+        return affiliate;
+    }
+
+    private static CreditApplication application(Affiliate affiliate, BigDecimal amount, int term,
+                                                 BigDecimal rate, BigDecimal income) {
+        CreditApplication application = new CreditApplication(affiliate, amount, "Simulation", term, income);
+        application.setInterestRate(rate);
+        application.setCurrentDebt(BigDecimal.ZERO);
+        return application;
+    }
+
+    private static String validate(CreditApplication application) {
+        RuleViolation violation = RULES.firstViolation(application);
+        return violation != null ? violation.code() : null;
+    }
+}
@@ -0,0 +1,199 @@
+package com.coopcredit.creditapplication.domain;
+
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.validation.CreditRule;
+import com.coopcredit.creditapplication.domain.validation.CreditRules;
+import com.coopcredit.creditapplication.domain.validation.RuleObserver;
+import com.coopcredit.creditapplication.domain.validation.RuleSet;
+import com.coopcredit.creditapplication.domain.validation.RuleSetDefinition;
+import com.coopcredit.creditapplication.domain.validation.RuleSetDefinition.RuleDefinition;
+import com.coopcredit.creditapplication.domain.validation.RuleViolation;
+import com.coopcredit.creditapplication.domain.validation.ValidationResult;
+import com.coopcredit.creditapplication.infrastructure.exception.RuleViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for compiled credit rule sets.
+ */
+class RuleSetTest {
+
+    private static final List<RuleDefinition> ALL_RULES = List.of(
+        new RuleDefinition(CreditRules.AFFILIATION_TIME, true, null),
+        new RuleDefinition(CreditRules.CREDIT_AMOUNT, true, null),
+        new RuleDefinition(CreditRules.CREDIT_TERM, true, null),
+        new RuleDefinition(CreditRules.AFFILIATE_LIMIT, true, null),
+        new RuleDefinition(CreditRules.DEBT_RATIO, true, null));
+
+    @Test
+    @DisplayName("Should run the cheapest rules first")
+    void testCheapestRulesFirst() {
+        RuleSet ruleSet = compile(ALL_RULES);
+
+        assertEquals(List.of(CreditRules.CREDIT_TERM, CreditRules.CREDIT_AMOUNT, CreditRules.AFFILIATION_TIME,
+                CreditRules.AFFILIATE_LIMIT, CreditRules.DEBT_RATIO),
+            ruleSet.getRules().stream().map(CreditRule::getName).toList());
+    }
+
+    @Test
+    @DisplayName("Should let configuration override costs and disable rules")
+    void testCostOverrideAndDisabledRules() {
+        RuleSet ruleSet = compile(List.of(
+            new RuleDefinition(CreditRules.CREDIT_AMOUNT, true, null),
+            new RuleDefinition(CreditRules.DEBT_RATIO, true, 0),
+            new RuleDefinition(CreditRules.CREDIT_TERM, false, null)));
+
+        assertEquals(List.of(CreditRules.DEBT_RATIO, CreditRules.CREDIT_AMOUNT),
+            ruleSet.getRules().stream().map(CreditRule::getName).toList());
+        assertNull(ruleSet.firstViolation(application(affiliate(12), "2000000", 200, "5000000")));
+    }
+
+    @Test
+    @DisplayName("Should stop at the first violation, or report all of them when asked")
+    void testFirstAndAllViolations() {
+        // Given: term too long, amount too low and a recent affiliate
+        List<CreditRuleEvaluation> evaluations = new ArrayList<>();
+        RuleSet ruleSet = RuleSet.compile(definition(ALL_RULES), 1,
+            rule -> (nanos, violated) -> evaluations.add(new CreditRuleEvaluation(rule.getName(), violated)));
+        CreditApplication application = application(affiliate(1), "500000", 72, "5000000");
+
+        // When
+        RuleViolation first = ruleSet.firstViolation(application);
+        int evaluatedForFirst = evaluations.size();
+        List<RuleViolation> all = ruleSet.allViolations(application);
+
+        // Then
+        assertEquals("TERM_TOO_LONG", first.code());
+        assertEquals(1, evaluatedForFirst);
+        assertEquals(List.of("TERM_TOO_LONG", "AMOUNT_TOO_LOW", "INSUFFICIENT_AFFILIATION_TIME",
+            "INSUFFICIENT_AFFILIATION_TIME"), all.stream().map(RuleViolation::code).toList());
+        assertEquals(List.of(CreditRules.CREDIT_TERM, CreditRules.CREDIT_AMOUNT, CreditRules.AFFILIATION_TIME,
+                CreditRules.AFFILIATE_LIMIT),
+            all.stream().map(RuleViolation::rule).toList());
+        assertEquals(1 + 5, evaluations.size());
+    }
+
+    @Test
+    @DisplayName("Should return the first violation, or all of them when asked, without throwing")
+    void testCheck() {
+        RuleSet ruleSet = compile(ALL_RULES);
+        CreditApplication application = application(affiliate(12), "500000", 72, "5000000");
+
+        ValidationResult first = ruleSet.check(application, false);
+        ValidationResult all = ruleSet.check(application, true);
+
+        assertFalse(first.isValid());
+        assertFalse(first.isExhaustive());
+        assertEquals("TERM_TOO_LONG", first.getCode());
+        assertEquals(1, first.getViolations().size());
+        assertTrue(all.isExhaustive());
+        assertEquals(List.of("TERM_TOO_LONG", "AMOUNT_TOO_LOW"), all.getViolations().stream().map(RuleViolation::code).toList());
+        assertSame(ValidationResult.VALID, ruleSet.check(application(affiliate(12), "2000000", 24, "5000000"), true));
+        // Violations that do not depend on the application are shared
+        assertSame(first.getFirstViolation(), ruleSet.firstViolation(application(affiliate(1), "2000000", 61, "1")));
+    }
+
+    @Test
+    @DisplayName("Should throw stackless exceptions with the first violation, or all of them when asked")
+    void testValidate() {
+        RuleSet ruleSet = compile(ALL_RULES);
+        CreditApplication application = application(affiliate(12), "500000", 72, "5000000");
+
+        RuleViolationException first = assertThrows(RuleViolationException.class,
+            () -> ruleSet.validate(application, false));
+        RuleViolationException all = assertThrows(RuleViolationException.class,
+            () -> ruleSet.validate(application, true));
+
+        assertEquals("TERM_TOO_LONG", first.getCode());
+        assertEquals("Maximum credit term is 60 months", first.getMessage());
+        assertFalse(first.isExhaustive());
+        assertEquals(0, first.getStackTrace().length);
+        assertEquals("TERM_TOO_LONG", all.getCode());
+        assertTrue(all.isExhaustive());
+        assertEquals(2, all.getViolations().size());
+        assertDoesNotThrow(() -> ruleSet.validate(application(affiliate(12), "2000000", 24, "5000000"), true));
+    }
+
+    @Test
+    @DisplayName("Should format messages that depend on the application when they are read")
+    void testDeferredMessage() {
+        RuleSet ruleSet = compile(ALL_RULES);
+        Affiliate lowSalary = affiliate(12);
+        lowSalary.setSalary(new BigDecimal("1000000"));
+
+        RuleViolation violation = ruleSet.firstViolation(application(lowSalary, "20000000", 60, "50000000"));
+
+        assertEquals("AMOUNT_EXCEEDS_AFFILIATE_LIMIT", violation.code());
+        assertEquals("Requested amount ($20000000) exceeds affiliate's maximum credit limit ($10000000 based on salary)",
+            violation.message());
+        assertSame(violation.message(), violation.message());
+    }
+
+    @Test
+    @DisplayName("Should apply the configured limits")
+    void testConfiguredLimits() {
+        RuleSet ruleSet = compile(ALL_RULES);
+
+        // 3 months of affiliation is enough
+        assertNull(ruleSet.firstViolation(application(affiliate(3), "2000000", 24, "5000000")));
+        // 10,000,000 over 12 months at 12% is 888,487.89 a month: 44% of 2,000,000
+        assertEquals("DEBT_RATIO_EXCEEDED",
+            ruleSet.firstViolation(application(affiliate(12), "10000000", 12, "2000000")).code());
+        assertEquals("Total debt-to-income ratio exceeds maximum allowed (40%)",
+            ruleSet.firstViolation(application(affiliate(12), "10000000", 12, "2000000")).message());
+        // Salary 1,000,000 x 10
+        Affiliate lowSalary = affiliate(12);
+        lowSalary.setSalary(new BigDecimal("1000000"));
+        assertEquals(0, new BigDecimal("10000000").compareTo(ruleSet.maxCreditAmount(lowSalary)));
+        assertEquals("AMOUNT_EXCEEDS_AFFILIATE_LIMIT",
+            ruleSet.firstViolation(application(lowSalary, "10000000.01", 60, "50000000")).code());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown, duplicated or inconsistent definitions")
+    void testInvalidDefinitions() {
+        assertThrows(IllegalArgumentException.class,
+            () -> compile(List.of(new RuleDefinition("credit-score", true, null))));
+        assertThrows(IllegalArgumentException.class, () -> compile(List.of(
+            new RuleDefinition(CreditRules.CREDIT_TERM, true, null),
+            new RuleDefinition(CreditRules.CREDIT_TERM, false, null))));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.compile(new RuleSetDefinition(3,
+            new BigDecimal("0.40"), 10, new BigDecimal("5000000"), new BigDecimal("1000000"), 6, 60, ALL_RULES),
+            1, RuleObserver.NONE));
+    }
+
+    private record CreditRuleEvaluation(String rule, boolean violated) {
+    }
+
+    private static RuleSet compile(List<RuleDefinition> rules) {
+        return RuleSet.compile(definition(rules), 1, RuleObserver.NONE);
+    }
+
+    private static RuleSetDefinition definition(List<RuleDefinition> rules) {
+        return new RuleSetDefinition(3, new BigDecimal("0.40"), 10, new BigDecimal("1000000"),
+            new BigDecimal("50000000"), 6, 60, rules);
+    }
+
+    private static Affiliate affiliate(int monthsAffiliated) {
+        Affiliate affiliate = new Affiliate("CC", "123", "Rule", "Member", "rule@example.com",
+            "3001234567", new BigDecimal("5000000"));
+        affiliate.setAffiliationDate(LocalDate.now().minusMonths(monthsAffiliated));
+        return affiliate;
+    }
+
+    private static CreditApplication application(Affiliate affiliate, String amount, int term, String income) {
+        CreditApplication application = new CreditApplication(affiliate, new BigDecimal(amount), "Rules", term,
+            new BigDecimal(income));
+        application.setInterestRate(new BigDecimal("12.00"));
+        application.setCurrentDebt(BigDecimal.ZERO);
+        return application;
+    }
+}
@@ -0,0 +1,115 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import com.coopcredit.creditapplication.infrastructure.concurrency.ConcurrencyLimitProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the gradient concurrency limiter.
+ */
+@DisplayName("AdaptiveConcurrencyLimiter - Unit Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long BASELINE = 10_000_000L;
+
+    private static AdaptiveConcurrencyLimiter limiter(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimiter("test", new ConcurrencyLimitProperties.Limiter(initial, min, max));
+    }
+
+    @Test
+    @DisplayName("Should reject requests beyond the limit without blocking")
+    void shouldRejectBeyondLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 10);
+
+        // When
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while latency stays at the baseline and the limit is used")
+    void shouldGrowWhenLatencyIsStable() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100);
+
+        // When: saturated, requests complete at baseline latency
+        for (int i = 0; i < 50; i++) {
+            fillAndRelease(limiter, BASELINE);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("Should not grow the limit while the service is not using it")
+    void shouldNotGrowWhenApplicationLimited() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100);
+
+        // When: one request at a time
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(BASELINE, false);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when queueing pushes latency above the tolerance")
+    void shouldShrinkWhenLatencyRises() {
+        // Given: baseline established
+        AdaptiveConcurrencyLimiter limiter = limiter(40, 2, 100);
+        fillAndRelease(limiter, BASELINE);
+        int before = limiter.getLimit();
+
+        // When: latency five times the baseline
+        for (int i = 0; i < 20; i++) {
+            fillAndRelease(limiter, BASELINE * 5);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isLessThan(before / 2);
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should back off on failed requests but never below the minimum")
+    void shouldBackOffOnDrops() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 3, 100);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(BASELINE, true);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    private static void fillAndRelease(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rttNanos, false);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.AffiliateImportReport;
+import com.coopcredit.creditapplication.application.dto.AffiliateImportReport.RowError;
+import com.coopcredit.creditapplication.application.port.in.ImportAffiliatesUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.RoleName;
+import com.coopcredit.creditapplication.domain.model.User;
+import com.coopcredit.creditapplication.domain.port.out.PasswordEncoderPort;
+import com.coopcredit.creditapplication.domain.port.out.UserRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for bulk affiliate CSV import.
+ */
+@SpringBootTest(properties = "affiliate-import.chunk-size=3")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Affiliate CSV import - Integration Tests")
+class AffiliateImportIntegrationTest {
+
+    private static final String HEADER =
+        "documentType,documentNumber,firstName,lastName,email,phone,salary,affiliationDate,username,password\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImportAffiliatesUseCase importAffiliatesUseCase;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private UserRepositoryPort userRepository;
+
+    @Autowired
+    private PasswordEncoderPort passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String unique;
+
+    @BeforeEach
+    void setUp() {
+        unique = String.valueOf(System.nanoTime());
+    }
+
+    @Test
+    @DisplayName("Should import valid rows across chunks and create users with ROLE_AFILIADO")
+    void shouldImportValidRows() {
+        // Given: 5 rows, so the import spans two chunks
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 5; i++) {
+            csv.append(row("IMP" + unique + i, "imp" + unique + i + "@example.com", "2020-01-15",
+                i == 0 ? "imp" + unique : "", i == 0 ? "ImportPass123" : ""));
+        }
+
+        // When
+        AffiliateImportReport report = importAffiliatesUseCase.execute(stream(csv.toString()));
+
+        // Then
+        assertThat(report.getTotalRows()).isEqualTo(5);
+        assertThat(report.getImportedRows()).isEqualTo(5);
+        assertThat(report.getRejectedRows()).isZero();
+        assertThat(report.getUsersCreated()).isEqualTo(1);
+
+        Affiliate imported = affiliateRepository.findByDocumentNumber("IMP" + unique + "3").orElseThrow();
+        assertThat(imported.getAffiliationDate()).isEqualTo(LocalDate.of(2020, 1, 15));
+        assertThat(imported.getSalary()).isEqualByComparingTo("4500000.50");
+
+        User user = userRepository.findByUsername("imp" + unique).orElseThrow();
+        assertThat(passwordEncoder.matches("ImportPass123", user.getPassword())).isTrue();
+        assertThat(user.getRoles()).extracting(role -> role.getName()).containsExactly(RoleName.ROLE_AFILIADO);
+        assertThat(affiliateRepository.findByUsername("imp" + unique)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should report invalid and duplicate rows and import the rest")
+    void shouldReportRejectedRows() {
+        // Given: an existing affiliate; with chunks of 3, lines 2-4 and 5-7 are imported separately
+        Affiliate existing = affiliateRepository.save(new Affiliate("CC", "EXI" + unique, "Existing", "Member",
+            "exi" + unique + "@example.com", "3001234567", new BigDecimal("4000000")));
+
+        String csv = HEADER
+            + row("OK" + unique, "ok" + unique + "@example.com", "", "", "")                   // line 2
+            + row("DUP" + unique, "dup" + unique + "@example.com", "", "", "")                 // line 3
+            + row("DUP" + unique, "dup2" + unique + "@example.com", "", "", "")                // line 4
+            + row(existing.getDocumentNumber(), "new" + unique + "@example.com", "", "", "")   // line 5
+            + "CC,BAD" + unique + ",Bad,Row,not-an-email,,-5,,,\n"                             // line 6
+            + "CC,\"Q,\"\"" + unique + "\",\"Quoted\nName\",Row,q" + unique + "@example.com,,1000,,,\n"; // line 7
+
+        // When
+        AffiliateImportReport report = importAffiliatesUseCase.execute(stream(csv));
+
+        // Then
+        assertThat(report.getTotalRows()).isEqualTo(6);
+        assertThat(report.getImportedRows()).isEqualTo(3);
+        assertThat(report.getRejectedRows()).isEqualTo(3);
+        assertThat(report.getErrors()).extracting(RowError::getLine, RowError::getField, RowError::getCode)
+            .containsExactlyInAnyOrder(
+                tuple(4L, "documentNumber", "DUPLICATE_IN_FILE"),
+                tuple(5L, "documentNumber", "DUPLICATE"),
+                tuple(6L, "email", "INVALID_FORMAT"),
+                tuple(6L, "salary", "OUT_OF_RANGE"));
+        assertThat(affiliateRepository.findByDocumentNumber("OK" + unique)).isPresent();
+        assertThat(affiliateRepository.findByDocumentNumber("Q,\"" + unique))
+            .hasValueSatisfying(affiliate -> assertThat(affiliate.getFirstName()).isEqualTo("Quoted\nName"));
+    }
+
+    @Test
+    @DisplayName("Should report a row registered concurrently after the check and import the rest")
+    void shouldSkipRowsRegisteredConcurrently() {
+        // Given
+        String csv = HEADER
+            + row("RACE" + unique, "race" + unique + "@example.com", "", "race" + unique, "ImportPass123") // line 2
+            + row("CALM" + unique, "calm" + unique + "@example.com", "", "calm" + unique, "ImportPass123"); // line 3
+
+        // When: the clashing affiliate commits while the import waits on it
+        AffiliateImportReport report = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("""
+                INSERT INTO affiliates (document_type, document_number, first_name, last_name, email, salary)
+                VALUES ('CC', ?, 'Concurrent', 'Member', ?, 4000000)""", "RACE" + unique, "other" + unique + "@example.com");
+            CompletableFuture<AffiliateImportReport> running =
+                CompletableFuture.supplyAsync(() -> importAffiliatesUseCase.execute(stream(csv)));
+            awaitBlockedInsert();
+            return running;
+        }).join();
+
+        // Then
+        assertThat(report.getImportedRows()).isEqualTo(1);
+        assertThat(report.getRejectedRows()).isEqualTo(1);
+        assertThat(report.getUsersCreated()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(RowError::getLine, RowError::getField, RowError::getCode)
+            .containsExactly(tuple(2L, "documentNumber", "DUPLICATE"));
+        assertThat(affiliateRepository.findByDocumentNumber("CALM" + unique)).isPresent();
+        assertThat(userRepository.findByUsername("calm" + unique)).isPresent();
+        assertThat(userRepository.findByUsername("race" + unique)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a file without the required columns")
+    void shouldRejectMissingColumns() {
+        assertThatThrownBy(() -> importAffiliatesUseCase.execute(stream("documentType,documentNumber\nCC,1\n")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("firstname");
+    }
+
+    @Test
+    @DisplayName("Should expose the import endpoint to ADMIN only")
+    void shouldRestrictEndpointToAdmin() throws Exception {
+        String csv = HEADER + row("WEB" + unique, "web" + unique + "@example.com", "", "", "");
+
+        mockMvc.perform(post("/api/affiliates/import")
+                        .with(user("analyst").roles("ANALISTA"))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/affiliates/import")
+                        .with(user("admin").roles("ADMIN"))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(1))
+                .andExpect(jsonPath("$.rejectedRows").value(0));
+    }
+
+    private void awaitBlockedInsert() {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (System.currentTimeMillis() < deadline) {
+            // Activity is otherwise read once per transaction
+            jdbcTemplate.query("SELECT pg_stat_clear_snapshot()", rs -> { });
+            Integer waiting = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM pg_stat_activity
+                WHERE wait_event_type = 'Lock' AND query LIKE '%INSERT INTO affiliates%'""", Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        throw new AssertionError("Import never waited on the concurrent registration");
+    }
+
+    private static String row(String document, String email, String affiliationDate, String username, String password) {
+        return String.join(",", "CC", document, "Bulk", "Member", email, "3001234567", "4500000.50",
+            affiliationDate, username, password) + "\n";
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
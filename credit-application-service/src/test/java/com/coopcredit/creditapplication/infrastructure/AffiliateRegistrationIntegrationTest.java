@@ -0,0 +1,113 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.RegisterRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for affiliate registration with constraint-driven
+ * duplicate detection.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Affiliate registration - Integration Tests")
+class AffiliateRegistrationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("Should register with inserts only, without existence or role queries")
+    void shouldRegisterWithoutLookups() throws Exception {
+        // Given: role reference already cached
+        register(request("warm")).andExpect(status().isCreated());
+        statistics.clear();
+
+        // When
+        register(request("single")).andExpect(status().isCreated())
+            .andExpect(jsonPath("$.roles[0]").value("ROLE_AFILIADO"));
+
+        // Then: affiliate, user and user_roles inserts, plus at most a sequence block each
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should report a taken username, email or document with the original messages")
+    void shouldReportDuplicates() throws Exception {
+        // Given
+        RegisterRequest existing = request("dup");
+        register(existing).andExpect(status().isCreated());
+
+        // When / Then
+        RegisterRequest sameUsername = request("dup-user");
+        sameUsername.setUsername(existing.getUsername());
+        register(sameUsername).andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value("Username already exists: " + existing.getUsername()));
+
+        RegisterRequest sameEmail = request("dup-email");
+        sameEmail.setEmail(existing.getEmail());
+        register(sameEmail).andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value("Email already exists: " + existing.getEmail()));
+
+        RegisterRequest sameDocument = request("dup-doc");
+        sameDocument.setDocumentNumber(existing.getDocumentNumber());
+        register(sameDocument).andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value("Document number already exists: " + existing.getDocumentNumber()));
+    }
+
+    private ResultActions register(RegisterRequest request) throws Exception {
+        return mockMvc.perform(post("/api/auth/register")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private static RegisterRequest request(String prefix) {
+        long unique = System.nanoTime();
+        RegisterRequest request = new RegisterRequest();
+        request.setDocumentType("CC");
+        request.setDocumentNumber("REG" + unique);
+        request.setFirstName("Signup");
+        request.setLastName("Member");
+        request.setEmail(prefix + unique + "@example.com");
+        request.setPhone("3001234567");
+        request.setSalary(new BigDecimal("5000000"));
+        request.setUsername(prefix + unique);
+        request.setPassword("TestPass123");
+        return request;
+    }
+}
@@ -0,0 +1,112 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.RegisterRequest;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.application.usecase.RegisterAffiliateUseCase;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for GET /api/credit-applications/{id}/schedule.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Amortization schedule - Integration Tests")
+class AmortizationScheduleIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RegisterAffiliateUseCase registerAffiliateUseCase;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @Test
+    @DisplayName("Should return every installment with the application's monthly payment")
+    void shouldReturnSchedule() throws Exception {
+        // Given
+        CreditApplication application = createApplication(createAffiliate(), "10000000", 24);
+
+        // When / Then
+        mockMvc.perform(get("/api/credit-applications/{id}/schedule", application.getId())
+                        .with(user("analyst").roles("ANALISTA")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applicationId").value(application.getId()))
+                .andExpect(jsonPath("$.monthlyPayment").value(470734.72))
+                .andExpect(jsonPath("$.installments", hasSize(24)))
+                .andExpect(jsonPath("$.installments[0].number").value(1))
+                .andExpect(jsonPath("$.installments[0].payment").value(470734.72))
+                .andExpect(jsonPath("$.installments[0].interest").value(100000.00))
+                .andExpect(jsonPath("$.installments[0].principal").value(370734.72))
+                .andExpect(jsonPath("$.installments[0].balance").value(9629265.28))
+                .andExpect(jsonPath("$.installments[23].balance").value(0));
+    }
+
+    @Test
+    @DisplayName("Should only show affiliates their own schedules")
+    void shouldRestrictAffiliatesToOwnApplications() throws Exception {
+        // Given
+        String username = "schedule" + System.nanoTime();
+        registerAffiliateUseCase.execute(registerRequest(username));
+        Affiliate own = affiliateRepository.findByUsername(username).orElseThrow();
+        Long ownApplication = createApplication(own, "2000000", 12).getId();
+        Long otherApplication = createApplication(createAffiliate(), "2000000", 12).getId();
+
+        // When / Then
+        mockMvc.perform(get("/api/credit-applications/{id}/schedule", ownApplication)
+                        .with(user(username).roles("AFILIADO")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.installments", hasSize(12)));
+
+        mockMvc.perform(get("/api/credit-applications/{id}/schedule", otherApplication)
+                        .with(user(username).roles("AFILIADO")))
+                .andExpect(status().isNotFound());
+    }
+
+    private Affiliate createAffiliate() {
+        return affiliateRepository.save(TestFixtures.affiliate("AMS", "5000000"));
+    }
+
+    private CreditApplication createApplication(Affiliate affiliate, String amount, int termMonths) {
+        CreditApplication application = TestFixtures.pendingApplication(affiliate);
+        application.setRequestedAmount(new BigDecimal(amount));
+        application.setTermMonths(termMonths);
+        return applicationRepository.save(application);
+    }
+
+    private static RegisterRequest registerRequest(String username) {
+        RegisterRequest request = new RegisterRequest();
+        request.setDocumentType("CC");
+        request.setDocumentNumber("AMS" + System.nanoTime());
+        request.setFirstName("Schedule");
+        request.setLastName("Owner");
+        request.setEmail(username + "@example.com");
+        request.setPhone("3001234567");
+        request.setSalary(new BigDecimal("5000000"));
+        request.setUsername(username);
+        request.setPassword("TestPass123");
+        return request;
+    }
+}
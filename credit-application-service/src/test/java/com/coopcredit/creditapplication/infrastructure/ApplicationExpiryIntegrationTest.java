@@ -0,0 +1,228 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.PortfolioAnalyticsResponse;
+import com.coopcredit.creditapplication.application.port.in.ApproveApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.EvaluateCreditApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.GetPortfolioAnalyticsUseCase;
+import com.coopcredit.creditapplication.application.port.in.RebuildPortfolioAnalyticsUseCase;
+import com.coopcredit.creditapplication.application.port.in.RejectApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.RiskEvaluationPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import com.coopcredit.creditapplication.infrastructure.exception.BusinessException;
+import com.coopcredit.creditapplication.infrastructure.expiry.ApplicationExpiryJob;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Integration tests for the expiry of stale credit applications.
+ *
+ * Applications are dated decades back, so the sweeps only reach the ones
+ * these tests create; each test uses its own year.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Application expiry - Integration Tests")
+class ApplicationExpiryIntegrationTest {
+
+    @Autowired
+    private ApplicationExpiryJob expiryJob;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @Autowired
+    private ApproveApplicationUseCase approveApplicationUseCase;
+
+    @Autowired
+    private RejectApplicationUseCase rejectApplicationUseCase;
+
+    @Autowired
+    private EvaluateCreditApplicationUseCase evaluateCreditApplicationUseCase;
+
+    @Autowired
+    private GetPortfolioAnalyticsUseCase getPortfolioAnalyticsUseCase;
+
+    @Autowired
+    private RebuildPortfolioAnalyticsUseCase rebuildPortfolioAnalyticsUseCase;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private RiskEvaluationPort riskEvaluationPort;
+
+    @Test
+    @DisplayName("Should expire open applications past the cutoff and record the status changes")
+    void shouldExpireStaleApplications() throws Exception {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.of(2001, 1, 2, 0, 0);
+        CreditApplication pending = createApplication(ApplicationStatus.PENDING, cutoff.minusDays(1));
+        CreditApplication inReview = createApplication(ApplicationStatus.IN_REVIEW, cutoff.minusDays(1));
+        CreditApplication recent = createApplication(ApplicationStatus.PENDING, cutoff.plusDays(1));
+        rebuildPortfolioAnalyticsUseCase.execute();
+        YearMonth month = YearMonth.from(cutoff);
+        PortfolioAnalyticsResponse before = getPortfolioAnalyticsUseCase.execute(month, month);
+
+        // When
+        int expired = expiryJob.expire(cutoff);
+
+        // Then
+        assertThat(expired).isGreaterThanOrEqualTo(2);
+        assertThat(statusOf(pending)).isEqualTo(ApplicationStatus.EXPIRED);
+        assertThat(statusOf(inReview)).isEqualTo(ApplicationStatus.EXPIRED);
+        assertThat(statusOf(recent)).isEqualTo(ApplicationStatus.PENDING);
+
+        PortfolioAnalyticsResponse after = getPortfolioAnalyticsUseCase.execute(month, month);
+        assertThat(after.getApplicationsByStatus().get("EXPIRED"))
+            .isEqualTo(before.getApplicationsByStatus().get("EXPIRED") + 2);
+        assertThat(after.getApplicationsByStatus().get("PENDING"))
+            .isEqualTo(before.getApplicationsByStatus().get("PENDING") - 1);
+        assertThat(after.getApplicationsByStatus().get("IN_REVIEW"))
+            .isEqualTo(before.getApplicationsByStatus().get("IN_REVIEW") - 1);
+        rebuildPortfolioAnalyticsUseCase.execute();
+        assertThat(after).usingRecursiveComparison()
+            .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+            .isEqualTo(getPortfolioAnalyticsUseCase.execute(month, month));
+
+        JsonNode event = objectMapper.readTree(jdbcTemplate.queryForObject(
+            "SELECT payload::text FROM outbox_events WHERE aggregate_id = ?", String.class, inReview.getId()));
+        assertThat(event.get("status").asText()).isEqualTo("EXPIRED");
+        assertThat(event.get("previousStatus").asText()).isEqualTo("IN_REVIEW");
+        assertThat(event.get("source").asText()).isEqualTo("EXPIRY");
+
+        // An expired application no longer blocks a new one
+        CreditApplication next = createApplication(pending.getAffiliate(), ApplicationStatus.PENDING,
+            LocalDateTime.now());
+        assertThat(statusOf(next)).isEqualTo(ApplicationStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should skip the run while another node holds the sweep lock")
+    void shouldSkipWhileAnotherNodeSweeps() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.of(2002, 1, 2, 0, 0);
+        CreditApplication stale = createApplication(ApplicationStatus.PENDING, cutoff.minusDays(1));
+
+        // When
+        Integer expiredWhileLocked = transactionTemplate.execute(status -> {
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", rs -> { }, ApplicationExpiryJob.SWEEP_LOCK_KEY);
+            return CompletableFuture.supplyAsync(() -> expiryJob.expire(cutoff)).join();
+        });
+
+        // Then
+        assertThat(expiredWhileLocked).isZero();
+        assertThat(statusOf(stale)).isEqualTo(ApplicationStatus.PENDING);
+        expiryJob.expire(cutoff);
+        assertThat(statusOf(stale)).isEqualTo(ApplicationStatus.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("Should leave applications locked by a decision in progress for a later run")
+    void shouldSkipLockedApplications() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.of(2003, 1, 2, 0, 0);
+        CreditApplication locked = createApplication(ApplicationStatus.PENDING, cutoff.minusDays(1));
+        CreditApplication free = createApplication(ApplicationStatus.PENDING, cutoff.minusDays(1));
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT id FROM credit_applications WHERE id = ? FOR UPDATE",
+                Long.class, locked.getId());
+            CompletableFuture.supplyAsync(() -> expiryJob.expire(cutoff)).join();
+        });
+
+        // Then
+        assertThat(statusOf(locked)).isEqualTo(ApplicationStatus.PENDING);
+        assertThat(statusOf(free)).isEqualTo(ApplicationStatus.EXPIRED);
+        expiryJob.expire(cutoff);
+        assertThat(statusOf(locked)).isEqualTo(ApplicationStatus.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("Should refuse to approve or reject an expired application")
+    void shouldNotDecideExpiredApplication() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.of(2004, 1, 2, 0, 0);
+        CreditApplication stale = createApplication(ApplicationStatus.PENDING, cutoff.minusDays(1));
+        expiryJob.expire(cutoff);
+
+        // When / Then
+        assertThatThrownBy(() -> approveApplicationUseCase.execute(stale.getId()))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getCode())
+            .isEqualTo("INVALID_APPLICATION_STATUS");
+        assertThatThrownBy(() -> rejectApplicationUseCase.execute(stale.getId()))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getCode())
+            .isEqualTo("INVALID_APPLICATION_STATUS");
+        assertThat(statusOf(stale)).isEqualTo(ApplicationStatus.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("Should not overwrite an application that expired while the risk service was answering")
+    void shouldNotEvaluateApplicationExpiredDuringRiskCall() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.of(2005, 1, 2, 0, 0);
+        CreditApplication stale = createApplication(ApplicationStatus.PENDING, cutoff.minusDays(1));
+        when(riskEvaluationPort.evaluateRisk(any())).thenAnswer(invocation -> {
+            CompletableFuture.supplyAsync(() -> expiryJob.expire(cutoff)).join();
+            return new RiskEvaluation(780, "APPROVE", "LOW");
+        });
+
+        // When / Then
+        assertThatThrownBy(() -> evaluateCreditApplicationUseCase.execute(stale.getId()))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getCode())
+            .isEqualTo("INVALID_APPLICATION_STATUS");
+        assertThat(statusOf(stale)).isEqualTo(ApplicationStatus.EXPIRED);
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT payload->>'source' FROM outbox_events WHERE aggregate_id = ?", String.class, stale.getId()))
+            .containsExactly("EXPIRY");
+    }
+
+    private ApplicationStatus statusOf(CreditApplication application) {
+        return applicationRepository.findById(application.getId()).orElseThrow().getStatus();
+    }
+
+    private CreditApplication createApplication(ApplicationStatus status, LocalDateTime applicationDate) {
+        Affiliate affiliate = affiliateRepository.save(TestFixtures.affiliate("EXP", "5000000"));
+        return createApplication(affiliate, status, applicationDate);
+    }
+
+    private CreditApplication createApplication(Affiliate affiliate, ApplicationStatus status,
+                                                LocalDateTime applicationDate) {
+        return applicationRepository.save(TestFixtures.application(affiliate, status, applicationDate));
+    }
+}
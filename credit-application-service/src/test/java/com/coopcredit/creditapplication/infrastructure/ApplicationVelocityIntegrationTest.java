@@ -0,0 +1,157 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.BatchCreditApplicationItem;
+import com.coopcredit.creditapplication.application.dto.BatchCreditApplicationRequest;
+import com.coopcredit.creditapplication.application.dto.CreditApplicationRequest;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the in-memory velocity checks on credit application submissions.
+ */
+@SpringBootTest(properties = {
+    "velocity.enabled=true",
+    "velocity.limits.affiliate.flag-threshold=1",
+    "velocity.limits.affiliate.block-threshold=2",
+    "velocity.limits.affiliate.max-exact-keys=1000",
+    "velocity.limits.document.flag-threshold=100",
+    "velocity.limits.document.block-threshold=100",
+    "velocity.limits.document.max-exact-keys=1000",
+    "velocity.limits.client-ip.flag-threshold=3",
+    "velocity.limits.client-ip.block-threshold=3",
+    "velocity.limits.client-ip.max-exact-keys=0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Application velocity - Integration Tests")
+class ApplicationVelocityIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should flag, then block, repeated submissions for the same affiliate")
+    void shouldBlockAffiliateBurst() throws Exception {
+        // Given
+        Affiliate affiliate = createAffiliate();
+        String ip = uniqueIp();
+        double flaggedBefore = checks("affiliate", "flagged");
+        double blockedBefore = checks("affiliate", "blocked");
+
+        // When / Then
+        submit(affiliate.getId(), ip).andExpect(status().isCreated());
+        submit(affiliate.getId(), ip)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("PENDING_APPLICATION_EXISTS"));
+        submit(affiliate.getId(), uniqueIp())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.code").value("APPLICATION_VELOCITY_EXCEEDED"));
+
+        assertThat(checks("affiliate", "flagged")).isEqualTo(flaggedBefore + 1);
+        assertThat(checks("affiliate", "blocked")).isEqualTo(blockedBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Should block a client submitting for many affiliates before looking them up")
+    void shouldBlockClientBurst() throws Exception {
+        String ip = uniqueIp();
+
+        // Unknown affiliates: each submission reaches the lookup until the client is blocked
+        for (int i = 0; i < 3; i++) {
+            submit(Long.MAX_VALUE - i, ip).andExpect(status().isNotFound());
+        }
+        submit(Long.MAX_VALUE - 3, ip)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.code").value("APPLICATION_VELOCITY_EXCEEDED"));
+
+        // Other clients are not affected
+        submit(Long.MAX_VALUE - 4, uniqueIp()).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should reject the batch items that take their affiliate over the limit")
+    void shouldBlockAffiliateBurstWithinBatch() throws Exception {
+        // Given
+        Affiliate affiliate = createAffiliate();
+        BatchCreditApplicationItem item = new BatchCreditApplicationItem(affiliate.getId(),
+            new BigDecimal("2000000"), 24, new BigDecimal("12.00"), new BigDecimal("5000000"),
+            BigDecimal.ZERO, "Velocity");
+        String ip = uniqueIp();
+
+        // When / Then: the client is counted once, so all three items reach the affiliate check
+        mockMvc.perform(post("/api/credit-applications/batch")
+                .with(user("analyst").roles("ANALISTA"))
+                .with(request -> { request.setRemoteAddr(ip); return request; })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new BatchCreditApplicationRequest(Collections.nCopies(3, item)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("ACCEPTED"))
+                .andExpect(jsonPath("$.results[1].code").value("PENDING_APPLICATION_EXISTS"))
+                .andExpect(jsonPath("$.results[2].code").value("APPLICATION_VELOCITY_EXCEEDED"));
+
+        // The affiliate stays blocked for single submissions too
+        submit(affiliate.getId(), uniqueIp())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.code").value("APPLICATION_VELOCITY_EXCEEDED"));
+    }
+
+    private ResultActions submit(Long affiliateId, String ip) throws Exception {
+        return mockMvc.perform(post("/api/credit-applications/affiliates/{id}", affiliateId)
+                .with(user("analyst").roles("ANALISTA"))
+                .with(request -> { request.setRemoteAddr(ip); return request; })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreditApplicationRequest(
+                    new BigDecimal("2000000"), 24, new BigDecimal("12.00"), new BigDecimal("5000000"),
+                    BigDecimal.ZERO, "Velocity"))));
+    }
+
+    private double checks(String dimension, String outcome) {
+        Counter counter = meterRegistry.find("velocity.checks")
+            .tag("dimension", dimension).tag("outcome", outcome).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static String uniqueIp() {
+        long unique = System.nanoTime();
+        return "10." + (unique >> 16 & 0xff) + "." + (unique >> 8 & 0xff) + "." + (unique & 0xff);
+    }
+
+    private Affiliate createAffiliate() {
+        return affiliateRepository.save(TestFixtures.affiliate("VEL", "2000000"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.LoginRequest;
+import com.coopcredit.creditapplication.application.dto.RegisterRequest;
+import com.coopcredit.creditapplication.application.usecase.RegisterAffiliateUseCase;
+import com.coopcredit.creditapplication.domain.model.User;
+import com.coopcredit.creditapplication.domain.port.out.UserRepositoryPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for login on the password hashing pool.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Authentication - Integration Tests")
+class AuthenticationIntegrationTest {
+
+    private static final String PASSWORD = "TestPass123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RegisterAffiliateUseCase registerAffiliateUseCase;
+
+    @Autowired
+    private UserRepositoryPort userRepository;
+
+    @Test
+    @DisplayName("Should rehash a password stored with an old cost factor on successful login")
+    void shouldRehashOnLogin() throws Exception {
+        // Given: a user whose hash was made with cost 4
+        String username = register();
+        User user = userRepository.findByUsername(username).orElseThrow();
+        userRepository.updatePassword(user.getId(), new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        // When
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(username, PASSWORD))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").exists());
+
+        // Then: stored with the configured cost and still valid
+        String rehashed = userRepository.findByUsername(username).orElseThrow().getPassword();
+        assertThat(rehashed).startsWith("$2a$10$");
+        assertThat(new BCryptPasswordEncoder().matches(PASSWORD, rehashed)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject a wrong password without touching the stored hash")
+    void shouldNotRehashOnFailedLogin() throws Exception {
+        String username = register();
+        User user = userRepository.findByUsername(username).orElseThrow();
+        String oldHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        userRepository.updatePassword(user.getId(), oldHash);
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(username, "WrongPass123"))))
+                .andExpect(status().isBadRequest());
+
+        assertThat(userRepository.findByUsername(username).orElseThrow().getPassword()).isEqualTo(oldHash);
+    }
+
+    private String register() {
+        long unique = System.nanoTime();
+        RegisterRequest request = new RegisterRequest();
+        request.setDocumentType("CC");
+        request.setDocumentNumber("AUTH" + unique);
+        request.setFirstName("Login");
+        request.setLastName("Member");
+        request.setEmail("auth" + unique + "@example.com");
+        request.setPhone("3001234567");
+        request.setSalary(new BigDecimal("5000000"));
+        request.setUsername("auth" + unique);
+        request.setPassword(PASSWORD);
+        registerAffiliateUseCase.execute(request);
+        return request.getUsername();
+    }
+}
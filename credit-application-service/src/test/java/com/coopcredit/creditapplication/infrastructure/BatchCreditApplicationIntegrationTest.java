@@ -0,0 +1,235 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.BatchCreditApplicationItem;
+import com.coopcredit.creditapplication.application.dto.BatchCreditApplicationRequest;
+import com.coopcredit.creditapplication.application.dto.BatchCreditApplicationResponse;
+import com.coopcredit.creditapplication.application.dto.BatchCreditApplicationResponse.ItemResult;
+import com.coopcredit.creditapplication.application.port.in.SubmitCreditApplicationBatchUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for batch credit application submission.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Batch credit applications - Integration Tests")
+class BatchCreditApplicationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SubmitCreditApplicationBatchUseCase submitBatchUseCase;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("Should accept valid items and reject the rest with the single-application rule codes")
+    void shouldReportPerItemResults() {
+        // Given
+        Affiliate first = createAffiliate(LocalDate.now().minusYears(1));
+        Affiliate withPending = createAffiliate(LocalDate.now().minusYears(1));
+        Affiliate newcomer = createAffiliate(LocalDate.now());
+        applicationRepository.save(TestFixtures.pendingApplication(withPending));
+
+        BatchCreditApplicationRequest request = new BatchCreditApplicationRequest(List.of(
+            item(first.getId(), "5000000"),
+            item(first.getId(), "3000000"),
+            item(Long.MAX_VALUE, "5000000"),
+            item(withPending.getId(), "5000000"),
+            item(first.getId(), "500"),
+            item(newcomer.getId(), "5000000")
+        ));
+
+        // When
+        BatchCreditApplicationResponse response = submitBatchUseCase.execute(request);
+
+        // Then
+        assertThat(response.getTotalItems()).isEqualTo(6);
+        assertThat(response.getAccepted()).isEqualTo(1);
+        assertThat(response.getRejected()).isEqualTo(5);
+        assertThat(response.getResults()).extracting(ItemResult::getIndex).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(response.getResults()).extracting(ItemResult::getCode).containsExactly(
+            null,
+            "PENDING_APPLICATION_EXISTS",
+            "AFFILIATE_NOT_FOUND",
+            "PENDING_APPLICATION_EXISTS",
+            "AMOUNT_TOO_LOW",
+            "INSUFFICIENT_AFFILIATION_TIME");
+
+        ItemResult accepted = response.getResults().get(0);
+        assertThat(accepted.getStatus()).isEqualTo(ItemResult.ACCEPTED);
+        assertThat(accepted.getMonthlyPayment()).isPositive();
+        CreditApplication stored = applicationRepository.findById(accepted.getApplicationId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(ApplicationStatus.PENDING);
+        assertThat(stored.getRequestedAmount()).isEqualByComparingTo("5000000");
+    }
+
+    @Test
+    @DisplayName("Should use a constant number of statements regardless of batch size")
+    void shouldLoadAndInsertSetBased() {
+        // Given
+        List<BatchCreditApplicationItem> items = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            items.add(item(createAffiliate(LocalDate.now().minusYears(1)).getId(), "5000000"));
+        }
+        statistics.clear();
+
+        // When
+        BatchCreditApplicationResponse response = submitBatchUseCase.execute(new BatchCreditApplicationRequest(items));
+
+        // Then: affiliates and pending flags through Hibernate, then one sequence call and one insert
+        assertThat(response.getAccepted()).isEqualTo(30);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(applicationRepository.findAllById(response.getResults().stream()
+            .map(ItemResult::getApplicationId).toList()))
+            .hasSize(30)
+            .allSatisfy(application -> assertThat(application.getStatus()).isEqualTo(ApplicationStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("Should reject only the item whose affiliate got a pending application concurrently")
+    void shouldRejectConcurrentPendingApplication() {
+        // Given
+        Affiliate calm = createAffiliate(LocalDate.now().minusYears(1));
+        Affiliate racing = createAffiliate(LocalDate.now().minusYears(1));
+        BatchCreditApplicationRequest request = new BatchCreditApplicationRequest(List.of(
+            item(calm.getId(), "5000000"),
+            item(racing.getId(), "5000000")));
+
+        // When: the other application commits while the batch waits on it
+        BatchCreditApplicationResponse response = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("""
+                INSERT INTO credit_applications (affiliate_id, requested_amount, purpose, status, monthly_income,
+                    requested_term_months, interest_rate)
+                VALUES (?, 2000000, 'Concurrent', 'PENDING', 5000000, 12, 12.00)""", racing.getId());
+            CompletableFuture<BatchCreditApplicationResponse> running =
+                CompletableFuture.supplyAsync(() -> submitBatchUseCase.execute(request));
+            awaitBlockedInsert();
+            return running;
+        }).join();
+
+        // Then
+        assertThat(response.getAccepted()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(ItemResult::getCode)
+            .containsExactly(null, "PENDING_APPLICATION_EXISTS");
+        assertThat(applicationRepository.findByAffiliateId(racing.getId()))
+            .extracting(CreditApplication::getPurpose).containsExactly("Concurrent");
+        assertThat(applicationRepository.findByAffiliateId(calm.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should restrict the batch endpoint to ANALISTA and ADMIN")
+    void shouldRestrictEndpoint() throws Exception {
+        Affiliate affiliate = createAffiliate(LocalDate.now().minusYears(1));
+        String body = objectMapper.writeValueAsString(
+            new BatchCreditApplicationRequest(List.of(item(affiliate.getId(), "5000000"))));
+
+        mockMvc.perform(post("/api/credit-applications/batch")
+                        .with(user("member").roles("AFILIADO"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/credit-applications/batch")
+                        .with(user("analyst").roles("ANALISTA"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("ACCEPTED"));
+
+        mockMvc.perform(post("/api/credit-applications/batch")
+                        .with(user("analyst").roles("ANALISTA"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void awaitBlockedInsert() {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (System.currentTimeMillis() < deadline) {
+            // Activity is otherwise read once per transaction
+            jdbcTemplate.query("SELECT pg_stat_clear_snapshot()", rs -> { });
+            Integer waiting = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM pg_stat_activity
+                WHERE wait_event_type = 'Lock' AND query LIKE '%INSERT INTO credit_applications%'""", Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        throw new AssertionError("Batch never waited on the concurrent application");
+    }
+
+    private Affiliate createAffiliate(LocalDate affiliationDate) {
+        Affiliate affiliate = TestFixtures.affiliate("BAT", "5000000");
+        affiliate.setAffiliationDate(affiliationDate);
+        return affiliateRepository.save(affiliate);
+    }
+
+    private static BatchCreditApplicationItem item(Long affiliateId, String amount) {
+        return new BatchCreditApplicationItem(affiliateId, new BigDecimal(amount), 24,
+            new BigDecimal("12.00"), new BigDecimal("5000000"), BigDecimal.ZERO, "Payroll loan");
+    }
+}
@@ -0,0 +1,155 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.validation.CreditRule;
+import com.coopcredit.creditapplication.domain.validation.RuleSet;
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import com.coopcredit.creditapplication.infrastructure.rules.BusinessRuleEngine;
+import com.coopcredit.creditapplication.infrastructure.rules.BusinessRulesProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for loading, hot reloading and instrumenting credit rules.
+ */
+@DisplayName("BusinessRuleEngine - Unit Tests")
+class BusinessRuleEngineTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should use the configured rules when no rules file is set")
+    void shouldCompileConfiguredRules() {
+        // When
+        BusinessRuleEngine engine = engine(new BusinessRulesProperties());
+
+        // Then
+        RuleSet rules = engine.current();
+        assertThat(rules.getVersion()).isEqualTo(1);
+        assertThat(rules.getRules()).extracting(CreditRule::getName).containsExactly(
+            "credit-term", "credit-amount", "affiliation-time", "affiliate-limit", "debt-ratio");
+        assertThat(rules.getDebtRatioRule().getMaxRatio()).isEqualByComparingTo("0.40");
+    }
+
+    @Test
+    @DisplayName("Should replace the rules when the rules file changes and keep them when it is invalid")
+    void shouldHotReloadRulesFile() throws IOException {
+        // Given: the file overrides the ratio and the rule list, other limits come from configuration
+        Path file = directory.resolve("rules.json");
+        write(file, """
+            {"max-debt-ratio": 0.5, "rules": [{"name": "credit-term"}, {"name": "debt-ratio"}]}
+            """, 1);
+        BusinessRulesProperties properties = new BusinessRulesProperties();
+        properties.setRulesFile(file);
+        BusinessRuleEngine engine = engine(properties);
+        RuleSet initial = engine.current();
+        assertThat(initial.getRules()).extracting(CreditRule::getName).containsExactly("credit-term", "debt-ratio");
+        assertThat(initial.getDefinition().minAmount()).isEqualByComparingTo("1000000");
+
+        // When: unchanged file
+        engine.reloadIfChanged();
+
+        // Then
+        assertThat(engine.current()).isSameAs(initial);
+
+        // When: changed file
+        write(file, """
+            {"max-debt-ratio": 0.35, "rules": [{"name": "debt-ratio"}, {"name": "credit-amount", "enabled": false}]}
+            """, 2);
+        engine.reloadIfChanged();
+
+        // Then
+        RuleSet reloaded = engine.current();
+        assertThat(reloaded.getVersion()).isEqualTo(2);
+        assertThat(reloaded.getRules()).extracting(CreditRule::getName).containsExactly("debt-ratio");
+        assertThat(reloaded.getDebtRatioRule().getMaxRatio()).isEqualByComparingTo("0.35");
+        assertThat(initial.getRules()).hasSize(2);
+
+        // When: invalid file
+        write(file, """
+            {"max-debt-ratio": 0.35, "rules": [{"name": "credit-score"}]}
+            """, 3);
+        engine.reloadIfChanged();
+        engine.reloadIfChanged();
+
+        // Then: reported once, previous rules stay
+        assertThat(engine.current()).isSameAs(reloaded);
+        assertThat(registry.counter("business.rules.reloads", "result", "failure").count()).isEqualTo(1);
+
+        // When: file removed
+        Files.delete(file);
+        engine.reloadIfChanged();
+
+        // Then: back to the configured rules
+        assertThat(engine.current().getRules()).hasSize(5);
+        assertThat(registry.counter("business.rules.reloads", "result", "success").count()).isEqualTo(2);
+        assertThat(registry.get("business.rules.version").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should refuse to start with an invalid rules file")
+    void shouldFailStartupOnInvalidFile() throws IOException {
+        // Given
+        Path file = directory.resolve("rules.json");
+        write(file, "{\"max-debt-ratio\": 0.4, \"unknown-limit\": 1}", 1);
+        BusinessRulesProperties properties = new BusinessRulesProperties();
+        properties.setRulesFile(file);
+
+        // When / Then
+        assertThatThrownBy(() -> engine(properties)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should export evaluations per rule and outcome")
+    void shouldExportRuleMetrics() {
+        // Given
+        BusinessRuleEngine engine = engine(new BusinessRulesProperties());
+        Affiliate affiliate = new Affiliate("CC", "123", "Rule", "Member", "rule@example.com",
+            "3001234567", new BigDecimal("5000000"));
+        affiliate.setAffiliationDate(LocalDate.now().minusYears(1));
+        CreditApplication application = new CreditApplication(affiliate, new BigDecimal("2000000"), "Rules", 72,
+            new BigDecimal("5000000"));
+        application.setInterestRate(new BigDecimal("12.00"));
+        application.setCurrentDebt(BigDecimal.ZERO);
+
+        // When
+        engine.current().firstViolation(application);
+        engine.current().allViolations(application);
+
+        // Then
+        assertThat(registry.timer("business.rules.evaluation", "rule", "credit-term", "outcome", "violated").count())
+            .isEqualTo(2);
+        assertThat(registry.timer("business.rules.evaluation", "rule", "debt-ratio", "outcome", "passed").count())
+            .isEqualTo(1);
+        assertThat(registry.timer("business.rules.evaluation", "rule", "debt-ratio", "outcome", "violated").count())
+            .isZero();
+    }
+
+    private BusinessRuleEngine engine(BusinessRulesProperties properties) {
+        return new BusinessRuleEngine(properties, new ObjectMapper(), new MetricsService(registry));
+    }
+
+    private static void write(Path file, String content, int revision) throws IOException {
+        Files.writeString(file, content);
+        // Distinct modification times, whatever the file system's resolution
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2026-01-01T00:00:00Z").plusSeconds(revision)));
+    }
+}
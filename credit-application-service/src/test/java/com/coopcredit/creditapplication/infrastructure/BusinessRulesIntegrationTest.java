@@ -0,0 +1,97 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.CreditApplicationRequest;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the configured credit rules on application submission.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Business rules - Integration Tests")
+class BusinessRulesIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Test
+    @DisplayName("Should report the cheapest violated rule, or every violation when asked")
+    void shouldReportFirstOrAllViolations() throws Exception {
+        // Given: term too long, amount above the salary limit, payment over 40% of income
+        Affiliate affiliate = createAffiliate();
+        String body = objectMapper.writeValueAsString(new CreditApplicationRequest(
+            new BigDecimal("30000000"), 72, new BigDecimal("12.00"), new BigDecimal("1000000"),
+            BigDecimal.ZERO, "Rules"));
+
+        // When / Then
+        mockMvc.perform(post("/api/credit-applications/affiliates/{id}", affiliate.getId())
+                        .with(user("analyst").roles("ANALISTA"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("TERM_TOO_LONG"))
+                .andExpect(jsonPath("$.violations").doesNotExist());
+
+        mockMvc.perform(post("/api/credit-applications/affiliates/{id}", affiliate.getId())
+                        .param("allViolations", "true")
+                        .with(user("analyst").roles("ANALISTA"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("TERM_TOO_LONG"))
+                .andExpect(jsonPath("$.violations", hasSize(3)))
+                .andExpect(jsonPath("$.violations[0].rule").value("credit-term"))
+                .andExpect(jsonPath("$.violations[1].code").value("AMOUNT_EXCEEDS_AFFILIATE_LIMIT"))
+                .andExpect(jsonPath("$.violations[2].code").value("DEBT_RATIO_EXCEEDED"));
+    }
+
+    @Test
+    @DisplayName("Should enforce the configured debt ratio and affiliation time")
+    void shouldUseConfiguredLimits() throws Exception {
+        // Given: affiliated 4 months; 10,000,000 over 24 months at 12% is 47% of 1,000,000
+        Affiliate affiliate = createAffiliate();
+        affiliate.setAffiliationDate(LocalDate.now().minusMonths(4));
+        affiliate = affiliateRepository.save(affiliate);
+
+        // When / Then
+        mockMvc.perform(post("/api/credit-applications/affiliates/{id}", affiliate.getId())
+                        .with(user("analyst").roles("ANALISTA"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreditApplicationRequest(
+                            new BigDecimal("10000000"), 24, new BigDecimal("12.00"), new BigDecimal("1000000"),
+                            BigDecimal.ZERO, "Rules"))))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("DEBT_RATIO_EXCEEDED"))
+                .andExpect(jsonPath("$.detail").value("Total debt-to-income ratio exceeds maximum allowed (40%)"));
+    }
+
+    private Affiliate createAffiliate() {
+        return affiliateRepository.save(TestFixtures.affiliate("BRI", "2000000"));
+    }
+}
@@ -0,0 +1,160 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.UpdateAffiliateRequest;
+import com.coopcredit.creditapplication.application.port.in.UpdateAffiliateUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.AffiliateStatus;
+import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.entity.AffiliateJpaEntity;
+import com.coopcredit.creditapplication.infrastructure.cache.CacheInvalidationMessage;
+import com.coopcredit.creditapplication.infrastructure.cache.CacheInvalidationPublisher;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for cross-node cache invalidation over LISTEN/NOTIFY.
+ * The test plays the role of a second node through its own connection.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Cache invalidation bus - Integration Tests")
+class CacheInvalidationIntegrationTest {
+
+    private static final String AFFILIATE_ENTITY = AffiliateJpaEntity.class.getName();
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private UpdateAffiliateUseCase updateAffiliateUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheInvalidationPublisher publisher;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Connection otherNode;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        otherNode = DriverManager.getConnection(
+            dataSourceProperties.determineUrl(),
+            dataSourceProperties.determineUsername(),
+            dataSourceProperties.determinePassword());
+        otherNode.setAutoCommit(true);
+        try (Statement statement = otherNode.createStatement()) {
+            statement.execute("LISTEN \"" + publisher.getChannel() + "\"");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        otherNode.close();
+    }
+
+    @Test
+    @DisplayName("Should evict local cache entry when another node announces a change")
+    void shouldEvictOnRemoteNotification() throws Exception {
+        // Given
+        Long affiliateId = createAffiliate().getId();
+        affiliateRepository.findById(affiliateId);
+        assertThat(isCached(affiliateId)).isTrue();
+
+        // When
+        CacheInvalidationMessage message = CacheInvalidationMessage.entity("other-node", AFFILIATE_ENTITY, affiliateId);
+        try (PreparedStatement statement = otherNode.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, publisher.getChannel());
+            statement.setString(2, message.toPayload());
+            statement.execute();
+        }
+
+        // Then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (isCached(affiliateId) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(isCached(affiliateId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should announce committed affiliate updates to other nodes")
+    void shouldPublishOnCommittedUpdate() throws Exception {
+        // Given
+        Affiliate affiliate = createAffiliate();
+        drainNotifications();
+
+        // When
+        updateAffiliateUseCase.execute(affiliate.getId(), new UpdateAffiliateRequest(
+            "Changed", "Name", affiliate.getEmail(), "3001111111",
+            new BigDecimal("5000000.00"), AffiliateStatus.ACTIVE));
+
+        // Then
+        CacheInvalidationMessage expected =
+            CacheInvalidationMessage.entity(publisher.getNodeId(), AFFILIATE_ENTITY, affiliate.getId());
+        assertThat(drainNotifications()).contains(expected);
+    }
+
+    @Test
+    @DisplayName("Should not announce changes that are rolled back")
+    void shouldNotPublishOnRollback() throws Exception {
+        // Given
+        Affiliate affiliate = createAffiliate();
+        drainNotifications();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            affiliate.setFirstName("Discarded");
+            affiliateRepository.save(affiliate);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(drainNotifications()).isEmpty();
+    }
+
+    private List<CacheInvalidationMessage> drainNotifications() throws Exception {
+        List<CacheInvalidationMessage> messages = new ArrayList<>();
+        PGNotification[] notifications = otherNode.unwrap(PGConnection.class).getNotifications(500);
+        if (notifications != null) {
+            for (PGNotification notification : notifications) {
+                messages.add(CacheInvalidationMessage.parse(notification.getParameter()));
+            }
+        }
+        return messages;
+    }
+
+    private boolean isCached(Long affiliateId) {
+        return entityManagerFactory.getCache().contains(AffiliateJpaEntity.class, affiliateId);
+    }
+
+    private Affiliate createAffiliate() {
+        return affiliateRepository.save(TestFixtures.affiliate("INV", "4000000.00"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.infrastructure.cache.CacheInvalidationMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the cache invalidation wire format.
+ */
+@DisplayName("CacheInvalidationMessage - Unit Tests")
+class CacheInvalidationMessageTest {
+
+    @Test
+    @DisplayName("Should round-trip an entity invalidation")
+    void shouldRoundTripEntityMessage() {
+        // Given
+        CacheInvalidationMessage message = CacheInvalidationMessage.entity("node-1", "com.example.Affiliate", 42L);
+
+        // When
+        CacheInvalidationMessage parsed = CacheInvalidationMessage.parse(message.toPayload());
+
+        // Then
+        assertThat(message.toPayload()).isEqualTo("node-1|E|com.example.Affiliate|42");
+        assertThat(parsed).isEqualTo(message);
+        assertThat(parsed.getKind()).isEqualTo(CacheInvalidationMessage.Kind.ENTITY);
+    }
+
+    @Test
+    @DisplayName("Should round-trip a collection invalidation")
+    void shouldRoundTripCollectionMessage() {
+        // Given
+        CacheInvalidationMessage message = CacheInvalidationMessage.collection("node-2", "com.example.User.roles", 7L);
+
+        // When
+        CacheInvalidationMessage parsed = CacheInvalidationMessage.parse(message.toPayload());
+
+        // Then
+        assertThat(parsed.getKind()).isEqualTo(CacheInvalidationMessage.Kind.COLLECTION);
+        assertThat(parsed.getName()).isEqualTo("com.example.User.roles");
+        assertThat(parsed.getId()).isEqualTo("7");
+        assertThat(parsed.getOriginNode()).isEqualTo("node-2");
+    }
+
+    @Test
+    @DisplayName("Should round-trip an application data invalidation")
+    void shouldRoundTripDataMessage() {
+        // Given
+        CacheInvalidationMessage message = CacheInvalidationMessage.data("node-3", "affiliate_exposure", 15L);
+
+        // When
+        CacheInvalidationMessage parsed = CacheInvalidationMessage.parse(message.toPayload());
+
+        // Then
+        assertThat(message.toPayload()).isEqualTo("node-3|D|affiliate_exposure|15");
+        assertThat(parsed).isEqualTo(message);
+        assertThat(parsed.getKind()).isEqualTo(CacheInvalidationMessage.Kind.DATA);
+    }
+
+    @Test
+    @DisplayName("Should round-trip an event whose body contains separators")
+    void shouldRoundTripEventMessage() {
+        // Given
+        CacheInvalidationMessage message = CacheInvalidationMessage.event("node-4", "status-changed",
+            "9,{\"purpose\":\"a|b\"}");
+
+        // When
+        CacheInvalidationMessage parsed = CacheInvalidationMessage.parse(message.toPayload());
+
+        // Then
+        assertThat(message.toPayload()).isEqualTo("node-4|V|status-changed|9,{\"purpose\":\"a|b\"}");
+        assertThat(parsed).isEqualTo(message);
+        assertThat(parsed.getKind()).isEqualTo(CacheInvalidationMessage.Kind.EVENT);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed payloads")
+    void shouldRejectMalformedPayloads() {
+        assertThatThrownBy(() -> CacheInvalidationMessage.parse(null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheInvalidationMessage.parse("node|E|name"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheInvalidationMessage.parse("node|X|name|1"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheInvalidationMessage.parse("node|E||1"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,127 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.domain.model.Role;
+import com.coopcredit.creditapplication.domain.model.RoleName;
+import com.coopcredit.creditapplication.domain.model.User;
+import com.coopcredit.creditapplication.domain.port.out.JwtPort;
+import com.coopcredit.creditapplication.domain.port.out.UserRepositoryPort;
+import com.coopcredit.creditapplication.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import com.coopcredit.creditapplication.infrastructure.concurrency.ConcurrencyLimitFilter;
+import com.coopcredit.creditapplication.infrastructure.concurrency.ConcurrencyLimitProperties;
+import com.coopcredit.creditapplication.infrastructure.idempotency.IdempotencyFilter;
+import com.coopcredit.creditapplication.infrastructure.idempotency.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the adaptive concurrency limiting filter.
+ */
+@SpringBootTest(properties = {
+    "concurrency-limit.limiters.affiliate-reads.initial-limit=1",
+    "concurrency-limit.limiters.affiliate-reads.min-limit=1",
+    "concurrency-limit.limiters.affiliate-reads.max-limit=1",
+    "concurrency-limit.limiters.evaluate.initial-limit=1",
+    "concurrency-limit.limiters.evaluate.min-limit=1",
+    "concurrency-limit.limiters.evaluate.max-limit=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Concurrency limiting - Integration Tests")
+class ConcurrencyLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JwtPort jwtPort;
+
+    @SpyBean
+    private UserRepositoryPort userRepositoryPort;
+
+    @SpyBean
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Test
+    @DisplayName("Should shed requests with 503 while the limiter is saturated, per limiter")
+    void shouldShedWhenSaturated() throws Exception {
+        // Given: the only affiliate-reads slot is taken
+        AdaptiveConcurrencyLimiter reads = concurrencyLimitFilter.getLimiter(ConcurrencyLimitProperties.AFFILIATE_READS);
+        double rejectedBefore = rejected(ConcurrencyLimitProperties.AFFILIATE_READS);
+        assertThat(reads.tryAcquire()).isTrue();
+
+        try {
+            // When / Then: affiliate reads are shed immediately
+            mockMvc.perform(get("/api/affiliates/{id}", Long.MAX_VALUE).with(user("reader").roles("ADMIN")))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(jsonPath("$.code").value("SERVICE_OVERLOADED"));
+            assertThat(rejected(ConcurrencyLimitProperties.AFFILIATE_READS)).isEqualTo(rejectedBefore + 1);
+
+            // Other traffic has its own limit
+            mockMvc.perform(get("/api/credit-applications/affiliates/{id}", Long.MAX_VALUE).with(user("analyst").roles("ANALISTA")))
+                    .andExpect(status().isNotFound());
+        } finally {
+            reads.release(0, false);
+        }
+
+        // Then: the slot is free again
+        mockMvc.perform(get("/api/affiliates/{id}", Long.MAX_VALUE).with(user("reader").roles("ADMIN")))
+                .andExpect(status().isNotFound());
+        assertThat(reads.getInFlight()).isZero();
+        assertThat(meterRegistry.get("concurrency.limit").tag("limiter", "affiliate-reads").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should shed a request before it authenticates or claims its idempotency key")
+    void shouldShedBeforeTouchingTheDatabase() throws Exception {
+        // Given: the only evaluate slot is taken
+        AdaptiveConcurrencyLimiter evaluate = concurrencyLimitFilter.getLimiter(ConcurrencyLimitProperties.EVALUATE);
+        User analyst = new User("analyst", "secret", "analyst@coopcredit.com");
+        analyst.setId(Long.MAX_VALUE);
+        analyst.addRole(new Role(RoleName.ROLE_ANALISTA));
+        String token = jwtPort.generateToken(analyst);
+        assertThat(evaluate.tryAcquire()).isTrue();
+
+        try {
+            // When / Then
+            mockMvc.perform(post("/api/credit-applications/{id}/evaluate", Long.MAX_VALUE)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                            .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "shed-" + System.nanoTime()))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.code").value("SERVICE_OVERLOADED"));
+        } finally {
+            evaluate.release(0, false);
+        }
+
+        // No user lookup, no idempotency claim or release
+        verifyNoInteractions(userRepositoryPort, idempotencyKeyRepository);
+    }
+
+    private double rejected(String limiter) {
+        Counter counter = meterRegistry.find("concurrency.rejected").tag("limiter", limiter).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
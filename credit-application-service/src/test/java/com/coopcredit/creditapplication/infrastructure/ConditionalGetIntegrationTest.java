@@ -0,0 +1,166 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.RegisterRequest;
+import com.coopcredit.creditapplication.application.dto.UpdateAffiliateRequest;
+import com.coopcredit.creditapplication.application.port.in.UpdateAffiliateUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.AffiliateStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for ETag / If-None-Match handling on read endpoints.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Conditional GET - Integration Tests")
+class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UpdateAffiliateUseCase updateAffiliateUseCase;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    private String jwtToken;
+    private JsonNode affiliate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        long unique = System.nanoTime();
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setDocumentType("CC");
+        registerRequest.setDocumentNumber("ET" + unique);
+        registerRequest.setFirstName("Etag");
+        registerRequest.setLastName("User");
+        registerRequest.setEmail("etag" + unique + "@example.com");
+        registerRequest.setPhone("3001234567");
+        registerRequest.setSalary(new BigDecimal("5000000"));
+        registerRequest.setUsername("etag" + unique);
+        registerRequest.setPassword("TestPass123");
+
+        MvcResult registerResult = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        jwtToken = objectMapper.readTree(registerResult.getResponse().getContentAsString()).get("token").asText();
+
+        MvcResult me = mockMvc.perform(get("/api/affiliates/me")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        affiliate = objectMapper.readTree(me.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Should return 304 for /me when the ETag still matches")
+    void shouldReturnNotModifiedForCurrentAffiliate() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/affiliates/me")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When / Then
+        MvcResult result = mockMvc.perform(get("/api/affiliates/me")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn();
+        assertThat(result.getResponse().getContentAsString()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return fresh representation and new ETag after the affiliate changes")
+    void shouldChangeETagAfterUpdate() throws Exception {
+        // Given
+        Long affiliateId = affiliate.get("id").asLong();
+        String etag = mockMvc.perform(get("/api/affiliates/{id}", affiliateId)
+                        .with(user("analyst").roles("ANALISTA")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/affiliates/{id}", affiliateId)
+                        .with(user("analyst").roles("ANALISTA"))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // When
+        updateAffiliateUseCase.execute(affiliateId, new UpdateAffiliateRequest(
+                "Renamed", "User", affiliate.get("email").asText(), "3001234567",
+                new BigDecimal("5000000"), AffiliateStatus.ACTIVE));
+
+        // Then
+        MvcResult result = mockMvc.perform(get("/api/affiliates/{id}", affiliateId)
+                        .with(user("analyst").roles("ANALISTA"))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("Renamed"))
+                .andReturn();
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Should invalidate application list ETag when a new application is created")
+    void shouldChangeApplicationsETagOnInsert() throws Exception {
+        // Given
+        Long affiliateId = affiliate.get("id").asLong();
+        String etag = mockMvc.perform(get("/api/credit-applications/affiliates/{id}", affiliateId)
+                        .with(user("analyst").roles("ANALISTA")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/credit-applications/affiliates/{id}", affiliateId)
+                        .with(user("analyst").roles("ANALISTA"))
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/" + etag))
+                .andExpect(status().isNotModified());
+
+        // When
+        CreditApplication application = new CreditApplication(
+                affiliateRepository.findById(affiliateId).orElseThrow(),
+                new BigDecimal("1000000"), "ETag test", 12, new BigDecimal("5000000"));
+        application.setInterestRate(new BigDecimal("12.00"));
+        applicationRepository.save(application);
+
+        // Then
+        MvcResult result = mockMvc.perform(get("/api/credit-applications/affiliates/{id}", affiliateId)
+                        .with(user("analyst").roles("ANALISTA"))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andReturn();
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+}
@@ -0,0 +1,158 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.CreditSimulationRequest;
+import com.coopcredit.creditapplication.application.dto.RegisterRequest;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.usecase.RegisterAffiliateUseCase;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for POST /api/credit-applications/affiliates/{id}/simulate.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Credit simulation - Integration Tests")
+class CreditSimulationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RegisterAffiliateUseCase registerAffiliateUseCase;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Test
+    @DisplayName("Should evaluate every amount and term with the submission error codes")
+    void shouldSimulateGrid() throws Exception {
+        // Given: limit 50,000,000 and income 5,000,000
+        Affiliate affiliate = createAffiliate();
+        CreditSimulationRequest request = new CreditSimulationRequest(
+            List.of(new BigDecimal("500000"), new BigDecimal("10000000"), new BigDecimal("45000000")),
+            List.of(12, 24, 72), new BigDecimal("12.00"), new BigDecimal("5000000"));
+
+        // When / Then
+        mockMvc.perform(post("/api/credit-applications/affiliates/{id}/simulate", affiliate.getId())
+                        .with(user("analyst").roles("ANALISTA"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affiliateId").value(affiliate.getId()))
+                .andExpect(jsonPath("$.maxCreditAmount").value(50000000))
+                .andExpect(jsonPath("$.monthlyPayments", hasSize(3)))
+                .andExpect(jsonPath("$.monthlyPayments[0]", hasSize(3)))
+                .andExpect(jsonPath("$.monthlyPayments[1][1]").value(470734.72))
+                .andExpect(jsonPath("$.debtRatios[1][1]").value(0.0941))
+                .andExpect(jsonPath("$.rejections[0][1]").value("AMOUNT_TOO_LOW"))
+                .andExpect(jsonPath("$.rejections[1][2]").value("TERM_TOO_LONG"))
+                .andExpect(jsonPath("$.rejections[2][0]").value("DEBT_RATIO_EXCEEDED"))
+                .andExpect(jsonPath("$.rejections[2][1]").value("DEBT_RATIO_EXCEEDED"))
+                .andExpect(jsonPath("$.rejections[1][1]").value(nullValue()))
+                .andExpect(jsonPath("$.eligible[1][0]").value(true))
+                .andExpect(jsonPath("$.eligible[2][0]").value(false))
+                .andExpect(jsonPath("$.eligibleCount").value(2));
+    }
+
+    @Test
+    @DisplayName("Should use terms from 6 to 60 months when none are given")
+    void shouldUseDefaultTerms() throws Exception {
+        // Given
+        Affiliate affiliate = createAffiliate();
+        CreditSimulationRequest request = new CreditSimulationRequest(
+            List.of(new BigDecimal("10000000")), null, new BigDecimal("12.00"), new BigDecimal("5000000"));
+
+        // When / Then
+        mockMvc.perform(post("/api/credit-applications/affiliates/{id}/simulate", affiliate.getId())
+                        .with(user("analyst").roles("ANALISTA"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.termMonths", hasSize(10)))
+                .andExpect(jsonPath("$.termMonths[0]").value(6))
+                .andExpect(jsonPath("$.termMonths[9]").value(60))
+                .andExpect(jsonPath("$.eligibleCount").value(10));
+    }
+
+    @Test
+    @DisplayName("Should only let affiliates simulate for themselves")
+    void shouldRestrictAffiliatesToThemselves() throws Exception {
+        // Given
+        String username = "simulate" + System.nanoTime();
+        registerAffiliateUseCase.execute(registerRequest(username));
+        Affiliate own = affiliateRepository.findByUsername(username).orElseThrow();
+        Affiliate other = createAffiliate();
+        String body = objectMapper.writeValueAsString(new CreditSimulationRequest(
+            List.of(new BigDecimal("2000000")), List.of(12), new BigDecimal("12.00"), new BigDecimal("5000000")));
+
+        // When / Then
+        mockMvc.perform(post("/api/credit-applications/affiliates/{id}/simulate", own.getId())
+                        .with(user(username).roles("AFILIADO"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/credit-applications/affiliates/{id}/simulate", other.getId())
+                        .with(user(username).roles("AFILIADO"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when no amounts are given")
+    void shouldRejectEmptyAmounts() throws Exception {
+        // Given
+        Affiliate affiliate = createAffiliate();
+        CreditSimulationRequest request = new CreditSimulationRequest(
+            List.of(), null, new BigDecimal("12.00"), new BigDecimal("5000000"));
+
+        // When / Then
+        mockMvc.perform(post("/api/credit-applications/affiliates/{id}/simulate", affiliate.getId())
+                        .with(user("analyst").roles("ANALISTA"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Affiliate createAffiliate() {
+        return affiliateRepository.save(TestFixtures.affiliate("SIM", "5000000"));
+    }
+
+    private static RegisterRequest registerRequest(String username) {
+        RegisterRequest request = new RegisterRequest();
+        request.setDocumentType("CC");
+        request.setDocumentNumber("SIM" + System.nanoTime());
+        request.setFirstName("Simulation");
+        request.setLastName("Owner");
+        request.setEmail(username + "@example.com");
+        request.setPhone("3001234567");
+        request.setSalary(new BigDecimal("5000000"));
+        request.setUsername(username);
+        request.setPassword("TestPass123");
+        return request;
+    }
+}
@@ -0,0 +1,267 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.RegisterRequest;
+import com.coopcredit.creditapplication.application.port.in.ApproveApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.RejectApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.application.usecase.RegisterAffiliateUseCase;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.infrastructure.cache.CacheInvalidationMessage;
+import com.coopcredit.creditapplication.infrastructure.cache.CacheInvalidationPublisher;
+import com.coopcredit.creditapplication.infrastructure.outbox.ApplicationStatusChangedEvent;
+import com.coopcredit.creditapplication.infrastructure.stream.DecisionStreamBroker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Integration tests for the Server-Sent Events stream of application decisions.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Decision stream - Integration Tests")
+class DecisionStreamIntegrationTest {
+
+    private static final String STREAM = "/api/credit-applications/stream";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApproveApplicationUseCase approveApplicationUseCase;
+
+    @Autowired
+    private RejectApplicationUseCase rejectApplicationUseCase;
+
+    @Autowired
+    private RegisterAffiliateUseCase registerAffiliateUseCase;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DecisionStreamBroker broker;
+
+    @Autowired
+    private CacheInvalidationPublisher publisher;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Test
+    @DisplayName("Should push committed decisions to analysts, but not rolled back ones")
+    void shouldStreamCommittedDecisions() throws Exception {
+        // Given
+        MockHttpServletResponse stream = open(get(STREAM).with(user("analyst").roles("ANALISTA")));
+        Long rolledBack = createApplication(createAffiliate()).getId();
+        Long approved = createApplication(createAffiliate()).getId();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            approveApplicationUseCase.execute(rolledBack);
+            status.setRollbackOnly();
+        });
+        approveApplicationUseCase.execute(approved);
+
+        // Then
+        String content = await(stream, body -> body.contains(applicationIdField(approved)));
+        assertThat(content).contains("event:status-changed");
+        assertThat(content).containsPattern("id:\\d+");
+        assertThat(content).contains("\"status\":\"APPROVED\"");
+        assertThat(content).doesNotContain(applicationIdField(rolledBack));
+        assertThat(stream.getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should only stream an affiliate's own applications")
+    void shouldFilterByAffiliate() throws Exception {
+        // Given
+        String username = "streamer" + System.nanoTime();
+        registerAffiliateUseCase.execute(registerRequest(username));
+        Affiliate own = affiliateRepository.findByUsername(username).orElseThrow();
+        Long ownApplication = createApplication(own).getId();
+        Long otherApplication = createApplication(createAffiliate()).getId();
+        MockHttpServletResponse stream = open(get(STREAM).with(user(username).roles("AFILIADO")));
+
+        // When
+        rejectApplicationUseCase.execute(otherApplication);
+        rejectApplicationUseCase.execute(ownApplication);
+
+        // Then
+        String content = await(stream, body -> body.contains(applicationIdField(ownApplication)));
+        assertThat(content).contains("\"status\":\"REJECTED\"");
+        assertThat(content).doesNotContain(applicationIdField(otherApplication));
+    }
+
+    @Test
+    @DisplayName("Should resume after Last-Event-ID and ask unknown positions to resync")
+    void shouldResumeFromLastEventId() throws Exception {
+        // Given: two decisions seen by a first connection
+        MockHttpServletResponse first = open(get(STREAM).with(user("analyst").roles("ANALISTA")));
+        Long seen = createApplication(createAffiliate()).getId();
+        Long missed = createApplication(createAffiliate()).getId();
+        approveApplicationUseCase.execute(seen);
+        approveApplicationUseCase.execute(missed);
+        String content = await(first, body -> body.contains(applicationIdField(missed)));
+        String seenId = eventIdOf(content, seen);
+
+        // When: reconnecting after the first decision
+        MockHttpServletResponse resumed = open(get(STREAM)
+            .header("Last-Event-ID", seenId)
+            .with(user("analyst").roles("ANALISTA")));
+
+        // Then
+        String replayed = await(resumed, body -> body.contains(applicationIdField(missed)));
+        assertThat(replayed).doesNotContain(applicationIdField(seen));
+
+        MockHttpServletResponse unknown = open(get(STREAM)
+            .header("Last-Event-ID", "-1")
+            .with(user("analyst").roles("ANALISTA")));
+        assertThat(await(unknown, body -> body.contains("event:resync"))).contains("event:resync");
+    }
+
+    @Test
+    @DisplayName("Should announce committed decisions to other nodes and stream theirs")
+    void shouldFanOutAcrossNodes() throws Exception {
+        try (Connection otherNode = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+            // Given
+            otherNode.setAutoCommit(true);
+            try (Statement statement = otherNode.createStatement()) {
+                statement.execute("LISTEN \"" + publisher.getChannel() + "\"");
+            }
+            MockHttpServletResponse stream = open(get(STREAM).with(user("analyst").roles("ANALISTA")));
+            Long local = createApplication(createAffiliate()).getId();
+
+            // When
+            approveApplicationUseCase.execute(local);
+
+            // Then: the other node hears about it
+            assertThat(drainNotifications(otherNode))
+                .filteredOn(message -> message.getKind() == CacheInvalidationMessage.Kind.EVENT)
+                .singleElement()
+                .satisfies(message -> {
+                    assertThat(message.getOriginNode()).isEqualTo(publisher.getNodeId());
+                    assertThat(message.getName()).isEqualTo(DecisionStreamBroker.STATUS_CHANGED);
+                    assertThat(message.getId()).contains(applicationIdField(local));
+                });
+
+            // When: another node announces a decision of its own
+            long remote = System.nanoTime();
+            ApplicationStatusChangedEvent event = new ApplicationStatusChangedEvent(remote, remote, remote,
+                "{\"applicationId\":" + remote + ",\"status\":\"REJECTED\"}");
+            try (PreparedStatement statement = otherNode.prepareStatement("SELECT pg_notify(?, ?)")) {
+                statement.setString(1, publisher.getChannel());
+                statement.setString(2, DecisionStreamBroker.announcement("other-node", event).toPayload());
+                statement.execute();
+            }
+
+            // Then
+            String content = await(stream, body -> body.contains(applicationIdField(remote)));
+            assertThat(content).contains("id:" + remote + "\nevent:status-changed");
+
+            // When: announcements may have been missed
+            broker.evictAll();
+
+            // Then
+            assertThat(await(stream, body -> body.contains("event:resync"))).contains("event:resync");
+        }
+    }
+
+    private static List<CacheInvalidationMessage> drainNotifications(Connection connection) throws Exception {
+        List<CacheInvalidationMessage> messages = new ArrayList<>();
+        PGNotification[] notifications = connection.unwrap(PGConnection.class).getNotifications(500);
+        if (notifications != null) {
+            for (PGNotification notification : notifications) {
+                messages.add(CacheInvalidationMessage.parse(notification.getParameter()));
+            }
+        }
+        return messages;
+    }
+
+    private MockHttpServletResponse open(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn()
+            .getResponse();
+    }
+
+    private static String await(MockHttpServletResponse response, Predicate<String> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = response.getContentAsString();
+        while (!condition.test(content) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+
+    private static String applicationIdField(Long applicationId) {
+        return "\"applicationId\":" + applicationId + ",";
+    }
+
+    private static String eventIdOf(String content, Long applicationId) {
+        Matcher matcher = Pattern.compile("id:(\\d+)\\nevent:status-changed\\ndata:[^\\n]*"
+            + Pattern.quote(applicationIdField(applicationId))).matcher(content);
+        assertThat(matcher.find()).as("event for application %d", applicationId).isTrue();
+        return matcher.group(1);
+    }
+
+    private Affiliate createAffiliate() {
+        return affiliateRepository.save(TestFixtures.affiliate("SSE", "5000000"));
+    }
+
+    private CreditApplication createApplication(Affiliate affiliate) {
+        return applicationRepository.save(TestFixtures.pendingApplication(affiliate));
+    }
+
+    private static RegisterRequest registerRequest(String username) {
+        RegisterRequest request = new RegisterRequest();
+        request.setDocumentType("CC");
+        request.setDocumentNumber("SSE" + System.nanoTime());
+        request.setFirstName("Stream");
+        request.setLastName("Owner");
+        request.setEmail(username + "@example.com");
+        request.setPhone("3001234567");
+        request.setSalary(new BigDecimal("5000000"));
+        request.setUsername(username);
+        request.setPassword("TestPass123");
+        return request;
+    }
+}
@@ -0,0 +1,214 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.CreditApplicationRequest;
+import com.coopcredit.creditapplication.application.dto.CreditApplicationResponse;
+import com.coopcredit.creditapplication.application.port.in.ApproveApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.EvaluateCreditApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.RegisterCreditApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.RejectApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.ExposureLedgerPort;
+import com.coopcredit.creditapplication.application.port.out.RiskEvaluationPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.AffiliateExposure;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.ExposureLedgerAdapter;
+import com.coopcredit.creditapplication.infrastructure.cache.CacheInvalidationMessage;
+import com.coopcredit.creditapplication.infrastructure.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Integration tests for the affiliate exposure ledger and its use in the
+ * debt ratio and the risk evaluation.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Exposure ledger - Integration Tests")
+class ExposureLedgerIntegrationTest {
+
+    private static final BigDecimal RATE = new BigDecimal("12.00");
+    private static final BigDecimal INCOME = new BigDecimal("5000000");
+
+    @Autowired
+    private RegisterCreditApplicationUseCase registerApplicationUseCase;
+
+    @Autowired
+    private EvaluateCreditApplicationUseCase evaluateApplicationUseCase;
+
+    @Autowired
+    private ApproveApplicationUseCase approveApplicationUseCase;
+
+    @Autowired
+    private RejectApplicationUseCase rejectApplicationUseCase;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private ExposureLedgerPort exposureLedger;
+
+    @Autowired
+    private ExposureLedgerAdapter exposureLedgerAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private RiskEvaluationPort riskEvaluationPort;
+
+    @Test
+    @DisplayName("Should add approved credits and remove them when the approval is reversed")
+    void shouldTrackApprovalsAndReversals() {
+        // Given
+        Long affiliateId = createAffiliate().getId();
+        Long applicationId = register(affiliateId, "12000000").getId();
+
+        // When
+        approveApplicationUseCase.execute(applicationId);
+
+        // Then: the payment of 12M over 12 months at 12% is 1,066,185.46
+        AffiliateExposure exposure = exposureLedger.exposureOf(affiliateId);
+        assertThat(exposure.approvedCredits()).isEqualTo(1);
+        assertThat(exposure.approvedPrincipal()).isEqualByComparingTo("12000000");
+        assertThat(exposure.monthlyObligations()).isEqualByComparingTo("1066185.46");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT monthly_obligations FROM affiliate_exposure WHERE affiliate_id = ?", BigDecimal.class, affiliateId))
+            .isEqualByComparingTo("1066185.46");
+
+        // When
+        rejectApplicationUseCase.execute(applicationId);
+
+        // Then
+        AffiliateExposure released = exposureLedger.exposureOf(affiliateId);
+        assertThat(released.approvedCredits()).isZero();
+        assertThat(released.monthlyObligations()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("Should take out exactly what a credit added, even if its payment now rounds differently")
+    void shouldReleaseStoredAmounts() {
+        // Given: a credit counted a cent above today's payment, as a NUMERIC backfill may round it
+        Long affiliateId = createAffiliate().getId();
+        Long applicationId = register(affiliateId, "12000000").getId();
+        approveApplicationUseCase.execute(applicationId);
+        update("UPDATE affiliate_exposure_credits SET monthly_obligation = monthly_obligation + 0.01 " +
+            "WHERE application_id = ?", applicationId);
+        update("UPDATE affiliate_exposure SET monthly_obligations = monthly_obligations + 0.01, " +
+            "version = version + 1 WHERE affiliate_id = ?", affiliateId);
+
+        // When
+        rejectApplicationUseCase.execute(applicationId);
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT monthly_obligations FROM affiliate_exposure WHERE affiliate_id = ?", BigDecimal.class, affiliateId))
+            .isEqualByComparingTo("0");
+        assertThat(exposureLedger.exposureOf(affiliateId).monthlyObligations()).isEqualByComparingTo("0");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM affiliate_exposure_credits WHERE application_id = ?", Integer.class, applicationId))
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("Should count the payments of approved credits in the debt ratio of the next application")
+    void shouldCountExistingObligationsInDebtRatio() {
+        // Given: 21% of the income already committed
+        Long affiliateId = createAffiliate().getId();
+        approveApplicationUseCase.execute(register(affiliateId, "12000000").getId());
+
+        // When / Then: a second credit of 20% on its own goes over 40% in total
+        assertThatThrownBy(() -> register(affiliateId, "11300000"))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getCode())
+            .isEqualTo("DEBT_RATIO_EXCEEDED");
+
+        // A smaller one still fits and the risk service gets the obligations
+        Long secondId = register(affiliateId, "5000000").getId();
+        when(riskEvaluationPort.evaluateRisk(any())).thenReturn(new RiskEvaluation(780, "APPROVE", "LOW"));
+        evaluateApplicationUseCase.execute(secondId);
+
+        ArgumentCaptor<CreditApplication> evaluated = ArgumentCaptor.forClass(CreditApplication.class);
+        verify(riskEvaluationPort).evaluateRisk(evaluated.capture());
+        assertThat(evaluated.getValue().getExistingMonthlyObligations()).isEqualByComparingTo("1066185.46");
+        assertThat(exposureLedger.exposureOf(affiliateId).approvedCredits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should leave the exposure untouched when the approval rolls back")
+    void shouldNotCountRolledBackApproval() {
+        // Given
+        Long affiliateId = createAffiliate().getId();
+        Long applicationId = register(affiliateId, "12000000").getId();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            approveApplicationUseCase.execute(applicationId);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(exposureLedger.exposureOf(affiliateId).approvedCredits()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM affiliate_exposure WHERE affiliate_id = ?", Integer.class, affiliateId)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reload a row changed by another node, never going back to an older version")
+    void shouldReloadRemoteChanges() {
+        // Given
+        Long affiliateId = createAffiliate().getId();
+        approveApplicationUseCase.execute(register(affiliateId, "12000000").getId());
+
+        // When: another node approved a second credit
+        update("""
+            UPDATE affiliate_exposure SET approved_credits = approved_credits + 1,
+                monthly_obligations = monthly_obligations + 500000, version = version + 1
+            WHERE affiliate_id = ?""", affiliateId);
+        exposureLedgerAdapter.evict(CacheInvalidationMessage.data("other-node", "affiliate_exposure", affiliateId));
+
+        // Then
+        assertThat(exposureLedger.exposureOf(affiliateId).approvedCredits()).isEqualTo(2);
+        assertThat(exposureLedger.exposureOf(affiliateId).monthlyObligations()).isEqualByComparingTo("1566185.46");
+
+        // When: a stale row is read back
+        update("UPDATE affiliate_exposure SET approved_credits = 0, version = 1 WHERE affiliate_id = ?", affiliateId);
+        exposureLedgerAdapter.evictAll();
+
+        // Then
+        assertThat(exposureLedger.exposureOf(affiliateId).approvedCredits()).isEqualTo(2);
+    }
+
+    private void update(String sql, Object... args) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, args));
+    }
+
+    private Affiliate createAffiliate() {
+        return affiliateRepository.save(TestFixtures.affiliate("EXP", "5000000"));
+    }
+
+    private CreditApplicationResponse register(Long affiliateId, String amount) {
+        CreditApplicationRequest request = new CreditApplicationRequest(new BigDecimal(amount), 12,
+            RATE, INCOME, BigDecimal.ZERO, "Exposure");
+        return registerApplicationUseCase.execute(affiliateId, request);
+    }
+}
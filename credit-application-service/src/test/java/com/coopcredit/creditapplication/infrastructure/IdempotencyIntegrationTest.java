@@ -0,0 +1,162 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.CreditApplicationRequest;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.infrastructure.idempotency.IdempotencyFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for Idempotency-Key handling on credit application creation.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Idempotency-Key - Integration Tests")
+class IdempotencyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @Test
+    @DisplayName("Should replay the stored response for a retried request")
+    void shouldReplayRetriedRequest() throws Exception {
+        // Given
+        Affiliate affiliate = createAffiliate();
+        String key = UUID.randomUUID().toString();
+
+        // When
+        MockHttpServletResponse first = mockMvc.perform(create(affiliate, key, "5000000"))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn().getResponse();
+        MockHttpServletResponse retry = mockMvc.perform(create(affiliate, key, "5000000"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn().getResponse();
+
+        // Then: same body, one application
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(applicationRepository.findByAffiliateId(affiliate.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request body")
+    void shouldRejectKeyReusedForDifferentBody() throws Exception {
+        Affiliate affiliate = createAffiliate();
+        String key = UUID.randomUUID().toString();
+
+        mockMvc.perform(create(affiliate, key, "5000000"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(create(affiliate, key, "4000000"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    @DisplayName("Should run concurrent duplicates only once")
+    void shouldRunConcurrentDuplicatesOnce() throws Exception {
+        // Given
+        Affiliate affiliate = createAffiliate();
+        String key = UUID.randomUUID().toString();
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        try {
+            List<CompletableFuture<MockHttpServletResponse>> futures = List.of(
+                CompletableFuture.supplyAsync(() -> performAfter(barrier, affiliate, key), executor),
+                CompletableFuture.supplyAsync(() -> performAfter(barrier, affiliate, key), executor));
+
+            // Then: both get the same successful response
+            MockHttpServletResponse a = futures.get(0).join();
+            MockHttpServletResponse b = futures.get(1).join();
+            assertThat(a.getStatus()).isEqualTo(201);
+            assertThat(b.getStatus()).isEqualTo(201);
+            assertThat(a.getContentAsString()).isEqualTo(b.getContentAsString());
+            assertThat(applicationRepository.findByAffiliateId(affiliate.getId())).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave requests without the header unchanged")
+    void shouldIgnoreRequestsWithoutKey() throws Exception {
+        Affiliate affiliate = createAffiliate();
+
+        mockMvc.perform(create(affiliate, null, "5000000"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(create(affiliate, null, "5000000"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should reject a blank key")
+    void shouldRejectBlankKey() throws Exception {
+        Affiliate affiliate = createAffiliate();
+
+        mockMvc.perform(create(affiliate, " ", "5000000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_INVALID"));
+    }
+
+    private MockHttpServletResponse performAfter(CyclicBarrier barrier, Affiliate affiliate, String key) {
+        try {
+            barrier.await();
+            return mockMvc.perform(create(affiliate, key, "5000000")).andReturn().getResponse();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MockHttpServletRequestBuilder create(Affiliate affiliate, String key, String amount) throws Exception {
+        CreditApplicationRequest request = new CreditApplicationRequest(new BigDecimal(amount), 24,
+            new BigDecimal("12.00"), new BigDecimal("5000000"), BigDecimal.ZERO, "Idempotent loan");
+        MockHttpServletRequestBuilder builder = post("/api/credit-applications/affiliates/{id}", affiliate.getId())
+                .with(user("analyst").roles("ANALISTA"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request));
+        return key != null ? builder.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key) : builder;
+    }
+
+    private Affiliate createAffiliate() {
+        return affiliateRepository.save(TestFixtures.affiliate("IDM", "5000000"));
+    }
+}
@@ -0,0 +1,118 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.domain.model.AffiliateStatus;
+import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.entity.AffiliateJpaEntity;
+import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.repository.AffiliateJpaRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for JDBC insert batching.
+ * Entities take their ids from pooled sequences, so Hibernate can defer
+ * inserts until flush and send them in batches of hibernate.jdbc.batch_size.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JDBC batching - Integration Tests")
+class JdbcBatchingIntegrationTest {
+
+    private static final int AFFILIATES = 40;
+
+    @Autowired
+    private AffiliateJpaRepository affiliateJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("Should insert affiliates in JDBC batches instead of one statement per row")
+    void shouldBatchInsertsOnFlush() {
+        // Given
+        List<AffiliateJpaEntity> affiliates = new ArrayList<>();
+        long unique = System.nanoTime();
+        for (int i = 0; i < AFFILIATES; i++) {
+            affiliates.add(newAffiliate(unique + "-" + i));
+        }
+        statistics.clear();
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            affiliateJpaRepository.saveAll(affiliates);
+            affiliateJpaRepository.flush();
+        });
+
+        // Then: one sequence round trip plus two batches of 20 rows
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(AFFILIATES);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(affiliates).allSatisfy(affiliate -> assertThat(affiliate.getId()).isNotNull());
+        assertThat(affiliates.stream().map(AffiliateJpaEntity::getId).distinct()).hasSize(AFFILIATES);
+    }
+
+    @Test
+    @DisplayName("Should keep generated ids clear of rows inserted through the column default")
+    void shouldNotCollideWithColumnDefault() {
+        // Given: a row inserted outside Hibernate draws from the same sequence
+        long unique = System.nanoTime();
+        Long rawId = new TransactionTemplate(transactionManager).execute(status -> jdbcTemplate.queryForObject(
+            "INSERT INTO affiliates (document_type, document_number, first_name, last_name, email, salary, affiliation_date) "
+                + "VALUES ('CC', ?, 'Raw', 'Insert', ?, 4000000.00, CURRENT_DATE) RETURNING id",
+            Long.class, "RAW" + unique, "raw" + unique + "@example.com"));
+
+        // When: Hibernate allocates enough ids to cross into a new block
+        List<AffiliateJpaEntity> affiliates = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            affiliates.add(newAffiliate(unique + "-default-" + i));
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            affiliateJpaRepository.saveAllAndFlush(affiliates));
+
+        // Then
+        assertThat(affiliates).extracting(AffiliateJpaEntity::getId).doesNotContain(rawId);
+        assertThat(affiliateJpaRepository.findById(rawId)).isPresent();
+    }
+
+    private AffiliateJpaEntity newAffiliate(String suffix) {
+        AffiliateJpaEntity affiliate = new AffiliateJpaEntity();
+        affiliate.setDocumentType("CC");
+        affiliate.setDocumentNumber("BATCH" + suffix);
+        affiliate.setFirstName("Batch");
+        affiliate.setLastName("Test");
+        affiliate.setEmail("batch" + suffix + "@example.com");
+        affiliate.setPhone("3001234567");
+        affiliate.setSalary(new BigDecimal("4000000.00"));
+        affiliate.setAffiliationDate(LocalDate.now());
+        affiliate.setStatus(AffiliateStatus.ACTIVE);
+        return affiliate;
+    }
+}
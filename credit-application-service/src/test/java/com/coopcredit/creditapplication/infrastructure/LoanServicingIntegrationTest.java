@@ -0,0 +1,382 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.CreditApplicationRequest;
+import com.coopcredit.creditapplication.application.dto.LoanPaymentRequest;
+import com.coopcredit.creditapplication.application.dto.LoanResponse;
+import com.coopcredit.creditapplication.application.port.in.ApproveApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.DisburseLoanUseCase;
+import com.coopcredit.creditapplication.application.port.in.GetLoanUseCase;
+import com.coopcredit.creditapplication.application.port.in.RecordLoanPaymentUseCase;
+import com.coopcredit.creditapplication.application.port.in.RegisterCreditApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.RejectApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.ExposureLedgerPort;
+import com.coopcredit.creditapplication.infrastructure.exception.BusinessException;
+import com.coopcredit.creditapplication.infrastructure.servicing.AccrualRun;
+import com.coopcredit.creditapplication.infrastructure.servicing.InterestAccrualJob;
+import com.coopcredit.creditapplication.infrastructure.servicing.LoanServicingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for loan servicing: disbursement, payments and the
+ * checkpointed interest accrual.
+ *
+ * Accruals run for days after the loans were disbursed, so they never
+ * collide with the scheduled run (disabled in tests anyway); checkpoints of
+ * those days are cleared first, and loans are paid off afterwards so later
+ * runs leave them alone.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Loan servicing - Integration Tests")
+class LoanServicingIntegrationTest {
+
+    @Autowired
+    private RegisterCreditApplicationUseCase registerApplicationUseCase;
+
+    @Autowired
+    private ApproveApplicationUseCase approveApplicationUseCase;
+
+    @Autowired
+    private RejectApplicationUseCase rejectApplicationUseCase;
+
+    @Autowired
+    private DisburseLoanUseCase disburseLoanUseCase;
+
+    @Autowired
+    private RecordLoanPaymentUseCase recordLoanPaymentUseCase;
+
+    @Autowired
+    private GetLoanUseCase getLoanUseCase;
+
+    @Autowired
+    private InterestAccrualJob accrualJob;
+
+    @Autowired
+    private LoanServicingProperties properties;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private ExposureLedgerPort exposureLedger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> affiliates = new ArrayList<>();
+
+    @AfterEach
+    void payOffLoans() {
+        for (Long affiliateId : affiliates) {
+            update("UPDATE loan_accounts SET status = 'PAID_OFF' WHERE affiliate_id = ?", affiliateId);
+        }
+    }
+
+    @Test
+    @DisplayName("Should disburse an approved application once into an append-only ledger")
+    void shouldDisburseApprovedApplicationOnce() {
+        // Given
+        Long affiliateId = createAffiliate();
+        Long pendingId = register(affiliateId);
+
+        // When / Then: only approved applications are disbursed
+        assertThatThrownBy(() -> disburseLoanUseCase.execute(pendingId))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getCode())
+            .isEqualTo("INVALID_APPLICATION_STATUS");
+
+        // When
+        approveApplicationUseCase.execute(pendingId);
+        LoanResponse loan = disburseLoanUseCase.execute(pendingId);
+
+        // Then
+        assertThat(loan.getLoanId()).isEqualTo(pendingId);
+        assertThat(loan.getStatus()).isEqualTo("ACTIVE");
+        assertThat(loan.getOutstandingPrincipal()).isEqualByComparingTo("12000000");
+        assertThat(loan.getInstallment()).isEqualByComparingTo("1066185.46");
+        assertThat(loan.getRecentEntries()).extracting(LoanResponse.Entry::getType).containsExactly("DISBURSEMENT");
+
+        assertThatThrownBy(() -> disburseLoanUseCase.execute(pendingId))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getCode())
+            .isEqualTo("LOAN_ALREADY_DISBURSED");
+        assertThatThrownBy(() -> update("UPDATE loan_ledger_entries SET principal_delta = 0 WHERE loan_id = ?", pendingId))
+            .hasMessageContaining("append-only");
+    }
+
+    @Test
+    @DisplayName("Should refuse to reject or approve a disbursed application, even one disbursed concurrently")
+    void shouldNotDecideDisbursedApplication() {
+        // Given
+        Long loanId = disbursedLoan();
+
+        // When / Then
+        assertThatThrownBy(() -> rejectApplicationUseCase.execute(loanId))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getCode())
+            .isEqualTo("INVALID_APPLICATION_STATUS");
+        assertThatThrownBy(() -> approveApplicationUseCase.execute(loanId))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getCode())
+            .isEqualTo("INVALID_APPLICATION_STATUS");
+
+        // Given: a rejection that waits on a disbursement in progress
+        Long applicationId = register(createAffiliate());
+        approveApplicationUseCase.execute(applicationId);
+
+        // When
+        CompletableFuture<?> rejection = transactionTemplate.execute(status -> {
+            disburseLoanUseCase.execute(applicationId);
+            return CompletableFuture.runAsync(() -> rejectApplicationUseCase.execute(applicationId));
+        });
+
+        // Then
+        assertThatThrownBy(rejection::join)
+            .isInstanceOf(CompletionException.class)
+            .cause()
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getCode())
+            .isEqualTo("INVALID_APPLICATION_STATUS");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT status FROM credit_applications WHERE id = ?", String.class, applicationId)).isEqualTo("APPROVED");
+    }
+
+    @Test
+    @DisplayName("Should apply payments to accrued interest first and pay the loan off")
+    void shouldApplyPaymentsAndPayOff() {
+        // Given: one day of interest on 12M at 12%
+        Long loanId = disbursedLoan();
+        LocalDate day = getLoanUseCase.execute(loanId).getDisbursedOn().plusDays(1);
+        accrueFully(day);
+        assertThat(getLoanUseCase.execute(loanId).getAccruedInterest()).isEqualByComparingTo("3945.21");
+
+        // When
+        LoanResponse paid = recordLoanPaymentUseCase.execute(loanId, new LoanPaymentRequest(new BigDecimal("1000000")));
+
+        // Then
+        assertThat(paid.getAccruedInterest()).isEqualByComparingTo("0");
+        assertThat(paid.getOutstandingPrincipal()).isEqualByComparingTo("11003945.21");
+        assertThat(paid.getRecentEntries().get(0).getType()).isEqualTo("PAYMENT");
+
+        // When / Then: nothing beyond the payoff amount is accepted
+        assertThatThrownBy(() -> recordLoanPaymentUseCase.execute(loanId, new LoanPaymentRequest(new BigDecimal("11003945.22"))))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getCode())
+            .isEqualTo("PAYMENT_EXCEEDS_BALANCE");
+
+        LoanResponse paidOff = recordLoanPaymentUseCase.execute(loanId, new LoanPaymentRequest(paid.getPayoffAmount()));
+        assertThat(paidOff.getStatus()).isEqualTo("PAID_OFF");
+        assertThat(paidOff.getPayoffAmount()).isEqualByComparingTo("0");
+        assertThatThrownBy(() -> recordLoanPaymentUseCase.execute(loanId, new LoanPaymentRequest(BigDecimal.ONE)))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getCode())
+            .isEqualTo("LOAN_NOT_ACTIVE");
+    }
+
+    @Test
+    @DisplayName("Should release the affiliate's exposure when the loan is paid off")
+    void shouldReleaseExposureOnPayoff() {
+        // Given
+        Long loanId = disbursedLoan();
+        LoanResponse loan = getLoanUseCase.execute(loanId);
+        Long affiliateId = loan.getAffiliateId();
+        assertThat(exposureLedger.exposureOf(affiliateId).approvedCredits()).isEqualTo(1);
+        assertThat(exposureLedger.exposureOf(affiliateId).monthlyObligations()).isEqualByComparingTo("1066185.46");
+
+        // When: a partial payment keeps the credit counted
+        recordLoanPaymentUseCase.execute(loanId, new LoanPaymentRequest(new BigDecimal("1000000")));
+
+        // Then
+        assertThat(exposureLedger.exposureOf(affiliateId).approvedCredits()).isEqualTo(1);
+
+        // When
+        LoanResponse paid = getLoanUseCase.execute(loanId);
+        recordLoanPaymentUseCase.execute(loanId, new LoanPaymentRequest(paid.getPayoffAmount()));
+
+        // Then
+        assertThat(exposureLedger.exposureOf(affiliateId).approvedCredits()).isZero();
+        assertThat(exposureLedger.exposureOf(affiliateId).approvedPrincipal()).isEqualByComparingTo("0");
+        assertThat(exposureLedger.exposureOf(affiliateId).monthlyObligations()).isEqualByComparingTo("0");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT monthly_obligations FROM affiliate_exposure WHERE affiliate_id = ?", BigDecimal.class, affiliateId))
+            .isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("Should make the installment due on its anniversary and accrue a day only once")
+    void shouldAccrueInstallmentDueOnce() {
+        // Given
+        Long loanId = disbursedLoan();
+        LocalDate anniversary = getLoanUseCase.execute(loanId).getDisbursedOn().plusMonths(1);
+
+        // When
+        accrueFully(anniversary);
+        AccrualRun again = accrualJob.accrue(anniversary);
+
+        // Then
+        assertThat(again.completed()).isTrue();
+        assertThat(again.loans()).isZero();
+        LoanResponse loan = getLoanUseCase.execute(loanId);
+        assertThat(loan.getAmountDue()).isEqualByComparingTo("1066185.46");
+        assertThat(loan.getAccruedInterest()).isEqualByComparingTo("3945.21");
+        assertThat(loan.getRecentEntries()).extracting(LoanResponse.Entry::getType)
+            .containsExactly("INSTALLMENT_DUE", "ACCRUAL", "DISBURSEMENT");
+    }
+
+    @Test
+    @DisplayName("Should resume an accrual stopped by its time budget without accruing any loan twice")
+    void shouldResumeFromCheckpoints() {
+        // Given: synthetic loans, accrued in small batches with a snapshot after every entry
+        int loans = 2000;
+        Long affiliateId = seedLoans(loans);
+        LocalDate day = LocalDate.now().plusDays(3);
+        clearCheckpoints(day);
+        int batchSize = properties.getBatchSize();
+        Duration timeBudget = properties.getTimeBudget();
+        int snapshotEvery = properties.getSnapshotEvery();
+        properties.setBatchSize(100);
+        properties.setSnapshotEvery(1);
+        AccrualRun first;
+        AccrualRun second;
+        try {
+            // When: a run without budget does one batch per partition
+            properties.setTimeBudget(Duration.ZERO);
+            first = accrualJob.accrue(day);
+            properties.setTimeBudget(Duration.ofMinutes(5));
+            second = accrualJob.accrue(day);
+        } finally {
+            properties.setBatchSize(batchSize);
+            properties.setTimeBudget(timeBudget);
+            properties.setSnapshotEvery(snapshotEvery);
+        }
+
+        // Then
+        assertThat(first.completed()).isFalse();
+        assertThat(first.loans()).isPositive();
+        assertThat(second.completed()).isTrue();
+        assertThat(jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM loan_ledger_entries e JOIN loan_accounts a ON a.loan_id = e.loan_id
+            WHERE a.affiliate_id = ? AND e.entry_type = 'ACCRUAL' AND e.value_date = ?""",
+            Integer.class, affiliateId, day)).isEqualTo(loans);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT SUM(interest_accrued) FROM loan_accrual_checkpoints WHERE accrual_date = ?", BigDecimal.class, day))
+            .isEqualByComparingTo(first.interest().add(second.interest()));
+
+        // Balances read from the new snapshots match the ledger
+        Long loanId = jdbcTemplate.queryForObject(
+            "SELECT MIN(loan_id) FROM loan_accounts WHERE affiliate_id = ?", Long.class, affiliateId);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM loan_balance_snapshots WHERE loan_id = ?", Integer.class, loanId)).isOne();
+        assertThat(getLoanUseCase.execute(loanId).getPayoffAmount()).isEqualByComparingTo(jdbcTemplate.queryForObject(
+            "SELECT SUM(principal_delta + interest_delta) FROM loan_ledger_entries WHERE loan_id = ?",
+            BigDecimal.class, loanId));
+    }
+
+    /**
+     * Scale scenario: one accrual day over a million active loans, with the
+     * default partitions and batch size, has to finish within two minutes. Run with
+     * {@code mvn test -Dtest=LoanServicingIntegrationTest#shouldAccrueMillionLoansWithinBudget
+     * -Djunit.jupiter.conditions.deactivate=org.junit.*DisabledCondition}.
+     */
+    @Test
+    @Disabled("Seeds a million loans (about two minutes) - enable manually to measure the accrual")
+    @DisplayName("Should accrue a day over a million active loans within the time budget")
+    void shouldAccrueMillionLoansWithinBudget() {
+        // Given
+        seedLoans(1_000_000);
+        LocalDate day = LocalDate.now().plusDays(5);
+        clearCheckpoints(day);
+        Duration timeBudget = properties.getTimeBudget();
+        properties.setTimeBudget(Duration.ofMinutes(2));
+        AccrualRun run;
+        try {
+            // When
+            run = accrualJob.accrue(day);
+        } finally {
+            properties.setTimeBudget(timeBudget);
+        }
+
+        // Then
+        assertThat(run.completed()).isTrue();
+        assertThat(run.loans()).isGreaterThanOrEqualTo(1_000_000);
+    }
+
+    private void accrueFully(LocalDate day) {
+        clearCheckpoints(day);
+        assertThat(accrualJob.accrue(day).completed()).isTrue();
+    }
+
+    private void clearCheckpoints(LocalDate day) {
+        update("DELETE FROM loan_accrual_checkpoints WHERE accrual_date = ?", day);
+    }
+
+    private void update(String sql, Object... args) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, args));
+    }
+
+    /**
+     * Approved applications with their loans and disbursements, written
+     * directly for speed.
+     */
+    private Long seedLoans(int count) {
+        Long affiliateId = createAffiliate();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("""
+                INSERT INTO credit_applications (affiliate_id, requested_amount, purpose, status, monthly_income,
+                    requested_term_months, interest_rate)
+                SELECT ?, 1000000 + (g % 100) * 10000, 'Synthetic', 'APPROVED', 5000000, 12, 12.00
+                FROM generate_series(1, ?) g""", affiliateId, count);
+            jdbcTemplate.update("""
+                INSERT INTO loan_accounts (loan_id, affiliate_id, principal, annual_rate, term_months, installment, disbursed_on)
+                SELECT id, affiliate_id, requested_amount, interest_rate, requested_term_months,
+                    ROUND(requested_amount / requested_term_months, 2), CURRENT_DATE - 10
+                FROM credit_applications WHERE affiliate_id = ?""", affiliateId);
+            jdbcTemplate.update("""
+                INSERT INTO loan_ledger_entries (loan_id, entry_type, entry_date, value_date, principal_delta)
+                SELECT loan_id, 'DISBURSEMENT', CURRENT_DATE, disbursed_on, principal
+                FROM loan_accounts WHERE affiliate_id = ?""", affiliateId);
+        });
+        return affiliateId;
+    }
+
+    private Long disbursedLoan() {
+        Long applicationId = register(createAffiliate());
+        approveApplicationUseCase.execute(applicationId);
+        return disburseLoanUseCase.execute(applicationId).getLoanId();
+    }
+
+    private Long createAffiliate() {
+        Long affiliateId = affiliateRepository.save(TestFixtures.affiliate("LOAN", "5000000")).getId();
+        affiliates.add(affiliateId);
+        return affiliateId;
+    }
+
+    private Long register(Long affiliateId) {
+        CreditApplicationRequest request = new CreditApplicationRequest(new BigDecimal("12000000"), 12,
+            new BigDecimal("12.00"), new BigDecimal("5000000"), BigDecimal.ZERO, "Loan");
+        return registerApplicationUseCase.execute(affiliateId, request).getId();
+    }
+}
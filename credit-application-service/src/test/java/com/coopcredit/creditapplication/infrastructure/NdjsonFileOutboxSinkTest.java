@@ -0,0 +1,51 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.infrastructure.outbox.NdjsonFileOutboxSink;
+import com.coopcredit.creditapplication.infrastructure.outbox.OutboxEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the NDJSON file outbox sink.
+ */
+@DisplayName("NdjsonFileOutboxSink - Unit Tests")
+class NdjsonFileOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should append one JSON line per event, across batches")
+    void shouldAppendOneLinePerEvent(@TempDir Path dir) throws Exception {
+        // Given
+        Path file = dir.resolve("events").resolve("outbox.ndjson");
+        NdjsonFileOutboxSink sink = new NdjsonFileOutboxSink(file, objectMapper);
+
+        // When
+        sink.publish(List.of(event(1, "APPROVED"), event(2, "REJECTED")));
+        sink.publish(List.of(event(3, "APPROVED")));
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1);
+        assertThat(first.get("eventType").asText()).isEqualTo("CreditApplicationStatusChanged");
+        assertThat(first.get("payload").get("status").asText()).isEqualTo("APPROVED");
+        assertThat(objectMapper.readTree(lines.get(2)).get("id").asLong()).isEqualTo(3);
+    }
+
+    private static OutboxEvent event(long id, String status) {
+        return new OutboxEvent(id, "CreditApplication", 100 + id, "CreditApplicationStatusChanged",
+            "{\"status\":\"" + status + "\"}", Instant.parse("2024-01-01T00:00:00Z"));
+    }
+}
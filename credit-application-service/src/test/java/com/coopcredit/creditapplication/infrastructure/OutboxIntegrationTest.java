@@ -0,0 +1,159 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.port.in.ApproveApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.EvaluateCreditApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.RejectApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.RiskEvaluationPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import com.coopcredit.creditapplication.infrastructure.outbox.InMemoryOutboxSink;
+import com.coopcredit.creditapplication.infrastructure.outbox.OutboxEvent;
+import com.coopcredit.creditapplication.infrastructure.outbox.OutboxRelay;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Integration tests for the transactional outbox and its relay.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Transactional outbox - Integration Tests")
+class OutboxIntegrationTest {
+
+    @Autowired
+    private ApproveApplicationUseCase approveApplicationUseCase;
+
+    @Autowired
+    private RejectApplicationUseCase rejectApplicationUseCase;
+
+    @Autowired
+    private EvaluateCreditApplicationUseCase evaluateApplicationUseCase;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private RiskEvaluationPort riskEvaluationPort;
+
+    @BeforeEach
+    void setUp() {
+        sink.clear();
+    }
+
+    @Test
+    @DisplayName("Should publish decisions in order and delete them from the outbox")
+    void shouldPublishDecisionsInOrder() throws Exception {
+        // Given
+        Long approved = createApplication().getId();
+        Long rejected = createApplication().getId();
+        approveApplicationUseCase.execute(approved);
+        rejectApplicationUseCase.execute(rejected);
+        assertThat(pending(approved) + pending(rejected)).isEqualTo(2);
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        List<OutboxEvent> events = eventsFor(approved, rejected);
+        assertThat(events).extracting(OutboxEvent::aggregateId).containsExactly(approved, rejected);
+        assertThat(events.get(0).id()).isLessThan(events.get(1).id());
+        JsonNode payload = objectMapper.readTree(events.get(0).payload());
+        assertThat(payload.get("status").asText()).isEqualTo("APPROVED");
+        assertThat(payload.get("previousStatus").asText()).isEqualTo("PENDING");
+        assertThat(payload.get("source").asText()).isEqualTo("MANUAL");
+        assertThat(objectMapper.readTree(events.get(1).payload()).get("status").asText()).isEqualTo("REJECTED");
+        assertThat(pending(approved) + pending(rejected)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should record risk evaluations with their score")
+    void shouldRecordEvaluation() throws Exception {
+        // Given
+        Long applicationId = createApplication().getId();
+        when(riskEvaluationPort.evaluateRisk(any())).thenReturn(new RiskEvaluation(780, "APPROVE", "LOW"));
+
+        // When
+        evaluateApplicationUseCase.execute(applicationId);
+        outboxRelay.relay();
+
+        // Then
+        List<OutboxEvent> events = eventsFor(applicationId);
+        assertThat(events).hasSize(1);
+        JsonNode payload = objectMapper.readTree(events.get(0).payload());
+        assertThat(payload.get("source").asText()).isEqualTo("RISK_EVALUATION");
+        assertThat(payload.get("status").asText()).isEqualTo("APPROVED");
+        assertThat(payload.get("creditScore").asInt()).isEqualTo(780);
+        assertThat(payload.get("riskLevel").asText()).isEqualTo("LOW");
+    }
+
+    @Test
+    @DisplayName("Should not record an event when the status change rolls back")
+    void shouldNotRecordRolledBackChange() {
+        // Given
+        Long applicationId = createApplication().getId();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            approveApplicationUseCase.execute(applicationId);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(pending(applicationId)).isZero();
+        assertThat(applicationRepository.findById(applicationId).orElseThrow().getStatus())
+            .isEqualTo(ApplicationStatus.PENDING);
+    }
+
+    private int pending(Long applicationId) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ?", Integer.class, applicationId);
+        return count == null ? 0 : count;
+    }
+
+    private List<OutboxEvent> eventsFor(Long... applicationIds) {
+        List<Long> ids = List.of(applicationIds);
+        return sink.getEvents().stream().filter(event -> ids.contains(event.aggregateId())).toList();
+    }
+
+    private CreditApplication createApplication() {
+        Affiliate affiliate = affiliateRepository.save(TestFixtures.affiliate("OBX", "5000000"));
+        return applicationRepository.save(TestFixtures.pendingApplication(affiliate));
+    }
+}
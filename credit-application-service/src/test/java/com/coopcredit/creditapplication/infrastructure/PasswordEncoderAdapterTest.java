@@ -0,0 +1,135 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.infrastructure.adapter.out.security.PasswordEncoderAdapter;
+import com.coopcredit.creditapplication.infrastructure.adapter.out.security.PasswordHashingProperties;
+import com.coopcredit.creditapplication.infrastructure.exception.TooManyRequestsException;
+import com.coopcredit.creditapplication.infrastructure.metrics.MetricsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the bounded BCrypt hashing pool.
+ */
+@DisplayName("PasswordEncoderAdapter - Unit Tests")
+class PasswordEncoderAdapterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should shed requests with 429 once the hashing queue is full")
+    void shouldShedWhenQueueIsFull() throws Exception {
+        // Given: one thread, one queue slot, and an encoder that blocks until released
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoderAdapter adapter = adapter(new BlockingEncoder(entered, release), 4, 1, 1);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> adapter.matches("a", "a"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> adapter.matches("b", "b"));
+        awaitQueued(1);
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.matches("c", "c"))
+            .isInstanceOf(TooManyRequestsException.class)
+            .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfterSeconds()).isEqualTo(1));
+        assertThat(registry.counter("password.hashing.rejected", "operation", "matches").count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(registry.timer("password.hashing.duration", "operation", "matches").count()).isEqualTo(2);
+        assertThat(registry.timer("password.hashing.queue.wait").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should encode for batch callers while the hashing pool is saturated")
+    void shouldEncodeBlockingWhileSaturated() throws Exception {
+        // Given: the only thread and queue slot are taken
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoderAdapter adapter = adapter(new BlockingEncoder(entered, release), 4, 1, 1);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> adapter.matches("a", "a"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> adapter.matches("b", "b"));
+        awaitQueued(1);
+        assertThatThrownBy(() -> adapter.encode("c")).isInstanceOf(TooManyRequestsException.class);
+
+        // When / Then
+        assertThat(adapter.encodeBlocking("c")).isEqualTo("c");
+        assertThat(registry.timer("password.hashing.duration", "operation", "encode").count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should flag hashes whose cost factor differs from the configured one")
+    void shouldDetectCostFactorChange() {
+        PasswordEncoderAdapter adapter = adapter(new BCryptPasswordEncoder(5), 5, 1, 1);
+
+        assertThat(adapter.needsRehash(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(adapter.needsRehash(new BCryptPasswordEncoder(6).encode("secret"))).isTrue();
+        assertThat(adapter.needsRehash(adapter.encode("secret"))).isFalse();
+        assertThat(adapter.needsRehash("{noop}secret")).isFalse();
+    }
+
+    private PasswordEncoderAdapter adapter(PasswordEncoder encoder, int strength, int threads, int queueCapacity) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setBcryptStrength(strength);
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setRetryAfter(Duration.ofSeconds(1));
+        return new PasswordEncoderAdapter(encoder, properties, new MetricsService(registry));
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("executor.queued").gauge().value() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Encoder that blocks the first verification until released.
+     */
+    private static class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch entered;
+        private final CountDownLatch release;
+
+        BlockingEncoder(CountDownLatch entered, CountDownLatch release) {
+            this.entered = entered;
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.CreditApplicationRequest;
+import com.coopcredit.creditapplication.application.dto.CreditApplicationResponse;
+import com.coopcredit.creditapplication.application.dto.PortfolioAnalyticsResponse;
+import com.coopcredit.creditapplication.application.port.in.ApproveApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.EvaluateCreditApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.GetPortfolioAnalyticsUseCase;
+import com.coopcredit.creditapplication.application.port.in.RebuildPortfolioAnalyticsUseCase;
+import com.coopcredit.creditapplication.application.port.in.RegisterCreditApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.in.RejectApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.RiskEvaluationPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the portfolio aggregates and the analytics endpoint.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Portfolio analytics - Integration Tests")
+class PortfolioAnalyticsIntegrationTest {
+
+    @Autowired
+    private RegisterCreditApplicationUseCase registerApplicationUseCase;
+
+    @Autowired
+    private EvaluateCreditApplicationUseCase evaluateApplicationUseCase;
+
+    @Autowired
+    private ApproveApplicationUseCase approveApplicationUseCase;
+
+    @Autowired
+    private RejectApplicationUseCase rejectApplicationUseCase;
+
+    @Autowired
+    private GetPortfolioAnalyticsUseCase getPortfolioAnalyticsUseCase;
+
+    @Autowired
+    private RebuildPortfolioAnalyticsUseCase rebuildPortfolioAnalyticsUseCase;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private RiskEvaluationPort riskEvaluationPort;
+
+    @Test
+    @DisplayName("Should keep the aggregates equal to a full rebuild as applications change")
+    void shouldMatchRebuildAfterIncrementalUpdates() {
+        // Given: aggregates consistent with the applications written by other tests
+        rebuildPortfolioAnalyticsUseCase.execute();
+        YearMonth month = YearMonth.now();
+        PortfolioAnalyticsResponse before = getPortfolioAnalyticsUseCase.execute(month, month);
+
+        // When
+        CreditApplicationResponse evaluated = register("1000000");
+        CreditApplicationResponse approved = register("2000000");
+        CreditApplicationResponse rejected = register("3000000");
+        register("4000000");
+        when(riskEvaluationPort.evaluateRisk(any())).thenReturn(new RiskEvaluation(780, "APPROVE", "LOW"));
+        evaluateApplicationUseCase.execute(evaluated.getId());
+        approveApplicationUseCase.execute(approved.getId());
+        rejectApplicationUseCase.execute(rejected.getId());
+        PortfolioAnalyticsResponse incremental = getPortfolioAnalyticsUseCase.execute(month, month);
+
+        // Then
+        assertThat(incremental.getTotalApplications()).isEqualTo(before.getTotalApplications() + 4);
+        assertThat(incremental.getApplicationsByStatus().get("APPROVED"))
+            .isEqualTo(before.getApplicationsByStatus().get("APPROVED") + 2);
+        assertThat(incremental.getApplicationsByStatus().get("REJECTED"))
+            .isEqualTo(before.getApplicationsByStatus().get("REJECTED") + 1);
+        assertThat(incremental.getApplicationsByStatus().get("PENDING"))
+            .isEqualTo(before.getApplicationsByStatus().get("PENDING") + 1);
+        assertThat(incremental.getApplicationsByRiskLevel().get("LOW"))
+            .isEqualTo(before.getApplicationsByRiskLevel().get("LOW") + 1);
+        assertThat(incremental.getTotalRequestedAmount())
+            .isEqualByComparingTo(before.getTotalRequestedAmount().add(new BigDecimal("10000000")));
+        assertThat(incremental.getTotalApprovedAmount())
+            .isEqualByComparingTo(before.getTotalApprovedAmount().add(new BigDecimal("3000000")));
+
+        rebuildPortfolioAnalyticsUseCase.execute();
+        PortfolioAnalyticsResponse rebuilt = getPortfolioAnalyticsUseCase.execute(month, month);
+        assertThat(incremental).usingRecursiveComparison()
+            .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+            .isEqualTo(rebuilt);
+    }
+
+    @Test
+    @DisplayName("Should leave the aggregates untouched when the status change rolls back")
+    void shouldNotCountRolledBackChange() {
+        // Given
+        Long applicationId = register("1500000").getId();
+        YearMonth month = YearMonth.now();
+        PortfolioAnalyticsResponse before = getPortfolioAnalyticsUseCase.execute(month, month);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            approveApplicationUseCase.execute(applicationId);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        PortfolioAnalyticsResponse after = getPortfolioAnalyticsUseCase.execute(month, month);
+        assertThat(after.getApplicationsByStatus()).isEqualTo(before.getApplicationsByStatus());
+        assertThat(after.getTotalApprovedAmount()).isEqualByComparingTo(before.getTotalApprovedAmount());
+    }
+
+    @Test
+    @DisplayName("Should expose analytics to analysts and the rebuild to ADMIN only")
+    void shouldRestrictEndpoints() throws Exception {
+        mockMvc.perform(get("/api/analytics/portfolio").with(user("member").roles("AFILIADO")))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/analytics/portfolio")
+                        .param("from", "2024-01")
+                        .param("to", YearMonth.now().toString())
+                        .with(user("analyst").roles("ANALISTA")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value("2024-01"))
+                .andExpect(jsonPath("$.applicationsByStatus.PENDING").isNumber())
+                .andExpect(jsonPath("$.months").isArray());
+
+        mockMvc.perform(get("/api/analytics/portfolio")
+                        .param("from", "2024-06")
+                        .param("to", "2024-01")
+                        .with(user("analyst").roles("ANALISTA")))
+                .andExpect(status().isUnprocessableEntity());
+
+        mockMvc.perform(post("/api/analytics/portfolio/rebuild").with(user("analyst").roles("ANALISTA")))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/analytics/portfolio/rebuild").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalApplications").isNumber());
+    }
+
+    private CreditApplicationResponse register(String amount) {
+        Affiliate affiliate = affiliateRepository.save(TestFixtures.affiliate("PFA", "5000000"));
+
+        CreditApplicationRequest request = new CreditApplicationRequest(new BigDecimal(amount), 12,
+            new BigDecimal("12.00"), new BigDecimal("5000000"), BigDecimal.ZERO, "Portfolio");
+        return registerApplicationUseCase.execute(affiliate.getId(), request);
+    }
+}
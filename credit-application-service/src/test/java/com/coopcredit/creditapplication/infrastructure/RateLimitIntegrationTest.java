@@ -0,0 +1,94 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.infrastructure.ratelimit.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the token bucket rate limiting filter.
+ */
+@SpringBootTest(properties = {
+    "rate-limit.enabled=true",
+    "rate-limit.limits.read.capacity=3",
+    "rate-limit.limits.read.refill-per-second=0.01",
+    "rate-limit.limits.auth.capacity=2",
+    "rate-limit.limits.auth.refill-per-second=0.01"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Rate limiting - Integration Tests")
+class RateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should throttle a principal after its burst and report the limit headers")
+    void shouldThrottlePrincipalAfterBurst() throws Exception {
+        // Given
+        String principal = "reader" + System.nanoTime();
+        double throttledBefore = throttled("read");
+
+        // When / Then: burst of 3 allowed with decreasing remaining tokens
+        for (int remaining = 2; remaining >= 0; remaining--) {
+            mockMvc.perform(get("/api/affiliates/{id}", Long.MAX_VALUE).with(user(principal).roles("ADMIN")))
+                    .andExpect(status().isNotFound())
+                    .andExpect(header().string(RateLimitFilter.LIMIT_HEADER, "3"))
+                    .andExpect(header().string(RateLimitFilter.REMAINING_HEADER, String.valueOf(remaining)));
+        }
+
+        mockMvc.perform(get("/api/affiliates/{id}", Long.MAX_VALUE).with(user(principal).roles("ADMIN")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(header().string(RateLimitFilter.REMAINING_HEADER, "0"))
+                .andExpect(jsonPath("$.code").value("RATE_LIMIT_EXCEEDED"));
+        assertThat(throttled("read")).isEqualTo(throttledBefore + 1);
+
+        // Other principals keep their own bucket
+        mockMvc.perform(get("/api/affiliates/{id}", Long.MAX_VALUE).with(user(principal + "-other").roles("ADMIN")))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string(RateLimitFilter.REMAINING_HEADER, "2"));
+    }
+
+    @Test
+    @DisplayName("Should limit anonymous auth requests per client IP")
+    void shouldLimitAuthPerIp() throws Exception {
+        String ip = "10.1.2." + (System.nanoTime() % 250);
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                            .with(request -> { request.setRemoteAddr(ip); return request; })
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"username\":\"nobody\",\"password\":\"WrongPass123\"}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        mockMvc.perform(post("/api/auth/login")
+                        .with(request -> { request.setRemoteAddr(ip); return request; })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"nobody\",\"password\":\"WrongPass123\"}"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    private double throttled(String endpointClass) {
+        var counter = meterRegistry.find("rate.limit.throttled").tag("endpoint_class", endpointClass).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,80 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.infrastructure.datasource.ReadReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReadReplicaRoutingDataSource fallback behaviour.
+ */
+@DisplayName("ReadReplicaRoutingDataSource - Unit Tests")
+class ReadReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replicaPool;
+    private Connection primaryConnection;
+    private SimpleMeterRegistry meterRegistry;
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(HikariDataSource.class);
+        replicaPool = mock(HikariDataSource.class);
+        primaryConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaPool.getConnection()).thenThrow(new SQLException("Connection refused"));
+        meterRegistry = new SimpleMeterRegistry();
+
+        routingDataSource = new ReadReplicaRoutingDataSource(primary,
+            List.of(new ReadReplicaRoutingDataSource.Replica("r1", replicaPool)),
+            Duration.ofSeconds(10), Duration.ofHours(1), meterRegistry);
+        routingDataSource.checkReplicas();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        routingDataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should serve read-only transactions from primary when replica is down")
+    void shouldFallBackToPrimaryWhenReplicaDown() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(routingDataSource.getReplicas().get(0).isAvailable()).isFalse();
+        assertThat(meterRegistry.get("datasource.routing.fallbacks").tag("reason", "unavailable").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve read-write transactions from primary")
+    void shouldUsePrimaryForWrites() throws SQLException {
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(meterRegistry.get("datasource.routing.connections").tag("target", "primary").counter().count())
+            .isEqualTo(1);
+    }
+}
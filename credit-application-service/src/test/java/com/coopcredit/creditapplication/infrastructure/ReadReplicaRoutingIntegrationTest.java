@@ -0,0 +1,122 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.port.in.GetAllAffiliatesUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.infrastructure.datasource.ReadReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for read replica routing.
+ * The test database poses as both primary and replica; a second replica
+ * points to a closed port to exercise the fallback.
+ */
+@SpringBootTest(properties = {
+    "datasource-routing.enabled=true",
+    "datasource-routing.health-check-interval=1h",
+    "datasource-routing.replicas[0].name=local",
+    "datasource-routing.replicas[0].url=${spring.datasource.url}",
+    "datasource-routing.replicas[1].name=down",
+    "datasource-routing.replicas[1].url=jdbc:postgresql://localhost:1/coopcredit",
+    "datasource-routing.replicas[1].hikari.connection-timeout=250"
+})
+@ActiveProfiles("test")
+@DisplayName("Read replica routing - Integration Tests")
+class ReadReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private GetAllAffiliatesUseCase getAllAffiliatesUseCase;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource.checkReplicas();
+    }
+
+    @Test
+    @DisplayName("Should mark reachable replica available and unreachable replica down")
+    void shouldTrackReplicaAvailability() {
+        assertThat(routingDataSource.getReplicas())
+            .filteredOn(replica -> replica.getName().equals("local"))
+            .singleElement()
+            .satisfies(replica -> {
+                assertThat(replica.isAvailable()).isTrue();
+                assertThat(replica.getLagSeconds()).isZero();
+            });
+        assertThat(routingDataSource.getReplicas())
+            .filteredOn(replica -> replica.getName().equals("down"))
+            .singleElement()
+            .satisfies(replica -> assertThat(replica.isAvailable()).isFalse());
+    }
+
+    @Test
+    @DisplayName("Should route read-only use cases to the available replica")
+    void shouldRouteReadOnlyUseCasesToReplica() {
+        // Given
+        double replicaBefore = connections("replica");
+        double fallbacksBefore = fallbacks();
+
+        // When
+        getAllAffiliatesUseCase.execute();
+        getAllAffiliatesUseCase.execute();
+
+        // Then
+        assertThat(connections("replica") - replicaBefore).isEqualTo(2);
+        assertThat(fallbacks() - fallbacksBefore).isZero();
+    }
+
+    @Test
+    @DisplayName("Should route writes to the primary")
+    void shouldRouteWritesToPrimary() {
+        // Given
+        double primaryBefore = connections("primary");
+        double replicaBefore = connections("replica");
+        long unique = System.nanoTime();
+
+        // When
+        affiliateRepository.save(new Affiliate("CC", "RR" + unique, "Routing", "Test",
+            "routing" + unique + "@example.com", "3001234567", new BigDecimal("4000000.00")));
+
+        // Then
+        assertThat(connections("primary") - primaryBefore).isEqualTo(1);
+        assertThat(connections("replica") - replicaBefore).isZero();
+    }
+
+    @Test
+    @DisplayName("Should export Hikari metrics for every pool")
+    void shouldExportPoolMetrics() {
+        getAllAffiliatesUseCase.execute();
+
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica-local").gauge()).isNotNull();
+        assertThat(meterRegistry.find("datasource.replica.lag").tag("replica", "local").gauge()).isNotNull();
+    }
+
+    private double connections(String target) {
+        return meterRegistry.get("datasource.routing.connections").tag("target", target).counter().count();
+    }
+
+    private double fallbacks() {
+        return meterRegistry.find("datasource.routing.fallbacks").counters().stream()
+            .mapToDouble(counter -> counter.count())
+            .sum();
+    }
+}
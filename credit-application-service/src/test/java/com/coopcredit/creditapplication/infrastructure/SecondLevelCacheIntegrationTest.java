@@ -0,0 +1,118 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.AffiliateResponse;
+import com.coopcredit.creditapplication.application.dto.UpdateAffiliateRequest;
+import com.coopcredit.creditapplication.application.port.in.UpdateAffiliateUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.AffiliateStatus;
+import com.coopcredit.creditapplication.infrastructure.adapter.out.persistence.entity.AffiliateJpaEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the Hibernate second-level cache.
+ * Verifies that affiliates are served from the cache and that
+ * UpdateAffiliateUseCaseImpl never leaves a stale entry behind.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Second-level cache - Integration Tests")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private UpdateAffiliateUseCase updateAffiliateUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated affiliate reads from the second-level cache")
+    void shouldServeRepeatedReadsFromCache() {
+        // Given
+        Long affiliateId = createAffiliate().getId();
+        entityManagerFactory.getCache().evict(AffiliateJpaEntity.class, affiliateId);
+        statistics.clear();
+
+        // When
+        affiliateRepository.findById(affiliateId);
+        affiliateRepository.findById(affiliateId);
+
+        // Then
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("affiliates");
+        assertThat(region.getMissCount()).isEqualTo(1);
+        assertThat(region.getHitCount()).isEqualTo(1);
+        assertThat(entityManagerFactory.getCache().contains(AffiliateJpaEntity.class, affiliateId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should return updated data after UpdateAffiliateUseCase changes a cached affiliate")
+    void shouldNotServeStaleAffiliateAfterUpdate() {
+        // Given: affiliate loaded into the cache
+        Affiliate created = createAffiliate();
+        Long affiliateId = created.getId();
+        affiliateRepository.findById(affiliateId);
+        assertThat(entityManagerFactory.getCache().contains(AffiliateJpaEntity.class, affiliateId)).isTrue();
+
+        // When
+        UpdateAffiliateRequest request = new UpdateAffiliateRequest(
+            "Updated", "Name", created.getEmail(), "3009999999",
+            new BigDecimal("7500000.00"), AffiliateStatus.INACTIVE
+        );
+        AffiliateResponse response = updateAffiliateUseCase.execute(affiliateId, request);
+        statistics.clear();
+        Affiliate reloaded = affiliateRepository.findById(affiliateId).orElseThrow();
+
+        // Then: read comes from the cache and reflects the update
+        assertThat(response.getFirstName()).isEqualTo("Updated");
+        assertThat(reloaded.getFirstName()).isEqualTo("Updated");
+        assertThat(reloaded.getPhone()).isEqualTo("3009999999");
+        assertThat(reloaded.getSalary()).isEqualByComparingTo("7500000.00");
+        assertThat(reloaded.getStatus()).isEqualTo(AffiliateStatus.INACTIVE);
+        assertThat(statistics.getDomainDataRegionStatistics("affiliates").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reload from database after the cached affiliate is evicted")
+    void shouldReloadAfterEviction() {
+        // Given
+        Long affiliateId = createAffiliate().getId();
+        affiliateRepository.findById(affiliateId);
+
+        // When
+        entityManagerFactory.getCache().evict(AffiliateJpaEntity.class, affiliateId);
+        statistics.clear();
+        affiliateRepository.findById(affiliateId);
+
+        // Then
+        assertThat(statistics.getDomainDataRegionStatistics("affiliates").getMissCount()).isEqualTo(1);
+        assertThat(entityManagerFactory.getCache().contains(AffiliateJpaEntity.class, affiliateId)).isTrue();
+    }
+
+    private Affiliate createAffiliate() {
+        return affiliateRepository.save(TestFixtures.affiliate("DOC", "4000000.00"));
+    }
+}
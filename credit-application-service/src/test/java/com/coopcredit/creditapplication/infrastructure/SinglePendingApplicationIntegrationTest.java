@@ -0,0 +1,122 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.application.dto.CreditApplicationRequest;
+import com.coopcredit.creditapplication.application.port.in.RegisterCreditApplicationUseCase;
+import com.coopcredit.creditapplication.application.port.out.AffiliateRepositoryPort;
+import com.coopcredit.creditapplication.application.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.infrastructure.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the one-PENDING-application-per-affiliate rule,
+ * enforced by the uq_credit_applications_pending_affiliate index.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Single pending application - Integration Tests")
+class SinglePendingApplicationIntegrationTest {
+
+    private static final int CONCURRENT_SUBMISSIONS = 8;
+
+    @Autowired
+    private RegisterCreditApplicationUseCase registerApplicationUseCase;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @Test
+    @DisplayName("Should accept exactly one of many concurrent submissions")
+    void shouldAcceptOneConcurrentSubmission() throws Exception {
+        // Given
+        Affiliate affiliate = createAffiliate();
+        CyclicBarrier barrier = new CyclicBarrier(CONCURRENT_SUBMISSIONS);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_SUBMISSIONS);
+
+        // When
+        List<Future<String>> outcomes = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_SUBMISSIONS; i++) {
+                outcomes.add(executor.submit(() -> {
+                    barrier.await();
+                    try {
+                        registerApplicationUseCase.execute(affiliate.getId(), request());
+                        return "CREATED";
+                    } catch (BusinessException e) {
+                        return e.getCode();
+                    }
+                }));
+            }
+
+            // Then
+            List<String> codes = new ArrayList<>();
+            for (Future<String> outcome : outcomes) {
+                codes.add(outcome.get());
+            }
+            assertThat(codes).containsOnlyOnce("CREATED");
+            assertThat(codes).filteredOn(code -> !"CREATED".equals(code))
+                .hasSize(CONCURRENT_SUBMISSIONS - 1)
+                .containsOnly("PENDING_APPLICATION_EXISTS");
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(applicationRepository.findByAffiliateIdAndStatus(affiliate.getId(), ApplicationStatus.PENDING))
+            .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should translate the index violation when the pre-check is bypassed")
+    void shouldTranslateConstraintViolation() {
+        // Given
+        Affiliate affiliate = createAffiliate();
+        applicationRepository.save(TestFixtures.pendingApplication(affiliate));
+
+        // When / Then
+        assertThatThrownBy(() -> applicationRepository.save(TestFixtures.pendingApplication(affiliate)))
+            .isInstanceOf(BusinessException.class)
+            .extracting("code").isEqualTo("PENDING_APPLICATION_EXISTS");
+    }
+
+    @Test
+    @DisplayName("Should report pending applications through the existence check")
+    void shouldCheckExistence() {
+        Affiliate affiliate = createAffiliate();
+        assertThat(applicationRepository.existsByAffiliateIdAndStatus(affiliate.getId(), ApplicationStatus.PENDING))
+            .isFalse();
+
+        applicationRepository.save(TestFixtures.pendingApplication(affiliate));
+
+        assertThat(applicationRepository.existsByAffiliateIdAndStatus(affiliate.getId(), ApplicationStatus.PENDING))
+            .isTrue();
+        assertThat(applicationRepository.existsByAffiliateIdAndStatus(affiliate.getId(), ApplicationStatus.APPROVED))
+            .isFalse();
+    }
+
+    private Affiliate createAffiliate() {
+        return affiliateRepository.save(TestFixtures.affiliate("PND", "5000000"));
+    }
+
+    private static CreditApplicationRequest request() {
+        return new CreditApplicationRequest(new BigDecimal("5000000"), 24,
+            new BigDecimal("12.00"), new BigDecimal("5000000"), BigDecimal.ZERO, "Concurrent loan");
+    }
+}
@@ -0,0 +1,61 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.domain.model.Affiliate;
+import com.coopcredit.creditapplication.domain.model.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Test data shared by the integration tests.
+ *
+ * The test database is kept between runs, so documents and emails are made
+ * unique with {@code System.nanoTime()}. Nothing is saved here.
+ */
+final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    /**
+     * An affiliate of a year's standing.
+     *
+     * @param prefix document number prefix, telling which test created it
+     * @param salary monthly salary
+     */
+    static Affiliate affiliate(String prefix, String salary) {
+        long unique = System.nanoTime();
+        Affiliate affiliate = new Affiliate("CC", prefix + unique, "Test", "Member",
+            prefix.toLowerCase() + unique + "@example.com", "3001234567", new BigDecimal(salary));
+        affiliate.setAffiliationDate(LocalDate.now().minusYears(1));
+        return affiliate;
+    }
+
+    /**
+     * A pending application of 2,000,000 over 12 months at 12%, made today.
+     */
+    static CreditApplication pendingApplication(Affiliate affiliate) {
+        return application(affiliate, ApplicationStatus.PENDING, LocalDateTime.now());
+    }
+
+    /**
+     * An application of 2,000,000 over 12 months at 12% from an income of
+     * 5,000,000 without debt.
+     */
+    static CreditApplication application(Affiliate affiliate, ApplicationStatus status,
+                                         LocalDateTime applicationDate) {
+        CreditApplication application = new CreditApplication();
+        application.setAffiliate(affiliate);
+        application.setRequestedAmount(new BigDecimal("2000000"));
+        application.setTermMonths(12);
+        application.setInterestRate(new BigDecimal("12.00"));
+        application.setMonthlyIncome(new BigDecimal("5000000"));
+        application.setCurrentDebt(BigDecimal.ZERO);
+        application.setPurpose("Test");
+        application.setStatus(status);
+        application.setApplicationDate(applicationDate);
+        return application;
+    }
+}
@@ -0,0 +1,54 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.infrastructure.ratelimit.TokenBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the lock-free token bucket.
+ */
+@DisplayName("TokenBucket - Unit Tests")
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Should allow a full burst, then refill at the configured rate")
+    void shouldAllowBurstThenRefill() {
+        // Given: 5 tokens, 1 per second
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(5, 1, now);
+
+        // When / Then
+        for (int remaining = 4; remaining >= 0; remaining--) {
+            TokenBucket.Decision decision = bucket.tryConsume(now);
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.remaining()).isEqualTo(remaining);
+        }
+        TokenBucket.Decision denied = bucket.tryConsume(now);
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.retryAfterNanos()).isEqualTo(SECOND);
+        assertThat(denied.resetNanos()).isEqualTo(5 * SECOND);
+
+        assertThat(bucket.tryConsume(now + SECOND).allowed()).isTrue();
+        assertThat(bucket.tryConsume(now + SECOND).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not accumulate more than its capacity while idle")
+    void shouldCapTokensAtCapacity() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(2, 1, now);
+
+        long later = now + 60 * SECOND;
+        assertThat(bucket.isIdle(later, 30 * SECOND)).isTrue();
+        assertThat(bucket.tryConsume(later).allowed()).isTrue();
+        assertThat(bucket.tryConsume(later).allowed()).isTrue();
+        assertThat(bucket.tryConsume(later).allowed()).isFalse();
+        assertThat(bucket.isIdle(later, 0)).isFalse();
+    }
+}
@@ -0,0 +1,113 @@
+package com.coopcredit.creditapplication.infrastructure;
+
+import com.coopcredit.creditapplication.infrastructure.velocity.CountMinSketch;
+import com.coopcredit.creditapplication.infrastructure.velocity.SlidingWindowCounter;
+import com.coopcredit.creditapplication.infrastructure.velocity.VelocityCounters;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the sliding-window counters behind the velocity checks.
+ */
+@DisplayName("Velocity counters - Unit Tests")
+class VelocityCountersTest {
+
+    private static final long MINUTE = 60_000;
+    private static final long NOW = 1_000_000 * MINUTE;
+
+    @Test
+    @DisplayName("Should count events in the window and forget them as it slides")
+    void shouldSlideWindow() {
+        // Given: 5 one-minute buckets
+        SlidingWindowCounter counter = new SlidingWindowCounter(5, MINUTE);
+
+        // When / Then
+        assertThat(counter.increment(NOW)).isEqualTo(1);
+        assertThat(counter.increment(NOW + 10)).isEqualTo(2);
+        assertThat(counter.increment(NOW + 2 * MINUTE)).isEqualTo(3);
+        assertThat(counter.count(NOW + 4 * MINUTE)).isEqualTo(3);
+        // The first bucket slides out; its slot is reused for the new minute
+        assertThat(counter.increment(NOW + 5 * MINUTE)).isEqualTo(2);
+        assertThat(counter.count(NOW + 7 * MINUTE)).isEqualTo(1);
+        assertThat(counter.isIdle(NOW + 10 * MINUTE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not lose increments under contention")
+    void shouldCountConcurrentIncrements() throws Exception {
+        SlidingWindowCounter counter = new SlidingWindowCounter(5, MINUTE);
+        CountMinSketch sketch = new CountMinSketch(4, 64, 5, MINUTE);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        counter.increment(NOW);
+                        sketch.add("10.0.0.1", NOW);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(counter.count(NOW)).isEqualTo(8000);
+        assertThat(sketch.estimate("10.0.0.1", NOW)).isEqualTo(8000);
+    }
+
+    @Test
+    @DisplayName("Should never undercount keys in the sketch, and forget them as the window slides")
+    void shouldEstimateWithSketch() {
+        // Given: a narrow sketch, so keys collide
+        CountMinSketch sketch = new CountMinSketch(4, 256, 5, MINUTE);
+        for (int key = 0; key < 2000; key++) {
+            sketch.add("ip:" + key, NOW);
+        }
+        for (int i = 0; i < 50; i++) {
+            sketch.add("ip:burst", NOW + MINUTE);
+        }
+
+        // When / Then
+        assertThat(sketch.estimate("ip:burst", NOW + MINUTE)).isGreaterThanOrEqualTo(50);
+        for (int key = 0; key < 2000; key += 97) {
+            assertThat(sketch.estimate("ip:" + key, NOW + MINUTE)).isGreaterThanOrEqualTo(1);
+        }
+        assertThat(sketch.estimate("ip:burst", NOW + 6 * MINUTE)).isZero();
+        assertThat(sketch.add("ip:burst", NOW + 6 * MINUTE)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count keys beyond the exact budget in the sketch and evict idle counters")
+    void shouldOverflowIntoSketch() {
+        // Given: room for two exact keys
+        VelocityCounters counters = new VelocityCounters(2, 5, MINUTE, 4, 1024);
+        counters.increment("a", NOW);
+        counters.increment("b", NOW);
+
+        // When
+        int overflow = counters.increment("c", NOW);
+        counters.increment("c", NOW);
+
+        // Then
+        assertThat(overflow).isEqualTo(1);
+        assertThat(counters.getExactCounters()).containsOnlyKeys("a", "b");
+        assertThat(counters.increment("c", NOW)).isEqualTo(3);
+
+        counters.evictIdle(NOW + 5 * MINUTE);
+        assertThat(counters.getExactCounters()).isEmpty();
+        assertThat(counters.increment("c", NOW + 5 * MINUTE)).isEqualTo(1);
+        assertThat(counters.getExactCounters()).containsOnlyKeys("c");
+    }
+}